@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compares event-service startup time of the regular fat jar with the AOT + AppCDS build.
+#
+# Usage (from the event-service directory):
+#   mvn -Pcds package -Dcds.training.skip=false   # builds target/event-service-*.jar and target/cds/
+#   scripts/measure-startup.sh [runs]
+#
+# Each run starts the JVM, refreshes the Spring context and exits (spring.context.exit=onRefresh),
+# so the numbers cover JVM boot + context startup and exclude the Spanner warm-up phase.
+# The environment must be able to create the Spanner/GCS clients (emulator or credentials),
+# exactly as for a normal startup.
+set -euo pipefail
+
+RUNS="${1:-5}"
+TARGET_DIR="$(cd "$(dirname "$0")/../target" && pwd)"
+FAT_JAR="$(ls "$TARGET_DIR"/event-service-*.jar | grep -v -- '-cds.jar' | head -n 1)"
+CDS_DIR="$TARGET_DIR/cds"
+CDS_JAR="$(ls "$CDS_DIR"/event-service-*-cds.jar | head -n 1)"
+
+if [[ ! -f "$CDS_DIR/application.jsa" ]]; then
+  echo "No CDS archive found in $CDS_DIR; run 'mvn -Pcds package -Dcds.training.skip=false' first." >&2
+  exit 1
+fi
+
+# Prints the wall-clock milliseconds of one startup
+time_startup() {
+  local dir="$1"; shift
+  local start end
+  start=$(date +%s%N)
+  (cd "$dir" && java -Dspring.context.exit=onRefresh "$@" > /dev/null 2>&1)
+  end=$(date +%s%N)
+  echo $(( (end - start) / 1000000 ))
+}
+
+# Runs one variant RUNS times and prints min / median / max
+measure() {
+  local label="$1"; shift
+  local samples=()
+  for ((i = 0; i < RUNS; i++)); do
+    samples+=("$(time_startup "$@")")
+  done
+  local sorted
+  sorted=($(printf '%s\n' "${samples[@]}" | sort -n))
+  printf '%-14s min %6d ms   median %6d ms   max %6d ms\n' \
+    "$label" "${sorted[0]}" "${sorted[$((RUNS / 2))]}" "${sorted[$((RUNS - 1))]}"
+}
+
+echo "Startup time over $RUNS runs"
+measure "fat jar" "$TARGET_DIR" -jar "$FAT_JAR"
+measure "aot" "$CDS_DIR" -Dspring.aot.enabled=true -jar "$CDS_JAR"
+measure "aot + cds" "$CDS_DIR" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$CDS_JAR"
@@ -0,0 +1,269 @@
+package com.tickethub.eventservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Last-known-good copies of successful EventService reads, used by the circuit breaker fallbacks
+ * so that a Spanner outage serves slightly stale data instead of empty pages.
+ * <p>
+ * Entries live in a bounded in-memory LRU. When a spill directory is configured, entries evicted
+ * from memory are written there as JSON and read back on a memory miss, which also keeps the
+ * snapshots across restarts. The directory is bounded too: it holds at most
+ * {@code spill-max-entries} files, the oldest spilled going first; a file is deleted as soon as its
+ * entry is back in memory or replaced by a newer read. At startup, leftover temporary files are
+ * removed and the files found are trimmed to the bound, newest kept.
+ */
+@Component
+public class LastKnownGoodStore {
+
+    private static final Logger log = LoggerFactory.getLogger(LastKnownGoodStore.class);
+
+    /**
+     * A stored value together with the time it was read from Spanner.
+     */
+    public record Snapshot<T>(T value, Instant capturedAt) {}
+
+    // Single serializable shape for every kind of entry, so spilled files can be read back without type info
+    record Entry(Instant capturedAt, List<Event> events, List<SeatCategory> seatCategories, Long totalElements) {}
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final int maxEntries;
+    private final Path spillDirectory;
+    private final int maxSpilledEntries;
+    // Spill file names, oldest spilled first; the directory holds exactly these files
+    private final Set<String> spilled = new LinkedHashSet<>();
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public LastKnownGoodStore(@Value("${eventservice.lkg.max-entries:10000}") int maxEntries,
+                              @Value("${eventservice.lkg.spill-directory:}") String spillDirectory,
+                              @Value("${eventservice.lkg.spill-max-entries:100000}") int maxSpilledEntries,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.spillDirectory = spillDirectory == null || spillDirectory.isBlank() ? null : Path.of(spillDirectory);
+        this.maxSpilledEntries = maxSpilledEntries;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("eventservice.lkg.entries", entries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+        if (this.spillDirectory != null) {
+            try {
+                Files.createDirectories(this.spillDirectory);
+                cleanSpillDirectory();
+                log.info("Last-known-good snapshots spill to {} ({} entries kept from the last run)", this.spillDirectory, spilled.size());
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create last-known-good spill directory " + spillDirectory, e);
+            }
+            meterRegistry.gauge("eventservice.lkg.spilled", spilled, set -> {
+                synchronized (set) {
+                    return set.size();
+                }
+            });
+        }
+    }
+
+    public void putPage(String pageKey, Page<Event> page) {
+        put("page:" + pageKey, new Entry(Instant.now(), page.getContent(), null, page.getTotalElements()));
+    }
+
+    public Optional<Snapshot<Page<Event>>> getPage(String pageKey, Pageable pageable) {
+        return get("page", "page:" + pageKey).map(entry -> new Snapshot<>(
+                new PageImpl<>(entry.events(), pageable, entry.totalElements()), entry.capturedAt()));
+    }
+
+    public void putEvent(Event event) {
+        put("event:" + event.getId(), new Entry(Instant.now(), List.of(event), null, null));
+    }
+
+    public Optional<Snapshot<Event>> getEvent(String eventId) {
+        return get("event", "event:" + eventId).map(entry -> new Snapshot<>(entry.events().get(0), entry.capturedAt()));
+    }
+
+    public void putSeatCategories(String eventId, List<SeatCategory> seatCategories) {
+        put("categories:" + eventId, new Entry(Instant.now(), null, List.copyOf(seatCategories), null));
+    }
+
+    public Optional<Snapshot<List<SeatCategory>>> getSeatCategories(String eventId) {
+        return get("categories", "categories:" + eventId).map(entry -> new Snapshot<>(entry.seatCategories(), entry.capturedAt()));
+    }
+
+    private void put(String key, Entry entry) {
+        Map.Entry<String, Entry> evicted = null;
+        synchronized (entries) {
+            entries.put(key, entry);
+            if (entries.size() > maxEntries) {
+                Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                evicted = eldest.next();
+                eldest.remove();
+            }
+        }
+        if (spillDirectory != null) {
+            // The new entry supersedes any spilled copy
+            unspill(key);
+            if (evicted != null) {
+                spill(evicted.getKey(), evicted.getValue());
+            }
+        }
+    }
+
+    private Optional<Entry> get(String kind, String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null && spillDirectory != null) {
+            entry = readSpilled(key);
+            if (entry != null) {
+                // Back in memory; put removes the file (and may spill the entry it evicts)
+                put(key, entry);
+            }
+        }
+        Counter.builder("eventservice.lkg.lookups")
+                .tag("kind", kind)
+                .tag("result", entry == null ? "miss" : "hit")
+                .register(meterRegistry)
+                .increment();
+        return Optional.ofNullable(entry);
+    }
+
+    private void spill(String key, Entry entry) {
+        Path target = spillFile(key);
+        try {
+            Path temp = Files.createTempFile(spillDirectory, "lkg", ".tmp");
+            objectMapper.writeValue(temp.toFile(), entry);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to spill last-known-good entry {} to {}: {}", key, target, e.getMessage());
+            return;
+        }
+        String oldest = null;
+        synchronized (spilled) {
+            spilled.add(target.getFileName().toString());
+            if (spilled.size() > maxSpilledEntries) {
+                Iterator<String> iterator = spilled.iterator();
+                oldest = iterator.next();
+                iterator.remove();
+            }
+        }
+        if (oldest != null) {
+            deleteQuietly(spillDirectory.resolve(oldest));
+        }
+    }
+
+    private Entry readSpilled(String key) {
+        Path file = spillFile(key);
+        synchronized (spilled) {
+            if (!spilled.contains(file.getFileName().toString())) {
+                return null;
+            }
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), Entry.class);
+        } catch (IOException e) {
+            log.warn("Failed to read spilled last-known-good entry {} from {}: {}", key, file, e.getMessage());
+            unspill(key);
+            return null;
+        }
+    }
+
+    private void unspill(String key) {
+        Path file = spillFile(key);
+        boolean present;
+        synchronized (spilled) {
+            present = spilled.remove(file.getFileName().toString());
+        }
+        if (present) {
+            deleteQuietly(file);
+        }
+    }
+
+    // Drops temporary files of interrupted spills and keeps the newest maxSpilledEntries entry files
+    private void cleanSpillDirectory() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(spillDirectory)) {
+            files = listing.filter(Files::isRegularFile).toList();
+        }
+        List<Path> entryFiles = new ArrayList<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(".json")) {
+                entryFiles.add(file);
+            } else if (file.getFileName().toString().endsWith(".tmp")) {
+                deleteQuietly(file);
+            }
+        }
+        entryFiles.sort(Comparator.comparing(LastKnownGoodStore::lastModified));
+        int excess = Math.max(0, entryFiles.size() - maxSpilledEntries);
+        for (int i = 0; i < entryFiles.size(); i++) {
+            if (i < excess) {
+                deleteQuietly(entryFiles.get(i));
+            } else {
+                spilled.add(entryFiles.get(i).getFileName().toString());
+            }
+        }
+        if (excess > 0) {
+            log.info("Removed {} old last-known-good files from {}", excess, spillDirectory);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete last-known-good file {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Keys contain arbitrary IDs and sort expressions, so file names are derived from a hash
+    private Path spillFile(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return spillDirectory.resolve(HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tickethub.eventservice.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Marks the current HTTP request as answered from a last-known-good snapshot.
+ * The mark is a request attribute, so it disappears with the request; outside of a request
+ * (warm-up, background jobs) marking is a no-op.
+ */
+public final class StaleResponses {
+
+    static final String CAPTURED_AT_ATTRIBUTE = StaleResponses.class.getName() + ".capturedAt";
+
+    private StaleResponses() {
+    }
+
+    /**
+     * Records that data captured at the given time is being served. If several stale values
+     * contribute to one response, the oldest capture time wins.
+     *
+     * @param capturedAt when the served snapshot was read from Spanner.
+     */
+    public static void mark(Instant capturedAt) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Object existing = attributes.getAttribute(CAPTURED_AT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof Instant previous && previous.isBefore(capturedAt)) {
+            return;
+        }
+        attributes.setAttribute(CAPTURED_AT_ATTRIBUTE, capturedAt, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * @return the capture time of the oldest stale value served for the current request, if any.
+     */
+    public static Optional<Instant> capturedAt() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        Object value = attributes.getAttribute(CAPTURED_AT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return value instanceof Instant instant ? Optional.of(instant) : Optional.empty();
+    }
+}
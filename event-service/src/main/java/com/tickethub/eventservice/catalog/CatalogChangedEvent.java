@@ -0,0 +1,16 @@
+package com.tickethub.eventservice.catalog;
+
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+
+import java.util.List;
+
+/**
+ * Published by the write path after an event and its seat categories have been saved,
+ * so the {@link CatalogSnapshot} can apply the change without re-reading Spanner.
+ *
+ * @param event      the saved event.
+ * @param categories the event's complete set of seat categories after the write.
+ */
+public record CatalogChangedEvent(Event event, List<SeatCategory> categories) {
+}
@@ -0,0 +1,533 @@
+package com.tickethub.eventservice.catalog;
+
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, column-oriented copy of the catalog: one array per field instead of one object per row.
+ * <p>
+ * Venues and category names are interned, so the few distinct values are stored once and venue
+ * filters compare references. Start times are epoch seconds (UTC wall clock) plus nanos in primitive
+ * arrays, and prices are {@code long} minor units at one scale for the whole snapshot (normally 2,
+ * i.e. cents), so filtering and sorting never touch {@link BigDecimal} or {@link LocalDateTime}.
+ * Seat categories are stored grouped by event; {@code categoryOffsets[row]} is the first category of a row.
+ */
+final class CatalogColumns {
+
+    static final CatalogColumns EMPTY = new Builder().build();
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private final int size;
+    private final String[] ids;
+    private final String[] names;
+    private final String[] descriptions;
+    private final String[] venues;
+    private final String[] imageUrls;
+    private final long[] startEpochSeconds;
+    private final int[] startNanos;
+    private final long[] versions;
+
+    private final int[] categoryOffsets;
+    private final String[] categoryIds;
+    private final String[] categoryNames;
+    private final long[] priceMinorUnits;
+    private final long[] availableCounts;
+    private final int priceScale;
+
+    private final Map<String, String> venueTable;
+    private final Map<String, Integer> rowById;
+    private final long estimatedBytes;
+    private volatile int[] startOrder; // rows with a start time, soonest first; built on first use
+
+    private CatalogColumns(String[] ids, String[] names, String[] descriptions, String[] venues, String[] imageUrls,
+                           long[] startEpochSeconds, int[] startNanos, long[] versions,
+                           int[] categoryOffsets, String[] categoryIds, String[] categoryNames,
+                           long[] priceMinorUnits, long[] availableCounts, int priceScale) {
+        this.size = ids.length;
+        this.ids = ids;
+        this.names = names;
+        this.descriptions = descriptions;
+        this.venues = venues;
+        this.imageUrls = imageUrls;
+        this.startEpochSeconds = startEpochSeconds;
+        this.startNanos = startNanos;
+        this.versions = versions;
+        this.categoryOffsets = categoryOffsets;
+        this.categoryIds = categoryIds;
+        this.categoryNames = categoryNames;
+        this.priceMinorUnits = priceMinorUnits;
+        this.availableCounts = availableCounts;
+        this.priceScale = priceScale;
+
+        // Venues are interned by whoever filled the column, so the table maps each value to the one instance in use
+        Map<String, String> venueTable = new HashMap<>();
+        for (String venue : venues) {
+            if (venue != null) {
+                venueTable.putIfAbsent(venue, venue);
+            }
+        }
+        this.venueTable = Map.copyOf(venueTable);
+        this.rowById = new HashMap<>(size * 2);
+        for (int row = 0; row < size; row++) {
+            rowById.put(ids[row], row);
+        }
+        this.estimatedBytes = estimateBytes();
+    }
+
+    int size() {
+        return size;
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    boolean contains(String eventId) {
+        return rowById.containsKey(eventId);
+    }
+
+    /**
+     * Applies a batch of changes in one copy: unchanged rows are copied column by column as they are
+     * (no {@link LocalDateTime} or {@link BigDecimal} per row), changed events are replaced and removed
+     * ones dropped. An event both changed and removed is removed.
+     *
+     * @param changes saved events with their seat categories; a later change to the same event wins.
+     * @param removed IDs of deleted events.
+     * @return the updated copy, or this if there is nothing to apply.
+     */
+    CatalogColumns withChanges(Collection<CatalogChangedEvent> changes, Collection<String> removed) {
+        Map<String, CatalogChangedEvent> upserts = new LinkedHashMap<>();
+        for (CatalogChangedEvent change : changes) {
+            upserts.put(change.event().getId(), change);
+        }
+        removed.forEach(upserts::remove);
+        int kept = 0;
+        int keptCategories = 0;
+        for (int row = 0; row < size; row++) {
+            if (!upserts.containsKey(ids[row]) && !removed.contains(ids[row])) {
+                kept++;
+                keptCategories += categoryOffsets[row + 1] - categoryOffsets[row];
+            }
+        }
+        if (upserts.isEmpty() && kept == size) {
+            return this;
+        }
+
+        Builder added = new Builder();
+        for (CatalogChangedEvent change : upserts.values()) {
+            added.add(change.event(), change.categories());
+        }
+        int scale = Math.max(priceScale, added.scale());
+        long rescale = BigDecimal.ONE.movePointRight(scale - priceScale).longValueExact();
+
+        int newSize = kept + added.ids.size();
+        int newCategories = keptCategories + added.categoryIds.size();
+        String[] newIds = new String[newSize];
+        String[] newNames = new String[newSize];
+        String[] newDescriptions = new String[newSize];
+        String[] newVenues = new String[newSize];
+        String[] newImageUrls = new String[newSize];
+        long[] newStartEpochSeconds = new long[newSize];
+        int[] newStartNanos = new int[newSize];
+        long[] newVersions = new long[newSize];
+        int[] newCategoryOffsets = new int[newSize + 1];
+        String[] newCategoryIds = new String[newCategories];
+        String[] newCategoryNames = new String[newCategories];
+        long[] newPriceMinorUnits = new long[newCategories];
+        long[] newAvailableCounts = new long[newCategories];
+
+        int to = 0;
+        int category = 0;
+        for (int row = 0; row < size; row++) {
+            if (upserts.containsKey(ids[row]) || removed.contains(ids[row])) {
+                continue;
+            }
+            newIds[to] = ids[row];
+            newNames[to] = names[row];
+            newDescriptions[to] = descriptions[row];
+            newVenues[to] = venues[row];
+            newImageUrls[to] = imageUrls[row];
+            newStartEpochSeconds[to] = startEpochSeconds[row];
+            newStartNanos[to] = startNanos[row];
+            newVersions[to] = versions[row];
+            for (int i = categoryOffsets[row]; i < categoryOffsets[row + 1]; i++) {
+                newCategoryIds[category] = categoryIds[i];
+                newCategoryNames[category] = categoryNames[i];
+                newPriceMinorUnits[category] = priceMinorUnits[i] == NULL_LONG ? NULL_LONG : Math.multiplyExact(priceMinorUnits[i], rescale);
+                newAvailableCounts[category] = availableCounts[i];
+                category++;
+            }
+            newCategoryOffsets[++to] = category;
+        }
+        for (int row = 0; row < added.ids.size(); row++) {
+            newIds[to] = added.ids.get(row);
+            newNames[to] = added.names.get(row);
+            newDescriptions[to] = added.descriptions.get(row);
+            String venue = added.venues.get(row);
+            newVenues[to] = venue == null ? null : venueTable.getOrDefault(venue, venue);
+            newImageUrls[to] = added.imageUrls.get(row);
+            LocalDateTime start = added.startTimes.get(row);
+            newStartEpochSeconds[to] = start == null ? NULL_LONG : start.toEpochSecond(ZoneOffset.UTC);
+            newStartNanos[to] = start == null ? 0 : start.getNano();
+            Long version = added.versions.get(row);
+            newVersions[to] = version == null ? NULL_LONG : version;
+            category += added.categoryCounts.get(row);
+            newCategoryOffsets[++to] = category;
+        }
+        for (int i = 0; i < added.categoryIds.size(); i++) {
+            int at = keptCategories + i;
+            newCategoryIds[at] = added.categoryIds.get(i);
+            newCategoryNames[at] = added.categoryNames.get(i);
+            newPriceMinorUnits[at] = minorUnits(added.prices.get(i), scale);
+            Long available = added.availableCounts.get(i);
+            newAvailableCounts[at] = available == null ? NULL_LONG : available;
+        }
+        return new CatalogColumns(newIds, newNames, newDescriptions, newVenues, newImageUrls,
+                newStartEpochSeconds, newStartNanos, newVersions, newCategoryOffsets, newCategoryIds, newCategoryNames,
+                newPriceMinorUnits, newAvailableCounts, scale);
+    }
+
+    private static long minorUnits(BigDecimal price, int scale) {
+        return price == null ? NULL_LONG : price.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Filters, sorts and pages the catalog.
+     *
+     * @return the requested page, or null if the sort uses a property the snapshot cannot sort by.
+     */
+    Page<Event> query(EventFilter filter, Pageable pageable) {
+        Comparator<Integer> comparator = comparator(pageable.getSort());
+        if (comparator == null) {
+            return null;
+        }
+        List<Integer> matches = new ArrayList<>();
+        RowPredicate predicate = predicate(filter);
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(row)) {
+                matches.add(row);
+            }
+        }
+        matches.sort(comparator);
+
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), matches.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), matches.size()) : matches.size();
+        List<Event> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(event(matches.get(i)));
+        }
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    /**
+     * Lists the events starting after the given time, soonest first (ties by event ID), each with the
+     * summary of its seat categories.
+     */
+    List<EventSummary> upcoming(LocalDateTime now, int offset, int limit) {
+        int[] order = startOrder();
+        List<EventSummary> page = new ArrayList<>(Math.min(limit, 64));
+        for (int i = firstStartingAfter(order, now) + offset; i >= 0 && i < order.length && page.size() < limit; i++) {
+            int row = order[i];
+            page.add(new EventSummary(event(row), seatSummary(row)));
+        }
+        return page;
+    }
+
+    /**
+     * @return the number of events starting after the given time.
+     */
+    int countUpcoming(LocalDateTime now) {
+        int[] order = startOrder();
+        return order.length - firstStartingAfter(order, now);
+    }
+
+    /**
+     * @return the seat summary of each given event held here; events not held are left out.
+     */
+    Map<String, SeatSummary> seatSummaries(Collection<String> eventIds) {
+        Map<String, SeatSummary> summaries = new HashMap<>(eventIds.size() * 2);
+        for (String eventId : eventIds) {
+            Integer row = rowById.get(eventId);
+            if (row != null) {
+                summaries.put(eventId, seatSummary(row));
+            }
+        }
+        return summaries;
+    }
+
+    // Same rules as SeatSummary.of, on the category columns
+    private SeatSummary seatSummary(int row) {
+        long minPrice = NULL_LONG;
+        long totalAvailable = 0;
+        int first = categoryOffsets[row];
+        int last = categoryOffsets[row + 1];
+        for (int i = first; i < last; i++) {
+            if (priceMinorUnits[i] != NULL_LONG && (minPrice == NULL_LONG || priceMinorUnits[i] < minPrice)) {
+                minPrice = priceMinorUnits[i];
+            }
+            if (availableCounts[i] != NULL_LONG) {
+                totalAvailable += availableCounts[i];
+            }
+        }
+        return new SeatSummary(minPrice == NULL_LONG ? null : BigDecimal.valueOf(minPrice, priceScale),
+                totalAvailable, last > first && totalAvailable <= 0);
+    }
+
+    private int[] startOrder() {
+        int[] order = startOrder;
+        if (order == null) {
+            // Racing threads build the same array; either copy may win
+            order = IntStream.range(0, size)
+                    .filter(row -> startEpochSeconds[row] != NULL_LONG)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingLong(row -> startEpochSeconds[row])
+                            .thenComparingInt(row -> startNanos[row])
+                            .thenComparing(row -> ids[row]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            startOrder = order;
+        }
+        return order;
+    }
+
+    // Index in the start order of the first event starting strictly after the given time
+    private int firstStartingAfter(int[] order, LocalDateTime time) {
+        long seconds = time.toEpochSecond(ZoneOffset.UTC);
+        int nanos = time.getNano();
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int row = order[middle];
+            boolean after = startEpochSeconds[row] > seconds || (startEpochSeconds[row] == seconds && startNanos[row] > nanos);
+            if (after) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private interface RowPredicate {
+        boolean test(int row);
+    }
+
+    private RowPredicate predicate(EventFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return row -> true;
+        }
+        String venue;
+        if (filter.getVenue() != null) {
+            venue = venueTable.get(filter.getVenue());
+            if (venue == null) {
+                return row -> false;
+            }
+        } else {
+            venue = null;
+        }
+        long from = filter.getFrom() == null ? NULL_LONG : filter.getFrom().toEpochSecond(ZoneOffset.UTC);
+        long to = filter.getTo() == null ? Long.MAX_VALUE : filter.getTo().toEpochSecond(ZoneOffset.UTC);
+        long maxPrice = filter.getMaxPrice() == null ? Long.MAX_VALUE
+                : filter.getMaxPrice().setScale(priceScale, RoundingMode.FLOOR).unscaledValue().longValue();
+        return row -> {
+            if (venue != null && venues[row] != venue) {
+                return false;
+            }
+            long start = startEpochSeconds[row];
+            if (filter.getFrom() != null && (start == NULL_LONG || start < from)) {
+                return false;
+            }
+            if (filter.getTo() != null && (start == NULL_LONG || start >= to)) {
+                return false;
+            }
+            if (filter.getMaxPrice() != null) {
+                for (int i = categoryOffsets[row]; i < categoryOffsets[row + 1]; i++) {
+                    if (priceMinorUnits[i] != NULL_LONG && priceMinorUnits[i] <= maxPrice) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return true;
+        };
+    }
+
+    // Mirrors Spanner ordering: NULLs sort first ascending; ties are broken by event ID for stable paging
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Integer> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(row -> ids[row]);
+                case "name" -> Comparator.comparing(row -> names[row], Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "venue" -> Comparator.comparing(row -> venues[row], Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "startTime" -> Comparator.<Integer>comparingLong(row -> startEpochSeconds[row])
+                        .thenComparingInt(row -> startNanos[row]);
+                default -> null;
+            };
+            if (next == null) {
+                return null;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Integer> byId = Comparator.comparing(row -> ids[row]);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private Event event(int row) {
+        long seconds = startEpochSeconds[row];
+        LocalDateTime start = seconds == NULL_LONG ? null : LocalDateTime.ofEpochSecond(seconds, startNanos[row], ZoneOffset.UTC);
+        long version = versions[row];
+        return new Event(ids[row], names[row], descriptions[row], start, venues[row], imageUrls[row],
+                version == NULL_LONG ? null : version);
+    }
+
+    private long estimateBytes() {
+        long bytes = 0;
+        bytes += 6 * referenceArray(size) + 2 * referenceArray(categoryIds.length);
+        bytes += 2 * (16 + 8L * size) + 16 + 4L * size + 16 + 4L * (size + 1);
+        bytes += 2 * (16 + 8L * priceMinorUnits.length);
+        // HashMap node, boxed row number and table slot per event
+        bytes += 64L * size;
+
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String[] column : List.of(ids, names, descriptions, venues, imageUrls, categoryIds, categoryNames)) {
+            for (String value : column) {
+                if (value != null && seen.add(value)) {
+                    bytes += stringBytes(value);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long referenceArray(int length) {
+        return 16 + 4L * length;
+    }
+
+    // String header plus backing array; Latin-1 strings use one byte per char with compact strings
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return 24 + 16 + (long) value.length() * (latin1 ? 1 : 2);
+    }
+
+    /**
+     * Collects rows, then lays them out column by column in {@link #build()}.
+     */
+    static final class Builder {
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> descriptions = new ArrayList<>();
+        private final List<String> venues = new ArrayList<>();
+        private final List<String> imageUrls = new ArrayList<>();
+        private final List<LocalDateTime> startTimes = new ArrayList<>();
+        private final List<Long> versions = new ArrayList<>();
+        private final List<Integer> categoryCounts = new ArrayList<>();
+        private final List<String> categoryIds = new ArrayList<>();
+        private final List<String> categoryNames = new ArrayList<>();
+        private final List<BigDecimal> prices = new ArrayList<>();
+        private final List<Long> availableCounts = new ArrayList<>();
+        private final Map<String, String> venueTable = new HashMap<>();
+        private final Map<String, String> categoryNameTable = new HashMap<>();
+
+        Builder add(Event event, List<SeatCategory> categories) {
+            ids.add(event.getId());
+            names.add(event.getName());
+            descriptions.add(event.getDescription());
+            venues.add(internVenue(event.getVenue()));
+            imageUrls.add(event.getImageUrl());
+            startTimes.add(event.getStartTime());
+            versions.add(event.getVersion());
+            categoryCounts.add(categories.size());
+            for (SeatCategory category : categories) {
+                categoryIds.add(category.getId());
+                categoryNames.add(internCategoryName(category.getName()));
+                prices.add(category.getPrice());
+                availableCounts.add(category.getAvailableCount());
+            }
+            return this;
+        }
+
+        // One scale for the whole snapshot: the largest one in use, so every price converts exactly
+        int scale() {
+            int scale = 2;
+            for (BigDecimal price : prices) {
+                if (price != null) {
+                    scale = Math.max(scale, price.stripTrailingZeros().scale());
+                }
+            }
+            return scale;
+        }
+
+        CatalogColumns build() {
+            int size = ids.size();
+            long[] startEpochSeconds = new long[size];
+            int[] startNanos = new int[size];
+            long[] versionColumn = new long[size];
+            int[] categoryOffsets = new int[size + 1];
+            for (int row = 0; row < size; row++) {
+                LocalDateTime start = startTimes.get(row);
+                startEpochSeconds[row] = start == null ? NULL_LONG : start.toEpochSecond(ZoneOffset.UTC);
+                startNanos[row] = start == null ? 0 : start.getNano();
+                Long version = versions.get(row);
+                versionColumn[row] = version == null ? NULL_LONG : version;
+                categoryOffsets[row + 1] = categoryOffsets[row] + categoryCounts.get(row);
+            }
+            int scale = scale();
+            int categoryCount = categoryIds.size();
+            long[] priceMinorUnits = new long[categoryCount];
+            long[] availableCountColumn = new long[categoryCount];
+            for (int i = 0; i < categoryCount; i++) {
+                priceMinorUnits[i] = minorUnits(prices.get(i), scale);
+                Long available = availableCounts.get(i);
+                availableCountColumn[i] = available == null ? NULL_LONG : available;
+            }
+            return new CatalogColumns(ids.toArray(String[]::new), names.toArray(String[]::new),
+                    descriptions.toArray(String[]::new), venues.toArray(String[]::new), imageUrls.toArray(String[]::new),
+                    startEpochSeconds, startNanos, versionColumn, categoryOffsets,
+                    categoryIds.toArray(String[]::new), categoryNames.toArray(String[]::new),
+                    priceMinorUnits, availableCountColumn, scale);
+        }
+
+        private String internVenue(String venue) {
+            return venue == null ? null : venueTable.computeIfAbsent(venue, v -> v);
+        }
+
+        private String internCategoryName(String name) {
+            return name == null ? null : categoryNameTable.computeIfAbsent(name, n -> n);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogColumns[events=" + size + ", categories=" + categoryIds.length
+                + ", venues=" + venueTable.size() + ", estimatedBytes=" + estimatedBytes + "]";
+    }
+}
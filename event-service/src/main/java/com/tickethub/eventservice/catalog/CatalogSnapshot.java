@@ -0,0 +1,327 @@
+package com.tickethub.eventservice.catalog;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeyRange;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spring.data.spanner.core.SpannerReadOptions;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.exception.CatalogUnavailableException;
+import com.tickethub.eventservice.invalidation.InvalidationListener;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.service.ReadCoalescer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * In-process copy of the whole catalog in a compact columnar layout ({@link CatalogColumns}),
+ * used to list, sort and filter events without a Spanner query.
+ * <p>
+ * The snapshot is loaded with one read-only transaction over both tables and then kept current by
+ * {@link CatalogChangedEvent}s from the write path, applied once the write has committed. Writes made
+ * by other instances arrive through the invalidation bus and are re-read by event ID; a periodic full
+ * refresh (or a flush after lost invalidations) catches anything else. Readers always see a complete,
+ * immutable {@link CatalogColumns}; every change swaps in a new one, copied once per write or per
+ * batch of invalidated events.
+ */
+@Component
+public class CatalogSnapshot implements InvalidationListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshot.class);
+
+    private final SpannerTemplate spannerTemplate;
+    private final ReadCoalescer readCoalescer;
+    private final boolean enabled;
+    private final long refreshIntervalMs;
+    private final ScheduledExecutorService scheduler;
+    private final Object refreshLock = new Object();
+    private final Object changeLock = new Object();
+
+    private volatile CatalogColumns columns; // null until the first load completes
+    private List<CatalogChangedEvent> changesDuringRefresh; // guarded by changeLock; non-null while a refresh is reading
+    private List<CatalogChangedEvent> changesDuringReload; // guarded by changeLock; non-null while a reload is reading
+
+    public CatalogSnapshot(SpannerTemplate spannerTemplate,
+                           ReadCoalescer readCoalescer,
+                           @Value("${eventservice.catalog.enabled:true}") boolean enabled,
+                           @Value("${eventservice.catalog.refresh-interval-ms:300000}") long refreshIntervalMs,
+                           MeterRegistry meterRegistry) {
+        this.spannerTemplate = spannerTemplate;
+        this.readCoalescer = readCoalescer;
+        this.enabled = enabled;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("eventservice.catalog.snapshot.bytes", this, snapshot -> snapshot.current().estimatedBytes())
+                .description("Estimated heap used by the in-memory catalog snapshot")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("eventservice.catalog.snapshot.events", this, snapshot -> snapshot.current().size())
+                .description("Events held in the in-memory catalog snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the snapshot in the background once the application has started and refreshes it
+     * periodically from then on, if enabled. The refresh is scheduled whether or not the first load
+     * succeeds, so a load that fails at startup is retried.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return true if the snapshot has been loaded and may serve listings.
+     */
+    public boolean isReady() {
+        return enabled && columns != null;
+    }
+
+    /**
+     * Lists events from the snapshot.
+     *
+     * @param filter   optional filters; null or empty matches every event.
+     * @param pageable page and sort; events can be sorted by id, name, venue and startTime.
+     * @return the page, or empty if the snapshot is not loaded or cannot apply the requested sort.
+     */
+    public Optional<Page<Event>> query(EventFilter filter, Pageable pageable) {
+        CatalogColumns current = columns;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current.query(filter, pageable));
+    }
+
+    /**
+     * Lists the events starting after the given time from the snapshot, soonest first.
+     *
+     * @param now    the current time, compared as UTC like the rest of the catalog.
+     * @param offset events to skip.
+     * @param limit  events to return at most.
+     * @return the events, each with its seat summary; empty if the snapshot is not loaded.
+     */
+    public List<EventSummary> upcoming(LocalDateTime now, int offset, int limit) {
+        CatalogColumns current = columns;
+        return current == null ? List.of() : current.upcoming(now, offset, limit);
+    }
+
+    /**
+     * @return the number of events starting after the given time; 0 if the snapshot is not loaded.
+     */
+    public int countUpcoming(LocalDateTime now) {
+        return current().countUpcoming(now);
+    }
+
+    /**
+     * Summarizes the seat categories of the given events from the snapshot.
+     *
+     * @param eventIds the events to summarize.
+     * @return the summary of each event held in the snapshot; events it does not hold are left out,
+     * and the map is empty if the snapshot is not loaded.
+     */
+    public Map<String, SeatSummary> seatSummaries(Collection<String> eventIds) {
+        CatalogColumns current = columns;
+        return current == null ? Map.of() : current.seatSummaries(eventIds);
+    }
+
+    /**
+     * Loads the snapshot if it has not been loaded yet. Concurrent callers share one load.
+     *
+     * @throws CatalogUnavailableException if the snapshot is disabled.
+     */
+    public void ensureLoaded() {
+        if (!enabled) {
+            throw new CatalogUnavailableException("The catalog snapshot is disabled");
+        }
+        if (columns == null) {
+            readCoalescer.execute("catalogSnapshot", "load", () -> {
+                if (columns == null) {
+                    refresh();
+                }
+                return Boolean.TRUE;
+            });
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot from Spanner. Changes committed while the tables are being read are
+     * re-applied on top of the new snapshot, so they are not lost if the read missed them.
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            synchronized (changeLock) {
+                changesDuringRefresh = new ArrayList<>();
+            }
+            try {
+                long start = System.nanoTime();
+                CatalogColumns loaded = spannerTemplate.performReadOnlyTransaction(
+                        template -> build(template.readAll(Event.class), template.readAll(SeatCategory.class)),
+                        new SpannerReadOptions());
+                synchronized (changeLock) {
+                    columns = loaded.withChanges(changesDuringRefresh, Set.of());
+                }
+                log.info("Catalog snapshot loaded in {} ms: {}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), loaded);
+            } finally {
+                synchronized (changeLock) {
+                    changesDuringRefresh = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a committed write to the snapshot. Runs after the surrounding transaction commits,
+     * or immediately when the change is published outside a transaction.
+     *
+     * @param change the saved event and its seat categories.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent change) {
+        synchronized (changeLock) {
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.add(change);
+            }
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+            if (columns != null) {
+                columns = columns.withChanges(List.of(change), Set.of());
+            }
+        }
+        log.debug("Applied change to event {} to the catalog snapshot", change.event().getId());
+    }
+
+    /**
+     * Re-reads events changed on another instance and swaps them into the snapshot, in the background.
+     */
+    @Override
+    public void onInvalidate(Set<String> eventIds) {
+        if (columns != null) {
+            scheduler.execute(() -> reloadQuietly(eventIds));
+        }
+    }
+
+    /**
+     * Invalidations were lost: rebuild the whole snapshot in the background.
+     */
+    @Override
+    public void onFlush() {
+        if (columns != null) {
+            scheduler.execute(this::refreshQuietly);
+        }
+    }
+
+    private void reloadQuietly(Set<String> eventIds) {
+        try {
+            reload(eventIds);
+        } catch (RuntimeException e) {
+            // The periodic refresh will pick the changes up
+            log.warn("Failed to reload events {} into the catalog snapshot: {}", eventIds, e.getMessage(), e);
+        }
+    }
+
+    // Reads only the given events and their seat categories, in one read-only transaction. Like a refresh,
+    // changes committed while the rows are being read are re-applied on top, so a slow read cannot undo them
+    void reload(Set<String> eventIds) {
+        KeySet.Builder eventKeys = KeySet.newBuilder();
+        KeySet.Builder categoryKeys = KeySet.newBuilder();
+        for (String eventId : eventIds) {
+            eventKeys.addKey(Key.of(eventId));
+            categoryKeys.addRange(KeyRange.prefix(Key.of(eventId)));
+        }
+        synchronized (changeLock) {
+            changesDuringReload = new ArrayList<>();
+        }
+        List<CatalogChangedEvent> changes;
+        Set<String> deleted = new HashSet<>(eventIds);
+        try {
+            changes = spannerTemplate.performReadOnlyTransaction(template -> {
+                Map<String, List<SeatCategory>> categoriesByEventId = template.read(SeatCategory.class, categoryKeys.build()).stream()
+                        .collect(Collectors.groupingBy(SeatCategory::getEventId));
+                return template.read(Event.class, eventKeys.build()).stream()
+                        .map(event -> new CatalogChangedEvent(event, categoriesByEventId.getOrDefault(event.getId(), List.of())))
+                        .toList();
+            }, new SpannerReadOptions());
+            changes.forEach(change -> deleted.remove(change.event().getId()));
+            synchronized (changeLock) {
+                if (changesDuringRefresh != null) {
+                    changesDuringRefresh.addAll(changes);
+                }
+                // One copy of the columns for the whole batch; changes applied during the read come last and win
+                if (columns != null) {
+                    List<CatalogChangedEvent> batch = new ArrayList<>(changes);
+                    batch.addAll(changesDuringReload);
+                    changesDuringReload.forEach(change -> deleted.remove(change.event().getId()));
+                    columns = columns.withChanges(batch, deleted);
+                }
+            }
+        } finally {
+            synchronized (changeLock) {
+                changesDuringReload = null;
+            }
+        }
+        log.debug("Reloaded {} events into the catalog snapshot ({} removed)", changes.size(), deleted.size());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot; the next scheduled refresh tries again
+            log.warn("Catalog snapshot refresh failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private CatalogColumns current() {
+        CatalogColumns current = columns;
+        return current == null ? CatalogColumns.EMPTY : current;
+    }
+
+    private static CatalogColumns build(List<Event> events, List<SeatCategory> categories) {
+        Map<String, List<SeatCategory>> categoriesByEventId = categories.stream()
+                .collect(Collectors.groupingBy(SeatCategory::getEventId));
+        CatalogColumns.Builder builder = new CatalogColumns.Builder();
+        for (Event event : events) {
+            builder.add(event, categoriesByEventId.getOrDefault(event.getId(), List.of()));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
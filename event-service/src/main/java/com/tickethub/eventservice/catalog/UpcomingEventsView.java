@@ -0,0 +1,61 @@
+package com.tickethub.eventservice.catalog;
+
+import com.tickethub.eventservice.dto.EventSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Events that have not started yet, in start-time order, each with its seat summary (total
+ * availability and minimum price over its seat categories). Serves the homepage's "next N events"
+ * from memory instead of sorting the events table per request.
+ * <p>
+ * The view is an index over the {@link CatalogSnapshot}, which already holds every event with its
+ * seat categories and is kept current by writes, invalidations and refreshes; each snapshot version
+ * sorts its rows by start time once, on first use. Events drop out as soon as they start, and start
+ * times are compared as UTC, like the rest of the catalog.
+ */
+@Component
+public class UpcomingEventsView {
+
+    private final CatalogSnapshot catalogSnapshot;
+    private final Clock clock;
+
+    @Autowired
+    public UpcomingEventsView(CatalogSnapshot catalogSnapshot, MeterRegistry meterRegistry) {
+        this(catalogSnapshot, meterRegistry, Clock.systemUTC());
+    }
+
+    UpcomingEventsView(CatalogSnapshot catalogSnapshot, MeterRegistry meterRegistry, Clock clock) {
+        this.catalogSnapshot = catalogSnapshot;
+        this.clock = clock;
+        Gauge.builder("eventservice.upcoming.events", this, view -> view.catalogSnapshot.countUpcoming(LocalDateTime.now(view.clock)))
+                .description("Events in the catalog snapshot that have not started yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the catalog snapshot if it has not been loaded yet. Concurrent callers share one load.
+     *
+     * @throws com.tickethub.eventservice.exception.CatalogUnavailableException if the snapshot is disabled.
+     */
+    public void ensureLoaded() {
+        catalogSnapshot.ensureLoaded();
+    }
+
+    /**
+     * Lists the next events to start, soonest first.
+     *
+     * @param offset events to skip.
+     * @param limit  events to return at most.
+     * @return the events, each with its seat summary; empty if the snapshot is not loaded.
+     */
+    public List<EventSummary> upcoming(int offset, int limit) {
+        return catalogSnapshot.upcoming(LocalDateTime.now(clock), offset, limit);
+    }
+}
@@ -0,0 +1,190 @@
+package com.tickethub.eventservice.codec;
+
+import com.google.protobuf.Timestamp;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.proto.EventProtos;
+import org.springframework.data.domain.Page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Converts between the catalog model and the messages in {@code src/main/proto/event.proto}.
+ * Null fields are left unset, since proto3 has no null.
+ */
+public final class EventProtoMapper {
+
+    private EventProtoMapper() {
+    }
+
+    public static EventProtos.Event toProto(Event event) {
+        EventProtos.Event.Builder builder = EventProtos.Event.newBuilder();
+        if (event.getId() != null) {
+            builder.setId(event.getId());
+        }
+        if (event.getName() != null) {
+            builder.setName(event.getName());
+        }
+        if (event.getDescription() != null) {
+            builder.setDescription(event.getDescription());
+        }
+        if (event.getStartTime() != null) {
+            builder.setStartTime(toTimestamp(event.getStartTime()));
+        }
+        if (event.getVenue() != null) {
+            builder.setVenue(event.getVenue());
+        }
+        if (event.getImageUrl() != null) {
+            builder.setImageUrl(event.getImageUrl());
+        }
+        if (event.getVersion() != null) {
+            builder.setVersion(event.getVersion());
+        }
+        return builder.build();
+    }
+
+    public static EventProtos.SeatCategory toProto(SeatCategory category) {
+        EventProtos.SeatCategory.Builder builder = EventProtos.SeatCategory.newBuilder();
+        if (category.getEventId() != null) {
+            builder.setEventId(category.getEventId());
+        }
+        if (category.getId() != null) {
+            builder.setId(category.getId());
+        }
+        if (category.getName() != null) {
+            builder.setName(category.getName());
+        }
+        if (category.getPrice() != null) {
+            builder.setPrice(toDecimal(category.getPrice()));
+        }
+        if (category.getAvailableCount() != null) {
+            builder.setAvailableCount(category.getAvailableCount());
+        }
+        return builder.build();
+    }
+
+    public static EventProtos.EventDetail toProto(EventDetailResponse detail) {
+        EventProtos.EventDetail.Builder builder = EventProtos.EventDetail.newBuilder()
+                .setEvent(toProto(detail.event()));
+        if (detail.seatCategories() != null) {
+            detail.seatCategories().forEach(category -> builder.addSeatCategories(toProto(category)));
+        }
+        return builder.build();
+    }
+
+    public static EventProtos.EventPage toProto(Page<Event> page) {
+        EventProtos.EventPage.Builder builder = EventProtos.EventPage.newBuilder()
+                .setTotalElements(page.getTotalElements())
+                .setTotalPages(page.getTotalPages());
+        if (page.getPageable().isPaged()) {
+            builder.setPageNumber(page.getNumber()).setPageSize(page.getSize());
+        }
+        page.getContent().forEach(event -> builder.addContent(toProto(event)));
+        return builder.build();
+    }
+
+    public static EventProtos.SeatSummary toProto(SeatSummary summary) {
+        EventProtos.SeatSummary.Builder builder = EventProtos.SeatSummary.newBuilder()
+                .setTotalAvailable(summary.totalAvailable())
+                .setSoldOut(summary.soldOut());
+        if (summary.minPrice() != null) {
+            builder.setMinPrice(toDecimal(summary.minPrice()));
+        }
+        return builder.build();
+    }
+
+    public static EventProtos.EventSummary toProto(EventSummary summary) {
+        return EventProtos.EventSummary.newBuilder()
+                .setEvent(toProto(summary.event()))
+                .setSeats(toProto(summary.seats()))
+                .build();
+    }
+
+    public static EventProtos.EventSummaryPage toSummaryProto(Page<EventSummary> page) {
+        EventProtos.EventSummaryPage.Builder builder = EventProtos.EventSummaryPage.newBuilder()
+                .setTotalElements(page.getTotalElements())
+                .setTotalPages(page.getTotalPages());
+        if (page.getPageable().isPaged()) {
+            builder.setPageNumber(page.getNumber()).setPageSize(page.getSize());
+        }
+        page.getContent().forEach(summary -> builder.addContent(toProto(summary)));
+        return builder.build();
+    }
+
+    public static EventProtos.EventBatch toProto(EventBatchResponse batch) {
+        EventProtos.EventBatch.Builder builder = EventProtos.EventBatch.newBuilder()
+                .addAllMissingIds(batch.missingIds());
+        batch.events().forEach(detail -> builder.addEvents(toProto(detail)));
+        return builder.build();
+    }
+
+    public static Event fromProto(EventProtos.Event proto) {
+        return new Event(
+                emptyToNull(proto.getId()),
+                emptyToNull(proto.getName()),
+                emptyToNull(proto.getDescription()),
+                proto.hasStartTime() ? fromTimestamp(proto.getStartTime()) : null,
+                emptyToNull(proto.getVenue()),
+                emptyToNull(proto.getImageUrl()),
+                proto.hasVersion() ? proto.getVersion() : null);
+    }
+
+    public static SeatCategory fromProto(EventProtos.SeatCategory proto) {
+        return new SeatCategory(
+                emptyToNull(proto.getEventId()),
+                emptyToNull(proto.getId()),
+                emptyToNull(proto.getName()),
+                proto.hasPrice() ? fromDecimal(proto.getPrice()) : null,
+                proto.hasAvailableCount() ? proto.getAvailableCount() : null);
+    }
+
+    public static EventDetailResponse fromProto(EventProtos.EventDetail proto) {
+        List<SeatCategory> categories = proto.getSeatCategoriesList().stream()
+                .map(EventProtoMapper::fromProto)
+                .toList();
+        return new EventDetailResponse(fromProto(proto.getEvent()), categories);
+    }
+
+    public static EventSummary fromProto(EventProtos.EventSummary proto) {
+        EventProtos.SeatSummary seats = proto.getSeats();
+        return new EventSummary(fromProto(proto.getEvent()), new SeatSummary(
+                seats.hasMinPrice() ? fromDecimal(seats.getMinPrice()) : null,
+                seats.getTotalAvailable(),
+                seats.getSoldOut()));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return Timestamp.newBuilder()
+                .setSeconds(dateTime.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(dateTime.getNano())
+                .build();
+    }
+
+    private static LocalDateTime fromTimestamp(Timestamp timestamp) {
+        return LocalDateTime.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos(), ZoneOffset.UTC);
+    }
+
+    // Prices fit comfortably in 64 bits; longValueExact fails loudly rather than truncating if one ever does not
+    private static EventProtos.Decimal toDecimal(BigDecimal value) {
+        return EventProtos.Decimal.newBuilder()
+                .setUnscaledValue(value.unscaledValue().longValueExact())
+                .setScale(value.scale())
+                .build();
+    }
+
+    private static BigDecimal fromDecimal(EventProtos.Decimal decimal) {
+        return new BigDecimal(BigInteger.valueOf(decimal.getUnscaledValue()), decimal.getScale());
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,76 @@
+package com.tickethub.eventservice.codec;
+
+import com.google.protobuf.Message;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.model.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * Writes catalog responses as Protobuf ({@code Accept: application/x-protobuf}) using the messages in
+ * {@code event.proto}, so internal consumers can skip JSON parsing. Only the response types of the
+ * public GET endpoints are supported; everything else keeps using JSON. Pages are claimed by class
+ * alone (the element type is erased), so every page the controllers return, of events or of event
+ * summaries, needs a mapping here.
+ */
+public class ProtobufEventHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "protobuf");
+
+    public ProtobufEventHttpMessageConverter() {
+        super(APPLICATION_X_PROTOBUF, APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Event.class == clazz
+                || EventDetailResponse.class == clazz
+                || EventBatchResponse.class == clazz
+                || Page.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        toMessage(body).writeTo(outputMessage.getBody());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Message toMessage(Object body) {
+        if (body instanceof Event event) {
+            return EventProtoMapper.toProto(event);
+        }
+        if (body instanceof EventDetailResponse detail) {
+            return EventProtoMapper.toProto(detail);
+        }
+        if (body instanceof EventBatchResponse batch) {
+            return EventProtoMapper.toProto(batch);
+        }
+        if (body instanceof Page<?> page && page.getContent().stream().allMatch(Event.class::isInstance)) {
+            return EventProtoMapper.toProto((Page<Event>) page);
+        }
+        if (body instanceof Page<?> page && page.getContent().stream().allMatch(EventSummary.class::isInstance)) {
+            return EventProtoMapper.toSummaryProto((Page<EventSummary>) page);
+        }
+        throw new HttpMessageNotWritableException("No Protobuf mapping for " + body.getClass().getName());
+    }
+}
@@ -0,0 +1,83 @@
+package com.tickethub.eventservice.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compressed response bodies keyed by body version (a content hash) and coding, so a given
+ * version of a catalog response is compressed once and then served from memory.
+ * Bounded by the total size of the stored bytes; least recently used entries go first.
+ */
+public class CompressedBodyCache {
+
+    private final Map<String, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long maxBytes;
+    private long currentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param maxBytes      upper bound on the total size of cached compressed bodies.
+     * @param meterRegistry registry for the cache meters.
+     */
+    public CompressedBodyCache(long maxBytes, MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        meterRegistry.gauge("eventservice.compression.cache.bytes", this, CompressedBodyCache::sizeInBytes);
+    }
+
+    /**
+     * @param version    version of the uncompressed body.
+     * @param coding     the content coding.
+     * @param compressor produces the compressed body on a miss.
+     * @return the compressed body.
+     */
+    public byte[] get(String version, ContentCoding coding, Supplier<byte[]> compressor) {
+        String key = coding.token() + ":" + version;
+        synchronized (entries) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        // Compress outside the lock; concurrent misses for the same version just compress twice
+        byte[] compressed = compressor.get();
+        if (compressed.length <= maxBytes) {
+            put(key, compressed);
+        }
+        return compressed;
+    }
+
+    private void put(String key, byte[] compressed) {
+        synchronized (entries) {
+            byte[] previous = entries.put(key, compressed);
+            currentBytes += compressed.length - (previous == null ? 0 : previous.length);
+            Iterator<byte[]> eldest = entries.values().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                currentBytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    long sizeInBytes() {
+        synchronized (entries) {
+            return currentBytes;
+        }
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("eventservice.compression.cache.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
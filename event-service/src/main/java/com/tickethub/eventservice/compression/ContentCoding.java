@@ -0,0 +1,127 @@
+package com.tickethub.eventservice.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings the catalog endpoints can produce, in server preference order.
+ * Brotli needs the brotli4j native library; on platforms without it only gzip is offered.
+ */
+public enum ContentCoding {
+
+    BROTLI("br") {
+        @Override
+        public boolean isAvailable() {
+            return Brotli4jLoader.isAvailable();
+        }
+
+        @Override
+        public byte[] compress(byte[] body, int level) {
+            try {
+                return Encoder.compress(body, new Encoder.Parameters().setQuality(level));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Brotli compression failed", e);
+            }
+        }
+    },
+
+    GZIP("gzip") {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public byte[] compress(byte[] body, int level) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer) {
+                {
+                    def.setLevel(level);
+                }
+            }) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Gzip compression failed", e);
+            }
+            return buffer.toByteArray();
+        }
+    };
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * @return the Content-Encoding token, e.g. {@code gzip}.
+     */
+    public String token() {
+        return token;
+    }
+
+    public abstract boolean isAvailable();
+
+    /**
+     * @param body  the uncompressed body.
+     * @param level gzip level (1-9) or brotli quality (0-11).
+     * @return the compressed body.
+     */
+    public abstract byte[] compress(byte[] body, int level);
+
+    /**
+     * Picks the coding with the highest q-value in an Accept-Encoding header; ties go to the
+     * server preference (brotli before gzip). Codings with q=0 or that are unavailable are skipped.
+     *
+     * @param acceptEncoding the request's Accept-Encoding header, may be null.
+     * @return the coding to use, or empty to send the body uncompressed.
+     */
+    public static Optional<ContentCoding> negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Optional.empty();
+        }
+        ContentCoding best = null;
+        double bestQ = 0;
+        for (ContentCoding coding : values()) {
+            double q = qValue(acceptEncoding, coding.token);
+            if (q > bestQ && coding.isAvailable()) {
+                best = coding;
+                bestQ = q;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static double qValue(String acceptEncoding, String token) {
+        double wildcard = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equals(token)) {
+                return q;
+            }
+            if (name.equals("*")) {
+                wildcard = q;
+            }
+        }
+        return wildcard;
+    }
+}
@@ -0,0 +1,42 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.compression.CompressedBodyCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Response compression for the catalog endpoints. Container-level compression
+ * ({@code server.compression.enabled}) stays off: it would compress every response again on every request.
+ */
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    public CompressedBodyCache compressedBodyCache(
+            MeterRegistry meterRegistry,
+            @Value("${eventservice.compression.cache-max-bytes:67108864}") long maxBytes) {
+        return new CompressedBodyCache(maxBytes, meterRegistry);
+    }
+
+    /**
+     * Wraps the deadline and concurrency filters, so it sees the final body and headers.
+     */
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(
+            CompressedBodyCache compressedBodyCache, MeterRegistry meterRegistry,
+            @Value("${eventservice.compression.enabled:true}") boolean enabled,
+            @Value("${eventservice.compression.min-response-bytes:1024}") int minResponseBytes,
+            @Value("${eventservice.compression.gzip-level:6}") int gzipLevel,
+            @Value("${eventservice.compression.brotli-quality:6}") int brotliQuality) {
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(new CompressionFilter(
+                compressedBodyCache, minResponseBytes, gzipLevel, brotliQuality, meterRegistry));
+        registration.addUrlPatterns("/events", "/events/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 30);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
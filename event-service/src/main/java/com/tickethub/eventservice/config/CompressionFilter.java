@@ -0,0 +1,165 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.compression.CompressedBodyCache;
+import com.tickethub.eventservice.compression.ContentCoding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Compresses catalog responses (GET /events/**) with brotli or gzip, as negotiated via Accept-Encoding.
+ * <p>
+ * The SHA-256 of the response's media type and body is its version: it becomes a weak ETag (so
+ * unchanged pages can be revalidated with If-None-Match) and the key of the
+ * {@link CompressedBodyCache}, so each version is compressed once rather than on every request.
+ * Small and non-JSON bodies pass through as-is. The same URL can be served as JSON or protobuf
+ * (see ProtobufEventHttpMessageConverter), so every response varies on Accept and the media type
+ * is part of the version: a shared cache never serves one representation for the other.
+ * <p>
+ * A response that already carries an ETag keeps it: GET /events/{id} sends the event version, which
+ * clients echo in If-Match on conditional updates. Such responses are compressed (the content hash
+ * is still the cache key) but not revalidated here.
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private final CompressedBodyCache cache;
+    private final int minResponseBytes;
+    private final int gzipLevel;
+    private final int brotliQuality;
+    private final MeterRegistry meterRegistry;
+
+    public CompressionFilter(CompressedBodyCache cache, int minResponseBytes, int gzipLevel, int brotliQuality,
+                             MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.minResponseBytes = minResponseBytes;
+        this.gzipLevel = gzipLevel;
+        this.brotliQuality = brotliQuality;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Event images are already compressed and are sent straight from disk (EventImageController)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || request.getRequestURI().endsWith("/image");
+    }
+
+    // Async responses are written on the async dispatch, so the body is compressed there
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse servletResponse, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(servletResponse, ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            wrapper = new ContentCachingResponseWrapper(servletResponse);
+        }
+        chain.doFilter(request, wrapper);
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        HttpServletResponse response = (HttpServletResponse) wrapper.getResponse();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!isCompressible(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        String version = version(wrapper.getContentType(), body);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (wrapper.getHeader(HttpHeaders.ETAG) == null) {
+            response.setHeader(HttpHeaders.ETAG, "W/\"" + version + "\"");
+            if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), version)) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return;
+            }
+        }
+
+        Optional<ContentCoding> coding = ContentCoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (coding.isEmpty()) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        ContentCoding contentCoding = coding.get();
+        int level = contentCoding == ContentCoding.BROTLI ? brotliQuality : gzipLevel;
+        byte[] compressed = cache.get(version, contentCoding, () -> contentCoding.compress(body, level));
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, contentCoding.token());
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+        countBytes(contentCoding, "uncompressed", body.length);
+        countBytes(contentCoding, "compressed", compressed.length);
+    }
+
+    private void countBytes(ContentCoding coding, String stage, long bytes) {
+        Counter.builder("eventservice.compression.bytes")
+                .description("Catalog response bytes before and after compression")
+                .baseUnit("bytes")
+                .tag("coding", coding.token())
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+
+    private boolean isCompressible(ContentCachingResponseWrapper wrapper, byte[] body) {
+        if (wrapper.getStatus() != HttpStatus.OK.value() || body.length < minResponseBytes
+                || wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = wrapper.getContentType();
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("\"" + version + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Parameters such as charset are left out, so they do not split otherwise identical versions
+    private static String version(String contentType, byte[] body) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update((mediaType.getType() + "/" + mediaType.getSubtype() + "\n").getBytes(StandardCharsets.US_ASCII));
+            byte[] digest = sha256.digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.AdaptiveConcurrencyLimiter;
+import com.tickethub.eventservice.resilience.ConcurrencyLimitUpdater;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Wires the adaptive concurrency limiters for the EventService read and write paths.
+ * Each limiter drives a Resilience4j bulkhead (configured under resilience4j.bulkhead.instances),
+ * so the bulkhead metrics exported by resilience4j-micrometer reflect the adaptive limit as well.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Value("${eventservice.concurrency.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${eventservice.concurrency.tolerance:1.5}")
+    private double tolerance;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter readConcurrencyLimiter(
+            BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry,
+            @Value("${eventservice.concurrency.read.min-limit:10}") int minLimit,
+            @Value("${eventservice.concurrency.read.max-limit:400}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("read", bulkheadRegistry.bulkhead("eventServiceRead"),
+                minLimit, maxLimit, smoothing, tolerance, meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter(
+            BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry,
+            @Value("${eventservice.concurrency.write.min-limit:2}") int minLimit,
+            @Value("${eventservice.concurrency.write.max-limit:50}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("write", bulkheadRegistry.bulkhead("eventServiceWrite"),
+                minLimit, maxLimit, smoothing, tolerance, meterRegistry);
+    }
+
+    @Bean
+    public ConcurrencyLimitUpdater concurrencyLimitUpdater(
+            List<AdaptiveConcurrencyLimiter> limiters,
+            @Value("${eventservice.concurrency.update-interval-ms:250}") long updateIntervalMs) {
+        return new ConcurrencyLimitUpdater(limiters, updateIntervalMs);
+    }
+
+    /**
+     * Runs ahead of the Spring Security chain so overload is shed before JWT validation.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter readConcurrencyLimiter,
+            AdaptiveConcurrencyLimiter writeConcurrencyLimiter,
+            @Value("${eventservice.concurrency.enabled:true}") boolean enabled,
+            @Value("${eventservice.concurrency.retry-after-seconds:1}") long retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readConcurrencyLimiter, writeConcurrencyLimiter, retryAfterSeconds));
+        registration.addUrlPatterns("/events", "/events/*", "/admin/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
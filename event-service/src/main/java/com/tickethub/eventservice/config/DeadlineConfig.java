@@ -0,0 +1,69 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.ReadRetryPolicy;
+import com.tickethub.eventservice.resilience.RetryBudget;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Request deadlines and retry limits for the EventService read path.
+ * <p>
+ * The {@code eventServiceRead} retry keeps its attempt count and ignored exceptions in
+ * application.properties; which failures are retried and how long to wait between attempts
+ * come from {@link ReadRetryPolicy}, so retries respect the request deadline and the retry budget.
+ * The asynchronous detail read retries through the policy directly, with the same attempt count.
+ */
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public RetryBudget retryBudget(
+            @Value("${eventservice.retry.budget.ratio:0.1}") double ratio,
+            @Value("${eventservice.retry.budget.min-retries-per-second:5}") int minRetriesPerSecond,
+            @Value("${eventservice.retry.budget.window-seconds:10}") int windowSeconds) {
+        return new RetryBudget(ratio, minRetriesPerSecond, windowSeconds);
+    }
+
+    @Bean
+    public ReadRetryPolicy readRetryPolicy(
+            RetryBudget retryBudget, MeterRegistry meterRegistry,
+            @Value("${eventservice.retry.retry-exceptions}") Class<?>[] retryExceptions,
+            @Value("${resilience4j.retry.instances.eventServiceRead.maxAttempts:3}") int maxAttempts,
+            @Value("${eventservice.retry.base-backoff-ms:50}") long baseBackoffMillis,
+            @Value("${eventservice.retry.max-backoff-ms:1000}") long maxBackoffMillis,
+            @Value("${eventservice.retry.min-attempt-ms:100}") long minAttemptMillis) {
+        return new ReadRetryPolicy(List.of(retryExceptions), maxAttempts, retryBudget, baseBackoffMillis, maxBackoffMillis,
+                minAttemptMillis, meterRegistry);
+    }
+
+    @Bean
+    public RetryConfigCustomizer eventServiceReadRetryCustomizer(ReadRetryPolicy readRetryPolicy) {
+        return RetryConfigCustomizer.of("eventServiceRead", builder -> builder
+                .retryOnException(readRetryPolicy::shouldRetry)
+                .intervalBiFunction((attempt, result) -> readRetryPolicy.backoffMillis(attempt)));
+    }
+
+    /**
+     * Registered ahead of the concurrency limiter and the security chain, so the deadline covers the whole request.
+     */
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(
+            RetryBudget retryBudget,
+            @Value("${eventservice.deadline.default-ms:2000}") long defaultMillis,
+            @Value("${eventservice.deadline.batch-ms:4000}") long batchMillis,
+            @Value("${eventservice.deadline.max-ms:10000}") long maxMillis) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(new DeadlineFilter(retryBudget,
+                Duration.ofMillis(defaultMillis), Duration.ofMillis(batchMillis), Duration.ofMillis(maxMillis)));
+        registration.addUrlPatterns("/events", "/events/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+        return registration;
+    }
+}
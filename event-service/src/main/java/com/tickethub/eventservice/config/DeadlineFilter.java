@@ -0,0 +1,79 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.RequestDeadline;
+import com.tickethub.eventservice.resilience.RetryBudget;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Starts the deadline for EventService reads. The client may send its remaining budget in the
+ * {@value #TIMEOUT_HEADER} header (milliseconds); otherwise the per-route default applies.
+ * Either way the timeout is capped at the configured maximum.
+ * <p>
+ * Every read request is also counted towards the {@link RetryBudget}.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineFilter.class);
+
+    private final RetryBudget retryBudget;
+    private final Duration defaultTimeout;
+    private final Duration batchTimeout;
+    private final Duration maxTimeout;
+
+    public DeadlineFilter(RetryBudget retryBudget, Duration defaultTimeout, Duration batchTimeout, Duration maxTimeout) {
+        this.retryBudget = retryBudget;
+        this.defaultTimeout = defaultTimeout;
+        this.batchTimeout = batchTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        retryBudget.recordRequest();
+        RequestDeadline.start(timeoutFor(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    Duration timeoutFor(HttpServletRequest request) {
+        Duration timeout = routeDefault(request);
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null && !header.isBlank()) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    timeout = Duration.ofMillis(millis);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", TIMEOUT_HEADER, header);
+            }
+        }
+        return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+    }
+
+    private Duration routeDefault(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals("/events/batch") ? batchTimeout : defaultTimeout;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.invalidation.InvalidationBus;
+import com.tickethub.eventservice.invalidation.LoopbackInvalidationBus;
+import com.tickethub.eventservice.invalidation.MulticastInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cross-instance cache invalidation. {@code loopback} (the default) keeps invalidations inside
+ * the process, which is all a single instance needs; {@code multicast} connects the replicas.
+ */
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationBus invalidationBus(
+            MeterRegistry meterRegistry,
+            @Value("${eventservice.invalidation.transport:loopback}") String transport,
+            @Value("${eventservice.invalidation.multicast.group:239.10.10.10}") String group,
+            @Value("${eventservice.invalidation.multicast.port:45588}") int port,
+            @Value("${eventservice.invalidation.multicast.interface:}") String interfaceName,
+            @Value("${eventservice.invalidation.multicast.ttl:1}") int timeToLive,
+            @Value("${eventservice.invalidation.heartbeat-ms:5000}") long heartbeatMillis) {
+        return switch (transport) {
+            case "loopback" -> new LoopbackInvalidationBus(new LoopbackInvalidationBus.Hub(), meterRegistry);
+            case "multicast" -> new MulticastInvalidationBus(group, port, interfaceName, timeToLive, heartbeatMillis, meterRegistry);
+            default -> throw new IllegalArgumentException("Unknown eventservice.invalidation.transport: " + transport);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler;
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.LaneSettings;
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.TrafficClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Priority lanes: separate worker budgets and wait queues for admin, checkout and public browse
+ * traffic, so the Tomcat threads a catalog flood can hold stay bounded.
+ */
+@Configuration
+public class PriorityLaneConfig {
+
+    @Bean
+    public PriorityRequestScheduler priorityRequestScheduler(
+            MeterRegistry meterRegistry,
+            @Value("${eventservice.lanes.admin.workers:10}") int adminWorkers,
+            @Value("${eventservice.lanes.admin.queue-capacity:20}") int adminQueueCapacity,
+            @Value("${eventservice.lanes.admin.max-wait:5s}") Duration adminMaxWait,
+            @Value("${eventservice.lanes.checkout.workers:50}") int checkoutWorkers,
+            @Value("${eventservice.lanes.checkout.queue-capacity:50}") int checkoutQueueCapacity,
+            @Value("${eventservice.lanes.checkout.max-wait:1s}") Duration checkoutMaxWait,
+            @Value("${eventservice.lanes.browse.workers:100}") int browseWorkers,
+            @Value("${eventservice.lanes.browse.queue-capacity:30}") int browseQueueCapacity,
+            @Value("${eventservice.lanes.browse.max-wait:500ms}") Duration browseMaxWait,
+            @Value("${eventservice.lanes.lifo-threshold:100ms}") Duration lifoThreshold) {
+        return new PriorityRequestScheduler(Map.of(
+                TrafficClass.ADMIN, new LaneSettings(adminWorkers, adminQueueCapacity, adminMaxWait),
+                TrafficClass.CHECKOUT, new LaneSettings(checkoutWorkers, checkoutQueueCapacity, checkoutMaxWait),
+                TrafficClass.BROWSE, new LaneSettings(browseWorkers, browseQueueCapacity, browseMaxWait)),
+                lifoThreshold, meterRegistry);
+    }
+
+    /**
+     * Runs inside the deadline filter, so time spent waiting for a slot counts against the request
+     * deadline, and ahead of the adaptive concurrency limiter, which then only sees admitted requests.
+     */
+    @Bean
+    public FilterRegistrationBean<PriorityLaneFilter> priorityLaneFilter(
+            PriorityRequestScheduler priorityRequestScheduler,
+            @Value("${eventservice.lanes.enabled:true}") boolean enabled,
+            @Value("${eventservice.lanes.api-key-header:X-API-Key}") String apiKeyHeader,
+            @Value("${eventservice.lanes.checkout.api-keys:}") Set<String> checkoutApiKeys,
+            @Value("${eventservice.lanes.retry-after-seconds:1}") long retryAfterSeconds) {
+        FilterRegistrationBean<PriorityLaneFilter> registration = new FilterRegistrationBean<>(
+                new PriorityLaneFilter(priorityRequestScheduler, apiKeyHeader, checkoutApiKeys, retryAfterSeconds));
+        registration.addUrlPatterns("/events", "/events/*", "/admin/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 15);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
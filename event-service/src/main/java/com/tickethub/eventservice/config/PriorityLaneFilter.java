@@ -0,0 +1,109 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler;
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.TrafficClass;
+import com.tickethub.eventservice.resilience.RequestDeadline;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Schedules EventService requests on the {@link PriorityRequestScheduler} by traffic class:
+ * /admin requests are ADMIN, requests carrying one of the internal API keys (the checkout and
+ * ticketing services) are CHECKOUT, and everything else under /events is public BROWSE traffic.
+ * A request waits for a slot of its class at most until its deadline; one that gets none is
+ * rejected with 503 and Retry-After. For async requests the slot is held until the response
+ * completes, so the Spanner work of an async read stays within its lane's budget.
+ */
+public class PriorityLaneFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(PriorityLaneFilter.class);
+
+    private final PriorityRequestScheduler scheduler;
+    private final String apiKeyHeader;
+    private final Set<String> checkoutApiKeys;
+    private final long retryAfterSeconds;
+
+    public PriorityLaneFilter(PriorityRequestScheduler scheduler, String apiKeyHeader, Set<String> checkoutApiKeys,
+                              long retryAfterSeconds) {
+        this.scheduler = scheduler;
+        this.apiKeyHeader = apiKeyHeader;
+        this.checkoutApiKeys = checkoutApiKeys;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        TrafficClass trafficClass = classify(request);
+        if (trafficClass == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Duration maxWait = RequestDeadline.remaining().orElse(Duration.ofNanos(Long.MAX_VALUE));
+        if (!scheduler.acquire(trafficClass, maxWait)) {
+            log.warn("Rejecting {} {}: no {} worker slot became free in time",
+                    request.getMethod(), request.getRequestURI(), trafficClass);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Service is overloaded, please retry later.\"}");
+            return;
+        }
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = isAsyncStarted(request);
+            if (async) {
+                // The request thread is back, but the lane's work is not done until the async request completes
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        scheduler.release(trafficClass);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        } finally {
+            if (!async) {
+                scheduler.release(trafficClass);
+            }
+        }
+    }
+
+    TrafficClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/admin/")) {
+            return TrafficClass.ADMIN;
+        }
+        if (!path.equals("/events") && !path.startsWith("/events/")) {
+            return null;
+        }
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && checkoutApiKeys.contains(apiKey) ? TrafficClass.CHECKOUT : TrafficClass.BROWSE;
+    }
+}
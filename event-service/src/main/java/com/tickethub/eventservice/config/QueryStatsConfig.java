@@ -0,0 +1,78 @@
+package com.tickethub.eventservice.config;
+
+import com.google.api.gax.grpc.GrpcInterceptorProvider;
+import com.google.cloud.spanner.SpannerOptions;
+import com.google.cloud.spanner.spi.v1.SpannerInterceptorProvider;
+import com.tickethub.eventservice.querystats.QueryStatsEndpoint;
+import com.tickethub.eventservice.querystats.QueryStatsRegistry;
+import com.tickethub.eventservice.querystats.SpannerQueryStatsInterceptor;
+import io.grpc.ClientInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-statement Spanner statistics: an interceptor on the Spanner client's gRPC channel feeds the
+ * {@link QueryStatsRegistry}, which is exported as Micrometer meters and through the
+ * {@code spannerqueries} actuator endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventservice.querystats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    @Bean
+    public QueryStatsRegistry queryStatsRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${eventservice.querystats.max-statements:200}") int maxStatements,
+            @Value("${eventservice.querystats.profile.enabled:false}") boolean profileEnabled,
+            @Value("${eventservice.querystats.profile.interval:10m}") Duration profileInterval) {
+        return new QueryStatsRegistry(meterRegistry, maxStatements, profileEnabled, profileInterval);
+    }
+
+    @Bean
+    public QueryStatsEndpoint queryStatsEndpoint(QueryStatsRegistry queryStatsRegistry) {
+        return new QueryStatsEndpoint(queryStatsRegistry);
+    }
+
+    /**
+     * Adds the interceptor to the SpannerOptions built by the Spring Cloud GCP auto-configuration,
+     * keeping every other option it set. An interceptor provider replaces the client's built-in
+     * interceptors, so the interceptor is appended to the provider already configured, or to the
+     * client's default chain when there is none. Static so it does not pull this configuration in early.
+     */
+    @Bean
+    public static BeanPostProcessor spannerQueryStatsPostProcessor(ObjectProvider<QueryStatsRegistry> queryStatsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SpannerOptions options) {
+                    SpannerQueryStatsInterceptor interceptor = new SpannerQueryStatsInterceptor(queryStatsRegistry.getObject());
+                    return options.toBuilder().setInterceptorProvider(withInterceptor(options.getInterceptorProvider(), interceptor)).build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    static GrpcInterceptorProvider withInterceptor(GrpcInterceptorProvider configured, ClientInterceptor interceptor) {
+        if (configured == null) {
+            return SpannerInterceptorProvider.createDefault().with(interceptor);
+        }
+        if (configured instanceof SpannerInterceptorProvider spannerInterceptors) {
+            return spannerInterceptors.with(interceptor);
+        }
+        return () -> {
+            List<ClientInterceptor> interceptors = new ArrayList<>(configured.getInterceptors());
+            interceptors.add(interceptor);
+            return interceptors;
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.ClientRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Per-client token-bucket rate limiting of the public catalog reads.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public ClientRateLimiter clientRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${eventservice.ratelimit.capacity:100}") int capacity,
+            @Value("${eventservice.ratelimit.refill-per-second:20}") double refillPerSecond,
+            @Value("${eventservice.ratelimit.max-clients:100000}") int maxClients,
+            @Value("${eventservice.ratelimit.sweep-interval-ms:10000}") long sweepIntervalMs) {
+        ClientRateLimiter limiter = new ClientRateLimiter(capacity, refillPerSecond, maxClients, sweepIntervalMs);
+        Gauge.builder("eventservice.ratelimit.clients", limiter, ClientRateLimiter::trackedClients)
+                .description("Clients with a partly drained rate limit bucket")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * Outermost of the EventService filters: a rejected request costs no compression, deadline or concurrency slot.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            ClientRateLimiter clientRateLimiter, MeterRegistry meterRegistry,
+            @Value("${eventservice.ratelimit.enabled:true}") boolean enabled,
+            @Value("${eventservice.ratelimit.api-key-header:X-API-Key}") String apiKeyHeader,
+            @Value("${eventservice.ratelimit.api-keys:}") Set<String> apiKeys) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(clientRateLimiter, apiKeyHeader, apiKeys, meterRegistry));
+        registration.addUrlPatterns("/events", "/events/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 40);
+        registration.setEnabled(enabled);
+        return registration;
+    }
+}
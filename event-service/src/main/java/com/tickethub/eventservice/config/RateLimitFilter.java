@@ -0,0 +1,90 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.ClientRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limiting of the public catalog reads (GET under /events).
+ * <p>
+ * Clients are identified by API key when the request carries one of the configured keys, and by
+ * remote address otherwise (behind a proxy, set {@code server.forward-headers-strategy} so that is
+ * the client's address). Unknown keys are ignored rather than trusted, so rotating made-up keys
+ * does not earn fresh buckets. Every response carries RateLimit-Limit, RateLimit-Remaining and
+ * RateLimit-Reset; a client over its limit gets 429 with Retry-After.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    private final ClientRateLimiter limiter;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(ClientRateLimiter limiter, String apiKeyHeader, Set<String> apiKeys, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = apiKeys;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.GET.matches(request.getMethod()) || !(path.equals("/events") || path.startsWith("/events/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String apiKey = request.getHeader(apiKeyHeader);
+        boolean keyed = apiKey != null && apiKeys.contains(apiKey);
+        String clientKey = keyed ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+        ClientRateLimiter.Decision decision = limiter.tryAcquire(clientKey);
+
+        response.setHeader(RATE_LIMIT_LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(RATE_LIMIT_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(RATE_LIMIT_RESET, String.valueOf(ceilSeconds(decision.resetNanos())));
+        counter(decision.allowed() ? "allowed" : "rejected", keyed ? "api_key" : "ip").increment();
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        log.debug("Rate limit exceeded for {} on {}", keyed ? "API key" : request.getRemoteAddr(), request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ceilSeconds(decision.retryAfterNanos()))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, please slow down.\"}");
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private Counter counter(String outcome, String client) {
+        return Counter.builder("eventservice.ratelimit.requests")
+                .tag("outcome", outcome)
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+}
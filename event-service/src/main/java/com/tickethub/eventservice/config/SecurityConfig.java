@@ -66,6 +66,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
                                 .requestMatchers(HttpMethod.GET, "/events", "/events/**").permitAll() // Public read access for events
+                                .requestMatchers("/actuator/spannerqueries", "/actuator/spannerqueries/**").hasAuthority("SCOPE_admin") // Statement texts and plans
                                 .requestMatchers("/actuator/**").permitAll() // Allow access to health, info, prometheus endpoints
                                 .requestMatchers("/admin/**").hasAuthority("SCOPE_admin") // Example: requires 'admin' scope from JWT
                                 // .requestMatchers("/admin/**").hasRole("ADMIN") // Alternative: if using roles like "ROLE_ADMIN"
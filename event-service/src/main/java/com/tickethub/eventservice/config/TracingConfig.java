@@ -0,0 +1,66 @@
+package com.tickethub.eventservice.config;
+
+import brave.TracingCustomizer;
+import brave.handler.SpanHandler;
+import com.tickethub.eventservice.tracing.TailSamplingSpanHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Adaptive trace sampling: the head sampler ({@code management.tracing.sampling.probability}) keeps a
+ * small baseline, and the {@link TailSamplingSpanHandler} additionally exports slow, failed and
+ * fallback traces once their local root span has finished.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventservice.tracing.tail.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    /**
+     * Records spans of traces the head sampler did not pick, so the tail decision has something to
+     * look at. Propagation is unchanged: downstream services still see the trace as unsampled.
+     */
+    @Bean
+    public TracingCustomizer alwaysSampleLocalTracingCustomizer() {
+        return builder -> builder.alwaysSampleLocal();
+    }
+
+    /**
+     * Ordered first so unsampled spans are buffered before any exporter sees them.
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public TailSamplingSpanHandler tailSamplingSpanHandler(
+            ObjectProvider<SpanHandler> spanHandlers, MeterRegistry meterRegistry,
+            @Value("${eventservice.tracing.tail.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${eventservice.tracing.tail.max-buffer-age:30s}") Duration maxBufferAge,
+            @Value("${eventservice.tracing.tail.max-traces:2000}") int maxTraces,
+            @Value("${eventservice.tracing.tail.max-spans-per-trace:200}") int maxSpansPerTrace) {
+        // The exporters are resolved on the first kept trace; resolving them here would be circular
+        AtomicReference<List<SpanHandler>> exporters = new AtomicReference<>();
+        TailSamplingSpanHandler handler = new TailSamplingSpanHandler(() -> {
+            List<SpanHandler> resolved = exporters.get();
+            if (resolved == null) {
+                resolved = spanHandlers.orderedStream()
+                        .filter(spanHandler -> !(spanHandler instanceof TailSamplingSpanHandler))
+                        .toList();
+                exporters.set(resolved);
+            }
+            return resolved;
+        }, latencyThreshold, maxBufferAge, maxTraces, maxSpansPerTrace, meterRegistry);
+        Gauge.builder("eventservice.tracing.tail.buffered", handler, TailSamplingSpanHandler::bufferedTraces)
+                .description("Unsampled traces buffered until their local root span finishes")
+                .register(meterRegistry);
+        return handler;
+    }
+}
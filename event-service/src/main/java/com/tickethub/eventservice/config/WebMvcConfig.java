@@ -0,0 +1,25 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.codec.ProtobufEventHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Content negotiation for the catalog endpoints. Besides JSON, responses can be requested as
+ * CBOR ({@code application/cbor}, Jackson's converter registered by Spring when
+ * jackson-dataformat-cbor is present) or Protobuf ({@code application/x-protobuf}).
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    /**
+     * The Protobuf converter goes last so that clients sending {@code Accept: *}{@code /*} keep getting JSON.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProtobufEventHttpMessageConverter());
+    }
+}
@@ -1,8 +1,16 @@
 package com.tickethub.eventservice.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.tickethub.eventservice.dto.EventAdminRequest;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.idempotency.IdempotencyStore;
+import com.tickethub.eventservice.idempotency.StoredResponse;
 import com.tickethub.eventservice.model.Event;
 import com.tickethub.eventservice.model.SeatCategory;
 import com.tickethub.eventservice.service.EventService;
@@ -11,6 +19,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,61 +29,143 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
-
-// Record for combined response, can be in its own file or here if small
-record EventDetailResponse(Event event, List<SeatCategory> seatCategories) {}
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 // No base request mapping here if admin paths are distinct and public paths start with /events
 public class EventController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String INCLUDE_SEATS = "seats";
+
     private static final Logger log = LoggerFactory.getLogger(EventController.class);
     private final EventService eventService;
+    private final IdempotencyStore idempotencyStore;
     private final ObjectMapper objectMapper;
+    private final ObjectMapper responseMapper; // Spring's mapper, so recorded responses match what clients receive
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, IdempotencyStore idempotencyStore, ObjectMapper responseMapper) {
         this.eventService = eventService;
+        this.idempotencyStore = idempotencyStore;
+        this.responseMapper = responseMapper;
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule()); // Important for Java 8+ time types like LocalDateTime
     }
 
     /**
-     * GET /events : Get a paginated list of all events.
+     * GET /events : Get a paginated list of all events, optionally filtered.
+     * Filtered listings are served from the in-memory catalog snapshot.
+     * @param venue Optional exact venue name.
+     * @param from Optional ISO date-time; only events starting at or after it.
+     * @param to Optional ISO date-time; only events starting before it.
+     * @param maxPrice Optional price; only events with a seat category at or below it.
+     * @param include Optional; {@code seats} returns each event with its seat summary (min price, total available,
+     *                sold out), fetched for the whole page in one query.
      * @param pageable Pagination information.
-     * @return ResponseEntity with a Page of Event objects.
+     * @return ResponseEntity with a Page of Event (or, with include=seats, EventSummary) objects,
+     *         or 400 for an invalid filter, sort or include value.
      */
     @GetMapping("/events")
-    public ResponseEntity<Page<Event>> getAllEvents(Pageable pageable) {
-        log.info("Received request to get all events, pageable: {}", pageable);
-        Page<Event> events = eventService.getAllEvents(pageable);
-        return ResponseEntity.ok(events);
+    public ResponseEntity<?> getAllEvents(
+            @RequestParam(value = "venue", required = false) String venue,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "include", required = false) String include,
+            Pageable pageable) {
+        if (include != null && !INCLUDE_SEATS.equals(include)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unsupported include: " + include));
+        }
+        EventFilter filter = new EventFilter(venue, from, to, maxPrice);
+        if (filter.isEmpty()) {
+            log.info("Received request to get all events, pageable: {}", pageable);
+            Page<Event> events = eventService.getAllEvents(pageable);
+            return ResponseEntity.ok(include == null ? events : eventService.withSeatSummaries(events));
+        }
+        log.info("Received request to search events, filter: {}, pageable: {}", filter, pageable);
+        try {
+            Page<Event> events = eventService.searchEvents(filter, pageable);
+            return ResponseEntity.ok(include == null ? events : eventService.withSeatSummaries(events));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid event search: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /events/batch?ids=a,b,c : Get details for several events, including their seat categories, in one call.
+     * IDs that do not exist are reported in {@code missingIds} rather than failing the request.
+     * @param ids The event IDs to look up (comma-separated or repeated parameter).
+     * @return ResponseEntity with EventBatchResponse, or 400 if no IDs or too many IDs are supplied.
+     */
+    @GetMapping("/events/batch")
+    public ResponseEntity<?> getEventsByIds(@RequestParam("ids") List<String> ids) {
+        log.info("Received batch request for {} event ids", ids.size());
+        try {
+            EventBatchResponse response = eventService.getEventDetailsByIds(ids);
+            log.info("Batch request resolved {} events, {} missing", response.events().size(), response.missingIds().size());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /events/upcoming : Get the events that start next, soonest first, with their seat summaries
+     * (total availability and minimum price). Served from memory, without a Spanner query.
+     * @param pageable Page number and size; sort is not supported.
+     * @return ResponseEntity with the list of upcoming events.
+     */
+    @GetMapping("/events/upcoming")
+    public ResponseEntity<List<EventSummary>> getUpcomingEvents(Pageable pageable) {
+        log.info("Received request to get upcoming events, pageable: {}", pageable);
+        return ResponseEntity.ok(eventService.getUpcomingEvents(pageable));
     }
 
     /**
      * GET /events/{id} : Get details for a specific event including its seat categories.
+     * The event and its seat categories are read concurrently and the request thread is released
+     * while the reads are in flight; the response is written when both have completed.
+     * The ETag is the event version (e.g. {@code W/"3"}), which can be sent back as If-Match
+     * on POST /admin/events to update the event only if it has not changed since.
      * @param id The ID of the event.
      * @return ResponseEntity with EventDetailResponse or 404 if not found.
      */
     @GetMapping("/events/{id}")
-    public ResponseEntity<EventDetailResponse> getEventById(@PathVariable String id) {
+    public CompletableFuture<ResponseEntity<EventDetailResponse>> getEventById(@PathVariable String id) {
         log.info("Received request to get event by id: {}", id);
-        return eventService.getEventById(id)
-                .map(event -> {
-                    List<SeatCategory> categories = eventService.getSeatCategoriesByEventId(id);
-                    log.info("Found event: {} with {} seat categories", event.getName(), categories.size());
-                    return ResponseEntity.ok(new EventDetailResponse(event, categories));
+        return eventService.getEventDetailAsync(id).thenApply(detail -> detail
+                .map(found -> {
+                    log.info("Found event: {} with {} seat categories", found.event().getName(), found.seatCategories().size());
+                    // Weak: seat availability changes the body without changing the event version
+                    long version = found.event().getVersion() == null ? 0 : found.event().getVersion();
+                    return ResponseEntity.ok().eTag("W/\"" + version + "\"").body(found);
                 })
                 .orElseGet(() -> {
                     log.warn("Event not found with id: {}", id);
                     return ResponseEntity.notFound().build();
-                });
+                }));
     }
 
     /**
      * POST /admin/events : Create or update an event and its seat categories. Admin role required.
      * Expects a multipart request with 'eventData' (JSON string) and 'imageFile' (optional).
+     * With an Idempotency-Key header, a retried request returns the recorded response instead of
+     * running again (422 if the key was used for different data, 409 if the first attempt is still running).
+     * With an If-Match header holding the event's version, the update is applied only if the event is still
+     * at that version (409 otherwise), and without reading the event first.
+     * @param idempotencyKey Optional client-chosen key identifying this request across retries.
+     * @param ifMatch Optional version of the event the client last read, e.g. {@code "3"}.
      * @param eventDataJson JSON string representing EventAdminRequest.
      * @param imageFile Optional image file for the event.
      * @return ResponseEntity with the created/updated EventDetailResponse or an error.
@@ -81,10 +173,37 @@ public class EventController {
     @PostMapping(path = "/admin/events", consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
     @PreAuthorize("hasAuthority('SCOPE_admin')") // Ensure this matches your SecurityConfig
     public ResponseEntity<?> createOrUpdateAdminEvent(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestPart("eventData") String eventDataJson,
-            @RequestPart(value = "imageFile", required = false) MultipartFile imageFile) {
+            @RequestPart(value = "imageFile", required = false) MultipartFile imageFile) throws IOException {
         log.info("Received request to create/update admin event. Image file present: {}", (imageFile != null && !imageFile.isEmpty()));
+        Long expectedVersion;
+        try {
+            expectedVersion = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid If-Match header: {}", ifMatch);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        if (idempotencyKey == null) {
+            return processAdminEvent(eventDataJson, imageFile, expectedVersion);
+        }
 
+        StoredResponse response;
+        try {
+            response = idempotencyStore.execute(idempotencyKey, requestHash(eventDataJson, imageFile, expectedVersion),
+                    () -> toStoredResponse(processAdminEvent(eventDataJson, imageFile, expectedVersion)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid idempotency key: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        return ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(response.replayed()))
+                .body(response.body());
+    }
+
+    private ResponseEntity<?> processAdminEvent(String eventDataJson, MultipartFile imageFile, Long expectedVersion) {
         EventAdminRequest eventAdminRequest;
         try {
             // Deserialize the JSON part of the request
@@ -109,7 +228,9 @@ public class EventController {
 
         try {
             // Call the service to process the event and image
-            Event processedEvent = eventService.createOrUpdateEvent(eventAdminRequest, imageFile);
+            Event processedEvent = expectedVersion == null
+                    ? eventService.createOrUpdateEvent(eventAdminRequest, imageFile)
+                    : eventService.updateEventIfVersionMatches(eventAdminRequest, imageFile, expectedVersion);
             List<SeatCategory> finalCategories = eventService.getSeatCategoriesByEventId(processedEvent.getId());
             log.info("Successfully created/updated event: {}", processedEvent.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(new EventDetailResponse(processedEvent, finalCategories));
@@ -119,9 +240,62 @@ public class EventController {
         } catch (IllegalArgumentException e) {
             log.warn("Bad request during event creation/update for {}: {}", eventAdminRequest.getName(), e.getMessage());
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (ConflictException e) {
+            log.info("Conflicting update for event {}: {}", eventAdminRequest.getId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Unexpected error creating/updating event {}: {}", eventAdminRequest.getName(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "An unexpected error occurred: " + e.getMessage()));
         }
     }
+
+    private StoredResponse toStoredResponse(ResponseEntity<?> response) {
+        try {
+            return new StoredResponse(response.getStatusCode().value(), responseMapper.writeValueAsString(response.getBody()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response for idempotency key", e);
+        }
+    }
+
+    // Accepts "3", W/"3" or 3; "*" (any version) means an unconditional update
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must contain the event version");
+        }
+    }
+
+    // The same key may only be replayed for the same event data, image and precondition
+    private static String requestHash(String eventDataJson, MultipartFile imageFile, Long expectedVersion) throws IOException {
+        MessageDigest digest = newSha256();
+        digest.update(eventDataJson.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(String.valueOf(expectedVersion).getBytes(StandardCharsets.UTF_8));
+        if (imageFile != null && !imageFile.isEmpty()) {
+            digest.update((byte) 0);
+            digest.update(String.valueOf(imageFile.getOriginalFilename()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(imageFile.getBytes());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -0,0 +1,169 @@
+package com.tickethub.eventservice.controller;
+
+import com.tickethub.eventservice.image.ImageDiskCache;
+import com.tickethub.eventservice.image.ImageDiskCache.CachedImage;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.service.EventService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves event images over HTTP, so browsers do not need a proxy for the {@code gs://} URLs stored on events.
+ * Images come from the {@link ImageDiskCache}; responses support conditional requests (ETag and
+ * Last-Modified) and single byte ranges, and the file is sent without copying it through the JVM heap.
+ */
+@RestController
+public class EventImageController {
+
+    // Tomcat request attributes for sendfile: the connector transfers the file itself once the servlet returns
+    static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private static final Logger log = LoggerFactory.getLogger(EventImageController.class);
+    private static final String GCS_SCHEME = "gs://";
+
+    private final EventService eventService;
+    private final ImageDiskCache imageDiskCache;
+    private final String bucketName;
+    private final CacheControl cacheControl;
+
+    public EventImageController(EventService eventService,
+                                ImageDiskCache imageDiskCache,
+                                @Value("${gcp.storage.bucket.name:tickethub-event-images-default}") String bucketName,
+                                @Value("${eventservice.images.browser-max-age:1d}") Duration browserMaxAge) {
+        this.eventService = eventService;
+        this.imageDiskCache = imageDiskCache;
+        this.bucketName = bucketName;
+        this.cacheControl = CacheControl.maxAge(browserMaxAge).cachePublic();
+    }
+
+    /**
+     * GET /events/{id}/image : Get the event's image.
+     * Honours If-None-Match / If-Modified-Since (304) and a single Range, optionally guarded by If-Range (206).
+     * @param id The ID of the event.
+     * @return the image bytes, 404 if the event or its image does not exist, or 416 for an unsatisfiable range.
+     */
+    @GetMapping("/events/{id}/image")
+    public void getEventImage(@PathVariable String id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<CachedImage> found = eventService.getEventById(id)
+                .map(Event::getImageUrl)
+                .flatMap(this::objectName)
+                .flatMap(object -> imageDiskCache.get(bucketName, object));
+        if (found.isEmpty()) {
+            log.debug("No image for event {}", id);
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        CachedImage image = found.get();
+        if (new ServletWebRequest(request, response).checkNotModified(image.etag(), image.lastModified().toEpochMilli())) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setContentType(image.contentType() != null ? image.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        long start = 0;
+        long end = image.length(); // Exclusive
+        List<HttpRange> ranges = rangesToApply(request, image);
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(image.length());
+                end = ranges.get(0).getRangeEnd(image.length()) + 1;
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.length());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + image.length());
+        }
+        response.setContentLengthLong(end - start);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+        send(image, start, end, request, response);
+    }
+
+    // Multiple ranges are answered with the whole image, which RFC 9110 allows and keeps the response a single file region
+    private List<HttpRange> rangesToApply(HttpServletRequest request, CachedImage image) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null || !ifRangeMatches(request, image)) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring invalid Range header: {}", range);
+            return List.of();
+        }
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, CachedImage image) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(image.etag());
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == image.lastModified().getEpochSecond();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void send(CachedImage image, long start, long end, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, image.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end);
+            return;
+        }
+        // No container sendfile: transferTo still avoids copying the file through a user-space buffer where the OS allows
+        try (FileChannel channel = FileChannel.open(image.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    throw new IOException("Image file " + image.file() + " ended before the expected length");
+                }
+                position += sent;
+            }
+        }
+    }
+
+    private Optional<String> objectName(String imageUrl) {
+        String prefix = GCS_SCHEME + bucketName + "/";
+        if (imageUrl == null || !imageUrl.startsWith(prefix) || imageUrl.length() == prefix.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(imageUrl.substring(prefix.length()));
+    }
+}
@@ -0,0 +1,191 @@
+package com.tickethub.eventservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickethub.eventservice.dto.SeatAllocation;
+import com.tickethub.eventservice.dto.SeatAllocationRequest;
+import com.tickethub.eventservice.dto.SeatReleaseRequest;
+import com.tickethub.eventservice.dto.SeatRowLayout;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.exception.SeatsUnavailableException;
+import com.tickethub.eventservice.idempotency.IdempotencyStore;
+import com.tickethub.eventservice.idempotency.StoredResponse;
+import com.tickethub.eventservice.service.SeatInventoryService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-seat inventory of seat categories: seat map definition, best-available holds, their
+ * confirmation and release.
+ */
+@RestController
+public class SeatInventoryController {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryController.class);
+    private final SeatInventoryService seatInventoryService;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper responseMapper; // Spring's mapper, so recorded responses match what clients receive
+
+    public SeatInventoryController(SeatInventoryService seatInventoryService, IdempotencyStore idempotencyStore,
+                                   ObjectMapper responseMapper) {
+        this.seatInventoryService = seatInventoryService;
+        this.idempotencyStore = idempotencyStore;
+        this.responseMapper = responseMapper;
+    }
+
+    /**
+     * PUT /admin/events/{eventId}/categories/{categoryId}/seat-map : Replace a seat category's rows,
+     * with all seats free. Requires admin scope.
+     * @param eventId The event ID.
+     * @param categoryId The seat category ID.
+     * @param rows The rows of the seat map.
+     * @return ResponseEntity with the total number of seats, 400 for an invalid layout
+     *         or 404 if the seat category does not exist.
+     */
+    @PutMapping("/admin/events/{eventId}/categories/{categoryId}/seat-map")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<?> defineSeatMap(@PathVariable String eventId,
+                                           @PathVariable String categoryId,
+                                           @RequestBody List<SeatRowLayout> rows) {
+        log.info("Received seat map for category {} of event {} with {} rows", categoryId, eventId, rows.size());
+        try {
+            long seats = seatInventoryService.defineSeatMap(eventId, categoryId, rows);
+            return ResponseEntity.ok(Map.of("seats", seats));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid seat map for category {} of event {}: {}", categoryId, eventId, e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * POST /events/{eventId}/categories/{categoryId}/seats/best-available : Hold the best block of
+     * adjacent free seats, in the best-ranked row with room and as central as possible. The seats are
+     * released unless the hold is confirmed before it expires. Requires purchase scope and an
+     * Idempotency-Key header: a retried request returns the recorded response instead of holding
+     * more seats (422 if the key was used for a different request, 409 if the first attempt is still
+     * running). A recorded 409 is replayed too, so a new attempt needs a new key.
+     * @param idempotencyKey Client-chosen key identifying this request across retries.
+     * @param eventId The event ID.
+     * @param categoryId The seat category ID.
+     * @param request The number of seats.
+     * @param principal The authenticated caller.
+     * @return ResponseEntity with the held seats, 404 if the category has no seat map, or 409 if
+     *         no block of that size is free or concurrent allocations kept winning.
+     */
+    @PostMapping("/events/{eventId}/categories/{categoryId}/seats/best-available")
+    @PreAuthorize("hasAuthority('SCOPE_purchase')")
+    public ResponseEntity<?> allocateBestAvailable(@RequestHeader(EventController.IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                                                   @PathVariable String eventId,
+                                                   @PathVariable String categoryId,
+                                                   @Valid @RequestBody SeatAllocationRequest request,
+                                                   Principal principal) {
+        log.debug("Received best-available request for {} seats in category {} of event {}", request.count(), categoryId, eventId);
+        StoredResponse response;
+        try {
+            response = idempotencyStore.execute(idempotencyKey, requestHash(principal.getName(), eventId, categoryId, request.count()),
+                    () -> toStoredResponse(allocate(eventId, categoryId, request.count())));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid idempotency key: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        return ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(EventController.IDEMPOTENT_REPLAYED_HEADER, String.valueOf(response.replayed()))
+                .body(response.body());
+    }
+
+    private ResponseEntity<?> allocate(String eventId, String categoryId, int count) {
+        try {
+            SeatAllocation allocation = seatInventoryService.allocateBestAvailable(eventId, categoryId, count);
+            return ResponseEntity.status(HttpStatus.CREATED).body(allocation);
+        } catch (SeatsUnavailableException | ConflictException e) {
+            log.info("Best-available request in category {} of event {} not served: {}", categoryId, eventId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * POST /events/{eventId}/holds/{holdId}/confirm : Confirm a seat hold, so its seats stay taken.
+     * Confirming a confirmed hold again succeeds. Requires purchase scope.
+     * @param eventId The event ID.
+     * @param holdId The hold ID returned by the best-available request.
+     * @return ResponseEntity with the confirmed seats, 404 if the hold does not exist or was released,
+     *         or 409 if it expired before it was confirmed.
+     */
+    @PostMapping("/events/{eventId}/holds/{holdId}/confirm")
+    @PreAuthorize("hasAuthority('SCOPE_purchase')")
+    public ResponseEntity<?> confirmHold(@PathVariable String eventId, @PathVariable String holdId) {
+        try {
+            return ResponseEntity.ok(seatInventoryService.confirmHold(eventId, holdId));
+        } catch (ConflictException e) {
+            log.info("Seat hold {} of event {} not confirmed: {}", holdId, eventId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * POST /admin/events/{eventId}/categories/{categoryId}/seats/release : Make seats of one row
+     * available again. Seats that are already free are ignored. Requires admin scope.
+     * @param eventId The event ID.
+     * @param categoryId The seat category ID.
+     * @param request The row and seat numbers.
+     * @return ResponseEntity with the number of seats released, 400 for seats outside the row
+     *         or 404 if the row does not exist.
+     */
+    @PostMapping("/admin/events/{eventId}/categories/{categoryId}/seats/release")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<?> release(@PathVariable String eventId,
+                                     @PathVariable String categoryId,
+                                     @Valid @RequestBody SeatReleaseRequest request) {
+        try {
+            int released = seatInventoryService.release(eventId, categoryId, request.section(), request.row(), request.seats());
+            return ResponseEntity.ok(Map.of("released", released));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid seat release in category {} of event {}: {}", categoryId, eventId, e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private StoredResponse toStoredResponse(ResponseEntity<?> response) {
+        try {
+            return new StoredResponse(response.getStatusCode().value(), responseMapper.writeValueAsString(response.getBody()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response for idempotency key", e);
+        }
+    }
+
+    // The same key may only be replayed by the same caller for the same seats; another caller's key never matches
+    private static String requestHash(String caller, String eventId, String categoryId, int count) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : List.of(caller, eventId, categoryId, String.valueOf(count))) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tickethub.eventservice.controller;
+
+import com.tickethub.eventservice.cache.StaleResponses;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Adds staleness headers to responses that were (partly) served from last-known-good snapshots:
+ * {@code Warning: 110 - "Response is Stale"}, {@code Age} (seconds since the data was read) and
+ * {@code X-Data-Captured-At} (ISO-8601 capture time).
+ */
+@ControllerAdvice
+public class StaleResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String CAPTURED_AT_HEADER = "X-Data-Captured-At";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        StaleResponses.capturedAt().ifPresent(capturedAt -> {
+            long ageSeconds = Math.max(0, Duration.between(capturedAt, Instant.now()).toSeconds());
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+            headers.set(HttpHeaders.AGE, String.valueOf(ageSeconds));
+            headers.set(CAPTURED_AT_HEADER, capturedAt.toString());
+        });
+        return body;
+    }
+}
@@ -0,0 +1,10 @@
+package com.tickethub.eventservice.dto;
+
+import java.util.List;
+
+/**
+ * Response for a batch lookup of events.
+ * Events are returned in the order they were requested; IDs that do not exist
+ * are listed in {@code missingIds} instead of failing the whole request.
+ */
+public record EventBatchResponse(List<EventDetailResponse> events, List<String> missingIds) {}
@@ -0,0 +1,11 @@
+package com.tickethub.eventservice.dto;
+
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+
+import java.util.List;
+
+/**
+ * Combined response for an event and its seat categories.
+ */
+public record EventDetailResponse(Event event, List<SeatCategory> seatCategories) {}
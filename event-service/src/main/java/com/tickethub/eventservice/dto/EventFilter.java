@@ -0,0 +1,29 @@
+package com.tickethub.eventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for listing events. Unset (null) fields do not restrict the result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventFilter {
+
+    private String venue; // Exact venue name
+
+    private LocalDateTime from; // Events starting at or after this time
+
+    private LocalDateTime to; // Events starting before this time
+
+    private BigDecimal maxPrice; // At least one seat category priced at or below this
+
+    public boolean isEmpty() {
+        return venue == null && from == null && to == null && maxPrice == null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.tickethub.eventservice.dto;
+
+import com.tickethub.eventservice.model.Event;
+
+/**
+ * An event with its aggregated seat information, for listings.
+ */
+public record EventSummary(Event event, SeatSummary seats) {}
@@ -0,0 +1,18 @@
+package com.tickethub.eventservice.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Adjacent seats taken from a seat category's inventory and held for a purchase.
+ *
+ * @param eventId    the event.
+ * @param categoryId the seat category.
+ * @param section    the row's section.
+ * @param row        the row name.
+ * @param seats      the seat numbers, in order.
+ * @param holdId     the hold to confirm to complete the purchase.
+ * @param expiresAt  when the seats are released unless the hold has been confirmed.
+ */
+public record SeatAllocation(String eventId, String categoryId, String section, String row, List<Integer> seats,
+                             String holdId, Instant expiresAt) {}
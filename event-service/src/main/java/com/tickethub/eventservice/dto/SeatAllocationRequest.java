@@ -0,0 +1,11 @@
+package com.tickethub.eventservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request for the best available block of adjacent seats.
+ *
+ * @param count the number of seats.
+ */
+public record SeatAllocationRequest(@NotNull @Positive Integer count) {}
@@ -0,0 +1,15 @@
+package com.tickethub.eventservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Seats of one row to be made available again, e.g. after a cancelled or expired booking.
+ *
+ * @param section the row's section.
+ * @param row     the row name.
+ * @param seats   the seat numbers.
+ */
+public record SeatReleaseRequest(@NotBlank String section, @NotBlank String row, @NotEmpty List<Integer> seats) {}
@@ -0,0 +1,11 @@
+package com.tickethub.eventservice.dto;
+
+/**
+ * One row of a seat category's seat map, as defined by an admin. Seats are numbered 1..seatCount.
+ *
+ * @param section   the section the row belongs to.
+ * @param row       the row name, unique within its section.
+ * @param rank      the row's desirability; lower is better, equal ranks are equally good.
+ * @param seatCount the number of seats in the row.
+ */
+public record SeatRowLayout(String section, String row, Integer rank, Integer seatCount) {}
@@ -0,0 +1,35 @@
+package com.tickethub.eventservice.dto;
+
+import com.tickethub.eventservice.model.SeatCategory;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Seat information aggregated over an event's seat categories, for listing badges
+ * such as "from $X" and "sold out".
+ *
+ * @param minPrice       the lowest category price, or null if no category has a price.
+ * @param totalAvailable seats available across all categories.
+ * @param soldOut        true if the event has seat categories but none has seats left.
+ */
+public record SeatSummary(BigDecimal minPrice, long totalAvailable, boolean soldOut) {
+
+    /**
+     * @param categories the seat categories of one event.
+     * @return their summary; an event without categories has no price and is not sold out.
+     */
+    public static SeatSummary of(Collection<SeatCategory> categories) {
+        BigDecimal minPrice = null;
+        long totalAvailable = 0;
+        for (SeatCategory category : categories) {
+            if (category.getPrice() != null && (minPrice == null || category.getPrice().compareTo(minPrice) < 0)) {
+                minPrice = category.getPrice();
+            }
+            if (category.getAvailableCount() != null) {
+                totalAvailable += category.getAvailableCount();
+            }
+        }
+        return new SeatSummary(minPrice, totalAvailable, !categories.isEmpty() && totalAvailable <= 0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.tickethub.eventservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a listing can only be served from the in-memory catalog snapshot and the snapshot
+ * is disabled ({@code eventservice.catalog.enabled=false}).
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CatalogUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new CatalogUnavailableException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public CatalogUnavailableException(String message) {
+        super(message);
+    }
+}
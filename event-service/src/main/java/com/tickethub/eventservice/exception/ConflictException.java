@@ -0,0 +1,21 @@
+package com.tickethub.eventservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a conditional update names a version that is no longer current,
+ * i.e. the resource was modified by someone else since the client read it.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new ConflictException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.tickethub.eventservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the deadline of the current request has passed before a Spanner call could start.
+ * The client has given up by then, so the work is abandoned instead of being retried.
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Constructs a new DeadlineExceededException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
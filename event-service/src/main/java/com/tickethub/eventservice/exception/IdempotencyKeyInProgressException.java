@@ -0,0 +1,21 @@
+package com.tickethub.eventservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when another request with the same Idempotency-Key is still being processed
+ * and did not finish within the configured wait time. The client should retry later.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    /**
+     * Constructs a new IdempotencyKeyInProgressException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tickethub.eventservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an Idempotency-Key is sent again with a different request payload.
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    /**
+     * Constructs a new IdempotencyKeyReuseException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
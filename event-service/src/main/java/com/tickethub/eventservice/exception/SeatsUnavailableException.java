@@ -0,0 +1,20 @@
+package com.tickethub.eventservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a seat category has no block of as many adjacent free seats as were requested.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class SeatsUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new SeatsUnavailableException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public SeatsUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,258 @@
+package com.tickethub.eventservice.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.tickethub.eventservice.codec.EventProtoMapper;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.proto.EventInventoryGrpc;
+import com.tickethub.eventservice.proto.EventProtos;
+import com.tickethub.eventservice.proto.InventoryProtos;
+import com.tickethub.eventservice.service.EventService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * gRPC implementation of {@code EventInventory} on top of {@link EventService}, so gRPC callers get
+ * the same coalescing, retries, circuit breaking and last-known-good fallbacks as REST callers.
+ * <p>
+ * {@code WatchAvailability} polls the seat categories of the watched event and streams an update
+ * whenever a count changes. All watchers of an event share one poll, which stops with its last
+ * watcher, and each watcher only sends while its stream is ready. Unknown events fail with NOT_FOUND.
+ */
+@Component
+public class EventInventoryGrpcService extends EventInventoryGrpc.EventInventoryImplBase implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EventInventoryGrpcService.class);
+
+    private final EventService eventService;
+    private final long pollIntervalMillis;
+    private final ScheduledExecutorService watchScheduler;
+    private final Map<String, AvailabilityPoll> polls = new HashMap<>(); // guarded by itself
+
+    public EventInventoryGrpcService(EventService eventService,
+                                     @Value("${eventservice.grpc.availability-poll-ms:1000}") long pollIntervalMillis,
+                                     @Value("${eventservice.grpc.watch-threads:2}") int watchThreads) {
+        this.eventService = eventService;
+        this.pollIntervalMillis = pollIntervalMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.watchScheduler = Executors.newScheduledThreadPool(watchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "grpc-availability-watch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void getEvent(InventoryProtos.GetEventRequest request, StreamObserver<EventProtos.EventDetail> responseObserver) {
+        String eventId = request.getEventId();
+        if (eventId.isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("event_id is required").asRuntimeException());
+            return;
+        }
+        try {
+            eventService.getEventById(eventId).ifPresentOrElse(event -> {
+                List<SeatCategory> categories = eventService.getSeatCategoriesByEventId(eventId);
+                responseObserver.onNext(EventProtoMapper.toProto(new EventDetailResponse(event, categories)));
+                responseObserver.onCompleted();
+            }, () -> responseObserver.onError(
+                    Status.NOT_FOUND.withDescription("Event not found with id: " + eventId).asRuntimeException()));
+        } catch (RuntimeException e) {
+            log.error("GetEvent {} failed: {}", eventId, e.getMessage(), e);
+            responseObserver.onError(Status.UNAVAILABLE.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void batchGetEvents(InventoryProtos.BatchGetEventsRequest request, StreamObserver<EventProtos.EventBatch> responseObserver) {
+        try {
+            EventBatchResponse batch = eventService.getEventDetailsByIds(request.getEventIdsList());
+            responseObserver.onNext(EventProtoMapper.toProto(batch));
+            responseObserver.onCompleted();
+        } catch (IllegalArgumentException e) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+        } catch (RuntimeException e) {
+            log.error("BatchGetEvents failed: {}", e.getMessage(), e);
+            responseObserver.onError(Status.UNAVAILABLE.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void watchAvailability(InventoryProtos.WatchAvailabilityRequest request,
+                                  StreamObserver<InventoryProtos.AvailabilityUpdate> responseObserver) {
+        String eventId = request.getEventId();
+        if (eventId.isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("event_id is required").asRuntimeException());
+            return;
+        }
+        try {
+            if (eventService.getEventById(eventId).isEmpty()) {
+                responseObserver.onError(Status.NOT_FOUND.withDescription("Event not found with id: " + eventId).asRuntimeException());
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("WatchAvailability {} failed: {}", eventId, e.getMessage(), e);
+            responseObserver.onError(Status.UNAVAILABLE.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+            return;
+        }
+        Watcher watcher = new Watcher(eventId, (ServerCallStreamObserver<InventoryProtos.AvailabilityUpdate>) responseObserver);
+        watcher.observer.setOnReadyHandler(watcher::drain);
+        watcher.observer.setOnCancelHandler(() -> {
+            log.debug("WatchAvailability for event {} cancelled by the client", eventId);
+            unsubscribe(watcher);
+        });
+        subscribe(watcher);
+    }
+
+    // Number of events with a running poll
+    int watchedEvents() {
+        synchronized (polls) {
+            return polls.size();
+        }
+    }
+
+    private void subscribe(Watcher watcher) {
+        synchronized (polls) {
+            AvailabilityPoll poll = polls.get(watcher.eventId);
+            if (poll == null) {
+                poll = new AvailabilityPoll(watcher.eventId);
+                polls.put(watcher.eventId, poll);
+                poll.watchers.add(watcher);
+                poll.task = watchScheduler.scheduleWithFixedDelay(poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            poll.watchers.add(watcher);
+            InventoryProtos.AvailabilityUpdate latest = poll.latest;
+            if (latest != null) {
+                watcher.offer(latest);
+            }
+        }
+    }
+
+    private void unsubscribe(Watcher watcher) {
+        synchronized (polls) {
+            AvailabilityPoll poll = polls.get(watcher.eventId);
+            if (poll != null && poll.watchers.remove(watcher) && poll.watchers.isEmpty()) {
+                stop(poll);
+            }
+        }
+    }
+
+    // Caller holds the polls lock
+    private void stop(AvailabilityPoll poll) {
+        polls.remove(poll.eventId, poll);
+        if (poll.task != null) {
+            poll.task.cancel(false);
+        }
+    }
+
+    /**
+     * The single polling loop of one watched event, shared by all of its watchers. scheduleWithFixedDelay
+     * never overlaps runs of the same task, so each event costs one read per interval however many
+     * watchers it has.
+     */
+    private final class AvailabilityPoll implements Runnable {
+        private final String eventId;
+        private final Set<Watcher> watchers = new CopyOnWriteArraySet<>();
+        private volatile ScheduledFuture<?> task;
+        private volatile InventoryProtos.AvailabilityUpdate latest;
+        private List<InventoryProtos.CategoryAvailability> lastSent;
+
+        AvailabilityPoll(String eventId) {
+            this.eventId = eventId;
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<InventoryProtos.CategoryAvailability> current = eventService.getSeatCategoriesByEventId(eventId).stream()
+                        .map(category -> InventoryProtos.CategoryAvailability.newBuilder()
+                                .setCategoryId(category.getId())
+                                .setName(category.getName() == null ? "" : category.getName())
+                                .setAvailableCount(category.getAvailableCount() == null ? 0 : category.getAvailableCount())
+                                .build())
+                        .toList();
+                if (current.equals(lastSent)) {
+                    return;
+                }
+                Instant now = Instant.now();
+                InventoryProtos.AvailabilityUpdate update = InventoryProtos.AvailabilityUpdate.newBuilder()
+                        .setEventId(eventId)
+                        .addAllCategories(current)
+                        .setObservedAt(Timestamp.newBuilder().setSeconds(now.getEpochSecond()).setNanos(now.getNano()))
+                        .build();
+                lastSent = current;
+                latest = update;
+                watchers.forEach(watcher -> watcher.offer(update));
+            } catch (RuntimeException e) {
+                log.warn("WatchAvailability for event {} failed: {}", eventId, e.getMessage());
+                synchronized (polls) {
+                    stop(this);
+                }
+                watchers.forEach(watcher -> watcher.fail(e));
+            }
+        }
+    }
+
+    /**
+     * One WatchAvailability call. Every update is a full snapshot of the event's availability, so a
+     * watcher whose transport is not ready keeps only the newest pending update and sends it once the
+     * stream is ready again; a slow client never holds up the poll or other watchers. The stream
+     * observer is not thread-safe, so it is only used while holding this watcher's lock.
+     */
+    private static final class Watcher {
+        private final String eventId;
+        private final ServerCallStreamObserver<InventoryProtos.AvailabilityUpdate> observer;
+        private InventoryProtos.AvailabilityUpdate pending;
+        private boolean closed;
+
+        Watcher(String eventId, ServerCallStreamObserver<InventoryProtos.AvailabilityUpdate> observer) {
+            this.eventId = eventId;
+            this.observer = observer;
+        }
+
+        synchronized void offer(InventoryProtos.AvailabilityUpdate update) {
+            pending = update;
+            drain();
+        }
+
+        synchronized void drain() {
+            if (closed || pending == null || observer.isCancelled() || !observer.isReady()) {
+                return;
+            }
+            observer.onNext(pending);
+            pending = null;
+        }
+
+        synchronized void fail(RuntimeException e) {
+            if (closed || observer.isCancelled()) {
+                return;
+            }
+            closed = true;
+            observer.onError(Status.UNAVAILABLE.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        watchScheduler.shutdownNow();
+    }
+}
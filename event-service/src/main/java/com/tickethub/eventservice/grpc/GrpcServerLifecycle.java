@@ -0,0 +1,110 @@
+package com.tickethub.eventservice.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerCredentials;
+import io.grpc.TlsServerCredentials;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server next to the embedded Tomcat, starting and stopping with the application context.
+ * <p>
+ * The RPCs are unauthenticated reads of public catalog data, but each WatchAvailability stream holds
+ * server resources, so the port must stay off the public load balancer. Traffic is plaintext unless a
+ * certificate chain and private key are configured ({@code eventservice.grpc.tls.*}), in which case
+ * the server only accepts TLS.
+ */
+@Component
+@ConditionalOnProperty(name = "eventservice.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final List<BindableService> services;
+    private final int port;
+    private final long shutdownGraceMillis;
+    private final String certChainFile;
+    private final String privateKeyFile;
+    private volatile Server server;
+
+    public GrpcServerLifecycle(List<BindableService> services,
+                               @Value("${eventservice.grpc.port:9090}") int port,
+                               @Value("${eventservice.grpc.shutdown-grace-ms:5000}") long shutdownGraceMillis,
+                               @Value("${eventservice.grpc.tls.cert-chain-file:}") String certChainFile,
+                               @Value("${eventservice.grpc.tls.private-key-file:}") String privateKeyFile) {
+        this.services = services;
+        this.port = port;
+        this.shutdownGraceMillis = shutdownGraceMillis;
+        this.certChainFile = certChainFile;
+        this.privateKeyFile = privateKeyFile;
+    }
+
+    @Override
+    public void start() {
+        try {
+            var builder = Grpc.newServerBuilderForPort(port, credentials());
+            services.forEach(builder::addService);
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server started on port {} with {} service(s), {}", server.getPort(), services.size(),
+                certChainFile.isBlank() ? "plaintext" : "TLS");
+    }
+
+    private ServerCredentials credentials() throws IOException {
+        if (certChainFile.isBlank() != privateKeyFile.isBlank()) {
+            throw new IllegalStateException("eventservice.grpc.tls.cert-chain-file and private-key-file must be set together");
+        }
+        if (certChainFile.isBlank()) {
+            return InsecureServerCredentials.create();
+        }
+        return TlsServerCredentials.create(new File(certChainFile), new File(privateKeyFile));
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(shutdownGraceMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC server did not terminate within {} ms, forcing shutdown", shutdownGraceMillis);
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            current.shutdownNow();
+        }
+        server = null;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Same phase as the embedded web server: starts with it, and stops after HTTP graceful shutdown.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 2048;
+    }
+}
@@ -0,0 +1,105 @@
+package com.tickethub.eventservice.hotkeys;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch of key frequencies in fixed memory ({@code depth * width} counters).
+ * <p>
+ * Serial estimates never undercount; they overcount by at most about {@code 2 * total / width} with
+ * probability {@code 1 - 2^-depth}. Updates are conservative (only the counters holding the current
+ * minimum are raised), which tightens the estimates of the frequent keys this is used for.
+ * Thread-safe without locks: each counter is raised or halved atomically. Concurrent reads of the
+ * same key may be counted once instead of twice, so a hot key's estimate can fall slightly short,
+ * which does not matter for ranking.
+ */
+final class CountMinSketch {
+
+    private final AtomicIntegerArray counters; // depth rows of width counters, row-major
+    private final int depth;
+    private final int width;
+    private final int mask;
+
+    /**
+     * @param depth the number of hash rows.
+     * @param width the counters per row, rounded up to a power of two.
+     */
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("Sketch depth and width must be positive");
+        }
+        this.depth = depth;
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.mask = this.width - 1;
+        this.counters = new AtomicIntegerArray(depth * this.width);
+    }
+
+    /**
+     * Counts one occurrence of the key.
+     *
+     * @param key the key.
+     * @return the key's estimated count, including this occurrence.
+     */
+    long add(String key) {
+        long hash = hash(key);
+        int estimate = min(hash);
+        if (estimate == Integer.MAX_VALUE) {
+            return estimate;
+        }
+        int updated = estimate + 1;
+        for (int row = 0; row < depth; row++) {
+            int index = index(hash, row);
+            if (counters.get(index) < updated) {
+                counters.accumulateAndGet(index, updated, Math::max);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * @param key the key.
+     * @return the key's estimated count.
+     */
+    long estimate(String key) {
+        return min(hash(key));
+    }
+
+    /**
+     * Halves every counter, so that old traffic weighs half as much as traffic since the last call.
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private int min(long hash) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(hash, row)));
+        }
+        return min;
+    }
+
+    // Double hashing: the rows use h1 + row * h2, with h2 odd so it is never zero
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * width + ((h1 + row * h2) & mask);
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer so the high bits are well spread
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,185 @@
+package com.tickethub.eventservice.hotkeys;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.model.HotKeyRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the {@link HotKeyTracker}'s top keys to the {@code hot_keys} Spanner table, so that a
+ * new instance can preload the keys the running ones see most (see {@code WarmupRunner}).
+ * <p>
+ * Every snapshot interval the top keys of each operation are written and the tracker is decayed.
+ * Scores are merged across instances: in one read-write transaction, each row's stored score is
+ * decayed by the intervals elapsed since it was written (halved per interval, like the tracker) and
+ * this instance's reads since its previous snapshot are added, so a row holds the decayed read count
+ * of the whole fleet. A final snapshot is written on shutdown, so a rolling deploy hands over the
+ * latest view.
+ */
+@Component
+public class HotKeyStore implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeyStore.class);
+
+    static final String SNAPSHOTS_METRIC = "eventservice.hotkeys.snapshots";
+
+    private final SpannerTemplate spannerTemplate;
+    private final HotKeyTracker tracker;
+    private final boolean enabled;
+    private final long snapshotIntervalMs;
+    private final int persistedKeys;
+    private final long minCount;
+    private final Duration maxAge;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler;
+    // Count written for each key at the previous snapshot, before the tracker halved it
+    private Map<Key, Long> lastWritten = Map.of();
+
+    public HotKeyStore(SpannerTemplate spannerTemplate,
+                       HotKeyTracker tracker,
+                       @Value("${eventservice.hotkeys.enabled:true}") boolean enabled,
+                       @Value("${eventservice.hotkeys.snapshot-interval:5m}") Duration snapshotInterval,
+                       @Value("${eventservice.hotkeys.persisted-keys:100}") int persistedKeys,
+                       @Value("${eventservice.hotkeys.min-count:2}") long minCount,
+                       @Value("${eventservice.hotkeys.max-age:1h}") Duration maxAge,
+                       MeterRegistry meterRegistry) {
+        this.spannerTemplate = spannerTemplate;
+        this.tracker = tracker;
+        this.enabled = enabled;
+        this.snapshotIntervalMs = snapshotInterval.toMillis();
+        this.persistedKeys = persistedKeys;
+        this.minCount = minCount;
+        this.maxAge = maxAge;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-key-snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the periodic snapshots once the application has started, if enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalMs, snapshotIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Adds the reads of the current top keys of every operation to the stored scores, then decays the tracker.
+     *
+     * @return the number of keys written.
+     */
+    public synchronized int snapshot() {
+        Timestamp now = Timestamp.now();
+        List<HotKeyRecord> records = new ArrayList<>();
+        Map<Key, Long> written = new HashMap<>();
+        for (String operation : tracker.operations()) {
+            tracker.top(operation).stream()
+                    .takeWhile(hotKey -> hotKey.count() >= minCount)
+                    .limit(persistedKeys)
+                    .forEach(hotKey -> {
+                        Key key = Key.of(operation, hotKey.key());
+                        written.put(key, hotKey.count());
+                        // The count carries half of what was written last time; only the rest is new traffic
+                        long previous = lastWritten.getOrDefault(key, 0L) >>> 1;
+                        records.add(new HotKeyRecord(operation, hotKey.key(), Math.max(0, hotKey.count() - previous), now));
+                    });
+        }
+        if (!records.isEmpty()) {
+            spannerTemplate.performReadWriteTransaction(template -> {
+                KeySet.Builder keys = KeySet.newBuilder();
+                records.forEach(record -> keys.addKey(Key.of(record.getOperation(), record.getKey())));
+                Map<Key, HotKeyRecord> stored = new HashMap<>();
+                for (HotKeyRecord record : template.read(HotKeyRecord.class, keys.build())) {
+                    stored.put(Key.of(record.getOperation(), record.getKey()), record);
+                }
+                for (HotKeyRecord record : records) {
+                    HotKeyRecord existing = stored.get(Key.of(record.getOperation(), record.getKey()));
+                    if (existing != null) {
+                        record.setScore(record.getScore() + decayed(existing, now));
+                    }
+                }
+                template.upsertAll(records);
+                return null;
+            });
+        }
+        lastWritten = written;
+        tracker.decay();
+        log.debug("Snapshotted {} hot keys", records.size());
+        return records.size();
+    }
+
+    // The stored score halved once per snapshot interval since it was written
+    private long decayed(HotKeyRecord record, Timestamp now) {
+        if (record.getScore() == null || record.getUpdatedAt() == null) {
+            return 0;
+        }
+        long elapsedMs = Math.max(0, Duration.between(record.getUpdatedAt().toSqlTimestamp().toInstant(),
+                now.toSqlTimestamp().toInstant()).toMillis());
+        return Math.round(record.getScore() * Math.pow(0.5, (double) elapsedMs / snapshotIntervalMs));
+    }
+
+    /**
+     * @param operation the read operation.
+     * @param limit     keys to return at most.
+     * @return the operation's hottest keys from snapshots written within the max age, hottest first;
+     * empty if hot-key tracking is disabled.
+     */
+    public List<String> load(String operation, int limit) {
+        if (!enabled || limit <= 0) {
+            return List.of();
+        }
+        Statement statement = Statement.newBuilder(
+                        "SELECT * FROM hot_keys WHERE operation = @operation"
+                                + " AND updated_at > TIMESTAMP_SUB(CURRENT_TIMESTAMP(), INTERVAL @maxAgeSeconds SECOND)"
+                                + " ORDER BY score DESC LIMIT @limit")
+                .bind("operation").to(operation)
+                .bind("maxAgeSeconds").to(maxAge.toSeconds())
+                .bind("limit").to(limit)
+                .build();
+        return spannerTemplate.query(HotKeyRecord.class, statement, null).stream()
+                .map(HotKeyRecord::getKey)
+                .toList();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+            meterRegistry.counter(SNAPSHOTS_METRIC, "outcome", "success").increment();
+        } catch (RuntimeException e) {
+            meterRegistry.counter(SNAPSHOTS_METRIC, "outcome", "failed").increment();
+            log.warn("Failed to snapshot hot keys: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        if (enabled) {
+            snapshotQuietly();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.tickethub.eventservice.hotkeys;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the most frequently read keys of each EventService read operation, in fixed memory.
+ * <p>
+ * Every read is counted in a per-operation {@link CountMinSketch}, without locks. Keys whose
+ * estimate beats the admission threshold become candidates, held with their latest estimate in a
+ * concurrent map of at most twice {@code topK} entries. The top is rebuilt from the candidates when
+ * that map fills up, when it is read and on {@link #decay()}: the {@code topK} highest are kept and
+ * the smallest of them becomes the new threshold. A read of a key already in the top only updates
+ * its estimate, so recording never sorts or takes a lock. {@link #decay()} halves all counts, so the
+ * top follows current traffic.
+ */
+@Component
+public class HotKeyTracker {
+
+    /**
+     * A frequently read key.
+     *
+     * @param key   the key as passed to {@link #record(String, String)}.
+     * @param count its estimated (decayed) read count.
+     */
+    public record HotKey(String key, long count) {}
+
+    /** Event reads, keyed by event ID. */
+    public static final String EVENTS = "getEventById";
+
+    private static final ThreadLocal<Boolean> SUSPENDED = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int topK;
+    private final int sketchDepth;
+    private final int sketchWidth;
+
+    public HotKeyTracker(@Value("${eventservice.hotkeys.enabled:true}") boolean enabled,
+                         @Value("${eventservice.hotkeys.top-k:200}") int topK,
+                         @Value("${eventservice.hotkeys.sketch-depth:4}") int sketchDepth,
+                         @Value("${eventservice.hotkeys.sketch-width:4096}") int sketchWidth) {
+        this.enabled = enabled;
+        this.topK = topK;
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+    }
+
+    /**
+     * Counts one read of the key; does nothing if hot-key tracking is disabled or suspended on the
+     * calling thread.
+     *
+     * @param operation the read operation, e.g. {@link #EVENTS}.
+     * @param key       the key read.
+     */
+    public void record(String operation, String key) {
+        if (!enabled || topK <= 0 || SUSPENDED.get() != null) {
+            return;
+        }
+        operations.computeIfAbsent(operation, name -> new Operation()).record(key);
+    }
+
+    /**
+     * Stops counting reads made by the current thread until {@link #resume()}, e.g. the warm-up's own
+     * reads, which would otherwise feed the keys they preload back into the next snapshot.
+     */
+    public static void suspend() {
+        SUSPENDED.set(Boolean.TRUE);
+    }
+
+    /**
+     * Counts reads made by the current thread again.
+     */
+    public static void resume() {
+        SUSPENDED.remove();
+    }
+
+    /**
+     * @param operation the read operation.
+     * @return the operation's most frequently read keys, most frequent first.
+     */
+    public List<HotKey> top(String operation) {
+        Operation tracked = operations.get(operation);
+        return tracked == null ? List.of() : tracked.rebuild();
+    }
+
+    /**
+     * @return the operations that have recorded reads.
+     */
+    public Set<String> operations() {
+        return Set.copyOf(operations.keySet());
+    }
+
+    /**
+     * Halves every count, so traffic before the previous call weighs half as much as traffic since.
+     */
+    public void decay() {
+        operations.values().forEach(Operation::decay);
+    }
+
+    private final class Operation {
+
+        private final CountMinSketch sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        private final ConcurrentMap<String, AtomicLong> candidates = new ConcurrentHashMap<>();
+        private final ReentrantLock rebuildLock = new ReentrantLock();
+        private volatile long threshold; // smallest count in the top at the last rebuild; 0 while it is not full
+
+        void record(String key) {
+            long estimate = sketch.add(key);
+            AtomicLong candidate = candidates.get(key);
+            if (candidate != null) {
+                candidate.set(estimate);
+                return;
+            }
+            if (estimate <= threshold) {
+                return;
+            }
+            if (candidates.size() >= 2 * topK) {
+                // Only one thread rebuilds; the others drop this admission, the key gets another chance on its next read
+                if (!rebuildLock.tryLock()) {
+                    return;
+                }
+                try {
+                    rebuildLocked();
+                } finally {
+                    rebuildLock.unlock();
+                }
+                if (estimate <= threshold) {
+                    return;
+                }
+            }
+            candidates.putIfAbsent(key, new AtomicLong(estimate));
+        }
+
+        List<HotKey> rebuild() {
+            rebuildLock.lock();
+            try {
+                return rebuildLocked();
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+
+        // Halving is monotonic, so the top stays the top; the threshold is halved with it
+        void decay() {
+            rebuildLock.lock();
+            try {
+                sketch.halve();
+                for (AtomicLong count : candidates.values()) {
+                    count.updateAndGet(value -> value >>> 1);
+                }
+                rebuildLocked();
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+
+        private List<HotKey> rebuildLocked() {
+            List<HotKey> ranked = new ArrayList<>(candidates.size());
+            for (Map.Entry<String, AtomicLong> candidate : candidates.entrySet()) {
+                ranked.add(new HotKey(candidate.getKey(), candidate.getValue().get()));
+            }
+            ranked.sort(Comparator.comparingLong(HotKey::count).reversed().thenComparing(HotKey::key));
+            List<HotKey> top = ranked.subList(0, Math.min(topK, ranked.size()));
+            for (HotKey dropped : ranked.subList(top.size(), ranked.size())) {
+                candidates.remove(dropped.key());
+            }
+            threshold = top.size() < topK ? 0 : top.get(top.size() - 1).count();
+            return List.copyOf(top);
+        }
+    }
+}
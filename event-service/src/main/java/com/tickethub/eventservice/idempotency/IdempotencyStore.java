@@ -0,0 +1,318 @@
+package com.tickethub.eventservice.idempotency;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.exception.IdempotencyKeyInProgressException;
+import com.tickethub.eventservice.exception.IdempotencyKeyReuseException;
+import com.tickethub.eventservice.model.IdempotencyRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Spanner-backed deduplication of requests carrying an Idempotency-Key.
+ * <p>
+ * The first request for a key claims it in a read-write transaction (status IN_PROGRESS, with a
+ * lease), performs the work and records its response (COMPLETED). A repeated key gets the recorded
+ * response back without redoing any work. A duplicate that arrives while the first attempt is still
+ * running waits for it: on the same instance it joins the in-flight call, on another instance it
+ * polls the row until the response is recorded. If the first attempt fails or returns a 5xx, the
+ * claim is released so a retry can run again. While the action runs, the lease is renewed every
+ * third of its length, so a slow action is never taken over by another instance; a claim whose
+ * lease expires (the instance died or lost Spanner) can be. The response is only recorded under
+ * the claim that ran the action. By then the action has taken effect, so recording is retried a few
+ * times with the lease still being renewed, and the caller gets the action's response even if
+ * recording never succeeds.
+ * <p>
+ * Completed keys are kept for the configured TTL; Spanner's row deletion policy on {@code expires_at}
+ * removes them afterwards, and expired rows are treated as absent until then.
+ */
+@Component
+public class IdempotencyStore implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    static final String IN_PROGRESS = "IN_PROGRESS";
+    static final String COMPLETED = "COMPLETED";
+    static final int MAX_KEY_LENGTH = 128;
+    static final int COMPLETE_ATTEMPTS = 3;
+
+    private final SpannerTemplate spannerTemplate;
+    private final Duration ttl;
+    private final Duration lease;
+    private final long waitTimeoutNanos;
+    private final long pollIntervalMs;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseRenewer;
+
+    public IdempotencyStore(SpannerTemplate spannerTemplate,
+                            @Value("${eventservice.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${eventservice.idempotency.lease:60s}") Duration lease,
+                            @Value("${eventservice.idempotency.wait-timeout:30s}") Duration waitTimeout,
+                            @Value("${eventservice.idempotency.poll-interval-ms:200}") long pollIntervalMs,
+                            MeterRegistry meterRegistry) {
+        this.spannerTemplate = spannerTemplate;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.pollIntervalMs = pollIntervalMs;
+        this.meterRegistry = meterRegistry;
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the action once per idempotency key, or returns the response recorded for the key.
+     *
+     * @param key         the client-supplied Idempotency-Key.
+     * @param requestHash hash of the request payload; reusing a key with a different payload is rejected.
+     * @param action      performs the request and returns its response.
+     * @return the response of the action, or the recorded one (marked as replayed).
+     * @throws IllegalArgumentException           if the key is blank or too long.
+     * @throws IdempotencyKeyReuseException       if the key was used for a different payload.
+     * @throws IdempotencyKeyInProgressException  if another attempt holds the key beyond the wait timeout.
+     */
+    public StoredResponse execute(String key, String requestHash, Supplier<StoredResponse> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        // Concurrent duplicates on this instance share the first attempt
+        String flightKey = key + ":" + requestHash;
+        CompletableFuture<StoredResponse> attempt = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(flightKey, attempt);
+        if (existing != null) {
+            counter("joined").increment();
+            return join(key, existing).asReplay();
+        }
+        try {
+            StoredResponse response = executeOnce(key, requestHash, action);
+            attempt.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            attempt.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, attempt);
+        }
+    }
+
+    private StoredResponse join(String key, CompletableFuture<StoredResponse> attempt) {
+        try {
+            return attempt.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            counter("in_progress").increment();
+            throw new IdempotencyKeyInProgressException("A request with Idempotency-Key " + key + " is still in progress");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an idempotency key", e);
+        }
+    }
+
+    private StoredResponse executeOnce(String key, String requestHash, Supplier<StoredResponse> action) {
+        long waitUntil = System.nanoTime() + waitTimeoutNanos;
+        while (true) {
+            Claim claim = claim(key, requestHash);
+            switch (claim.outcome()) {
+                case CLAIMED:
+                    counter("executed").increment();
+                    return run(key, claim.claimId(), action);
+                case REPLAY:
+                    counter("replayed").increment();
+                    log.info("Replaying recorded response for idempotency key {}", key);
+                    return claim.response().asReplay();
+                case MISMATCH:
+                    counter("mismatch").increment();
+                    throw new IdempotencyKeyReuseException("Idempotency-Key " + key + " was already used for a different request");
+                default:
+                    if (System.nanoTime() - waitUntil >= 0) {
+                        counter("in_progress").increment();
+                        throw new IdempotencyKeyInProgressException("A request with Idempotency-Key " + key + " is still in progress");
+                    }
+                    log.debug("Idempotency key {} is held by another attempt, waiting", key);
+                    sleep(pollIntervalMs);
+            }
+        }
+    }
+
+    private enum Outcome { CLAIMED, REPLAY, MISMATCH, BUSY }
+
+    private record Claim(Outcome outcome, String claimId, StoredResponse response) {}
+
+    // Outcomes are returned rather than thrown: exceptions inside the transaction function are wrapped by the client
+    private Claim claim(String key, String requestHash) {
+        return spannerTemplate.performReadWriteTransaction(template -> {
+            IdempotencyRecord existing = template.read(IdempotencyRecord.class, Key.of(key));
+            if (existing != null && !isExpired(existing)) {
+                if (!requestHash.equals(existing.getRequestHash())) {
+                    return new Claim(Outcome.MISMATCH, null, null);
+                }
+                if (COMPLETED.equals(existing.getStatus())) {
+                    return new Claim(Outcome.REPLAY, null,
+                            new StoredResponse(existing.getResponseStatus().intValue(), existing.getResponseBody()));
+                }
+                return new Claim(Outcome.BUSY, null, null);
+            }
+            String claimId = UUID.randomUUID().toString();
+            template.upsert(new IdempotencyRecord(key, requestHash, claimId, IN_PROGRESS, null, null,
+                    Timestamp.now(), timestampAfter(lease)));
+            return new Claim(Outcome.CLAIMED, claimId, null);
+        });
+    }
+
+    private StoredResponse run(String key, String claimId, Supplier<StoredResponse> action) {
+        long renewEveryMs = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+                () -> renew(key, claimId), renewEveryMs, renewEveryMs, TimeUnit.MILLISECONDS);
+        StoredResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            renewal.cancel(false);
+            release(key, claimId);
+            throw e;
+        }
+        if (response.status() >= 500) {
+            // Server errors are not final: let a retry run the request again
+            renewal.cancel(false);
+            release(key, claimId);
+        } else {
+            // Keep the lease until the response is recorded, so no other attempt takes the key over meanwhile
+            try {
+                complete(key, claimId, response);
+            } finally {
+                renewal.cancel(false);
+            }
+        }
+        return response;
+    }
+
+    private void renew(String key, String claimId) {
+        try {
+            boolean renewed = spannerTemplate.performReadWriteTransaction(template -> {
+                IdempotencyRecord existing = template.read(IdempotencyRecord.class, Key.of(key));
+                if (existing == null || !claimId.equals(existing.getClaimId()) || !IN_PROGRESS.equals(existing.getStatus())) {
+                    return false;
+                }
+                existing.setExpiresAt(timestampAfter(lease));
+                template.update(existing);
+                return true;
+            });
+            if (!renewed) {
+                log.warn("Lost the claim on idempotency key {} while its request was running", key);
+            }
+        } catch (RuntimeException e) {
+            // The next renewal tries again while the lease is still valid
+            log.warn("Failed to renew the lease on idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    // The action has already taken effect: failing the request here would send the client to retry work that succeeded
+    private void complete(String key, String claimId, StoredResponse response) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                recordResponse(key, claimId, response);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= COMPLETE_ATTEMPTS) {
+                    counter("unrecorded").increment();
+                    log.error("Failed to record the response for idempotency key {} after {} attempts; "
+                            + "a retry after the lease expires will run the request again: {}", key, attempt, e.getMessage(), e);
+                    return;
+                }
+                log.warn("Failed to record the response for idempotency key {} (attempt {}): {}", key, attempt, e.getMessage());
+                sleep(pollIntervalMs);
+            }
+        }
+    }
+
+    private void recordResponse(String key, String claimId, StoredResponse response) {
+        boolean recorded = spannerTemplate.performReadWriteTransaction(template -> {
+            IdempotencyRecord existing = template.read(IdempotencyRecord.class, Key.of(key));
+            if (existing == null || !claimId.equals(existing.getClaimId())) {
+                return false;
+            }
+            existing.setStatus(COMPLETED);
+            existing.setResponseStatus((long) response.status());
+            existing.setResponseBody(response.body());
+            existing.setExpiresAt(timestampAfter(ttl));
+            template.update(existing);
+            return true;
+        });
+        if (!recorded) {
+            log.warn("Lease on idempotency key {} expired before the response was recorded", key);
+        }
+    }
+
+    private void release(String key, String claimId) {
+        try {
+            spannerTemplate.performReadWriteTransaction(template -> {
+                IdempotencyRecord existing = template.read(IdempotencyRecord.class, Key.of(key));
+                if (existing != null && claimId.equals(existing.getClaimId())) {
+                    template.delete(existing);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // The lease expires on its own; the original failure is what the caller needs to see
+            log.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static boolean isExpired(IdempotencyRecord record) {
+        return record.getExpiresAt() == null || record.getExpiresAt().compareTo(Timestamp.now()) <= 0;
+    }
+
+    private static Timestamp timestampAfter(Duration duration) {
+        return Timestamp.ofTimeMicroseconds(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis() + duration.toMillis()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an idempotency key", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("eventservice.idempotency.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.tickethub.eventservice.idempotency;
+
+/**
+ * The response recorded for an idempotency key.
+ *
+ * @param status   HTTP status code.
+ * @param body     JSON response body.
+ * @param replayed true if the response was recorded by an earlier request rather than produced now.
+ */
+public record StoredResponse(int status, String body, boolean replayed) {
+
+    public StoredResponse(int status, String body) {
+        this(status, body, false);
+    }
+
+    StoredResponse asReplay() {
+        return new StoredResponse(status, body, true);
+    }
+}
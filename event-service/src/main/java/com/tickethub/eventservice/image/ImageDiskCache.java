@@ -0,0 +1,217 @@
+package com.tickethub.eventservice.image;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.tickethub.eventservice.service.ReadCoalescer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Event images from GCS, kept in a bounded least-recently-used cache on local disk.
+ * <p>
+ * A miss downloads the object into the cache directory; concurrent misses for the same object share
+ * one download through the {@link ReadCoalescer}. Files evicted to stay under {@code maxBytes} are
+ * deleted only after a grace period, because a response may still be sending them (the container
+ * opens the file itself when it uses sendfile). The directory is emptied at startup, since the index
+ * lives in memory.
+ */
+@Component
+public class ImageDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDiskCache.class);
+
+    private static final String FILE_SUFFIX = ".img";
+
+    /**
+     * A cached image file with the metadata needed for conditional and range requests.
+     *
+     * @param file         the cached copy on local disk.
+     * @param length       its size in bytes.
+     * @param contentType  the object's content type, or null if GCS has none.
+     * @param etag         a strong entity tag derived from the object generation.
+     * @param lastModified when the object was last updated in GCS.
+     */
+    public record CachedImage(Path file, long length, String contentType, String etag, Instant lastModified) {}
+
+    private record Eviction(Path file, long evictedAtNanos) {}
+
+    private final Storage storage;
+    private final ReadCoalescer readCoalescer;
+    private final Path directory;
+    private final long maxBytes;
+    private final long evictionGraceNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, CachedImage> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Deque<Eviction> pendingDeletes = new ArrayDeque<>();
+    private final Counter hits;
+    private final Counter misses;
+    // Guarded by entries
+    private long currentBytes;
+
+    public ImageDiskCache(Storage storage,
+                          ReadCoalescer readCoalescer,
+                          MeterRegistry meterRegistry,
+                          @Value("${eventservice.images.cache-directory:}") String directory,
+                          @Value("${eventservice.images.cache-max-bytes:1073741824}") long maxBytes,
+                          @Value("${eventservice.images.eviction-grace:60s}") Duration evictionGrace) throws IOException {
+        this(storage, readCoalescer, meterRegistry,
+                directory == null || directory.isBlank() ? Files.createTempDirectory("event-images") : Path.of(directory),
+                maxBytes, evictionGrace, System::nanoTime);
+    }
+
+    ImageDiskCache(Storage storage, ReadCoalescer readCoalescer, MeterRegistry meterRegistry, Path directory,
+                   long maxBytes, Duration evictionGrace, LongSupplier nanoClock) throws IOException {
+        this.storage = storage;
+        this.readCoalescer = readCoalescer;
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.evictionGraceNanos = evictionGrace.toNanos();
+        this.nanoClock = nanoClock;
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        meterRegistry.gauge("eventservice.images.cache.bytes", this, ImageDiskCache::sizeInBytes);
+        clearDirectory();
+        log.info("Event images are cached in {} (up to {} bytes)", this.directory, maxBytes);
+    }
+
+    /**
+     * @param bucket the GCS bucket.
+     * @param object the object name.
+     * @return the cached image, downloading it first on a miss, or empty if the object does not exist.
+     * @throws UncheckedIOException if the download or the cache write fails.
+     */
+    public Optional<CachedImage> get(String bucket, String object) {
+        String key = bucket + "/" + object;
+        CachedImage cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null && Files.exists(cached.file())) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        return Optional.ofNullable(readCoalescer.execute("image", key, () -> download(key, bucket, object)));
+    }
+
+    /**
+     * @return the total size of the cached files, excluding evicted files awaiting deletion.
+     */
+    public long sizeInBytes() {
+        synchronized (entries) {
+            return currentBytes;
+        }
+    }
+
+    private CachedImage download(String key, String bucket, String object) {
+        Blob blob = storage.get(BlobId.of(bucket, object));
+        if (blob == null) {
+            return null;
+        }
+        Path target = directory.resolve(fileName(key, blob.getGeneration()));
+        try {
+            Path temp = Files.createTempFile(directory, "download", ".tmp");
+            try {
+                blob.downloadTo(temp);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            Instant lastModified = blob.getUpdateTime() == null ? Instant.EPOCH : Instant.ofEpochMilli(blob.getUpdateTime());
+            CachedImage image = new CachedImage(target, Files.size(target), blob.getContentType(),
+                    "\"" + blob.getGeneration() + "\"", lastModified);
+            log.debug("Cached image gs://{}/{} ({} bytes)", bucket, object, image.length());
+            put(key, image);
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to cache image gs://" + bucket + "/" + object, e);
+        }
+    }
+
+    private void put(String key, CachedImage image) {
+        List<Path> deletable = new ArrayList<>();
+        synchronized (entries) {
+            CachedImage previous = entries.put(key, image);
+            if (previous != null) {
+                currentBytes -= previous.length();
+                if (!previous.file().equals(image.file())) {
+                    pendingDeletes.addLast(new Eviction(previous.file(), nanoClock.getAsLong()));
+                }
+            }
+            currentBytes += image.length();
+            // A re-download of an evicted object reuses its file name, which must not be deleted from under it
+            pendingDeletes.removeIf(eviction -> eviction.file().equals(image.file()));
+            Iterator<Map.Entry<String, CachedImage>> eldest = entries.entrySet().iterator();
+            // Never evict the entry just added, even if it alone exceeds the bound
+            while (currentBytes > maxBytes && entries.size() > 1) {
+                CachedImage evicted = eldest.next().getValue();
+                eldest.remove();
+                currentBytes -= evicted.length();
+                pendingDeletes.addLast(new Eviction(evicted.file(), nanoClock.getAsLong()));
+            }
+            long now = nanoClock.getAsLong();
+            while (!pendingDeletes.isEmpty() && now - pendingDeletes.peekFirst().evictedAtNanos() >= evictionGraceNanos) {
+                deletable.add(pendingDeletes.pollFirst().file());
+            }
+        }
+        for (Path file : deletable) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete evicted image {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void clearDirectory() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    // Object names are arbitrary, so file names are derived from a hash; the generation keeps replaced objects apart
+    private static String fileName(String key, Long generation) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + "-" + generation + FILE_SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("eventservice.images.cache.lookups")
+                .description("Event image lookups in the local disk cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
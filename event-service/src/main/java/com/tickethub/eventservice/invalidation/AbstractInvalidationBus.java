@@ -0,0 +1,112 @@
+package com.tickethub.eventservice.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Sequencing and delivery shared by the transports. Outgoing messages are numbered per sender;
+ * for each sender, incoming duplicates are dropped and a jump in the sequence (or a heartbeat ahead
+ * of the last message seen) means messages were lost, so listeners are told to flush.
+ */
+public abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractInvalidationBus.class);
+
+    // Keeps each datagram well below a typical MTU
+    static final int MAX_IDS_PER_MESSAGE = 24;
+
+    private final UUID nodeId = UUID.randomUUID();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<UUID, Long> lastSequenceBySender = new HashMap<>(); // guarded by itself
+    private final Counter sent;
+    private final Counter received;
+    private final Counter gaps;
+
+    protected AbstractInvalidationBus(MeterRegistry meterRegistry) {
+        this.sent = Counter.builder("eventservice.invalidation.messages").tag("direction", "sent").register(meterRegistry);
+        this.received = Counter.builder("eventservice.invalidation.messages").tag("direction", "received").register(meterRegistry);
+        this.gaps = Counter.builder("eventservice.invalidation.gaps")
+                .description("Lost invalidation messages detected from sequence numbers; each one flushes local caches")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends one message to the other instances.
+     */
+    protected abstract void send(InvalidationMessage message);
+
+    @Override
+    public void publish(Collection<String> eventIds) {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(eventIds));
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_MESSAGE) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_MESSAGE));
+            send(new InvalidationMessage(nodeId, sequence.incrementAndGet(), false, chunk));
+            sent.increment();
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Announces the latest sequence number, so receivers notice messages lost at the end of a burst.
+     */
+    protected void sendHeartbeat() {
+        send(new InvalidationMessage(nodeId, sequence.get(), true, List.of()));
+    }
+
+    /**
+     * Handles a message from the transport: drops own and duplicate messages, detects gaps and notifies listeners.
+     */
+    protected void receive(InvalidationMessage message) {
+        if (nodeId.equals(message.sender())) {
+            return;
+        }
+        boolean gap;
+        synchronized (lastSequenceBySender) {
+            Long last = lastSequenceBySender.get(message.sender());
+            if (!message.heartbeat() && last != null && message.sequence() <= last) {
+                return;
+            }
+            // The first message from a sender sets the baseline: there is nothing to compare it with
+            gap = last != null && message.sequence() > last + (message.heartbeat() ? 0 : 1);
+            lastSequenceBySender.put(message.sender(), last == null ? message.sequence() : Math.max(last, message.sequence()));
+        }
+        if (gap) {
+            gaps.increment();
+            log.warn("Missed invalidation messages from {} (now at {}), flushing caches", message.sender(), message.sequence());
+            notifyListeners(InvalidationListener::onFlush);
+        } else if (!message.heartbeat()) {
+            received.increment();
+            Set<String> eventIds = Set.copyOf(message.eventIds());
+            log.debug("Invalidating events {} changed on {}", eventIds, message.sender());
+            notifyListeners(listener -> listener.onInvalidate(eventIds));
+        }
+    }
+
+    private void notifyListeners(Consumer<InvalidationListener> notification) {
+        for (InvalidationListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+}
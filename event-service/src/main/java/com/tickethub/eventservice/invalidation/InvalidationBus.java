@@ -0,0 +1,28 @@
+package com.tickethub.eventservice.invalidation;
+
+import java.util.Collection;
+
+/**
+ * Broadcasts the IDs of changed events to the other event-service instances.
+ * Messages carry a per-sender sequence number so receivers can detect lost messages.
+ */
+public interface InvalidationBus extends AutoCloseable {
+
+    /**
+     * Announces changed events to the other instances. Local caches are not notified;
+     * they are updated directly by the write path.
+     *
+     * @param eventIds the IDs of the changed events.
+     */
+    void publish(Collection<String> eventIds);
+
+    /**
+     * Registers a listener for invalidations received from other instances.
+     *
+     * @param listener the listener to notify.
+     */
+    void subscribe(InvalidationListener listener);
+
+    @Override
+    void close();
+}
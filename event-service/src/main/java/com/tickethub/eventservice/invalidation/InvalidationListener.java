@@ -0,0 +1,21 @@
+package com.tickethub.eventservice.invalidation;
+
+import java.util.Set;
+
+/**
+ * An in-process cache of catalog data that must follow writes made on other instances.
+ */
+public interface InvalidationListener {
+
+    /**
+     * Called when events were changed on another instance.
+     *
+     * @param eventIds the IDs of the changed events (their seat categories may have changed too).
+     */
+    void onInvalidate(Set<String> eventIds);
+
+    /**
+     * Called when invalidations from another instance may have been lost; everything cached must be reloaded.
+     */
+    void onFlush();
+}
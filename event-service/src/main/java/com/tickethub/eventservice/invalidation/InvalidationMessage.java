@@ -0,0 +1,66 @@
+package com.tickethub.eventservice.invalidation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One invalidation message. A heartbeat carries no IDs and repeats the sender's latest sequence number,
+ * so a receiver that missed the last messages of a burst still notices the gap.
+ *
+ * @param sender    identifies the sending instance; a new ID is chosen on every start.
+ * @param sequence  per-sender sequence number, starting at 1 and incremented for every non-heartbeat message.
+ * @param heartbeat true for heartbeats.
+ * @param eventIds  the changed event IDs.
+ */
+public record InvalidationMessage(UUID sender, long sequence, boolean heartbeat, List<String> eventIds) {
+
+    private static final int FORMAT_VERSION = 1;
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + eventIds.size() * 40);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(sender.getMostSignificantBits());
+            out.writeLong(sender.getLeastSignificantBits());
+            out.writeLong(sequence);
+            out.writeBoolean(heartbeat);
+            out.writeShort(eventIds.size());
+            for (String eventId : eventIds) {
+                out.writeUTF(eventId);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a message in a supported format.
+     */
+    public static InvalidationMessage decode(byte[] data, int offset, int length) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported invalidation message format " + version);
+            }
+            UUID sender = new UUID(in.readLong(), in.readLong());
+            long sequence = in.readLong();
+            boolean heartbeat = in.readBoolean();
+            int count = in.readUnsignedShort();
+            List<String> eventIds = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                eventIds.add(in.readUTF());
+            }
+            return new InvalidationMessage(sender, sequence, heartbeat, List.copyOf(eventIds));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed invalidation message", e);
+        }
+    }
+}
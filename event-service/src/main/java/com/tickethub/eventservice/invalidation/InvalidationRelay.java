@@ -0,0 +1,33 @@
+package com.tickethub.eventservice.invalidation;
+
+import com.tickethub.eventservice.catalog.CatalogChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Connects the bus to the application: announces committed writes to the other instances,
+ * and subscribes every {@link InvalidationListener} bean to what they announce.
+ */
+@Component
+public class InvalidationRelay {
+
+    private final InvalidationBus invalidationBus;
+
+    public InvalidationRelay(InvalidationBus invalidationBus, List<InvalidationListener> listeners) {
+        this.invalidationBus = invalidationBus;
+        listeners.forEach(invalidationBus::subscribe);
+    }
+
+    /**
+     * Broadcasts the changed event ID once the write has committed, so other instances never reload too early.
+     *
+     * @param change the committed change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent change) {
+        invalidationBus.publish(List.of(change.event().getId()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.tickethub.eventservice.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * In-memory transport: buses joined to the same {@link Hub} behave like instances on one network,
+ * with messages delivered synchronously. Used in tests, and as the single-instance default
+ * (a bus alone in its hub sends to nobody).
+ */
+public class LoopbackInvalidationBus extends AbstractInvalidationBus {
+
+    private final Hub hub;
+
+    public LoopbackInvalidationBus(Hub hub, MeterRegistry meterRegistry) {
+        super(meterRegistry);
+        this.hub = hub;
+        hub.members.add(this);
+    }
+
+    @Override
+    protected void send(InvalidationMessage message) {
+        // Encoded and decoded like a datagram, so the wire format is exercised too
+        byte[] bytes = message.encode();
+        for (LoopbackInvalidationBus member : hub.members) {
+            if (member != this && hub.delivers.test(message)) {
+                member.receive(InvalidationMessage.decode(bytes, 0, bytes.length));
+            }
+        }
+    }
+
+    /**
+     * Sends a heartbeat now; the multicast transport does this on a timer.
+     */
+    public void heartbeat() {
+        sendHeartbeat();
+    }
+
+    @Override
+    public void close() {
+        hub.members.remove(this);
+    }
+
+    /**
+     * A set of connected loopback buses.
+     */
+    public static final class Hub {
+        private final List<LoopbackInvalidationBus> members = new CopyOnWriteArrayList<>();
+        private volatile Predicate<InvalidationMessage> delivers = message -> true;
+
+        /**
+         * Drops messages the predicate rejects, to simulate packet loss.
+         */
+        public void setDelivers(Predicate<InvalidationMessage> delivers) {
+            this.delivers = delivers;
+        }
+    }
+}
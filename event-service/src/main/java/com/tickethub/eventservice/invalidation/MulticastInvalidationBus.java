@@ -0,0 +1,117 @@
+package com.tickethub.eventservice.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UDP multicast transport. Every instance joins the same group and port; datagrams may be lost,
+ * which the sequence numbers and periodic heartbeats turn into a cache flush on the receiver.
+ * Requires a network that routes multicast between the instances (e.g. one VPC subnet or host network).
+ */
+public class MulticastInvalidationBus extends AbstractInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(MulticastInvalidationBus.class);
+
+    private static final int MAX_DATAGRAM_BYTES = 1500;
+
+    private final InetSocketAddress group;
+    private final NetworkInterface networkInterface;
+    private final MulticastSocket socket;
+    private final Thread receiver;
+    private final ScheduledExecutorService heartbeats;
+    private volatile boolean closed;
+
+    /**
+     * @param groupAddress     multicast group, e.g. 239.10.10.10.
+     * @param port             UDP port shared by all instances.
+     * @param interfaceName    network interface to use, or blank for the system default.
+     * @param timeToLive       multicast TTL (hops).
+     * @param heartbeatMillis  interval between heartbeats.
+     */
+    public MulticastInvalidationBus(String groupAddress, int port, String interfaceName, int timeToLive,
+                                    long heartbeatMillis, MeterRegistry meterRegistry) {
+        super(meterRegistry);
+        try {
+            this.group = new InetSocketAddress(InetAddress.getByName(groupAddress), port);
+            this.networkInterface = interfaceName == null || interfaceName.isBlank() ? null : NetworkInterface.getByName(interfaceName);
+            this.socket = new MulticastSocket(port);
+            socket.setTimeToLive(timeToLive);
+            if (networkInterface != null) {
+                socket.setNetworkInterface(networkInterface);
+            }
+            socket.joinGroup(group, networkInterface);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to join invalidation multicast group " + groupAddress + ":" + port, e);
+        }
+        this.receiver = new Thread(this::receiveLoop, "invalidation-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleWithFixedDelay(this::heartbeatQuietly, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        log.info("Invalidation bus joined multicast group {}", group);
+    }
+
+    @Override
+    protected void send(InvalidationMessage message) {
+        byte[] bytes = message.encode();
+        try {
+            socket.send(new DatagramPacket(bytes, bytes.length, group));
+        } catch (IOException e) {
+            // Receivers detect the missing sequence number and flush
+            log.warn("Failed to send invalidation message {}: {}", message.sequence(), e.getMessage());
+        }
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[MAX_DATAGRAM_BYTES];
+        while (!closed) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                receive(InvalidationMessage.decode(packet.getData(), packet.getOffset(), packet.getLength()));
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring datagram from {}: {}", packet.getSocketAddress(), e.getMessage());
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn("Invalidation receiver error: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void heartbeatQuietly() {
+        try {
+            sendHeartbeat();
+        } catch (RuntimeException e) {
+            log.debug("Failed to send invalidation heartbeat: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        heartbeats.shutdownNow();
+        try {
+            socket.leaveGroup(group, networkInterface);
+        } catch (IOException e) {
+            log.debug("Failed to leave multicast group {}: {}", group, e.getMessage());
+        }
+        socket.close();
+    }
+}
@@ -36,4 +36,11 @@ public class Event {
 
     @Column(name = "image_url")
     private String imageUrl; // URL to the event image in Google Cloud Storage
+
+    @Column(name = "version")
+    private Long version; // Incremented on every update; clients send it back in If-Match
+
+    public Event(String id, String name, String description, LocalDateTime startTime, String venue, String imageUrl) {
+        this(id, name, description, startTime, venue, imageUrl, null);
+    }
 }
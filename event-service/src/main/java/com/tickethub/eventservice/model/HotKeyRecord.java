@@ -0,0 +1,35 @@
+package com.tickethub.eventservice.model;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A frequently read key from the instances' hot-key snapshots, preloaded by new instances.
+ * Mapped to the "hot_keys" table in Google Cloud Spanner; keys that stop being snapshotted are
+ * removed by the table's row deletion policy on {@code updated_at}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "hot_keys")
+public class HotKeyRecord {
+
+    @PrimaryKey(keyOrder = 1)
+    @Column(name = "operation")
+    private String operation; // EventService read operation, e.g. "getEventById"
+
+    @PrimaryKey(keyOrder = 2)
+    @Column(name = "hot_key")
+    private String key; // Event ID or page key
+
+    @Column(name = "score")
+    private Long score; // Decayed read count estimate, summed over the instances that wrote the row
+
+    @Column(name = "updated_at")
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.tickethub.eventservice.model;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A claimed or completed idempotent admin request.
+ * Mapped to the "idempotency_keys" table in Google Cloud Spanner; expired rows are
+ * removed by the table's row deletion policy on {@code expires_at}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @PrimaryKey
+    @Column(name = "idempotency_key")
+    private String key; // Client-supplied Idempotency-Key header
+
+    @Column(name = "request_hash")
+    private String requestHash; // SHA-256 of the request payload; a key may not be reused for another payload
+
+    @Column(name = "claim_id")
+    private String claimId; // Identifies the attempt currently holding the key
+
+    @Column(name = "status")
+    private String status; // IN_PROGRESS or COMPLETED
+
+    @Column(name = "response_status")
+    private Long responseStatus;
+
+    @Column(name = "response_body")
+    private String responseBody; // JSON body returned to the first request
+
+    @Column(name = "created_at")
+    private Timestamp createdAt;
+
+    @Column(name = "expires_at")
+    private Timestamp expiresAt; // Lease end while IN_PROGRESS, retention end once COMPLETED
+}
@@ -0,0 +1,49 @@
+package com.tickethub.eventservice.model;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Seats taken by a best-available allocation, held until the purchase is confirmed or the hold
+ * expires. Mapped to the "seat_holds" table in Google Cloud Spanner, interleaved in "events";
+ * expired unconfirmed holds are released by {@code SeatInventoryService}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "seat_holds")
+public class SeatHoldRecord {
+
+    @PrimaryKey(keyOrder = 1)
+    @Column(name = "event_id")
+    private String eventId;
+
+    @PrimaryKey(keyOrder = 2)
+    @Column(name = "hold_id")
+    private String holdId;
+
+    @Column(name = "category_id")
+    private String categoryId;
+
+    @Column(name = "section")
+    private String section;
+
+    @Column(name = "row_name")
+    private String row;
+
+    @Column(name = "seats")
+    private List<Long> seats; // Seat numbers within the row
+
+    @Column(name = "expires_at")
+    private Timestamp expiresAt;
+
+    @Column(name = "confirmed_at")
+    private Timestamp confirmedAt; // Null while held; confirmed seats stay taken
+}
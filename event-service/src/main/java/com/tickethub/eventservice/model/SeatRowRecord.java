@@ -0,0 +1,46 @@
+package com.tickethub.eventservice.model;
+
+import com.google.cloud.ByteArray;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of seats within a seat category, with its free seats as a serialized
+ * {@code SeatBitmap}. Mapped to the "seat_rows" table in Google Cloud Spanner, interleaved in
+ * "events" so that a category's seat map is stored next to its event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "seat_rows")
+public class SeatRowRecord {
+
+    @PrimaryKey(keyOrder = 1)
+    @Column(name = "event_id")
+    private String eventId;
+
+    @PrimaryKey(keyOrder = 2)
+    @Column(name = "category_id")
+    private String categoryId;
+
+    @PrimaryKey(keyOrder = 3)
+    @Column(name = "section")
+    private String section;
+
+    @PrimaryKey(keyOrder = 4)
+    @Column(name = "row_name")
+    private String row;
+
+    @Column(name = "rank")
+    private Long rank; // Lower is better; best-available allocation prefers the lowest rank
+
+    @Column(name = "seat_count")
+    private Long seatCount; // Seats are numbered 1..seat_count
+
+    @Column(name = "free_seats")
+    private ByteArray freeSeats; // SeatBitmap.serialize() of the free seat indexes (seat number - 1)
+}
@@ -0,0 +1,69 @@
+package com.tickethub.eventservice.querystats;
+
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import com.google.spanner.v1.PlanNode;
+import com.google.spanner.v1.ResultSetStats;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query plan and execution statistics of one call run in PROFILE mode.
+ *
+ * @param capturedAt when the profiled call completed.
+ * @param queryStats Spanner's query statistics, e.g. rows_scanned, elapsed_time and cpu_time.
+ * @param plan       one line per plan node: index, operator, and the rows and latency it reported.
+ */
+public record ProfileSample(Instant capturedAt, Map<String, String> queryStats, List<String> plan) {
+
+    /**
+     * @param stats the statistics returned with the last result of a profiled query.
+     * @return the sample, in a form that serializes as plain JSON.
+     */
+    public static ProfileSample of(ResultSetStats stats) {
+        Map<String, String> queryStats = new LinkedHashMap<>();
+        stats.getQueryStats().getFieldsMap().forEach((name, value) -> queryStats.put(name, render(value)));
+        List<String> plan = new ArrayList<>(stats.getQueryPlan().getPlanNodesCount());
+        for (PlanNode node : stats.getQueryPlan().getPlanNodesList()) {
+            StringBuilder line = new StringBuilder().append(node.getIndex()).append(' ').append(node.getDisplayName());
+            if (!node.getShortRepresentation().getDescription().isEmpty()) {
+                line.append(" [").append(node.getShortRepresentation().getDescription()).append(']');
+            }
+            appendTotal(line, node.getExecutionStats(), "rows");
+            appendTotal(line, node.getExecutionStats(), "latency");
+            plan.add(line.toString());
+        }
+        return new ProfileSample(Instant.now(), queryStats, plan);
+    }
+
+    // Execution stats look like {"rows": {"total": "3", "unit": "rows"}, "latency": {"total": "0.5", "unit": "msecs"}}
+    private static void appendTotal(StringBuilder line, Struct executionStats, String name) {
+        Value stat = executionStats.getFieldsMap().get(name);
+        if (stat == null || !stat.hasStructValue()) {
+            return;
+        }
+        Map<String, Value> fields = stat.getStructValue().getFieldsMap();
+        Value total = fields.get("total");
+        if (total != null) {
+            Value unit = fields.get("unit");
+            line.append(' ').append(name).append('=').append(render(total));
+            if (unit != null) {
+                line.append(' ').append(render(unit));
+            }
+        }
+    }
+
+    private static String render(Value value) {
+        return switch (value.getKindCase()) {
+            case STRING_VALUE -> value.getStringValue();
+            case NUMBER_VALUE -> String.valueOf(value.getNumberValue());
+            case BOOL_VALUE -> String.valueOf(value.getBoolValue());
+            case NULL_VALUE, KIND_NOT_SET -> "";
+            default -> value.toString().trim();
+        };
+    }
+}
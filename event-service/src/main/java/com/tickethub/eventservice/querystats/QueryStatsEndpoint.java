@@ -0,0 +1,34 @@
+package com.tickethub.eventservice.querystats;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/spannerqueries}: per-statement Spanner statistics of this instance, most total time
+ * first; {@code /actuator/spannerqueries/{id}} shows one statement.
+ */
+@Endpoint(id = "spannerqueries")
+public class QueryStatsEndpoint {
+
+    private final QueryStatsRegistry registry;
+
+    public QueryStatsEndpoint(QueryStatsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public List<StatementStats.Report> statements() {
+        return registry.reports();
+    }
+
+    /**
+     * @return the statement's report, or null (404) if it is not tracked.
+     */
+    @ReadOperation
+    public StatementStats.Report statement(@Selector String id) {
+        return registry.report(id);
+    }
+}
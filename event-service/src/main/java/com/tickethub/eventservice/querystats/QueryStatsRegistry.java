@@ -0,0 +1,117 @@
+package com.tickethub.eventservice.querystats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement statistics of the Spanner calls made by this instance, keyed by normalized statement.
+ * <p>
+ * Statements are normalized by collapsing whitespace and replacing literals with {@code ?}; the
+ * repositories bind their values as parameters, so each derived or {@code @Query} method maps to one
+ * entry. Past {@code maxStatements} distinct statements, further ones are counted under a single
+ * "other" entry so ad-hoc SQL cannot grow the registry (or the meter tags) without bound.
+ */
+public class QueryStatsRegistry {
+
+    static final String OTHER_ID = "other";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w@.])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern READ_ONLY_SQL = Pattern.compile("^(?:@\\{[^}]*}\\s*)?(?:SELECT|WITH)\\b");
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final boolean profileEnabled;
+    private final long profileIntervalNanos;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxStatements   distinct statements tracked before the rest are counted as "other".
+     * @param profileEnabled  whether queries are occasionally run in PROFILE mode to capture their plan.
+     * @param profileInterval minimum time between two profiled calls of the same statement.
+     */
+    public QueryStatsRegistry(MeterRegistry meterRegistry, int maxStatements, boolean profileEnabled, Duration profileInterval) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.profileEnabled = profileEnabled;
+        this.profileIntervalNanos = profileInterval.toNanos();
+    }
+
+    /**
+     * @param kind QUERY, DML or READ.
+     * @param statement the SQL text, or a description of a key-based read.
+     * @return the statistics entry for the normalized statement.
+     */
+    public StatementStats statement(String kind, String statement) {
+        String normalized = normalize(statement);
+        String id = id(kind, normalized);
+        StatementStats existing = statements.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        if (statements.size() >= maxStatements) {
+            return statements.computeIfAbsent(OTHER_ID, key -> new StatementStats(OTHER_ID, "OTHER", "(other statements)", meterRegistry));
+        }
+        return statements.computeIfAbsent(id, key -> new StatementStats(id, kind, normalized, meterRegistry));
+    }
+
+    /**
+     * Decides whether this call of a query should run in PROFILE mode. Only read-only queries are
+     * profiled, at most once per interval per statement.
+     */
+    boolean shouldProfile(StatementStats stats) {
+        return profileEnabled
+                && "QUERY".equals(stats.getKind())
+                && stats.tryStartProfile(System.nanoTime(), profileIntervalNanos);
+    }
+
+    /**
+     * @return every tracked statement, most total time first.
+     */
+    public List<StatementStats.Report> reports() {
+        return statements.values().stream()
+                .map(StatementStats::report)
+                .sorted(Comparator.comparingDouble(StatementStats.Report::totalMs).reversed())
+                .toList();
+    }
+
+    /**
+     * @param id the statement identifier shown in the reports and meter tags.
+     * @return that statement's report, or null if it is not tracked.
+     */
+    public StatementStats.Report report(String id) {
+        StatementStats stats = statements.get(id);
+        return stats == null ? null : stats.report();
+    }
+
+    static String kindOf(String sql) {
+        return READ_ONLY_SQL.matcher(normalize(sql).toUpperCase(Locale.ROOT)).find() ? "QUERY" : "DML";
+    }
+
+    static String normalize(String statement) {
+        String normalized = STRING_LITERAL.matcher(statement).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static String id(String kind, String normalized) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest((kind + ':' + normalized).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
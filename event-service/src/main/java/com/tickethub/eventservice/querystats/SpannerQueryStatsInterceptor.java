@@ -0,0 +1,160 @@
+package com.tickethub.eventservice.querystats;
+
+import com.google.spanner.v1.ExecuteSqlRequest;
+import com.google.spanner.v1.PartialResultSet;
+import com.google.spanner.v1.ReadRequest;
+import com.google.spanner.v1.ResultSet;
+import com.google.spanner.v1.ResultSetStats;
+import com.google.spanner.v1.SpannerGrpc;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+/**
+ * Records every SQL and read call on the Spanner channel in the {@link QueryStatsRegistry}: latency
+ * from the start of the call to its close, and the rows returned (counted from the result stream, or
+ * the affected row count for DML). When the registry asks for it, a query is sent in PROFILE mode so
+ * its plan and execution statistics come back with the results; the caller sees the same rows.
+ * <p>
+ * Sitting on the gRPC channel rather than in the repositories means derived queries, {@code @Query}
+ * methods and SpannerTemplate reads are all covered without touching them.
+ */
+public class SpannerQueryStatsInterceptor implements ClientInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SpannerQueryStatsInterceptor.class);
+
+    private static final Set<String> SQL_METHODS = Set.of(
+            SpannerGrpc.getExecuteSqlMethod().getFullMethodName(),
+            SpannerGrpc.getExecuteStreamingSqlMethod().getFullMethodName());
+    private static final Set<String> READ_METHODS = Set.of(
+            SpannerGrpc.getReadMethod().getFullMethodName(),
+            SpannerGrpc.getStreamingReadMethod().getFullMethodName());
+
+    private final QueryStatsRegistry registry;
+
+    public SpannerQueryStatsInterceptor(QueryStatsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        String name = method.getFullMethodName();
+        if (!SQL_METHODS.contains(name) && !READ_METHODS.contains(name)) {
+            return next.newCall(method, callOptions);
+        }
+        return new RecordingCall<>(next.newCall(method, callOptions));
+    }
+
+    private final class RecordingCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+        // Written by the caller thread before the first response can arrive, read by the listener afterwards
+        private volatile StatementStats stats;
+        private volatile boolean profiled;
+        private long startNanos;
+        private int fieldCount;
+        private long values;
+        private long rows;
+        private ResultSetStats resultStats;
+
+        private RecordingCall(ClientCall<ReqT, RespT> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            startNanos = System.nanoTime();
+            super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                @Override
+                public void onMessage(RespT message) {
+                    count(message);
+                    super.onMessage(message);
+                }
+
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                    finish(status);
+                    super.onClose(status, trailers);
+                }
+            }, headers);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sendMessage(ReqT message) {
+            if (message instanceof ExecuteSqlRequest request) {
+                stats = registry.statement(QueryStatsRegistry.kindOf(request.getSql()), request.getSql());
+                if (request.getQueryMode() == ExecuteSqlRequest.QueryMode.NORMAL && registry.shouldProfile(stats)) {
+                    profiled = true;
+                    message = (ReqT) request.toBuilder().setQueryMode(ExecuteSqlRequest.QueryMode.PROFILE).build();
+                }
+            } else if (message instanceof ReadRequest request) {
+                stats = registry.statement("READ", describe(request));
+            }
+            super.sendMessage(message);
+        }
+
+        private void count(Object message) {
+            if (message instanceof PartialResultSet partial) {
+                if (partial.hasMetadata()) {
+                    fieldCount = partial.getMetadata().getRowType().getFieldsCount();
+                }
+                // A chunked last value continues in the next message, so it is only counted once
+                values += partial.getValuesCount() - (partial.getChunkedValue() ? 1 : 0);
+                if (partial.hasStats()) {
+                    resultStats = partial.getStats();
+                }
+            } else if (message instanceof ResultSet resultSet) {
+                rows += resultSet.getRowsCount();
+                if (resultSet.hasStats()) {
+                    resultStats = resultSet.getStats();
+                }
+            }
+        }
+
+        private void finish(Status status) {
+            StatementStats current = stats;
+            if (current == null) {
+                return;
+            }
+            long rowCount = rows + (fieldCount == 0 ? 0 : values / fieldCount);
+            if (rowCount == 0 && resultStats != null && resultStats.hasRowCountExact()) {
+                rowCount = resultStats.getRowCountExact();
+            }
+            current.record(System.nanoTime() - startNanos, rowCount, !status.isOk());
+            if (profiled && resultStats != null && resultStats.hasQueryPlan()) {
+                current.setProfile(ProfileSample.of(resultStats));
+                log.debug("Captured query profile for statement {}", current.getId());
+            }
+        }
+    }
+
+    // Key-based reads have no SQL; describe them by table, index, columns and key shape
+    static String describe(ReadRequest request) {
+        StringBuilder description = new StringBuilder("READ ").append(request.getTable());
+        if (!request.getIndex().isEmpty()) {
+            description.append(" USING INDEX ").append(request.getIndex());
+        }
+        description.append(" (").append(String.join(", ", request.getColumnsList())).append(')');
+        if (request.getKeySet().getAll()) {
+            description.append(" ALL");
+        } else {
+            if (request.getKeySet().getKeysCount() > 0) {
+                description.append(" KEYS");
+            }
+            if (request.getKeySet().getRangesCount() > 0) {
+                description.append(" RANGES");
+            }
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.tickethub.eventservice.querystats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics for one normalized Spanner statement: calls and latency (as a Micrometer timer with a
+ * histogram), rows returned, errors, and the latest profile-mode sample if one was taken.
+ */
+public class StatementStats {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final String id;
+    private final String kind;
+    private final String statement;
+    private final Timer latency;
+    private final DistributionSummary rows;
+    private final Counter errors;
+    private final AtomicLong lastProfileNanos = new AtomicLong(Long.MIN_VALUE);
+    private volatile ProfileSample profile;
+
+    StatementStats(String id, String kind, String statement, MeterRegistry meterRegistry) {
+        this.id = id;
+        this.kind = kind;
+        this.statement = statement;
+        this.latency = Timer.builder("eventservice.spanner.statements")
+                .description("Latency of Spanner statements, by normalized statement (see /actuator/spannerqueries)")
+                .tag("statement", id)
+                .tag("kind", kind)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rows = DistributionSummary.builder("eventservice.spanner.statement.rows")
+                .description("Rows returned per Spanner statement call")
+                .tag("statement", id)
+                .tag("kind", kind)
+                .register(meterRegistry);
+        this.errors = Counter.builder("eventservice.spanner.statement.errors")
+                .tag("statement", id)
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a short stable identifier of the normalized statement, used as the meter tag.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return QUERY, DML or READ.
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the normalized SQL, or a description of a key-based read.
+     */
+    public String getStatement() {
+        return statement;
+    }
+
+    void record(long elapsedNanos, long rowCount, boolean failed) {
+        latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (failed) {
+            errors.increment();
+        } else {
+            rows.record(rowCount);
+        }
+    }
+
+    // At most one profile per interval per statement; the caller that wins the CAS takes it
+    boolean tryStartProfile(long nowNanos, long intervalNanos) {
+        long last = lastProfileNanos.get();
+        return (last == Long.MIN_VALUE || nowNanos - last >= intervalNanos) && lastProfileNanos.compareAndSet(last, nowNanos);
+    }
+
+    void setProfile(ProfileSample profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @return the current figures for this statement.
+     */
+    public Report report() {
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        double p50 = 0;
+        double p95 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            double millis = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.5) {
+                p50 = millis;
+            } else if (percentile.percentile() == 0.95) {
+                p95 = millis;
+            } else if (percentile.percentile() == 0.99) {
+                p99 = millis;
+            }
+        }
+        long calls = snapshot.count();
+        return new Report(id, kind, statement, calls, (long) errors.count(),
+                snapshot.total(TimeUnit.MILLISECONDS), snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS),
+                p50, p95, p99, (long) rows.totalAmount(), profile);
+    }
+
+    /**
+     * Statistics of one statement as exposed by the actuator endpoint. Times are in milliseconds;
+     * percentiles and max cover the recent window kept by Micrometer, counts and totals are cumulative.
+     */
+    public record Report(String id, String kind, String statement, long calls, long errors,
+                         double totalMs, double meanMs, double maxMs, double p50Ms, double p95Ms, double p99Ms,
+                         long rows, ProfileSample profile) {}
+}
@@ -0,0 +1,108 @@
+package com.tickethub.eventservice.repository;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking reads of an event and of its seat categories through the Spanner async API, for
+ * callers that issue both at once and compose the results instead of holding a thread per read.
+ * <p>
+ * Rows are key-based reads of the mapped columns and are converted with the same entity processor
+ * as the repositories, so the entities are identical to what {@link EventRepository#findById} and
+ * {@link SeatCategoryRepository#findByEventId} return. Row conversion and completion callbacks run
+ * on a small private pool rather than on the gRPC threads.
+ */
+@Component
+public class EventAsyncReader implements DisposableBean {
+
+    private final DatabaseClient databaseClient;
+    private final SpannerEntityProcessor entityProcessor;
+    private final String eventsTable;
+    private final List<String> eventColumns;
+    private final String seatCategoriesTable;
+    private final List<String> seatCategoryColumns;
+    private final ExecutorService executor;
+
+    public EventAsyncReader(DatabaseClient databaseClient,
+                            SpannerEntityProcessor entityProcessor,
+                            SpannerMappingContext mappingContext,
+                            @Value("${eventservice.async-reads.threads:4}") int threads) {
+        this.databaseClient = databaseClient;
+        this.entityProcessor = entityProcessor;
+        SpannerPersistentEntity<?> events = mappingContext.getPersistentEntityOrFail(Event.class);
+        this.eventsTable = events.tableName();
+        this.eventColumns = List.copyOf(events.columns());
+        SpannerPersistentEntity<?> seatCategories = mappingContext.getPersistentEntityOrFail(SeatCategory.class);
+        this.seatCategoriesTable = seatCategories.tableName();
+        this.seatCategoryColumns = List.copyOf(seatCategories.columns());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "spanner-async-read-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param id the event ID.
+     * @return the event, or empty if it does not exist.
+     */
+    public CompletableFuture<Optional<Event>> findEventById(String id) {
+        ApiFuture<Struct> row = databaseClient.singleUse().readRowAsync(eventsTable, Key.of(id), eventColumns);
+        return toCompletableFuture(row)
+                .thenApply(struct -> Optional.ofNullable(struct).map(found -> entityProcessor.read(Event.class, found)));
+    }
+
+    /**
+     * @param eventId the event ID.
+     * @return the event's seat categories, in key order.
+     */
+    public CompletableFuture<List<SeatCategory>> findSeatCategoriesByEventId(String eventId) {
+        AsyncResultSet rows = databaseClient.singleUse()
+                .readAsync(seatCategoriesTable, KeySet.prefixRange(Key.of(eventId)), seatCategoryColumns);
+        return toCompletableFuture(rows.toListAsync(
+                reader -> entityProcessor.read(SeatCategory.class, rows.getCurrentRowAsStruct()), executor));
+    }
+
+    private <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+            @Override
+            public void onSuccess(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                result.completeExceptionally(error);
+            }
+        }, executor);
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
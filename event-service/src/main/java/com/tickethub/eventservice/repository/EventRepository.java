@@ -1,11 +1,19 @@
 package com.tickethub.eventservice.repository;
 
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spring.data.spanner.repository.SpannerRepository;
+import com.google.cloud.spring.data.spanner.repository.query.Query;
 import com.tickethub.eventservice.model.Event;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data Spanner repository for the {@link Event} entity.
  */
@@ -26,6 +34,47 @@ public interface EventRepository extends SpannerRepository<Event, String> {
     @Override
     Page<Event> findAll(Pageable pageable);
 
+    /**
+     * Reads all events with the given IDs using a single Spanner KeySet read.
+     * IDs that do not exist are simply absent from the result.
+     *
+     * @param ids the event IDs to read.
+     * @return the events found, in primary key order.
+     */
+    default List<Event> findAllByIds(Collection<String> ids) {
+        KeySet.Builder keys = KeySet.newBuilder();
+        ids.forEach(id -> keys.addKey(Key.of(id)));
+        return getSpannerTemplate().read(Event.class, keys.build());
+    }
+
+    /**
+     * Overwrites an event only if its version still matches, without reading it first.
+     * The single DML statement bumps the version and returns the updated row, so a stale
+     * version simply matches no rows. Rows written before versioning count as version 0.
+     * <p>
+     * Must run inside a read-write transaction (EventService's {@code @Transactional}): the statement
+     * goes through the query path so that its THEN RETURN rows map to {@link Event}, which
+     * {@code dmlStatement = true} would reduce to a row count, and outside a transaction the query
+     * path uses a read-only context that rejects DML. EventRepositoryIntegrationTest covers it on
+     * the emulator.
+     *
+     * @param eventId         the event to update.
+     * @param expectedVersion the version the client last read.
+     * @param imageUrl        the new image URL, or null to keep the stored one.
+     * @return the updated event, or an empty list if the event is missing or at another version.
+     */
+    @Query("UPDATE events SET name = @name, description = @description, start_time = @startTime, venue = @venue, "
+            + "image_url = IFNULL(@imageUrl, image_url), version = IFNULL(version, 0) + 1 "
+            + "WHERE event_id = @eventId AND IFNULL(version, 0) = @expectedVersion "
+            + "THEN RETURN event_id, name, description, start_time, venue, image_url, version")
+    List<Event> updateIfVersionMatches(@Param("eventId") String eventId,
+                                       @Param("expectedVersion") long expectedVersion,
+                                       @Param("name") String name,
+                                       @Param("description") String description,
+                                       @Param("startTime") LocalDateTime startTime,
+                                       @Param("venue") String venue,
+                                       @Param("imageUrl") String imageUrl);
+
     // Custom queries can be added here if needed using @Query annotation with Spanner SQL.
     // For example:
     // @Query("SELECT * FROM events WHERE venue = @venueName")
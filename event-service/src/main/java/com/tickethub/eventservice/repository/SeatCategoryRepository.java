@@ -1,10 +1,22 @@
 package com.tickethub.eventservice.repository;
 
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeyRange;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey; // Required for composite key operations
 import com.google.cloud.spring.data.spanner.repository.SpannerRepository;
+import com.tickethub.eventservice.dto.SeatSummary;
 import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.model.SeatRowRecord;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Spring Data Spanner repository for the {@link SeatCategory} entity.
@@ -22,12 +34,85 @@ public interface SeatCategoryRepository extends SpannerRepository<SeatCategory,
      */
     List<SeatCategory> findByEventId(String eventId);
 
+    /**
+     * Reads the seat categories of several events using a single Spanner KeySet read.
+     * Each event contributes a prefix range over its interleaved seat_categories rows,
+     * so the read touches only the rows stored alongside the requested events.
+     *
+     * @param eventIds the IDs of the parent events.
+     * @return the seat categories of all given events, in primary key order.
+     */
+    default List<SeatCategory> findByEventIds(Collection<String> eventIds) {
+        KeySet.Builder keys = KeySet.newBuilder();
+        eventIds.forEach(eventId -> keys.addRange(KeyRange.prefix(Key.of(eventId))));
+        return getSpannerTemplate().read(SeatCategory.class, keys.build());
+    }
+
+    /**
+     * Aggregates the seat categories of several events in one query: minimum price, total availability
+     * and category count per event. Spanner aggregates the interleaved rows next to each event, so only
+     * one row per event comes back instead of every category.
+     *
+     * @param eventIds the IDs of the parent events.
+     * @return the seat summary of each given event that has seat categories.
+     */
+    default Map<String, SeatSummary> summarizeByEventIds(Collection<String> eventIds) {
+        Statement statement = Statement.newBuilder(
+                        "SELECT event_id, MIN(price) AS min_price, SUM(available_count) AS total_available, COUNT(*) AS categories "
+                                + "FROM seat_categories WHERE event_id IN UNNEST(@eventIds) GROUP BY event_id")
+                .bind("eventIds").toStringArray(eventIds)
+                .build();
+        return getSpannerTemplate().query((Struct row) -> Map.entry(row.getString("event_id"), toSeatSummary(row)), statement, null)
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static SeatSummary toSeatSummary(Struct row) {
+        long totalAvailable = row.isNull("total_available") ? 0 : row.getLong("total_available");
+        return new SeatSummary(row.isNull("min_price") ? null : row.getBigDecimal("min_price"),
+                totalAvailable, row.getLong("categories") > 0 && totalAvailable <= 0);
+    }
+
+    /**
+     * Deletes all seat categories of an event without reading them first: the delete mutation
+     * covers the event's prefix range over its interleaved seat_categories rows.
+     *
+     * @param eventId the ID of the parent event.
+     */
+    default void deleteByEventId(String eventId) {
+        getSpannerTemplate().delete(SeatCategory.class, KeySet.newBuilder().addRange(KeyRange.prefix(Key.of(eventId))).build());
+    }
+
+    /**
+     * Finds the event's seat categories that have a seat map, i.e. rows in the seat_rows table
+     * interleaved in the event.
+     *
+     * @param eventId the ID of the parent event.
+     * @return the IDs of the categories with a seat map.
+     */
+    default Set<String> findSeatMapCategoryIds(String eventId) {
+        Statement statement = Statement.newBuilder("SELECT DISTINCT category_id FROM seat_rows WHERE event_id = @eventId")
+                .bind("eventId").to(eventId)
+                .build();
+        return new HashSet<>(getSpannerTemplate().query((Struct row) -> row.getString("category_id"), statement, null));
+    }
+
+    /**
+     * Deletes the seat maps of some of an event's seat categories without reading them first: one
+     * delete mutation covers each category's prefix range over the seat_rows table.
+     *
+     * @param eventId     the ID of the parent event.
+     * @param categoryIds the categories whose seat maps to delete.
+     */
+    default void deleteSeatMaps(String eventId, Collection<String> categoryIds) {
+        KeySet.Builder keys = KeySet.newBuilder();
+        categoryIds.forEach(categoryId -> keys.addRange(KeyRange.prefix(Key.of(eventId, categoryId))));
+        getSpannerTemplate().delete(SeatRowRecord.class, keys.build());
+    }
+
     // SpannerRepository requires a PrimaryKey class or individual key parts for composite keys.
     // We are using `com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey` as the ID type.
     // If you needed to find a specific seat category by its composite key, you could do:
     // Optional<SeatCategory> findById(PrimaryKey primaryKey);
     // where PrimaryKey would be constructed with the eventId and categoryId.
-
-    // Example of deleting all seat categories for a given eventId (if needed, though service handles this)
-    // void deleteByEventId(String eventId); // This would require a custom @Query or careful implementation
 }
@@ -0,0 +1,170 @@
+package com.tickethub.eventservice.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency-driven concurrency limit on top of a Resilience4j {@link Bulkhead}.
+ * <p>
+ * The limit follows a gradient algorithm: a short-term latency average is compared with a
+ * long-term baseline. While short-term latency stays within {@code tolerance} of the baseline
+ * the limit grows by roughly sqrt(limit) per sample; when Spanner slows down the ratio drops
+ * and the limit shrinks multiplicatively (by at most half per step), so excess requests are
+ * rejected early instead of queueing in Tomcat.
+ * <p>
+ * Samples only update the estimate. {@link #applyLimit()} pushes it into the bulkhead and is
+ * meant to run periodically on a background thread, because shrinking a semaphore bulkhead
+ * waits for in-flight calls to release their permits.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);  // EWMA over ~10 samples
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);  // EWMA over ~600 samples
+
+    private final String name;
+    private final Bulkhead bulkhead;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    // Estimator state, guarded by this
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long sampleCount;
+
+    private volatile int appliedLimit;
+
+    /**
+     * @param name          limiter name, used as the metric tag.
+     * @param bulkhead      semaphore bulkhead whose {@code maxConcurrentCalls} is the initial limit.
+     * @param minLimit      the limit never drops below this.
+     * @param maxLimit      the limit never grows above this.
+     * @param smoothing     weight (0..1] of a new estimate against the current limit.
+     * @param tolerance     how much slower than the baseline short-term latency may be before shrinking.
+     * @param meterRegistry registry for the limit, in-flight and rejection meters.
+     */
+    public AdaptiveConcurrencyLimiter(String name, Bulkhead bulkhead, int minLimit, int maxLimit,
+                                      double smoothing, double tolerance, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.bulkhead = bulkhead;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.appliedLimit = bulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+        this.estimatedLimit = appliedLimit;
+
+        Gauge.builder("eventservice.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("eventservice.concurrency.inflight", inFlight, AtomicInteger::get)
+                .description("Requests currently holding a concurrency permit")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("eventservice.concurrency.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tries to take a permit without waiting.
+     *
+     * @return true if the call may proceed; the caller must then call {@link #release(long)}.
+     */
+    public boolean tryAcquire() {
+        if (bulkhead.tryAcquirePermission()) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * Returns a permit taken with {@link #tryAcquire()} and feeds the observed latency into the estimator.
+     *
+     * @param latencyNanos how long the call held the permit.
+     */
+    public void release(long latencyNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        bulkhead.onComplete();
+        onSample(latencyNanos, inFlightAtCompletion);
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (sampleCount++ == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_ALPHA;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_ALPHA;
+
+        // After a sustained slowdown the baseline has drifted up; let it recover quickly once latency improves
+        if (longRttNanos / shortRttNanos > 2.0) {
+            longRttNanos *= 0.95;
+        }
+
+        // With most permits unused the latency says nothing about the limit, so leave it alone
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    /**
+     * Pushes the current estimate into the bulkhead if it changed. May block while the limit
+     * shrinks and permits are still held, so call it from a background thread.
+     */
+    public void applyLimit() {
+        int target;
+        synchronized (this) {
+            target = (int) estimatedLimit;
+        }
+        if (target == appliedLimit) {
+            return;
+        }
+        BulkheadConfig current = bulkhead.getBulkheadConfig();
+        bulkhead.changeConfig(BulkheadConfig.from(current).maxConcurrentCalls(target).build());
+        log.debug("Concurrency limit for {} changed from {} to {}", name, appliedLimit, target);
+        appliedLimit = target;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return appliedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized double getEstimatedLimit() {
+        return estimatedLimit;
+    }
+}
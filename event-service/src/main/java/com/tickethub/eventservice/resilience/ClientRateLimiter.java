@@ -0,0 +1,123 @@
+package com.tickethub.eventservice.resilience;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets: each client may burst up to {@code capacity} requests, refilled at
+ * {@code refillPerSecond}.
+ * <p>
+ * A bucket is a single {@link AtomicLong} holding the time at which it will be full again (the
+ * "theoretical arrival time" of the generic cell rate algorithm), so taking a token is one CAS and
+ * no lock is held. A bucket whose full-again time has passed is indistinguishable from a new one;
+ * such idle buckets are swept out periodically. If the number of tracked clients still reaches
+ * {@code maxClients}, further new clients share one overflow bucket until the next sweep, so memory
+ * stays bounded however many addresses a scraper rotates through.
+ */
+public class ClientRateLimiter {
+
+    static final String OVERFLOW_KEY = "*";
+
+    private final int capacity;
+    private final long nanosPerToken;
+    private final int maxClients;
+    private final long sweepIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    /**
+     * The outcome of taking a token.
+     *
+     * @param allowed           whether the request may proceed.
+     * @param limit             the bucket capacity.
+     * @param remaining         tokens left after this request.
+     * @param resetNanos        time until the bucket is full again.
+     * @param retryAfterNanos   time until the next token, if the request was rejected; otherwise 0.
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {}
+
+    /**
+     * @param capacity         the burst size: tokens in a full bucket.
+     * @param refillPerSecond  tokens added per second.
+     * @param maxClients       clients tracked at most before new ones share the overflow bucket.
+     * @param sweepIntervalMs  how often idle buckets are removed.
+     */
+    public ClientRateLimiter(int capacity, double refillPerSecond, int maxClients, long sweepIntervalMs) {
+        this(capacity, refillPerSecond, maxClients, sweepIntervalMs, System::nanoTime);
+    }
+
+    ClientRateLimiter(int capacity, double refillPerSecond, int maxClients, long sweepIntervalMs, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxClients < 1) {
+            throw new IllegalArgumentException("Rate limit capacity, refill rate and client count must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.maxClients = maxClients;
+        this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMs);
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes one token from the client's bucket.
+     *
+     * @param clientKey identifies the client, e.g. its address or API key.
+     * @return whether the request is allowed, with the values for the RateLimit headers.
+     */
+    public Decision tryAcquire(String clientKey) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        AtomicLong bucket = bucketFor(clientKey, now);
+        long burst = capacity * nanosPerToken;
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + nanosPerToken;
+            long debt = next - now; // time until the bucket is full again if this token is taken
+            if (debt > burst) {
+                long retryAfter = debt - burst;
+                return new Decision(false, capacity, 0, fullAt - now, retryAfter);
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return new Decision(true, capacity, (int) ((burst - debt) / nanosPerToken), debt, 0);
+            }
+        }
+    }
+
+    /**
+     * @return the number of clients currently tracked.
+     */
+    public int trackedClients() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String clientKey, long now) {
+        AtomicLong bucket = buckets.get(clientKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            return buckets.computeIfAbsent(OVERFLOW_KEY, key -> new AtomicLong(now));
+        }
+        return buckets.computeIfAbsent(clientKey, key -> new AtomicLong(now));
+    }
+
+    // Only the caller that wins the CAS on lastSweep walks the map; everyone else carries on
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last < sweepIntervalNanos || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        Iterator<AtomicLong> iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            // A token taken concurrently from a bucket being removed is forgiven; the client simply gets a fresh bucket
+            if (iterator.next().get() - now <= 0) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.tickethub.eventservice.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically applies the estimated limits of a set of {@link AdaptiveConcurrencyLimiter}s.
+ * Uses its own thread because shrinking a bulkhead blocks until enough permits have been returned.
+ */
+public class ConcurrencyLimitUpdater implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitUpdater.class);
+
+    private final ScheduledExecutorService executor;
+
+    public ConcurrencyLimitUpdater(List<AdaptiveConcurrencyLimiter> limiters, long updateIntervalMs) {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-limit-updater");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            for (AdaptiveConcurrencyLimiter limiter : limiters) {
+                try {
+                    limiter.applyLimit();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to apply concurrency limit for {}: {}", limiter.getName(), e.getMessage(), e);
+                }
+            }
+        }, updateIntervalMs, updateIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
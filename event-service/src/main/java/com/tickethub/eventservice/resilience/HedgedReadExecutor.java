@@ -0,0 +1,340 @@
+package com.tickethub.eventservice.resilience;
+
+import io.grpc.Context;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hedged reads: if a read has not returned within the recent latency percentile for its operation,
+ * an identical second read is issued and whichever succeeds first is used.
+ * <p>
+ * The extra load is capped by a token budget: every read earns {@code budgetRatio} tokens and every
+ * hedge spends one, so hedges never exceed that fraction of reads (plus a small burst allowance).
+ * Hedging is only suitable for idempotent reads and is disabled by default.
+ * <p>
+ * Asynchronous reads are hedged the same way by {@link #executeAsync}, without a thread waiting
+ * for the delay.
+ * <p>
+ * Hedged attempts, including the first, run on pool threads and so outside any transaction bound
+ * to the caller's thread. A read called inside an active transaction is therefore never hedged: it
+ * runs inline on the caller's thread, in that transaction. Callers that want hedging issue
+ * single-use reads without a surrounding transaction.
+ */
+@Component
+public class HedgedReadExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgedReadExecutor.class);
+
+    private static final int LATENCY_WINDOW = 1024;
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final long MILLI_TOKENS_PER_HEDGE = 1000;
+    private static final long MAX_MILLI_TOKENS = 10 * MILLI_TOKENS_PER_HEDGE;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long milliTokensPerRead;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService timer; // fires the hedges of asynchronous reads
+    private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong budgetMilliTokens = new AtomicLong(MAX_MILLI_TOKENS);
+
+    public HedgedReadExecutor(@Value("${eventservice.hedging.enabled:false}") boolean enabled,
+                              @Value("${eventservice.hedging.percentile:0.95}") double percentile,
+                              @Value("${eventservice.hedging.initial-delay-ms:50}") long initialDelayMs,
+                              @Value("${eventservice.hedging.min-delay-ms:5}") long minDelayMs,
+                              @Value("${eventservice.hedging.max-delay-ms:500}") long maxDelayMs,
+                              @Value("${eventservice.hedging.budget-ratio:0.05}") double budgetRatio,
+                              @Value("${eventservice.hedging.max-threads:64}") int maxThreads,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMs);
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.milliTokensPerRead = Math.round(budgetRatio * MILLI_TOKENS_PER_HEDGE);
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(0, Math.max(2, maxThreads), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "hedged-read-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hedged-read-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the read, hedging it with a second identical read if the first is slower than the current hedge delay.
+     * Inside an active transaction the read runs inline and is not hedged.
+     *
+     * @param operation operation name; latency percentiles and metrics are tracked per operation.
+     * @param read      an idempotent read.
+     * @return the result of whichever attempt succeeded first.
+     */
+    public <T> T execute(String operation, Supplier<T> read) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return read.get();
+        }
+        LatencyWindow window = windows.computeIfAbsent(operation, this::newWindow);
+        earnBudget();
+
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(timed(window, read), executor);
+        } catch (RejectedExecutionException e) {
+            // Pool saturated: no hedging for this call, run it inline
+            return timed(window, read).get();
+        }
+
+        try {
+            return primary.get(window.delayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return hedge(operation, window, read, primary);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+        }
+    }
+
+    private <T> T hedge(String operation, LatencyWindow window, Supplier<T> read, CompletableFuture<T> primary) {
+        if (!spendBudget()) {
+            counter("eventservice.hedge.budget_exhausted", operation).increment();
+            return join(primary);
+        }
+        CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(timed(window, read), executor);
+        } catch (RejectedExecutionException e) {
+            refundBudget();
+            return join(primary);
+        }
+        counter("eventservice.hedge.fired", operation).increment();
+        log.debug("Hedging {} after {} ms", operation, TimeUnit.NANOSECONDS.toMillis(window.delayNanos()));
+
+        CompletableFuture<Attempt<T>> firstSuccess = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((value, error) -> settle(firstSuccess, failures, new Attempt<>(value, false), error));
+        hedge.whenComplete((value, error) -> settle(firstSuccess, failures, new Attempt<>(value, true), error));
+
+        Attempt<T> winner = join(firstSuccess);
+        if (winner.hedge()) {
+            counter("eventservice.hedge.won", operation).increment();
+        }
+        return winner.value();
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute}: starts the read and, if it has not completed within the
+     * hedge delay, starts an identical second read. No thread waits in between; the hedge is started
+     * from a timer, inside the caller's gRPC context so it carries the same deadline.
+     *
+     * @param operation operation name; latency percentiles and metrics are tracked per operation.
+     * @param read      starts an idempotent, non-blocking read.
+     * @return a future of whichever attempt succeeded first; it fails only if every attempt failed.
+     */
+    public <T> CompletableFuture<T> executeAsync(String operation, Supplier<CompletableFuture<T>> read) {
+        if (!enabled) {
+            return read.get();
+        }
+        LatencyWindow window = windows.computeIfAbsent(operation, this::newWindow);
+        earnBudget();
+
+        CompletableFuture<Attempt<T>> firstSuccess = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger(1);
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<T> primary = timedAsync(window, read);
+        primary.whenComplete((value, error) -> settleAsync(firstSuccess, started, failures, new Attempt<>(value, false), error));
+
+        ScheduledFuture<?> hedgeTimer = timer.schedule(Context.current().wrap(() -> {
+            if (firstSuccess.isDone() || !spendBudget()) {
+                if (!firstSuccess.isDone()) {
+                    counter("eventservice.hedge.budget_exhausted", operation).increment();
+                }
+                return;
+            }
+            started.incrementAndGet();
+            counter("eventservice.hedge.fired", operation).increment();
+            log.debug("Hedging {} after {} ms", operation, TimeUnit.NANOSECONDS.toMillis(window.delayNanos()));
+            timedAsync(window, read).whenComplete((value, error) -> settleAsync(firstSuccess, started, failures, new Attempt<>(value, true), error));
+        }), window.delayNanos(), TimeUnit.NANOSECONDS);
+
+        firstSuccess.whenComplete((winner, error) -> hedgeTimer.cancel(false));
+        return firstSuccess.thenApply(winner -> {
+            if (winner.hedge()) {
+                counter("eventservice.hedge.won", operation).increment();
+            }
+            return winner.value();
+        });
+    }
+
+    private record Attempt<T>(T value, boolean hedge) {}
+
+    // Fails the result once every attempt started so far has failed
+    private static <T> void settleAsync(CompletableFuture<Attempt<T>> firstSuccess, AtomicInteger started, AtomicInteger failures,
+                                        Attempt<T> attempt, Throwable error) {
+        if (error == null) {
+            firstSuccess.complete(attempt);
+        } else if (failures.incrementAndGet() >= started.get()) {
+            firstSuccess.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+        }
+    }
+
+    private <T> CompletableFuture<T> timedAsync(LatencyWindow window, Supplier<CompletableFuture<T>> read) {
+        long start = System.nanoTime();
+        CompletableFuture<T> attempt;
+        try {
+            attempt = read.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                window.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static <T> void settle(CompletableFuture<Attempt<T>> firstSuccess, AtomicInteger failures,
+                                   Attempt<T> attempt, Throwable error) {
+        if (error == null) {
+            firstSuccess.complete(attempt);
+        } else if (failures.incrementAndGet() == 2) {
+            // Both attempts failed: report the last failure
+            firstSuccess.completeExceptionally(error);
+        }
+    }
+
+    private <T> Supplier<T> timed(LatencyWindow window, Supplier<T> read) {
+        return () -> {
+            long start = System.nanoTime();
+            T value = read.get();
+            window.record(System.nanoTime() - start);
+            return value;
+        };
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    // Rethrow the read's own exception so Retry/CircuitBreaker classify it as if there were no hedging
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void earnBudget() {
+        budgetMilliTokens.accumulateAndGet(milliTokensPerRead, (current, earned) -> Math.min(MAX_MILLI_TOKENS, current + earned));
+    }
+
+    private boolean spendBudget() {
+        while (true) {
+            long current = budgetMilliTokens.get();
+            if (current < MILLI_TOKENS_PER_HEDGE) {
+                return false;
+            }
+            if (budgetMilliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_HEDGE)) {
+                return true;
+            }
+        }
+    }
+
+    private void refundBudget() {
+        budgetMilliTokens.accumulateAndGet(MILLI_TOKENS_PER_HEDGE, (current, refund) -> Math.min(MAX_MILLI_TOKENS, current + refund));
+    }
+
+    private LatencyWindow newWindow(String operation) {
+        LatencyWindow window = new LatencyWindow();
+        Gauge.builder("eventservice.hedge.delay", window, w -> TimeUnit.NANOSECONDS.toMillis(w.delayNanos()))
+                .description("Current hedge delay derived from the latency percentile")
+                .baseUnit("milliseconds")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return window;
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    /**
+     * Ring buffer of recent latencies for one operation; the hedge delay is the configured
+     * percentile of the window, recomputed every {@value #RECOMPUTE_EVERY} samples.
+     */
+    private final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private int count;
+        private int next;
+        private volatile long delayNanos = initialDelayNanos;
+
+        synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (count >= RECOMPUTE_EVERY && next % RECOMPUTE_EVERY == 0) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                long value = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+                delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, value));
+            }
+        }
+
+        long delayNanos() {
+            return delayNanos;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.tickethub.eventservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Splits the request threads between traffic classes, each with its own worker budget and bounded
+ * wait queue, so a flood in one class cannot take the threads another class needs.
+ * <p>
+ * A request runs at once while its class has a free worker slot and nobody is waiting. Otherwise it
+ * waits in its class queue until a slot is handed over, its wait limit passes, or it is shed. Queues
+ * are served FIFO while they drain quickly; once the oldest waiter has waited longer than
+ * {@code lifoThreshold} the class is considered overloaded and the newest waiter is served first,
+ * since the oldest ones are likely to miss their client's timeout anyway. A full queue sheds its
+ * oldest waiter to make room for the new arrival for the same reason.
+ */
+public class PriorityRequestScheduler {
+
+    /**
+     * Traffic classes, each scheduled independently.
+     */
+    public enum TrafficClass {
+        ADMIN, CHECKOUT, BROWSE
+    }
+
+    /**
+     * @param workers       requests of the class that may run at the same time.
+     * @param queueCapacity requests of the class that may wait for a slot.
+     * @param maxWait       longest a request of the class waits for a slot.
+     */
+    public record LaneSettings(int workers, int queueCapacity, Duration maxWait) {}
+
+    private enum WaiterState {
+        WAITING, GRANTED, SHED
+    }
+
+    private static final class Waiter {
+        private final long enqueuedNanos;
+        private final Condition ready;
+        private WaiterState state = WaiterState.WAITING;
+
+        private Waiter(long enqueuedNanos, Condition ready) {
+            this.enqueuedNanos = enqueuedNanos;
+            this.ready = ready;
+        }
+    }
+
+    private final class Lane {
+        private final LaneSettings settings;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<Waiter> queue = new ArrayDeque<>();
+        private final Map<String, Counter> outcomes = new HashMap<>();
+        // Guarded by lock
+        private int active;
+
+        private Lane(TrafficClass trafficClass, LaneSettings settings) {
+            this.settings = settings;
+            String tag = trafficClass.name().toLowerCase(Locale.ROOT);
+            for (String outcome : new String[]{"admitted", "dequeued", "rejected", "timeout", "shed"}) {
+                outcomes.put(outcome, Counter.builder("eventservice.lanes.requests")
+                        .description("Requests by traffic class and scheduling outcome")
+                        .tag("lane", tag)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+            Gauge.builder("eventservice.lanes.active", this, Lane::active)
+                    .description("Requests holding a worker slot of the traffic class")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("eventservice.lanes.queued", this, Lane::queued)
+                    .description("Requests waiting for a worker slot of the traffic class")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+
+        private int active() {
+            lock.lock();
+            try {
+                return active;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int queued() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Called with lock held: the waiter to hand a released slot to, or null if none is waiting
+        private Waiter nextWaiter() {
+            Waiter oldest = queue.peekFirst();
+            if (oldest == null) {
+                return null;
+            }
+            boolean overloaded = nanoClock.getAsLong() - oldest.enqueuedNanos >= lifoThresholdNanos;
+            return overloaded ? queue.pollLast() : queue.pollFirst();
+        }
+
+        // Called with lock held
+        private void releaseSlot() {
+            Waiter next = nextWaiter();
+            if (next == null) {
+                active--;
+                return;
+            }
+            next.state = WaiterState.GRANTED;
+            next.ready.signal();
+        }
+    }
+
+    private final Map<TrafficClass, Lane> lanes = new EnumMap<>(TrafficClass.class);
+    private final long lifoThresholdNanos;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param settings      worker budget and queue of each traffic class; every class must be present.
+     * @param lifoThreshold once the oldest waiter of a class has waited this long, its queue is served LIFO.
+     * @param meterRegistry registry for the per-class meters.
+     */
+    public PriorityRequestScheduler(Map<TrafficClass, LaneSettings> settings, Duration lifoThreshold, MeterRegistry meterRegistry) {
+        this(settings, lifoThreshold, meterRegistry, System::nanoTime);
+    }
+
+    PriorityRequestScheduler(Map<TrafficClass, LaneSettings> settings, Duration lifoThreshold, MeterRegistry meterRegistry,
+                             LongSupplier nanoClock) {
+        this.lifoThresholdNanos = lifoThreshold.toNanos();
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            LaneSettings laneSettings = settings.get(trafficClass);
+            if (laneSettings == null) {
+                throw new IllegalArgumentException("No lane settings for traffic class " + trafficClass);
+            }
+            lanes.put(trafficClass, new Lane(trafficClass, laneSettings));
+        }
+    }
+
+    /**
+     * Takes a worker slot of the class, waiting for one if needed. A caller that gets {@code true}
+     * must call {@link #release(TrafficClass)} once the request is done.
+     *
+     * @param trafficClass class of the request.
+     * @param maxWait      longest the caller may wait; the class's own limit applies if it is shorter.
+     * @return true if a slot was taken, false if the request was rejected, timed out or shed.
+     */
+    public boolean acquire(TrafficClass trafficClass, Duration maxWait) {
+        Lane lane = lanes.get(trafficClass);
+        long remainingNanos = Math.min(maxWait.toNanos(), lane.settings.maxWait().toNanos());
+        lane.lock.lock();
+        try {
+            if (lane.active < lane.settings.workers() && lane.queue.isEmpty()) {
+                lane.active++;
+                lane.outcomes.get("admitted").increment();
+                return true;
+            }
+            if (remainingNanos <= 0 || lane.settings.queueCapacity() <= 0) {
+                lane.outcomes.get("rejected").increment();
+                return false;
+            }
+            if (lane.queue.size() >= lane.settings.queueCapacity()) {
+                Waiter stale = lane.queue.pollFirst();
+                stale.state = WaiterState.SHED;
+                stale.ready.signal();
+            }
+            Waiter waiter = new Waiter(nanoClock.getAsLong(), lane.lock.newCondition());
+            lane.queue.addLast(waiter);
+            try {
+                while (waiter.state == WaiterState.WAITING && remainingNanos > 0) {
+                    remainingNanos = waiter.ready.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.state == WaiterState.GRANTED) {
+                    lane.releaseSlot();
+                }
+                lane.queue.remove(waiter);
+                lane.outcomes.get("timeout").increment();
+                return false;
+            }
+            switch (waiter.state) {
+                case GRANTED -> {
+                    lane.outcomes.get("dequeued").increment();
+                    return true;
+                }
+                case SHED -> {
+                    lane.outcomes.get("shed").increment();
+                    return false;
+                }
+                default -> {
+                    lane.queue.remove(waiter);
+                    lane.outcomes.get("timeout").increment();
+                    return false;
+                }
+            }
+        } finally {
+            lane.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a worker slot taken by {@link #acquire(TrafficClass, Duration)}, handing it to a waiter of the same class if any.
+     */
+    public void release(TrafficClass trafficClass) {
+        Lane lane = lanes.get(trafficClass);
+        lane.lock.lock();
+        try {
+            lane.releaseSlot();
+        } finally {
+            lane.lock.unlock();
+        }
+    }
+
+    /**
+     * @return requests of the class currently holding a worker slot.
+     */
+    public int active(TrafficClass trafficClass) {
+        return lanes.get(trafficClass).active();
+    }
+
+    /**
+     * @return requests of the class currently waiting for a worker slot.
+     */
+    public int queued(TrafficClass trafficClass) {
+        return lanes.get(trafficClass).queued();
+    }
+}
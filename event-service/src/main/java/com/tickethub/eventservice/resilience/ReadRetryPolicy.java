@@ -0,0 +1,170 @@
+package com.tickethub.eventservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retry decisions for the {@code eventServiceRead} Resilience4j instance.
+ * <p>
+ * A failed read is retried only if the exception is retryable, the request deadline leaves room
+ * for another attempt, and the service-wide {@link RetryBudget} has a retry to spare. Waits between
+ * attempts use exponential backoff with full jitter, clamped so the wait never eats the time the
+ * next attempt needs.
+ * <p>
+ * Blocking reads use the policy through Resilience4j on the request thread, where the deadline is
+ * read from {@link RequestDeadline}. Asynchronous reads use {@link #executeAsync(Long, Supplier)},
+ * whose retry decisions run on whichever thread completes the failed attempt, so the deadline is
+ * captured once by the caller and passed in explicitly.
+ */
+public class ReadRetryPolicy {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadRetryPolicy.class);
+
+    private final List<Class<?>> retryExceptions;
+    private final int maxAttempts;
+    private final RetryBudget retryBudget;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long minAttemptMillis;
+    private final Counter deadlineSuppressed;
+    private final Counter budgetSuppressed;
+
+    /**
+     * @param retryExceptions   exception types (and subtypes) worth retrying.
+     * @param maxAttempts       attempts per asynchronous read, including the first.
+     * @param retryBudget       service-wide retry budget.
+     * @param baseBackoffMillis upper bound of the first wait; doubles per attempt.
+     * @param maxBackoffMillis  upper bound of any wait.
+     * @param minAttemptMillis  remaining deadline below which another attempt is pointless.
+     * @param meterRegistry     registry for the suppressed-retry counters.
+     */
+    public ReadRetryPolicy(List<Class<?>> retryExceptions, int maxAttempts, RetryBudget retryBudget,
+                           long baseBackoffMillis, long maxBackoffMillis, long minAttemptMillis,
+                           MeterRegistry meterRegistry) {
+        this.retryExceptions = List.copyOf(retryExceptions);
+        this.maxAttempts = maxAttempts;
+        this.retryBudget = retryBudget;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.minAttemptMillis = minAttemptMillis;
+        this.deadlineSuppressed = suppressedCounter(meterRegistry, "deadline");
+        this.budgetSuppressed = suppressedCounter(meterRegistry, "budget");
+    }
+
+    /**
+     * Used as the Resilience4j {@code retryOnException} predicate of blocking reads, which evaluate it
+     * on the request thread.
+     *
+     * @param failure the exception thrown by the last attempt.
+     * @return true if another attempt should be made.
+     */
+    public boolean shouldRetry(Throwable failure) {
+        return shouldRetry(failure, RequestDeadline.capture());
+    }
+
+    /**
+     * @param failure  the exception thrown by the last attempt.
+     * @param deadline the request deadline from {@link RequestDeadline#capture()}, or null.
+     * @return true if another attempt should be made.
+     */
+    public boolean shouldRetry(Throwable failure, Long deadline) {
+        if (retryExceptions.stream().noneMatch(type -> type.isInstance(failure))) {
+            return false;
+        }
+        Optional<Duration> remaining = RequestDeadline.remaining(deadline);
+        if (remaining.isPresent() && remaining.get().toMillis() < minAttemptMillis) {
+            log.debug("Not retrying {}: only {} ms left until the request deadline", failure.getClass().getSimpleName(), remaining.get().toMillis());
+            deadlineSuppressed.increment();
+            return false;
+        }
+        if (!retryBudget.tryAcquireRetry()) {
+            log.debug("Not retrying {}: retry budget exhausted", failure.getClass().getSimpleName());
+            budgetSuppressed.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Used as the Resilience4j interval function of blocking reads.
+     *
+     * @param attempt number of attempts made so far (1 after the first failure).
+     * @return milliseconds to wait before the next attempt.
+     */
+    public long backoffMillis(int attempt) {
+        return backoffMillis(attempt, RequestDeadline.capture());
+    }
+
+    /**
+     * @param attempt  number of attempts made so far (1 after the first failure).
+     * @param deadline the request deadline from {@link RequestDeadline#capture()}, or null.
+     * @return milliseconds to wait before the next attempt.
+     */
+    public long backoffMillis(int attempt, Long deadline) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        long wait = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        Optional<Duration> remaining = RequestDeadline.remaining(deadline);
+        if (remaining.isPresent()) {
+            wait = Math.min(wait, Math.max(0, remaining.get().toMillis() - minAttemptMillis));
+        }
+        return wait;
+    }
+
+    /**
+     * Runs an asynchronous read, retrying failed attempts under this policy. Each attempt is started
+     * again by the supplier, after the backoff, on a shared delay thread.
+     *
+     * @param deadline the request deadline from {@link RequestDeadline#capture()}, or null; used for
+     *                 every retry decision and wait, and should be bound to each attempt by the caller.
+     * @param attempt  starts one attempt of the read.
+     * @return the result of the first successful attempt, or the failure of the last one.
+     */
+    public <T> CompletableFuture<T> executeAsync(Long deadline, Supplier<CompletableFuture<T>> attempt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        runAttempt(1, deadline, attempt, result);
+        return result;
+    }
+
+    private <T> void runAttempt(int attemptNumber, Long deadline, Supplier<CompletableFuture<T>> attempt,
+                                CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = attempt.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable failure = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (attemptNumber >= maxAttempts || !shouldRetry(failure, deadline)) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            long wait = backoffMillis(attemptNumber, deadline);
+            log.debug("Retrying {} in {} ms (attempt {})", failure.getClass().getSimpleName(), wait, attemptNumber + 1);
+            CompletableFuture.delayedExecutor(wait, TimeUnit.MILLISECONDS)
+                    .execute(() -> runAttempt(attemptNumber + 1, deadline, attempt, result));
+        });
+    }
+
+    private static Counter suppressedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("eventservice.retry.suppressed")
+                .description("Read retries skipped because of the request deadline or the retry budget")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
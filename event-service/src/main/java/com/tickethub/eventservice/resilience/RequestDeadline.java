@@ -0,0 +1,172 @@
+package com.tickethub.eventservice.resilience;
+
+import com.tickethub.eventservice.exception.DeadlineExceededException;
+import io.grpc.Context;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Deadline of the request being handled on the current thread, set by {@code DeadlineFilter}.
+ * <p>
+ * Spanner calls wrapped with {@link #bind(Supplier)} run inside a gRPC {@link Context} carrying
+ * the remaining time, so the Spanner client cancels the RPC when the deadline passes. Outside of a
+ * request (warm-up, background jobs) there is no deadline and calls run unchanged.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    // Cancels gRPC contexts when their deadline passes; one daemon thread is plenty for timer work
+    private static final ScheduledExecutorService DEADLINE_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "request-deadline-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Starts a deadline for the current thread.
+     *
+     * @param timeout time the request may take from now.
+     */
+    public static void start(Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * Captures the current deadline for work that continues on other threads, such as retries of an
+     * asynchronous read decided on the thread that completed the failed attempt.
+     *
+     * @return the deadline as a {@link System#nanoTime()} value, or null if there is none.
+     */
+    public static Long capture() {
+        return DEADLINE_NANOS.get();
+    }
+
+    /**
+     * @return time left until the current deadline (negative once it has passed), or empty if there is none.
+     */
+    public static Optional<Duration> remaining() {
+        return remaining(DEADLINE_NANOS.get());
+    }
+
+    /**
+     * @param deadline a deadline from {@link #capture()}, or null.
+     * @return time left until that deadline (negative once it has passed), or empty if there is none.
+     */
+    public static Optional<Duration> remaining(Long deadline) {
+        return deadline == null ? Optional.empty() : Optional.of(Duration.ofNanos(deadline - System.nanoTime()));
+    }
+
+    /**
+     * Captures the current deadline so the call honours it on whichever thread it eventually runs.
+     *
+     * @param call a Spanner call.
+     * @return a supplier that fails fast once the deadline has passed and otherwise runs the call
+     *         with the remaining time as its gRPC deadline.
+     */
+    public static <T> Supplier<T> bind(Supplier<T> call) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return call;
+        }
+        return () -> {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new DeadlineExceededException("Request deadline exceeded before the Spanner call started");
+            }
+            Context.CancellableContext context = Context.current()
+                    .withDeadlineAfter(remainingNanos, TimeUnit.NANOSECONDS, DEADLINE_TIMER);
+            try {
+                return context.call(call::get);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                context.cancel(null);
+            }
+        };
+    }
+
+    /**
+     * Like {@link #bind(Supplier)}, for calls that return before their Spanner RPCs complete. The gRPC
+     * context stays open until the returned future completes, and the future fails with
+     * {@link DeadlineExceededException} if it has not completed by the deadline.
+     *
+     * @param call starts asynchronous Spanner calls.
+     * @return a supplier that returns an already failed future once the deadline has passed and
+     *         otherwise starts the calls with the remaining time as their gRPC deadline.
+     */
+    public static <T> Supplier<CompletableFuture<T>> bindAsync(Supplier<CompletableFuture<T>> call) {
+        return bindAsync(DEADLINE_NANOS.get(), call);
+    }
+
+    /**
+     * Like {@link #bindAsync(Supplier)}, under a deadline captured earlier with {@link #capture()}.
+     *
+     * @param deadline the deadline, or null to run the calls unchanged.
+     * @param call     starts asynchronous Spanner calls.
+     * @return a supplier that honours the deadline on whichever thread it runs.
+     */
+    public static <T> Supplier<CompletableFuture<T>> bindAsync(Long deadline, Supplier<CompletableFuture<T>> call) {
+        if (deadline == null) {
+            return call;
+        }
+        return () -> {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return CompletableFuture.failedFuture(
+                        new DeadlineExceededException("Request deadline exceeded before the Spanner call started"));
+            }
+            Context.CancellableContext context = Context.current()
+                    .withDeadlineAfter(remainingNanos, TimeUnit.NANOSECONDS, DEADLINE_TIMER);
+            CompletableFuture<T> result = new CompletableFuture<>();
+            ScheduledFuture<?> timeout = DEADLINE_TIMER.schedule(() -> result.completeExceptionally(
+                    new DeadlineExceededException("Request deadline exceeded while waiting for Spanner")),
+                    remainingNanos, TimeUnit.NANOSECONDS);
+            result.whenComplete((value, error) -> {
+                timeout.cancel(false);
+                context.cancel(null);
+            });
+            try {
+                context.call(call::get).whenComplete((value, error) -> {
+                    if (error == null) {
+                        result.complete(value);
+                    } else {
+                        result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error);
+                    }
+                });
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Runs a Spanner call on the current thread under the current deadline.
+     *
+     * @param call a Spanner call.
+     * @return the call's result.
+     * @see #bind(Supplier)
+     */
+    public static <T> T call(Supplier<T> call) {
+        return bind(call).get();
+    }
+}
@@ -0,0 +1,95 @@
+package com.tickethub.eventservice.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Service-wide cap on retries: over a sliding window, retries may not exceed {@code ratio} of the
+ * requests seen, with a small floor of retries per second so a quiet service can still retry.
+ * <p>
+ * During an outage every request fails, so per-call retry limits alone would multiply the load on
+ * Spanner by the attempt count exactly when it is least able to take it; the budget keeps that
+ * amplification at {@code 1 + ratio}.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final long minRetriesPerWindow;
+    private final int windowSeconds;
+    private final LongSupplier nanoClock;
+
+    // One bucket per second, reused round-robin; a bucket is reset when it is first touched in a new second
+    private final AtomicLongArray bucketSecond;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray retries;
+
+    /**
+     * @param ratio               retries allowed per request over the window, e.g. 0.1.
+     * @param minRetriesPerSecond retries allowed regardless of traffic.
+     * @param windowSeconds       length of the sliding window.
+     */
+    public RetryBudget(double ratio, int minRetriesPerSecond, int windowSeconds) {
+        this(ratio, minRetriesPerSecond, windowSeconds, System::nanoTime);
+    }
+
+    RetryBudget(double ratio, int minRetriesPerSecond, int windowSeconds, LongSupplier nanoClock) {
+        this.ratio = ratio;
+        this.minRetriesPerWindow = (long) minRetriesPerSecond * windowSeconds;
+        this.windowSeconds = windowSeconds;
+        this.nanoClock = nanoClock;
+        this.bucketSecond = new AtomicLongArray(windowSeconds);
+        this.requests = new AtomicLongArray(windowSeconds);
+        this.retries = new AtomicLongArray(windowSeconds);
+        for (int i = 0; i < windowSeconds; i++) {
+            bucketSecond.set(i, -1);
+        }
+    }
+
+    /**
+     * Counts a request against which retries are budgeted.
+     */
+    public void recordRequest() {
+        requests.incrementAndGet(currentBucket());
+    }
+
+    /**
+     * Takes one retry from the budget.
+     *
+     * @return true if the retry may proceed.
+     */
+    public boolean tryAcquireRetry() {
+        int bucket = currentBucket();
+        long now = currentSecond();
+        long requestCount = 0;
+        long retryCount = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            if (now - bucketSecond.get(i) < windowSeconds) {
+                requestCount += requests.get(i);
+                retryCount += retries.get(i);
+            }
+        }
+        long allowed = Math.max(minRetriesPerWindow, (long) (requestCount * ratio));
+        if (retryCount >= allowed) {
+            return false;
+        }
+        retries.incrementAndGet(bucket);
+        return true;
+    }
+
+    private int currentBucket() {
+        long second = currentSecond();
+        int index = (int) Math.floorMod(second, (long) windowSeconds);
+        long previous = bucketSecond.get(index);
+        if (previous != second && bucketSecond.compareAndSet(index, previous, second)) {
+            // Increments racing with the reset may be lost; the budget is an approximation either way
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong());
+    }
+}
@@ -0,0 +1,147 @@
+package com.tickethub.eventservice.seating;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Sparse chunk: the values as a sorted array of unsigned 16-bit integers.
+ */
+final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int size;
+
+    private ArrayContainer(char[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    static int serializedSize(int cardinality) {
+        return 2 + 2 * cardinality;
+    }
+
+    static ArrayContainer copyOf(Container source) {
+        char[] values = new char[source.cardinality()];
+        int[] size = new int[1];
+        source.forEachRun((start, end) -> {
+            for (int value = start; value < end; value++) {
+                values[size[0]++] = (char) value;
+            }
+            return true;
+        });
+        return new ArrayContainer(values, size[0]);
+    }
+
+    static ArrayContainer readFrom(ByteBuffer buffer) {
+        int size = buffer.getChar();
+        char[] values = new char[size];
+        buffer.asCharBuffer().get(values);
+        buffer.position(buffer.position() + 2 * size);
+        return new ArrayContainer(values, size);
+    }
+
+    @Override
+    byte type() {
+        return ARRAY;
+    }
+
+    @Override
+    int cardinality() {
+        return size;
+    }
+
+    @Override
+    int numberOfRuns() {
+        int runs = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || values[i] != values[i - 1] + 1) {
+                runs++;
+            }
+        }
+        return runs;
+    }
+
+    @Override
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, (char) value) >= 0;
+    }
+
+    @Override
+    boolean containsRange(int start, int end) {
+        int first = lowerBound(start);
+        int last = first + (end - start) - 1;
+        // Values are distinct and sorted, so end - start of them starting at start are exactly the range
+        return last < size && values[first] == start && values[last] == end - 1;
+    }
+
+    @Override
+    Container add(int start, int end) {
+        int from = lowerBound(start);
+        int to = lowerBound(end);
+        int newSize = from + (end - start) + (size - to);
+        char[] added = new char[newSize];
+        System.arraycopy(values, 0, added, 0, from);
+        for (int value = start; value < end; value++) {
+            added[from + value - start] = (char) value;
+        }
+        System.arraycopy(values, to, added, from + end - start, size - to);
+        values = added;
+        size = newSize;
+        return this;
+    }
+
+    @Override
+    Container remove(int start, int end) {
+        int from = lowerBound(start);
+        int to = lowerBound(end);
+        if (from < to) {
+            System.arraycopy(values, to, values, from, size - to);
+            size -= to - from;
+        }
+        return this;
+    }
+
+    @Override
+    boolean forEachRun(SeatBitmap.RunConsumer consumer) {
+        int i = 0;
+        while (i < size) {
+            int start = values[i];
+            int end = start + 1;
+            for (i++; i < size && values[i] == end; i++) {
+                end++;
+            }
+            if (!consumer.accept(start, end)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    int serializedSizeInBytes() {
+        return serializedSize(size);
+    }
+
+    @Override
+    void writeTo(ByteBuffer buffer) {
+        buffer.putChar((char) size);
+        for (int i = 0; i < size; i++) {
+            buffer.putChar(values[i]);
+        }
+    }
+
+    // Index of the first value >= target (size if none)
+    private int lowerBound(int target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
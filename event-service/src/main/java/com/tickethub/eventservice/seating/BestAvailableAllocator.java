@@ -0,0 +1,89 @@
+package com.tickethub.eventservice.seating;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Picks the best block of adjacent free seats.
+ * <p>
+ * The best block is in the best-ranked row that has enough adjacent free seats and, within rows of
+ * that rank, as close to the middle of its row as possible. Rows are visited best rank first and
+ * the search stops at the first worse rank once a block has been found, so only the runs of free
+ * seats in the leading rows are ever looked at; rows with fewer free seats than requested are
+ * skipped on their cardinality alone.
+ */
+final class BestAvailableAllocator {
+
+    private BestAvailableAllocator() {
+    }
+
+    /**
+     * @param rowsByRank the rows, best rank first.
+     * @param count      the number of adjacent seats wanted.
+     * @return the best block, or empty if no row has {@code count} adjacent free seats.
+     * @throws IllegalArgumentException if count is not positive.
+     */
+    static Optional<SeatMap.Allocation> find(List<SeatMap.Row> rowsByRank, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Seat count must be positive");
+        }
+        Candidate best = new Candidate(count);
+        for (SeatMap.Row row : rowsByRank) {
+            if (best.row != null && row.rank() > best.row.rank()) {
+                break;
+            }
+            if (row.seatCount() < count || row.freeSeats().cardinality() < count) {
+                continue;
+            }
+            best.consider(row);
+            if (best.distance == 0) {
+                break;
+            }
+        }
+        return best.row == null
+                ? Optional.empty()
+                : Optional.of(new SeatMap.Allocation(best.row.section(), best.row.name(), best.start + 1, count));
+    }
+
+    // Best block so far; also the run consumer, so that no lambda is allocated per row
+    private static final class Candidate implements SeatBitmap.RunConsumer {
+
+        private final int count;
+        private SeatMap.Row row;
+        private int start;
+        private int distance = Integer.MAX_VALUE;
+
+        private SeatMap.Row current;
+        private int ideal;
+
+        Candidate(int count) {
+            this.count = count;
+        }
+
+        void consider(SeatMap.Row candidate) {
+            current = candidate;
+            ideal = (candidate.seatCount() - count) / 2;
+            candidate.freeSeats().forEachRun(this);
+        }
+
+        @Override
+        public boolean accept(int runStart, int runEnd) {
+            if (runStart - ideal >= distance) {
+                // Runs are in order, so every later block is at least this far from the middle
+                return false;
+            }
+            if (runEnd - runStart < count) {
+                return true;
+            }
+            // The block start closest to the middle of the row that still lies within the run
+            int blockStart = Math.max(runStart, Math.min(ideal, runEnd - count));
+            int blockDistance = Math.abs(blockStart - ideal);
+            if (blockDistance < distance) {
+                row = current;
+                start = blockStart;
+                distance = blockDistance;
+            }
+            return blockDistance != 0;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.tickethub.eventservice.seating;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Dense chunk: one bit per possible value.
+ */
+final class BitmapContainer extends Container {
+
+    private static final int WORDS = CHUNK_SIZE / 64;
+
+    private final long[] words;
+    private int cardinality;
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    static BitmapContainer copyOf(Container source) {
+        BitmapContainer bitmap = new BitmapContainer(new long[WORDS], 0);
+        source.forEachRun((start, end) -> {
+            bitmap.add(start, end);
+            return true;
+        });
+        return bitmap;
+    }
+
+    static BitmapContainer readFrom(ByteBuffer buffer) {
+        long[] words = new long[WORDS];
+        int cardinality = 0;
+        for (int i = 0; i < WORDS; i++) {
+            words[i] = buffer.getLong();
+            cardinality += Long.bitCount(words[i]);
+        }
+        return new BitmapContainer(words, cardinality);
+    }
+
+    @Override
+    byte type() {
+        return BITMAP;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    int numberOfRuns() {
+        int runs = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            long next = i + 1 < WORDS ? words[i + 1] : 0L;
+            // A run ends at every set bit whose successor (possibly bit 0 of the next word) is clear
+            runs += Long.bitCount(word & ~((word >>> 1) | (next << 63)));
+        }
+        return runs;
+    }
+
+    @Override
+    boolean contains(int value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    boolean containsRange(int start, int end) {
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+        for (int i = first; i <= last; i++) {
+            long mask = mask(i, start, end);
+            if ((words[i] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    Container add(int start, int end) {
+        for (int i = start >>> 6; i <= (end - 1) >>> 6; i++) {
+            int before = Long.bitCount(words[i]);
+            words[i] |= mask(i, start, end);
+            cardinality += Long.bitCount(words[i]) - before;
+        }
+        return this;
+    }
+
+    @Override
+    Container remove(int start, int end) {
+        for (int i = start >>> 6; i <= (end - 1) >>> 6; i++) {
+            int before = Long.bitCount(words[i]);
+            words[i] &= ~mask(i, start, end);
+            cardinality += Long.bitCount(words[i]) - before;
+        }
+        return this;
+    }
+
+    @Override
+    boolean forEachRun(SeatBitmap.RunConsumer consumer) {
+        int start = nextSetBit(0);
+        while (start >= 0) {
+            int end = nextClearBit(start);
+            if (!consumer.accept(start, end)) {
+                return false;
+            }
+            start = nextSetBit(end);
+        }
+        return true;
+    }
+
+    @Override
+    int serializedSizeInBytes() {
+        return BITMAP_BYTES;
+    }
+
+    @Override
+    void writeTo(ByteBuffer buffer) {
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+    }
+
+    private int nextSetBit(int from) {
+        if (from >= CHUNK_SIZE) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == WORDS) {
+                return -1;
+            }
+            word = words[index];
+        }
+        return index * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    private int nextClearBit(int from) {
+        if (from >= CHUNK_SIZE) {
+            return CHUNK_SIZE;
+        }
+        int index = from >>> 6;
+        long word = ~words[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == WORDS) {
+                return CHUNK_SIZE;
+            }
+            word = ~words[index];
+        }
+        return index * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    // Bits of word i that fall within [start, end)
+    private static long mask(int i, int start, int end) {
+        int low = Math.max(start, i * 64) - i * 64;
+        int high = Math.min(end, i * 64 + 64) - i * 64;
+        return high - low == 64 ? -1L : ((1L << (high - low)) - 1) << low;
+    }
+}
@@ -0,0 +1,90 @@
+package com.tickethub.eventservice.seating;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One 2^16-value chunk of a {@link SeatBitmap}, holding the low 16 bits of its values.
+ * <p>
+ * As in Roaring bitmaps there are three representations: a sorted array for sparse chunks, a
+ * 65536-bit bitmap for dense ones, and a list of runs for chunks made of long consecutive stretches,
+ * which is what a row of seats mostly is. Mutations may return a different instance;
+ * {@link #optimize()} switches to whichever representation is smallest.
+ */
+abstract class Container {
+
+    static final int CHUNK_SIZE = 1 << 16;
+    static final int BITMAP_BYTES = CHUNK_SIZE / 8;
+
+    static final byte ARRAY = 1;
+    static final byte BITMAP = 2;
+    static final byte RUN = 3;
+
+    abstract byte type();
+
+    abstract int cardinality();
+
+    abstract int numberOfRuns();
+
+    abstract boolean contains(int value);
+
+    /**
+     * @return true if every value in {@code [start, end)} is present.
+     */
+    abstract boolean containsRange(int start, int end);
+
+    /**
+     * Adds the values in {@code [start, end)}, with {@code 0 <= start < end <= CHUNK_SIZE}.
+     */
+    abstract Container add(int start, int end);
+
+    /**
+     * Removes the values in {@code [start, end)}, with {@code 0 <= start < end <= CHUNK_SIZE}.
+     */
+    abstract Container remove(int start, int end);
+
+    /**
+     * Passes each maximal run of consecutive values, in order, as {@code [start, end)}.
+     *
+     * @return false if the consumer stopped the iteration.
+     */
+    abstract boolean forEachRun(SeatBitmap.RunConsumer consumer);
+
+    /**
+     * @return the size of {@link #writeTo(ByteBuffer)}'s output.
+     */
+    abstract int serializedSizeInBytes();
+
+    abstract void writeTo(ByteBuffer buffer);
+
+    /**
+     * @return this container in its smallest representation.
+     */
+    Container optimize() {
+        int cardinality = cardinality();
+        int arrayBytes = ArrayContainer.serializedSize(cardinality);
+        int runBytes = RunContainer.serializedSize(numberOfRuns());
+        byte best;
+        if (runBytes <= Math.min(arrayBytes, BITMAP_BYTES)) {
+            best = RUN;
+        } else {
+            best = arrayBytes <= BITMAP_BYTES ? ARRAY : BITMAP;
+        }
+        if (best == type()) {
+            return this;
+        }
+        return switch (best) {
+            case RUN -> RunContainer.copyOf(this);
+            case ARRAY -> ArrayContainer.copyOf(this);
+            default -> BitmapContainer.copyOf(this);
+        };
+    }
+
+    static Container readFrom(byte type, ByteBuffer buffer) {
+        return switch (type) {
+            case ARRAY -> ArrayContainer.readFrom(buffer);
+            case BITMAP -> BitmapContainer.readFrom(buffer);
+            case RUN -> RunContainer.readFrom(buffer);
+            default -> throw new IllegalArgumentException("Unknown seat bitmap container type " + type);
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.tickethub.eventservice.seating;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Run-length chunk: sorted, non-adjacent runs of consecutive values. A fully free row is one run.
+ */
+final class RunContainer extends Container {
+
+    // Pairs of start (inclusive) and end (exclusive)
+    private int[] bounds;
+    private int runs;
+    private int cardinality;
+
+    private RunContainer(int[] bounds, int runs) {
+        this.bounds = bounds;
+        this.runs = runs;
+        for (int i = 0; i < runs; i++) {
+            cardinality += bounds[2 * i + 1] - bounds[2 * i];
+        }
+    }
+
+    static int serializedSize(int runs) {
+        return 2 + 4 * runs;
+    }
+
+    static RunContainer empty() {
+        return new RunContainer(new int[0], 0);
+    }
+
+    static RunContainer copyOf(Container source) {
+        int[] bounds = new int[2 * source.numberOfRuns()];
+        int[] runs = new int[1];
+        source.forEachRun((start, end) -> {
+            bounds[2 * runs[0]] = start;
+            bounds[2 * runs[0] + 1] = end;
+            runs[0]++;
+            return true;
+        });
+        return new RunContainer(bounds, runs[0]);
+    }
+
+    static RunContainer readFrom(ByteBuffer buffer) {
+        int runs = buffer.getChar();
+        int[] bounds = new int[2 * runs];
+        for (int i = 0; i < runs; i++) {
+            bounds[2 * i] = buffer.getChar();
+            bounds[2 * i + 1] = bounds[2 * i] + buffer.getChar() + 1;
+        }
+        return new RunContainer(bounds, runs);
+    }
+
+    @Override
+    byte type() {
+        return RUN;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    int numberOfRuns() {
+        return runs;
+    }
+
+    @Override
+    boolean contains(int value) {
+        return containsRange(value, value + 1);
+    }
+
+    @Override
+    boolean containsRange(int start, int end) {
+        int run = lastRunStartingAtOrBefore(start);
+        return run >= 0 && bounds[2 * run + 1] >= end;
+    }
+
+    @Override
+    Container add(int start, int end) {
+        int[] merged = new int[2 * (runs + 1)];
+        int count = 0;
+        int i = 0;
+        // Runs ending before the new one (and not adjacent to it) are kept as they are
+        for (; i < runs && bounds[2 * i + 1] < start; i++) {
+            merged[2 * count] = bounds[2 * i];
+            merged[2 * count++ + 1] = bounds[2 * i + 1];
+        }
+        int mergedStart = start;
+        int mergedEnd = end;
+        for (; i < runs && bounds[2 * i] <= end; i++) {
+            mergedStart = Math.min(mergedStart, bounds[2 * i]);
+            mergedEnd = Math.max(mergedEnd, bounds[2 * i + 1]);
+        }
+        merged[2 * count] = mergedStart;
+        merged[2 * count++ + 1] = mergedEnd;
+        for (; i < runs; i++) {
+            merged[2 * count] = bounds[2 * i];
+            merged[2 * count++ + 1] = bounds[2 * i + 1];
+        }
+        return replace(merged, count);
+    }
+
+    @Override
+    Container remove(int start, int end) {
+        int[] remaining = new int[2 * (runs + 1)];
+        int count = 0;
+        for (int i = 0; i < runs; i++) {
+            int runStart = bounds[2 * i];
+            int runEnd = bounds[2 * i + 1];
+            if (runEnd <= start || runStart >= end) {
+                remaining[2 * count] = runStart;
+                remaining[2 * count++ + 1] = runEnd;
+                continue;
+            }
+            if (runStart < start) {
+                remaining[2 * count] = runStart;
+                remaining[2 * count++ + 1] = start;
+            }
+            if (runEnd > end) {
+                remaining[2 * count] = end;
+                remaining[2 * count++ + 1] = runEnd;
+            }
+        }
+        return replace(remaining, count);
+    }
+
+    @Override
+    boolean forEachRun(SeatBitmap.RunConsumer consumer) {
+        for (int i = 0; i < runs; i++) {
+            if (!consumer.accept(bounds[2 * i], bounds[2 * i + 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    int serializedSizeInBytes() {
+        return serializedSize(runs);
+    }
+
+    @Override
+    void writeTo(ByteBuffer buffer) {
+        buffer.putChar((char) runs);
+        for (int i = 0; i < runs; i++) {
+            buffer.putChar((char) bounds[2 * i]);
+            buffer.putChar((char) (bounds[2 * i + 1] - bounds[2 * i] - 1));
+        }
+    }
+
+    private RunContainer replace(int[] newBounds, int newRuns) {
+        bounds = newRuns * 2 == newBounds.length ? newBounds : Arrays.copyOf(newBounds, 2 * newRuns);
+        runs = newRuns;
+        cardinality = 0;
+        for (int i = 0; i < runs; i++) {
+            cardinality += bounds[2 * i + 1] - bounds[2 * i];
+        }
+        return this;
+    }
+
+    private int lastRunStartingAtOrBefore(int value) {
+        int low = 0;
+        int high = runs - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (bounds[2 * middle] <= value) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+}
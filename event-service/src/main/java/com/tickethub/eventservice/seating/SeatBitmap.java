@@ -0,0 +1,230 @@
+package com.tickethub.eventservice.seating;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compressed set of seat indexes, organised like a Roaring bitmap.
+ * <p>
+ * Indexes are split into 2^16-value chunks by their high 16 bits; each chunk is held in whichever
+ * of an array, a bitmap or a run-length {@link Container} is smallest, so a fully free or sold-out
+ * row costs a few bytes. The same layout is used for the blobs persisted in Spanner
+ * ({@link #serialize()}). Not thread-safe.
+ */
+public final class SeatBitmap {
+
+    /**
+     * Receives runs of consecutive indexes.
+     */
+    @FunctionalInterface
+    public interface RunConsumer {
+
+        /**
+         * @param start the first index of the run.
+         * @param end   one past the last index of the run.
+         * @return false to stop the iteration.
+         */
+        boolean accept(int start, int end);
+    }
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private char[] keys = new char[1];
+    private Container[] containers = new Container[1];
+    private int size;
+
+    /**
+     * @param start the first index.
+     * @param end   one past the last index.
+     * @return a bitmap holding exactly the indexes in {@code [start, end)}.
+     */
+    public static SeatBitmap ofRange(int start, int end) {
+        SeatBitmap bitmap = new SeatBitmap();
+        bitmap.add(start, end);
+        return bitmap;
+    }
+
+    /**
+     * @param seat a seat index.
+     * @return true if the bitmap holds it.
+     */
+    public boolean contains(int seat) {
+        if (seat < 0) {
+            return false;
+        }
+        int index = indexOf(seat >>> 16);
+        return index >= 0 && containers[index].contains(seat & 0xFFFF);
+    }
+
+    /**
+     * @param start the first index.
+     * @param end   one past the last index.
+     * @return true if every index in {@code [start, end)} is held.
+     */
+    public boolean containsRange(int start, int end) {
+        checkRange(start, end);
+        for (int chunk = start >>> 16; chunk <= (end - 1) >>> 16; chunk++) {
+            int index = indexOf(chunk);
+            if (index < 0 || !containers[index].containsRange(low(start, chunk), high(end, chunk))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of indexes held.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Adds the indexes in {@code [start, end)}.
+     */
+    public void add(int start, int end) {
+        checkRange(start, end);
+        for (int chunk = start >>> 16; chunk <= (end - 1) >>> 16; chunk++) {
+            int index = indexOf(chunk);
+            if (index < 0) {
+                index = insert(-index - 1, chunk, RunContainer.empty());
+            }
+            containers[index] = containers[index].add(low(start, chunk), high(end, chunk)).optimize();
+        }
+    }
+
+    /**
+     * Removes the indexes in {@code [start, end)}.
+     */
+    public void remove(int start, int end) {
+        checkRange(start, end);
+        for (int chunk = start >>> 16; chunk <= (end - 1) >>> 16; chunk++) {
+            int index = indexOf(chunk);
+            if (index < 0) {
+                continue;
+            }
+            Container container = containers[index].remove(low(start, chunk), high(end, chunk));
+            if (container.cardinality() == 0) {
+                System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+                System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+                containers[--size] = null;
+            } else {
+                containers[index] = container.optimize();
+            }
+        }
+    }
+
+    /**
+     * Passes each maximal run of consecutive indexes, in order; runs are joined across chunks.
+     *
+     * @param consumer receives the runs.
+     * @return false if the consumer stopped the iteration.
+     */
+    public boolean forEachRun(RunConsumer consumer) {
+        int[] pending = {-1, -1};
+        for (int i = 0; i < size; i++) {
+            int base = keys[i] << 16;
+            boolean completed = containers[i].forEachRun((start, end) -> {
+                if (pending[1] == base + start) {
+                    pending[1] = base + end;
+                    return true;
+                }
+                if (pending[0] >= 0 && !consumer.accept(pending[0], pending[1])) {
+                    return false;
+                }
+                pending[0] = base + start;
+                pending[1] = base + end;
+                return true;
+            });
+            if (!completed) {
+                return false;
+            }
+        }
+        return pending[0] < 0 || consumer.accept(pending[0], pending[1]);
+    }
+
+    /**
+     * @return the bitmap in its compact binary form.
+     */
+    public byte[] serialize() {
+        ByteBuffer buffer = ByteBuffer.allocate(serializedSizeInBytes());
+        buffer.put(FORMAT_VERSION);
+        buffer.putChar((char) size);
+        for (int i = 0; i < size; i++) {
+            buffer.putChar(keys[i]);
+            buffer.put(containers[i].type());
+            containers[i].writeTo(buffer);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return the length of {@link #serialize()}'s output.
+     */
+    public int serializedSizeInBytes() {
+        int bytes = 1 + 2;
+        for (int i = 0; i < size; i++) {
+            bytes += 2 + 1 + containers[i].serializedSizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @param bytes the output of {@link #serialize()}.
+     * @return the bitmap.
+     * @throws IllegalArgumentException if the bytes are not a serialized bitmap.
+     */
+    public static SeatBitmap deserialize(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported seat bitmap format");
+            }
+            SeatBitmap bitmap = new SeatBitmap();
+            int size = buffer.getChar();
+            for (int i = 0; i < size; i++) {
+                char key = buffer.getChar();
+                bitmap.insert(i, key, Container.readFrom(buffer.get(), buffer));
+            }
+            return bitmap;
+        } catch (RuntimeException e) {
+            throw e instanceof IllegalArgumentException ? e : new IllegalArgumentException("Malformed seat bitmap", e);
+        }
+    }
+
+    private int indexOf(int chunk) {
+        return Arrays.binarySearch(keys, 0, size, (char) chunk);
+    }
+
+    private int insert(int index, int chunk, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = (char) chunk;
+        containers[index] = container;
+        size++;
+        return index;
+    }
+
+    // Bounds of [start, end) within one chunk, relative to the chunk
+    private static int low(int start, int chunk) {
+        return Math.max(start, chunk << 16) - (chunk << 16);
+    }
+
+    private static int high(int end, int chunk) {
+        return (int) (Math.min((long) end, ((long) chunk + 1) << 16) - ((long) chunk << 16));
+    }
+
+    private static void checkRange(int start, int end) {
+        if (start < 0 || end <= start) {
+            throw new IllegalArgumentException("Invalid seat range [" + start + ", " + end + ")");
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.tickethub.eventservice.seating;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory per-seat inventory of one seat category: its rows, each with a {@link SeatBitmap} of
+ * free seats. Seats are numbered from 1 within a row; bitmap index {@code n - 1} is seat {@code n}.
+ * All methods are atomic with respect to each other.
+ */
+public final class SeatMap {
+
+    /**
+     * A row of seats. Rows with a lower rank are better; rows of equal rank are equally good.
+     */
+    public static final class Row {
+
+        private final String section;
+        private final String name;
+        private final int rank;
+        private final int seatCount;
+        private SeatBitmap freeSeats;
+
+        public Row(String section, String name, int rank, int seatCount, SeatBitmap freeSeats) {
+            this.section = section;
+            this.name = name;
+            this.rank = rank;
+            this.seatCount = seatCount;
+            this.freeSeats = freeSeats;
+        }
+
+        public String section() {
+            return section;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int rank() {
+            return rank;
+        }
+
+        public int seatCount() {
+            return seatCount;
+        }
+
+        SeatBitmap freeSeats() {
+            return freeSeats;
+        }
+    }
+
+    /**
+     * Consecutive seats in one row.
+     *
+     * @param section   the row's section.
+     * @param row       the row name.
+     * @param firstSeat the first seat number.
+     * @param count     the number of seats.
+     */
+    public record Allocation(String section, String row, int firstSeat, int count) {
+
+        /**
+         * @return the seat numbers, in order.
+         */
+        public List<Integer> seatNumbers() {
+            return IntStream.range(firstSeat, firstSeat + count).boxed().toList();
+        }
+    }
+
+    private final List<Row> rowsByRank;
+    private final Map<String, Row> rowsByName = new HashMap<>();
+
+    /**
+     * @param rows the category's rows; each section and row name pair must be unique.
+     * @throws IllegalArgumentException if a row is listed twice.
+     */
+    public SeatMap(List<Row> rows) {
+        List<Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingInt(Row::rank));
+        this.rowsByRank = List.copyOf(sorted);
+        for (Row row : rows) {
+            if (rowsByName.put(key(row.section(), row.name()), row) != null) {
+                throw new IllegalArgumentException("Row " + row.name() + " of section " + row.section() + " is listed twice");
+            }
+        }
+    }
+
+    /**
+     * Takes the best block of {@code count} adjacent free seats (see {@link BestAvailableAllocator}).
+     *
+     * @param count the number of seats.
+     * @return the seats taken, or empty if no row has that many adjacent free seats.
+     */
+    public synchronized Optional<Allocation> reserveBestAvailable(int count) {
+        Optional<Allocation> allocation = BestAvailableAllocator.find(rowsByRank, count);
+        allocation.ifPresent(taken -> rowsByName.get(key(taken.section(), taken.row()))
+                .freeSeats.remove(taken.firstSeat() - 1, taken.firstSeat() - 1 + taken.count()));
+        return allocation;
+    }
+
+    /**
+     * Frees seats taken by {@link #reserveBestAvailable(int)} again.
+     *
+     * @param allocation the seats.
+     */
+    public synchronized void release(Allocation allocation) {
+        Row row = rowsByName.get(key(allocation.section(), allocation.row()));
+        if (row != null) {
+            row.freeSeats.add(allocation.firstSeat() - 1, allocation.firstSeat() - 1 + allocation.count());
+        }
+    }
+
+    /**
+     * Replaces a row's free seats, e.g. with the state read from Spanner.
+     *
+     * @param section   the section.
+     * @param row       the row name.
+     * @param freeSeats the row's free seats; owned by this map afterwards.
+     */
+    public synchronized void replaceRow(String section, String row, SeatBitmap freeSeats) {
+        Row existing = rowsByName.get(key(section, row));
+        if (existing != null) {
+            existing.freeSeats = freeSeats;
+        }
+    }
+
+    /**
+     * @param section the section.
+     * @param row     the row name.
+     * @return the row, or empty if the map has no such row.
+     */
+    public Optional<Row> row(String section, String row) {
+        return Optional.ofNullable(rowsByName.get(key(section, row)));
+    }
+
+    /**
+     * @param section the section.
+     * @param row     the row name.
+     * @return the row's free seat numbers, in order; empty if the map has no such row.
+     */
+    public synchronized List<Integer> freeSeatNumbers(String section, String row) {
+        Row found = rowsByName.get(key(section, row));
+        if (found == null) {
+            return List.of();
+        }
+        List<Integer> seats = new ArrayList<>(found.freeSeats.cardinality());
+        found.freeSeats.forEachRun((start, end) -> {
+            for (int index = start; index < end; index++) {
+                seats.add(index + 1);
+            }
+            return true;
+        });
+        return seats;
+    }
+
+    /**
+     * @return the number of free seats in all rows.
+     */
+    public synchronized int freeSeats() {
+        int free = 0;
+        for (Row row : rowsByRank) {
+            free += row.freeSeats.cardinality();
+        }
+        return free;
+    }
+
+    /**
+     * @return the rows, best rank first.
+     */
+    public List<Row> rows() {
+        return rowsByRank;
+    }
+
+    private static String key(String section, String row) {
+        return section + "\u0000" + row;
+    }
+}
@@ -0,0 +1,58 @@
+package com.tickethub.eventservice.service;
+
+import brave.Tracing;
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Carries the calling request into the completion of an asynchronous read.
+ * <p>
+ * Async Spanner reads complete on a pool thread, where neither the request attributes nor the
+ * trace context of the request are current. Resilience4j runs a CompletableFuture method's fallback
+ * on the thread that completes the future, so the fallback would mark nothing stale and flag no
+ * trace. {@link #completeInCaller(CompletableFuture)} completes a copy of the future with both
+ * restored, so callbacks registered on it (the fallback among them) see the original request.
+ */
+final class AsyncRequestContext {
+
+    private AsyncRequestContext() {
+    }
+
+    /**
+     * @param source a future completed on some other thread.
+     * @return a future with the same outcome, completed with the caller's request and trace context current.
+     */
+    static <T> CompletableFuture<T> completeInCaller(CompletableFuture<T> source) {
+        ServletRequestAttributes attributes = RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes current
+                ? current : null;
+        Tracing tracing = Tracing.current();
+        TraceContext traceContext = tracing == null ? null : tracing.currentTraceContext().get();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        source.whenComplete((value, error) -> {
+            boolean sameThread = attributes != null && RequestContextHolder.getRequestAttributes() == attributes;
+            if (attributes != null && !sameThread) {
+                // A fresh view of the request: the original attributes go inactive when the request thread returns
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(attributes.getRequest()));
+            }
+            try (CurrentTraceContext.Scope scope = traceContext == null
+                    ? CurrentTraceContext.Scope.NOOP : tracing.currentTraceContext().maybeScope(traceContext)) {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+            } finally {
+                if (attributes != null && !sameThread) {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }
+        });
+        return result;
+    }
+}
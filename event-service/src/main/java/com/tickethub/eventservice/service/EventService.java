@@ -4,16 +4,36 @@ import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException; // Ensure this is imported
+import com.tickethub.eventservice.cache.LastKnownGoodStore;
+import com.tickethub.eventservice.cache.StaleResponses;
+import com.tickethub.eventservice.catalog.CatalogChangedEvent;
+import com.tickethub.eventservice.catalog.CatalogSnapshot;
+import com.tickethub.eventservice.catalog.UpcomingEventsView;
 import com.tickethub.eventservice.dto.EventAdminRequest;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.exception.CatalogUnavailableException;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.exception.DeadlineExceededException;
+import com.tickethub.eventservice.hotkeys.HotKeyTracker;
 import com.tickethub.eventservice.model.Event;
 import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.repository.EventAsyncReader;
 import com.tickethub.eventservice.repository.EventRepository;
 import com.tickethub.eventservice.repository.SeatCategoryRepository;
+import com.tickethub.eventservice.resilience.HedgedReadExecutor;
+import com.tickethub.eventservice.resilience.ReadRetryPolicy;
+import com.tickethub.eventservice.resilience.RequestDeadline;
+import com.tickethub.eventservice.tracing.TraceSampling;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,9 +42,18 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class EventService {
@@ -34,18 +63,48 @@ public class EventService {
     private final EventRepository eventRepository;
     private final SeatCategoryRepository seatCategoryRepository;
     private final Storage storage; // Google Cloud Storage client
+    private final ReadCoalescer readCoalescer; // Shares in-flight Spanner reads between identical requests
+    private final LastKnownGoodStore lastKnownGoodStore; // Served by the fallbacks while the breaker is open
+    private final HedgedReadExecutor hedgedReadExecutor; // Re-issues slow detail reads when hedging is enabled
+    private final CatalogSnapshot catalogSnapshot; // Serves listings from memory once loaded
+    private final UpcomingEventsView upcomingEventsView; // Next events to start, with seat summaries
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventAsyncReader eventAsyncReader; // Concurrent, non-blocking reads for the detail path
+    private final HotKeyTracker hotKeyTracker; // Most-read events, preloaded by new instances
+    private final ReadRetryPolicy readRetryPolicy; // Retries of the asynchronous detail read
 
     @Value("${gcp.storage.bucket.name:tickethub-event-images-default}")
     private String bucketName;
 
+    @Value("${eventservice.batch.max-ids:100}")
+    private int maxBatchIds = 100;
+
     private static final String RESILIENCE_INSTANCE_NAME = "eventServiceRead";
 
     public EventService(EventRepository eventRepository,
                         SeatCategoryRepository seatCategoryRepository,
-                        Storage storage) {
+                        Storage storage,
+                        ReadCoalescer readCoalescer,
+                        LastKnownGoodStore lastKnownGoodStore,
+                        HedgedReadExecutor hedgedReadExecutor,
+                        CatalogSnapshot catalogSnapshot,
+                        UpcomingEventsView upcomingEventsView,
+                        ApplicationEventPublisher eventPublisher,
+                        EventAsyncReader eventAsyncReader,
+                        HotKeyTracker hotKeyTracker,
+                        ReadRetryPolicy readRetryPolicy) {
         this.eventRepository = eventRepository;
         this.seatCategoryRepository = seatCategoryRepository;
         this.storage = storage;
+        this.readCoalescer = readCoalescer;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+        this.hedgedReadExecutor = hedgedReadExecutor;
+        this.catalogSnapshot = catalogSnapshot;
+        this.upcomingEventsView = upcomingEventsView;
+        this.eventPublisher = eventPublisher;
+        this.eventAsyncReader = eventAsyncReader;
+        this.hotKeyTracker = hotKeyTracker;
+        this.readRetryPolicy = readRetryPolicy;
     }
 
     @Retry(name = RESILIENCE_INSTANCE_NAME)
@@ -53,26 +112,270 @@ public class EventService {
     @Transactional(readOnly = true)
     public Page<Event> getAllEvents(Pageable pageable) {
         log.debug("Fetching all events with pageable: {}", pageable);
-        return eventRepository.findAll(pageable);
+        if (catalogSnapshot.isReady()) {
+            Optional<Page<Event>> fromSnapshot = catalogSnapshot.query(null, pageable);
+            if (fromSnapshot.isPresent()) {
+                return fromSnapshot.get();
+            }
+        }
+        String pageKey = pageKey(pageable);
+        return readCoalescer.execute("getAllEvents", pageKey, () -> {
+            Page<Event> page = RequestDeadline.call(() -> eventRepository.findAll(pageable));
+            lastKnownGoodStore.putPage(pageKey, page);
+            return page;
+        });
     }
 
     public Page<Event> getEventsFallback(Pageable pageable, Throwable t) {
         log.error("Fallback for getAllEvents triggered due to: {}", t.getMessage(), t);
-        return Page.empty(pageable);
+        TraceSampling.keep("getEventsFallback");
+        return lastKnownGoodStore.getPage(pageKey(pageable), pageable)
+                .map(snapshot -> {
+                    log.warn("Serving last-known-good page {} captured at {}", pageable, snapshot.capturedAt());
+                    StaleResponses.mark(snapshot.capturedAt());
+                    return snapshot.value();
+                })
+                .orElseGet(() -> {
+                    // The client has given up: answer 504 rather than an empty page it would take as "no events"
+                    if (t instanceof DeadlineExceededException deadlineExceeded) {
+                        throw deadlineExceeded;
+                    }
+                    return Page.empty(pageable);
+                });
     }
 
+    // No read-only transaction here or in getSeatCategoriesByEventId: each is one single-use read, which
+    // is consistent on its own, and HedgedReadExecutor does not hedge reads inside a transaction
     @Retry(name = RESILIENCE_INSTANCE_NAME)
-    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME)
-    @Transactional(readOnly = true)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME, fallbackMethod = "getEventByIdFallback")
     public Optional<Event> getEventById(String id) {
         log.debug("Fetching event by ID: {}", id);
-        return eventRepository.findById(id);
+        hotKeyTracker.record(HotKeyTracker.EVENTS, id);
+        return readCoalescer.execute("getEventById", id, () -> {
+            Optional<Event> event = hedgedReadExecutor.execute("getEventById",
+                    RequestDeadline.bind(() -> eventRepository.findById(id)));
+            event.ifPresent(lastKnownGoodStore::putEvent);
+            return event;
+        });
     }
 
-    @Transactional(readOnly = true)
+    public Optional<Event> getEventByIdFallback(String id, Throwable t) throws Throwable {
+        log.error("Fallback for getEventById {} triggered due to: {}", id, t.getMessage(), t);
+        TraceSampling.keep("getEventByIdFallback");
+        LastKnownGoodStore.Snapshot<Event> snapshot = lastKnownGoodStore.getEvent(id).orElseThrow(() -> t);
+        log.warn("Serving last-known-good event {} captured at {}", id, snapshot.capturedAt());
+        StaleResponses.mark(snapshot.capturedAt());
+        return Optional.of(snapshot.value());
+    }
+
+    @Retry(name = RESILIENCE_INSTANCE_NAME)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME, fallbackMethod = "getSeatCategoriesFallback")
     public List<SeatCategory> getSeatCategoriesByEventId(String eventId) {
         log.debug("Fetching seat categories for event ID: {}", eventId);
-        return seatCategoryRepository.findByEventId(eventId);
+        return readCoalescer.execute("getSeatCategoriesByEventId", eventId, () -> {
+            List<SeatCategory> categories = hedgedReadExecutor.execute("getSeatCategoriesByEventId",
+                    RequestDeadline.bind(() -> seatCategoryRepository.findByEventId(eventId)));
+            lastKnownGoodStore.putSeatCategories(eventId, categories);
+            return categories;
+        });
+    }
+
+    public List<SeatCategory> getSeatCategoriesFallback(String eventId, Throwable t) throws Throwable {
+        log.error("Fallback for getSeatCategoriesByEventId {} triggered due to: {}", eventId, t.getMessage(), t);
+        TraceSampling.keep("getSeatCategoriesFallback");
+        LastKnownGoodStore.Snapshot<List<SeatCategory>> snapshot = lastKnownGoodStore.getSeatCategories(eventId).orElseThrow(() -> t);
+        log.warn("Serving last-known-good seat categories for event {} captured at {}", eventId, snapshot.capturedAt());
+        StaleResponses.mark(snapshot.capturedAt());
+        return snapshot.value();
+    }
+
+    /**
+     * Reads an event and its seat categories concurrently through the Spanner async API. The calling
+     * thread only starts the reads; the result completes when the slower of the two returns.
+     * Identical concurrent requests share one pair of reads, each read is hedged like the blocking
+     * reads, and a failed attempt is retried asynchronously through {@link ReadRetryPolicy} under the
+     * caller's deadline.
+     *
+     * @param id the event ID.
+     * @return the event with its seat categories, or empty if the event does not exist.
+     */
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME, fallbackMethod = "getEventDetailAsyncFallback")
+    public CompletableFuture<Optional<EventDetailResponse>> getEventDetailAsync(String id) {
+        log.debug("Fetching event detail asynchronously for ID: {}", id);
+        hotKeyTracker.record(HotKeyTracker.EVENTS, id);
+        // Retries are decided on whichever thread fails the attempt, so the deadline is captured here once
+        Long deadline = RequestDeadline.capture();
+        CompletableFuture<Optional<EventDetailResponse>> detail = readRetryPolicy.executeAsync(deadline,
+                () -> readCoalescer.executeAsync("getEventDetail", id, RequestDeadline.bindAsync(deadline, () -> {
+                    CompletableFuture<Optional<Event>> event = hedgedReadExecutor.executeAsync("getEventById",
+                            () -> eventAsyncReader.findEventById(id));
+                    CompletableFuture<List<SeatCategory>> categories = hedgedReadExecutor.executeAsync("getSeatCategoriesByEventId",
+                            () -> eventAsyncReader.findSeatCategoriesByEventId(id));
+                    return event.thenCombine(categories, (found, seatCategories) -> found.map(value -> {
+                        lastKnownGoodStore.putEvent(value);
+                        lastKnownGoodStore.putSeatCategories(id, seatCategories);
+                        return new EventDetailResponse(value, seatCategories);
+                    }));
+                })));
+        return AsyncRequestContext.completeInCaller(detail);
+    }
+
+    public CompletableFuture<Optional<EventDetailResponse>> getEventDetailAsyncFallback(String id, Throwable t) {
+        log.error("Fallback for getEventDetailAsync {} triggered due to: {}", id, t.getMessage(), t);
+        TraceSampling.keep("getEventDetailFallback");
+        Optional<LastKnownGoodStore.Snapshot<Event>> event = lastKnownGoodStore.getEvent(id);
+        Optional<LastKnownGoodStore.Snapshot<List<SeatCategory>>> categories = lastKnownGoodStore.getSeatCategories(id);
+        if (event.isEmpty() || categories.isEmpty()) {
+            return CompletableFuture.failedFuture(t);
+        }
+        log.warn("Serving last-known-good event {} captured at {}", id, event.get().capturedAt());
+        StaleResponses.mark(event.get().capturedAt());
+        StaleResponses.mark(categories.get().capturedAt());
+        return CompletableFuture.completedFuture(Optional.of(new EventDetailResponse(event.get().value(), categories.get().value())));
+    }
+
+    /**
+     * Lists events matching the filter from the in-memory catalog snapshot, loading it first if needed.
+     *
+     * @param filter   venue, start time range and maximum seat price; unset fields are ignored.
+     * @param pageable page and sort; sorting is supported on id, name, venue and startTime.
+     * @return the matching events.
+     * @throws IllegalArgumentException if the range is inverted or the sort property is not supported.
+     * @throws CatalogUnavailableException if the catalog snapshot is disabled.
+     */
+    @Retry(name = RESILIENCE_INSTANCE_NAME)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME)
+    public Page<Event> searchEvents(EventFilter filter, Pageable pageable) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        log.debug("Searching events with filter: {}, pageable: {}", filter, pageable);
+        catalogSnapshot.ensureLoaded();
+        return catalogSnapshot.query(filter, pageable)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort: " + pageable.getSort()));
+    }
+
+    /**
+     * Lists the events that start next, soonest first, each with its total availability and minimum price.
+     * Served from the catalog snapshot through the upcoming events view; the snapshot is loaded first if needed.
+     *
+     * @param pageable page number and size; any sort is ignored.
+     * @return the events on the requested page.
+     * @throws CatalogUnavailableException if the catalog snapshot is disabled.
+     */
+    @Retry(name = RESILIENCE_INSTANCE_NAME)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME)
+    public List<EventSummary> getUpcomingEvents(Pageable pageable) {
+        log.debug("Fetching upcoming events with pageable: {}", pageable);
+        upcomingEventsView.ensureLoaded();
+        return upcomingEventsView.upcoming((int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+    }
+
+    /**
+     * Adds seat summaries (minimum price, total availability, sold-out flag) to a page of events.
+     * Served from the catalog snapshot when it is loaded and holds every event on the page; otherwise
+     * one aggregate Spanner query covers the whole page rather than one read per event.
+     *
+     * @param events a page of events, e.g. from {@link #getAllEvents(Pageable)}.
+     * @return the same page with each event's seat summary; events without categories get an empty summary.
+     */
+    @Retry(name = RESILIENCE_INSTANCE_NAME)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME, fallbackMethod = "withSeatSummariesFallback")
+    @Transactional(readOnly = true)
+    public Page<EventSummary> withSeatSummaries(Page<Event> events) {
+        SeatSummary none = SeatSummary.of(List.of());
+        if (events.isEmpty()) {
+            return events.map(event -> new EventSummary(event, none));
+        }
+        List<String> eventIds = events.getContent().stream().map(Event::getId).distinct().sorted().toList();
+        if (catalogSnapshot.isReady()) {
+            Map<String, SeatSummary> fromSnapshot = catalogSnapshot.seatSummaries(eventIds);
+            if (fromSnapshot.size() == eventIds.size()) {
+                return events.map(event -> new EventSummary(event, fromSnapshot.get(event.getId())));
+            }
+        }
+        log.debug("Summarizing seat categories for {} events", eventIds.size());
+        Map<String, SeatSummary> summaries = readCoalescer.execute("seatSummaries", String.join(",", eventIds),
+                () -> RequestDeadline.call(() -> seatCategoryRepository.summarizeByEventIds(eventIds)));
+        return events.map(event -> new EventSummary(event, summaries.getOrDefault(event.getId(), none)));
+    }
+
+    /**
+     * Summarizes each event from the catalog snapshot or, failing that, its last-known-good seat
+     * categories; events with neither get an empty summary rather than failing the whole listing.
+     */
+    public Page<EventSummary> withSeatSummariesFallback(Page<Event> events, Throwable t) {
+        log.error("Fallback for withSeatSummaries triggered due to: {}", t.getMessage(), t);
+        TraceSampling.keep("withSeatSummariesFallback");
+        List<String> eventIds = events.getContent().stream().map(Event::getId).distinct().toList();
+        Map<String, SeatSummary> fromSnapshot = catalogSnapshot.seatSummaries(eventIds);
+        SeatSummary none = SeatSummary.of(List.of());
+        return events.map(event -> {
+            SeatSummary summary = fromSnapshot.get(event.getId());
+            if (summary != null) {
+                return new EventSummary(event, summary);
+            }
+            return lastKnownGoodStore.getSeatCategories(event.getId())
+                    .map(snapshot -> {
+                        StaleResponses.mark(snapshot.capturedAt());
+                        return new EventSummary(event, SeatSummary.of(snapshot.value()));
+                    })
+                    .orElseGet(() -> new EventSummary(event, none));
+        });
+    }
+
+    // Identical page requests (same number, size and sort) share one coalescing key
+    private static String pageKey(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged:" + pageable.getSort();
+        }
+        return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    /**
+     * Reads several events and their seat categories with one KeySet read per table.
+     * Both reads run in the same read-only transaction, so they observe a consistent snapshot.
+     *
+     * @param ids the requested event IDs; duplicates and blank IDs are ignored.
+     * @return the found events (in request order) and the IDs that do not exist.
+     * @throws IllegalArgumentException if no IDs or more than the configured maximum are supplied.
+     */
+    @Retry(name = RESILIENCE_INSTANCE_NAME)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE_NAME)
+    @Transactional(readOnly = true)
+    public EventBatchResponse getEventDetailsByIds(List<String> ids) {
+        Set<String> requestedIds = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !id.isBlank()) {
+                requestedIds.add(id.trim());
+            }
+        }
+        if (requestedIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one event id is required");
+        }
+        if (requestedIds.size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " event ids can be requested at once");
+        }
+
+        log.debug("Fetching {} events and their seat categories in batch", requestedIds.size());
+        Map<String, Event> eventsById = RequestDeadline.call(() -> eventRepository.findAllByIds(requestedIds)).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        Map<String, List<SeatCategory>> categoriesByEventId = eventsById.isEmpty()
+                ? Map.of()
+                : RequestDeadline.call(() -> seatCategoryRepository.findByEventIds(eventsById.keySet())).stream()
+                        .collect(Collectors.groupingBy(SeatCategory::getEventId));
+
+        List<EventDetailResponse> found = new ArrayList<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String id : requestedIds) {
+            Event event = eventsById.get(id);
+            if (event == null) {
+                missingIds.add(id);
+            } else {
+                found.add(new EventDetailResponse(event, categoriesByEventId.getOrDefault(id, List.of())));
+            }
+        }
+        return new EventBatchResponse(found, missingIds);
     }
 
     @Transactional
@@ -91,6 +394,8 @@ public class EventService {
             event.setDescription(request.getDescription());
             event.setStartTime(request.getStartTime());
             event.setVenue(request.getVenue());
+            // Unconditional updates still bump the version, so concurrent conditional updates detect them
+            event.setVersion(event.getVersion() == null ? 1L : event.getVersion() + 1);
         } else {
             log.info("Creating new event with name: {}", request.getName());
             event = new Event();
@@ -99,28 +404,12 @@ public class EventService {
             event.setDescription(request.getDescription());
             event.setStartTime(request.getStartTime());
             event.setVenue(request.getVenue());
+            event.setVersion(1L);
         }
 
-        if (imageFile != null && !imageFile.isEmpty()) {
-            log.info("Processing image file: {}", imageFile.getOriginalFilename());
-            String imageName = "event_images/" + event.getId() + "/" + System.currentTimeMillis() + "_" + imageFile.getOriginalFilename();
-            BlobId blobId = BlobId.of(bucketName, imageName);
-            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                    .setContentType(imageFile.getContentType())
-                    .build();
-            try {
-                // This is where the mocked StorageException will be thrown in the test
-                storage.create(blobInfo, imageFile.getBytes());
-                event.setImageUrl(String.format("gs://%s/%s", bucketName, imageName));
-                log.info("Image uploaded to GCS: {}", event.getImageUrl());
-            } catch (IOException e) { // Catches IOException from imageFile.getBytes()
-                log.error("Failed to read image file {} for GCS bucket {}: {}", imageFile.getOriginalFilename(), bucketName, e.getMessage(), e);
-                throw e; // Re-throw the original IOException
-            } catch (StorageException e) { // Catches StorageException from storage.create()
-                log.error("Failed to upload image {} to GCS bucket {}: {}", imageName, bucketName, e.getMessage(), e);
-                // CORRECTED/VERIFIED: Wrap StorageException in IOException as per method signature
-                throw new IOException("Failed to upload image to GCS: " + e.getMessage(), e);
-            }
+        String imageUrl = uploadImage(event.getId(), imageFile);
+        if (imageUrl != null) {
+            event.setImageUrl(imageUrl);
         } else if (request.getId() != null && event.getImageUrl() != null) {
             log.debug("No new image provided for update, keeping existing image URL: {}", event.getImageUrl());
         }
@@ -129,27 +418,163 @@ public class EventService {
         log.info("Saved event with ID: {}", savedEvent.getId());
 
         List<SeatCategory> existingCategories = seatCategoryRepository.findByEventId(savedEvent.getId());
+        // A new event has no seat maps yet
+        Set<String> seatMapCategoryIds = request.getId() != null && !request.getId().isBlank()
+                ? seatCategoryRepository.findSeatMapCategoryIds(savedEvent.getId()) : Set.of();
         if (!existingCategories.isEmpty()) {
             log.debug("Deleting {} existing seat categories for event ID: {}", existingCategories.size(), savedEvent.getId());
             seatCategoryRepository.deleteAll(existingCategories);
         }
 
-        if (request.getSeatCategories() != null && !request.getSeatCategories().isEmpty()) {
-            List<SeatCategory> newCategories = new ArrayList<>();
-            for (EventAdminRequest.SeatCategoryRequest catReq : request.getSeatCategories()) {
-                SeatCategory category = new SeatCategory();
-                category.setEventId(savedEvent.getId());
-                category.setId(catReq.getId() != null && !catReq.getId().isBlank() ? catReq.getId() : UUID.randomUUID().toString());
-                category.setName(catReq.getName());
-                category.setPrice(catReq.getPrice());
-                category.setAvailableCount(catReq.getAvailableCount());
-                newCategories.add(category);
-            }
-            if (!newCategories.isEmpty()) {
-                log.debug("Saving {} new seat categories for event ID: {}", newCategories.size(), savedEvent.getId());
-                seatCategoryRepository.saveAll(newCategories);
+        List<SeatCategory> newCategories = saveSeatCategories(savedEvent.getId(), request, existingCategories, seatMapCategoryIds);
+        // Applied to the catalog snapshot once the transaction commits
+        eventPublisher.publishEvent(new CatalogChangedEvent(savedEvent, List.copyOf(newCategories)));
+        return savedEvent;
+    }
+
+    /**
+     * Updates an event only if it is still at the version the client last read, without reading it first.
+     * The event row is changed by one conditional DML statement, and the seat categories are replaced
+     * by a blind delete of the event's key range followed by inserts. Only events with seat maps also
+     * read their categories, whose ids and available counts the seat maps own.
+     *
+     * @param request         the new event data; its id identifies the event.
+     * @param imageFile       optional new image; without one the stored image URL is kept.
+     * @param expectedVersion the version from the client's If-Match header.
+     * @return the updated event, carrying its new version.
+     * @throws ConflictException        if the event has been modified since that version.
+     * @throws IllegalArgumentException if the request has no id or the event does not exist.
+     * @throws IOException              if the image cannot be read or uploaded.
+     */
+    @Transactional
+    public Event updateEventIfVersionMatches(EventAdminRequest request, MultipartFile imageFile, long expectedVersion) throws IOException {
+        if (request.getId() == null || request.getId().isBlank()) {
+            throw new IllegalArgumentException("A conditional update requires an event id");
+        }
+        String eventId = request.getId();
+        log.info("Updating event with ID: {} if at version {}", eventId, expectedVersion);
+
+        String imageUrl = uploadImage(eventId, imageFile);
+        List<Event> updated;
+        try {
+            updated = eventRepository.updateIfVersionMatches(eventId, expectedVersion, request.getName(),
+                    request.getDescription(), request.getStartTime(), request.getVenue(), imageUrl);
+        } catch (RuntimeException e) {
+            deleteImageQuietly(imageUrl);
+            throw e;
+        }
+        if (updated.isEmpty()) {
+            // Nothing references the new image
+            deleteImageQuietly(imageUrl);
+            // Only the failure path pays for a read, to tell a stale version from a missing event
+            if (!eventRepository.existsById(eventId)) {
+                log.warn("Attempted to update non-existent event with ID: {}", eventId);
+                throw new IllegalArgumentException("Event not found with id: " + eventId);
             }
+            log.info("Conditional update of event {} rejected: version {} is stale", eventId, expectedVersion);
+            throw new ConflictException("Event " + eventId + " has been modified since version " + expectedVersion);
         }
+        Event savedEvent = updated.get(0);
+        log.info("Updated event with ID: {} to version {}", eventId, savedEvent.getVersion());
+
+        Set<String> seatMapCategoryIds = seatCategoryRepository.findSeatMapCategoryIds(eventId);
+        List<SeatCategory> existingCategories = seatMapCategoryIds.isEmpty() ? List.of() : seatCategoryRepository.findByEventId(eventId);
+        seatCategoryRepository.deleteByEventId(eventId);
+        List<SeatCategory> newCategories = saveSeatCategories(eventId, request, existingCategories, seatMapCategoryIds);
+        eventPublisher.publishEvent(new CatalogChangedEvent(savedEvent, List.copyOf(newCategories)));
         return savedEvent;
     }
+
+    // Uploads the image to GCS and returns its gs:// URL, or null if no image was provided
+    private String uploadImage(String eventId, MultipartFile imageFile) throws IOException {
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+        log.info("Processing image file: {}", imageFile.getOriginalFilename());
+        String imageName = "event_images/" + eventId + "/" + System.currentTimeMillis() + "_" + imageFile.getOriginalFilename();
+        BlobId blobId = BlobId.of(bucketName, imageName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+                .setContentType(imageFile.getContentType())
+                .build();
+        try {
+            // This is where the mocked StorageException will be thrown in the test
+            storage.create(blobInfo, imageFile.getBytes());
+            String imageUrl = String.format("gs://%s/%s", bucketName, imageName);
+            log.info("Image uploaded to GCS: {}", imageUrl);
+            return imageUrl;
+        } catch (IOException e) { // Catches IOException from imageFile.getBytes()
+            log.error("Failed to read image file {} for GCS bucket {}: {}", imageFile.getOriginalFilename(), bucketName, e.getMessage(), e);
+            throw e; // Re-throw the original IOException
+        } catch (StorageException e) { // Catches StorageException from storage.create()
+            log.error("Failed to upload image {} to GCS bucket {}: {}", imageName, bucketName, e.getMessage(), e);
+            // CORRECTED/VERIFIED: Wrap StorageException in IOException as per method signature
+            throw new IOException("Failed to upload image to GCS: " + e.getMessage(), e);
+        }
+    }
+
+    // Categories with a seat map keep their id and available count, which the seat inventory maintains;
+    // a requested category without an id takes over the one with its name. Seat maps of dropped categories are deleted.
+    // Removes an image uploaded for an update that was rejected; a failure only leaves an unreferenced object
+    private void deleteImageQuietly(String imageUrl) {
+        String prefix = "gs://" + bucketName + "/";
+        if (imageUrl == null || !imageUrl.startsWith(prefix)) {
+            return;
+        }
+        try {
+            storage.delete(BlobId.of(bucketName, imageUrl.substring(prefix.length())));
+            log.debug("Deleted unreferenced image {}", imageUrl);
+        } catch (StorageException e) {
+            log.warn("Failed to delete unreferenced image {}: {}", imageUrl, e.getMessage());
+        }
+    }
+
+    private List<SeatCategory> saveSeatCategories(String eventId, EventAdminRequest request,
+                                                  List<SeatCategory> existingCategories, Set<String> seatMapCategoryIds) {
+        Map<String, SeatCategory> seatMapped = new LinkedHashMap<>();
+        for (SeatCategory existing : existingCategories) {
+            if (seatMapCategoryIds.contains(existing.getId())) {
+                seatMapped.put(existing.getId(), existing);
+            }
+        }
+        List<EventAdminRequest.SeatCategoryRequest> requested = request.getSeatCategories() == null ? List.of() : request.getSeatCategories();
+        Set<String> keptIds = new HashSet<>();
+        for (EventAdminRequest.SeatCategoryRequest catReq : requested) {
+            if (catReq.getId() != null && !catReq.getId().isBlank()) {
+                keptIds.add(catReq.getId());
+            }
+        }
+
+        List<SeatCategory> newCategories = new ArrayList<>();
+        for (EventAdminRequest.SeatCategoryRequest catReq : requested) {
+            String id = catReq.getId();
+            if (id == null || id.isBlank()) {
+                id = seatMapped.values().stream()
+                        .filter(existing -> !keptIds.contains(existing.getId()) && Objects.equals(existing.getName(), catReq.getName()))
+                        .map(SeatCategory::getId)
+                        .findFirst()
+                        .orElseGet(() -> UUID.randomUUID().toString());
+                keptIds.add(id);
+            }
+            SeatCategory seatMap = seatMapped.get(id);
+            SeatCategory category = new SeatCategory();
+            category.setEventId(eventId);
+            category.setId(id);
+            category.setName(catReq.getName());
+            category.setPrice(catReq.getPrice());
+            category.setAvailableCount(seatMap != null ? seatMap.getAvailableCount() : catReq.getAvailableCount());
+            newCategories.add(category);
+        }
+        if (!newCategories.isEmpty()) {
+            log.debug("Saving {} new seat categories for event ID: {}", newCategories.size(), eventId);
+            seatCategoryRepository.saveAll(newCategories);
+        }
+
+        Set<String> dropped = new HashSet<>(seatMapCategoryIds);
+        dropped.removeAll(keptIds);
+        if (!dropped.isEmpty()) {
+            log.info("Deleting seat maps of removed seat categories {} of event ID: {}", dropped, eventId);
+            seatCategoryRepository.deleteSeatMaps(eventId, dropped);
+        }
+        return newCategories;
+    }
 }
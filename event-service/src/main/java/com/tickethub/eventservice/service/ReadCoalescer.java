@@ -0,0 +1,173 @@
+package com.tickethub.eventservice.service;
+
+import com.tickethub.eventservice.exception.DeadlineExceededException;
+import com.tickethub.eventservice.resilience.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing for identical concurrent reads.
+ * The first caller for a key executes the loader; callers that arrive while that call
+ * is still in flight wait for it and share its result instead of issuing their own Spanner read.
+ * Nothing is cached: as soon as the in-flight call completes, the key is released.
+ * <p>
+ * Followers wait no longer than their own request deadline ({@link RequestDeadline}). If the
+ * leader ran out of its deadline, followers that still have time run the loader themselves
+ * rather than failing with the leader's timeout.
+ */
+@Component
+public class ReadCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadCoalescer.class);
+
+    static final String EXECUTED_METRIC = "eventservice.reads.executed";
+    static final String COLLAPSED_METRIC = "eventservice.reads.collapsed";
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public ReadCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("eventservice.reads.inflight", inFlight, ConcurrentMap::size);
+    }
+
+    /**
+     * Executes the loader for the given key, or joins an identical call that is already in flight.
+     *
+     * @param operation logical operation name, used as the metric tag and key namespace.
+     * @param key       identifies the read within the operation (e.g. the event ID).
+     * @param loader    performs the actual read.
+     * @return the result of the loader, possibly computed by another thread.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> loader) {
+        String flightKey = operation + ":" + key;
+        CompletableFuture<Object> promise = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, promise);
+
+        if (existing != null) {
+            counter(COLLAPSED_METRIC, operation).increment();
+            log.debug("Joining in-flight read for {}", flightKey);
+            try {
+                return (T) await(existing);
+            } catch (DeadlineExceededException e) {
+                if (RequestDeadline.remaining().filter(remaining -> remaining.isNegative() || remaining.isZero()).isPresent()) {
+                    throw e;
+                }
+                // The leader's deadline passed, not ours: try again, possibly as the new leader
+                log.debug("In-flight read for {} exceeded its leader's deadline, retrying", flightKey);
+                return execute(operation, key, loader);
+            }
+        }
+
+        counter(EXECUTED_METRIC, operation).increment();
+        try {
+            T value = loader.get();
+            promise.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            promise.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, promise);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute}: the first caller for a key starts the read, and callers
+     * that arrive before its future completes get a copy of that future instead of starting their own.
+     * The key is released when the read completes. Followers share the leader's outcome, including a
+     * failure caused by the leader's deadline; their own retry starts a fresh read.
+     *
+     * @param operation logical operation name, used as the metric tag and key namespace.
+     * @param key       identifies the read within the operation (e.g. the event ID).
+     * @param loader    starts the actual read.
+     * @return a future of the loader's result; cancelling it does not cancel the shared read.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String operation, String key, Supplier<CompletableFuture<T>> loader) {
+        String flightKey = operation + ":" + key;
+        CompletableFuture<Object> promise = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, promise);
+
+        if (existing != null) {
+            counter(COLLAPSED_METRIC, operation).increment();
+            log.debug("Joining in-flight async read for {}", flightKey);
+            return (CompletableFuture<T>) existing.copy();
+        }
+
+        counter(EXECUTED_METRIC, operation).increment();
+        CompletableFuture<T> read;
+        try {
+            read = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, promise);
+            promise.completeExceptionally(e);
+            throw e;
+        }
+        read.whenComplete((value, error) -> {
+            // Release the key first, so a caller arriving after completion starts a fresh read
+            inFlight.remove(flightKey, promise);
+            if (error == null) {
+                promise.complete(value);
+            } else {
+                promise.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+        return (CompletableFuture<T>) promise.copy();
+    }
+
+    /**
+     * @return the number of distinct reads currently in flight.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // Waits for the leader, but no longer than the current request's deadline
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            Optional<Duration> remaining = RequestDeadline.remaining();
+            if (remaining.isEmpty()) {
+                return future.join();
+            }
+            return future.get(Math.max(0, remaining.get().toNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Request deadline exceeded while waiting for an in-flight read");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight read", e);
+        } catch (CompletionException | ExecutionException e) {
+            // Surface the leader's exception unchanged so Retry/CircuitBreaker classify it the same way
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
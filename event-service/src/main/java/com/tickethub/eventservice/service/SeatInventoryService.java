@@ -0,0 +1,556 @@
+package com.tickethub.eventservice.service;
+
+import com.google.cloud.ByteArray;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spring.data.spanner.core.SpannerOperations;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.catalog.CatalogChangedEvent;
+import com.tickethub.eventservice.dto.SeatAllocation;
+import com.tickethub.eventservice.dto.SeatRowLayout;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.exception.NotFoundException;
+import com.tickethub.eventservice.exception.SeatsUnavailableException;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.model.SeatHoldRecord;
+import com.tickethub.eventservice.model.SeatRowRecord;
+import com.tickethub.eventservice.seating.SeatBitmap;
+import com.tickethub.eventservice.seating.SeatMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-seat inventory of seat categories.
+ * <p>
+ * Each row's free seats are a {@link SeatBitmap}, persisted in the {@code seat_rows} table as a
+ * compact blob; a fully free or sold-out row takes a few bytes, a fragmented one a few dozen. The
+ * category's {@code available_count} is kept in step, so listings keep working off the aggregate:
+ * every write that changes it publishes a {@link CatalogChangedEvent}, like event writes do, so the
+ * catalog snapshot and the other instances see the new availability.
+ * <p>
+ * Best-available allocation searches an in-memory {@link SeatMap} of the category and reserves the
+ * block there, then commits it in a read-write transaction that re-reads the row and checks the
+ * seats are still free. Other instances allocate from their own copies, so a commit can find seats
+ * already taken: the row is then replaced with the stored one and the search runs again. Copies are
+ * reloaded after the refresh interval, so seats released elsewhere become visible again.
+ * <p>
+ * Allocated seats are held, in a {@code seat_holds} row written by the same transaction, until the
+ * purchase confirms the hold. Holds still unconfirmed when they expire are released by a periodic
+ * sweep, so abandoned purchases do not keep seats off sale.
+ */
+@Service
+public class SeatInventoryService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryService.class);
+
+    static final String ALLOCATION_METRIC = "eventservice.seats.allocation";
+    static final String EXPIRED_HOLDS_METRIC = "eventservice.seats.holds.expired";
+    // Expired holds released per sweep query; a sweep keeps querying until none are left
+    static final int HOLD_SWEEP_BATCH = 100;
+
+    private final SpannerTemplate spannerTemplate;
+    private final long refreshIntervalNanos;
+    private final int maxAttempts;
+    private final Duration holdDuration;
+    private final long holdSweepIntervalMs;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Clock clock;
+    private final ConcurrentMap<String, LoadedSeatMap> seatMaps = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private record LoadedSeatMap(SeatMap seatMap, long loadedAt) {}
+
+    @Autowired
+    public SeatInventoryService(SpannerTemplate spannerTemplate,
+                                @Value("${eventservice.seats.refresh-interval:30s}") Duration refreshInterval,
+                                @Value("${eventservice.seats.max-attempts:3}") int maxAttempts,
+                                @Value("${eventservice.seats.hold-duration:10m}") Duration holdDuration,
+                                @Value("${eventservice.seats.hold-sweep-interval:30s}") Duration holdSweepInterval,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry) {
+        this(spannerTemplate, refreshInterval, maxAttempts, holdDuration, holdSweepInterval, eventPublisher, meterRegistry,
+                System::nanoTime, Clock.systemUTC());
+    }
+
+    SeatInventoryService(SpannerTemplate spannerTemplate, Duration refreshInterval, int maxAttempts,
+                         Duration holdDuration, Duration holdSweepInterval, ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry, LongSupplier nanoClock, Clock clock) {
+        this.spannerTemplate = spannerTemplate;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.holdDuration = holdDuration;
+        this.holdSweepIntervalMs = holdSweepInterval.toMillis();
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the periodic release of expired seat holds once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduler.scheduleWithFixedDelay(this::releaseExpiredHoldsQuietly, holdSweepIntervalMs, holdSweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replaces a seat category's seat map with the given rows, all seats free, and sets the
+     * category's available count to the total number of seats. Unconfirmed holds in the category
+     * are dropped, as their seats are free again.
+     *
+     * @param eventId    the event.
+     * @param categoryId the seat category.
+     * @param rows       the rows; each section and row pair must be unique.
+     * @return the total number of seats.
+     * @throws IllegalArgumentException if there are no rows, a row is invalid or listed twice.
+     * @throws NotFoundException        if the seat category does not exist.
+     */
+    public long defineSeatMap(String eventId, String categoryId, List<SeatRowLayout> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new IllegalArgumentException("A seat map needs at least one row");
+        }
+        Set<String> names = new HashSet<>();
+        List<SeatRowRecord> records = new ArrayList<>(rows.size());
+        long totalSeats = 0;
+        for (SeatRowLayout row : rows) {
+            if (row.section() == null || row.section().isBlank() || row.row() == null || row.row().isBlank()) {
+                throw new IllegalArgumentException("Every row needs a section and a name");
+            }
+            if (row.rank() == null || row.seatCount() == null || row.seatCount() <= 0) {
+                throw new IllegalArgumentException("Row " + row.row() + " of section " + row.section() + " needs a rank and a positive seat count");
+            }
+            if (!names.add(mapKey(row.section(), row.row()))) {
+                throw new IllegalArgumentException("Row " + row.row() + " of section " + row.section() + " is listed twice");
+            }
+            byte[] allFree = SeatBitmap.ofRange(0, row.seatCount()).serialize();
+            records.add(new SeatRowRecord(eventId, categoryId, row.section(), row.row(), (long) row.rank(),
+                    (long) row.seatCount(), ByteArray.copyFrom(allFree)));
+            totalSeats += row.seatCount();
+        }
+
+        long available = totalSeats;
+        // Outcomes are returned rather than thrown: exceptions inside the transaction function are wrapped by the client
+        Optional<CatalogChangedEvent> defined = spannerTemplate.performReadWriteTransaction(template -> {
+            if (template.read(SeatCategory.class, Key.of(eventId, categoryId)) == null) {
+                return Optional.<CatalogChangedEvent>empty();
+            }
+            template.delete(SeatRowRecord.class, KeySet.prefixRange(Key.of(eventId, categoryId)));
+            template.insertAll(records);
+            List<SeatHoldRecord> holds = unconfirmedHolds(template, eventId, categoryId, null, null);
+            if (!holds.isEmpty()) {
+                template.deleteAll(holds);
+            }
+            return Optional.ofNullable(updateAvailableCount(template, eventId, categoryId, current -> available));
+        });
+        if (defined.isEmpty()) {
+            throw new NotFoundException("Seat category " + categoryId + " of event " + eventId + " not found");
+        }
+        seatMaps.remove(mapKey(eventId, categoryId));
+        eventPublisher.publishEvent(defined.get());
+        log.info("Defined seat map of category {} of event {}: {} rows, {} seats", categoryId, eventId, rows.size(), totalSeats);
+        return totalSeats;
+    }
+
+    /**
+     * Holds the best available block of adjacent seats: in the best-ranked row that has room, as
+     * close to the middle of the row as possible. The seats are released again unless the hold is
+     * confirmed with {@link #confirmHold(String, String)} before it expires.
+     *
+     * @param eventId    the event.
+     * @param categoryId the seat category.
+     * @param count      the number of seats.
+     * @return the seats held, with the hold's ID and expiry.
+     * @throws IllegalArgumentException  if count is not positive.
+     * @throws NotFoundException         if the category has no seat map.
+     * @throws SeatsUnavailableException if no row has that many adjacent free seats.
+     * @throws ConflictException         if concurrent allocations kept taking the chosen seats first.
+     */
+    public SeatAllocation allocateBestAvailable(String eventId, String categoryId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Seat count must be positive");
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            long started = nanoClock.getAsLong();
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                LoadedSeatMap loaded = seatMap(eventId, categoryId);
+                Optional<SeatMap.Allocation> reserved = loaded.seatMap().reserveBestAvailable(count);
+                if (reserved.isEmpty()) {
+                    if (loaded.loadedAt() - started >= 0 || attempt == maxAttempts) {
+                        outcome = "unavailable";
+                        throw new SeatsUnavailableException("No " + count + " adjacent seats available in category " + categoryId);
+                    }
+                    // Seats may have been released through another instance since the map was loaded
+                    seatMaps.remove(mapKey(eventId, categoryId), loaded);
+                    continue;
+                }
+                SeatMap.Allocation allocation = reserved.get();
+                Instant expiresAt = clock.instant().plus(holdDuration);
+                SeatHoldRecord hold = new SeatHoldRecord(eventId, UUID.randomUUID().toString(), categoryId,
+                        allocation.section(), allocation.row(),
+                        allocation.seatNumbers().stream().map(Integer::longValue).toList(), timestamp(expiresAt), null);
+                Commit commit;
+                try {
+                    commit = commit(eventId, categoryId, allocation, hold);
+                } catch (RuntimeException e) {
+                    loaded.seatMap().release(allocation);
+                    throw e;
+                }
+                if (commit.storedFreeSeats() == null) {
+                    publish(commit.change());
+                    outcome = "allocated";
+                    return new SeatAllocation(eventId, categoryId, allocation.section(), allocation.row(), allocation.seatNumbers(),
+                            hold.getHoldId(), expiresAt);
+                }
+                log.debug("Seats {} of row {} in category {} were taken concurrently (attempt {})",
+                        allocation.seatNumbers(), allocation.row(), categoryId, attempt);
+                loaded.seatMap().replaceRow(allocation.section(), allocation.row(), commit.storedFreeSeats());
+            }
+            outcome = "conflict";
+            throw new ConflictException("Seats in category " + categoryId + " were taken concurrently, please retry");
+        } finally {
+            sample.stop(meterRegistry.timer(ALLOCATION_METRIC, "outcome", outcome));
+        }
+    }
+
+    /**
+     * Confirms a seat hold, so its seats stay taken. Confirming a confirmed hold again returns it
+     * unchanged, so a confirmation can safely be retried.
+     *
+     * @param eventId the event.
+     * @param holdId  the hold returned by {@link #allocateBestAvailable(String, String, int)}.
+     * @return the confirmed seats.
+     * @throws NotFoundException if the hold does not exist, or expired and was released.
+     * @throws ConflictException if the hold expired before it was confirmed.
+     */
+    public SeatAllocation confirmHold(String eventId, String holdId) {
+        Timestamp now = timestamp(clock.instant());
+        Confirmation confirmation = spannerTemplate.performReadWriteTransaction(template -> {
+            SeatHoldRecord hold = template.read(SeatHoldRecord.class, Key.of(eventId, holdId));
+            if (hold == null) {
+                return new Confirmation(HoldOutcome.NO_HOLD, null);
+            }
+            if (hold.getConfirmedAt() == null) {
+                if (hold.getExpiresAt().compareTo(now) <= 0) {
+                    return new Confirmation(HoldOutcome.EXPIRED, hold);
+                }
+                hold.setConfirmedAt(now);
+                template.update(hold, "confirmedAt");
+            }
+            return new Confirmation(HoldOutcome.CONFIRMED, hold);
+        });
+        switch (confirmation.outcome()) {
+            case NO_HOLD:
+                throw new NotFoundException("Seat hold " + holdId + " of event " + eventId + " not found");
+            case EXPIRED:
+                throw new ConflictException("Seat hold " + holdId + " expired before it was confirmed");
+            default:
+                SeatHoldRecord hold = confirmation.hold();
+                log.info("Confirmed seat hold {} of category {} of event {}", holdId, hold.getCategoryId(), eventId);
+                return new SeatAllocation(eventId, hold.getCategoryId(), hold.getSection(), hold.getRow(),
+                        hold.getSeats().stream().map(Long::intValue).toList(), holdId, instant(hold.getExpiresAt()));
+        }
+    }
+
+    /**
+     * Releases the seats of holds that expired without being confirmed.
+     *
+     * @return the number of holds released.
+     */
+    public int releaseExpiredHolds() {
+        Timestamp now = timestamp(clock.instant());
+        Statement statement = Statement.newBuilder(
+                        "SELECT * FROM seat_holds WHERE expires_at <= @now AND confirmed_at IS NULL LIMIT @limit")
+                .bind("now").to(now)
+                .bind("limit").to(HOLD_SWEEP_BATCH)
+                .build();
+        int released = 0;
+        List<SeatHoldRecord> expired;
+        do {
+            expired = spannerTemplate.query(SeatHoldRecord.class, statement, null);
+            for (SeatHoldRecord hold : expired) {
+                if (releaseHold(hold, now)) {
+                    released++;
+                }
+            }
+        } while (expired.size() == HOLD_SWEEP_BATCH);
+        if (released > 0) {
+            meterRegistry.counter(EXPIRED_HOLDS_METRIC).increment(released);
+            log.info("Released {} expired seat holds", released);
+        }
+        return released;
+    }
+
+    // Deletes the hold and frees its seats, unless it was confirmed or released since the sweep found it
+    private boolean releaseHold(SeatHoldRecord expired, Timestamp now) {
+        String eventId = expired.getEventId();
+        Optional<Release> release = spannerTemplate.performReadWriteTransaction(template -> {
+            SeatHoldRecord hold = template.read(SeatHoldRecord.class, Key.of(eventId, expired.getHoldId()));
+            if (hold == null || hold.getConfirmedAt() != null || hold.getExpiresAt().compareTo(now) > 0) {
+                return Optional.<Release>empty();
+            }
+            template.delete(hold);
+            SeatRowRecord record = template.read(SeatRowRecord.class,
+                    Key.of(eventId, hold.getCategoryId(), hold.getSection(), hold.getRow()));
+            if (record == null) {
+                return Optional.of(new Release(ReleaseOutcome.NO_ROW, 0, null, null));
+            }
+            return Optional.of(freeSeats(template, record, hold.getSeats().stream().map(Long::intValue).toList()));
+        });
+        if (release.isEmpty()) {
+            return false;
+        }
+        if (release.get().outcome() == ReleaseOutcome.RELEASED) {
+            applyRelease(eventId, expired.getCategoryId(), expired.getSection(), expired.getRow(), release.get());
+        }
+        log.debug("Released expired seat hold {} of event {}", expired.getHoldId(), eventId);
+        return true;
+    }
+
+    private void releaseExpiredHoldsQuietly() {
+        try {
+            releaseExpiredHolds();
+        } catch (RuntimeException e) {
+            // The next sweep tries again; the holds stay expired until then
+            log.warn("Failed to release expired seat holds: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Makes seats of one row available again. Seats that are already free are ignored, so a
+     * release can safely be retried. Unconfirmed holds give up the released seats, so their expiry
+     * does not free them a second time.
+     *
+     * @param eventId    the event.
+     * @param categoryId the seat category.
+     * @param section    the row's section.
+     * @param row        the row name.
+     * @param seats      the seat numbers.
+     * @return the number of seats that were taken and are now free.
+     * @throws IllegalArgumentException if a seat number is outside the row.
+     * @throws NotFoundException        if the row does not exist.
+     */
+    public int release(String eventId, String categoryId, String section, String row, List<Integer> seats) {
+        if (seats.stream().anyMatch(seat -> seat == null || seat < 1)) {
+            throw new IllegalArgumentException("Seat numbers must be positive");
+        }
+        Release release = spannerTemplate.performReadWriteTransaction(template -> {
+            SeatRowRecord record = template.read(SeatRowRecord.class, Key.of(eventId, categoryId, section, row));
+            if (record == null) {
+                return new Release(ReleaseOutcome.NO_ROW, 0, null, null);
+            }
+            if (seats.stream().anyMatch(seat -> seat > record.getSeatCount())) {
+                return new Release(ReleaseOutcome.OUTSIDE_ROW, 0, null, null);
+            }
+            for (SeatHoldRecord hold : unconfirmedHolds(template, eventId, categoryId, section, row)) {
+                List<Long> kept = hold.getSeats().stream().filter(seat -> !seats.contains(seat.intValue())).toList();
+                if (kept.isEmpty()) {
+                    template.delete(hold);
+                } else if (kept.size() < hold.getSeats().size()) {
+                    hold.setSeats(kept);
+                    template.update(hold, "seats");
+                }
+            }
+            return freeSeats(template, record, seats);
+        });
+        switch (release.outcome()) {
+            case NO_ROW:
+                throw new NotFoundException("Row " + row + " of section " + section + " not found in category " + categoryId);
+            case OUTSIDE_ROW:
+                throw new IllegalArgumentException("Seat numbers must be within row " + row + " of section " + section);
+            default:
+                applyRelease(eventId, categoryId, section, row, release);
+                log.info("Released {} seats of row {} in section {} of category {}", release.released(), row, section, categoryId);
+                return release.released();
+        }
+    }
+
+    private enum ReleaseOutcome { RELEASED, NO_ROW, OUTSIDE_ROW }
+
+    private enum HoldOutcome { CONFIRMED, NO_HOLD, EXPIRED }
+
+    private record Confirmation(HoldOutcome outcome, SeatHoldRecord hold) {}
+
+    private record Release(ReleaseOutcome outcome, int released, SeatBitmap freeSeats, CatalogChangedEvent change) {}
+
+    // storedFreeSeats is null if the seats were taken; otherwise the row's stored free seats, which no longer include all of them
+    private record Commit(SeatBitmap storedFreeSeats, CatalogChangedEvent change) {}
+
+    // Takes the seats and writes their hold in one transaction
+    private Commit commit(String eventId, String categoryId, SeatMap.Allocation allocation, SeatHoldRecord hold) {
+        int start = allocation.firstSeat() - 1;
+        int end = start + allocation.count();
+        return spannerTemplate.performReadWriteTransaction(template -> {
+            SeatRowRecord record = template.read(SeatRowRecord.class,
+                    Key.of(eventId, categoryId, allocation.section(), allocation.row()));
+            if (record == null) {
+                return new Commit(new SeatBitmap(), null);
+            }
+            SeatBitmap free = SeatBitmap.deserialize(record.getFreeSeats().toByteArray());
+            if (!free.containsRange(start, end)) {
+                return new Commit(free, null);
+            }
+            free.remove(start, end);
+            record.setFreeSeats(ByteArray.copyFrom(free.serialize()));
+            template.update(record, "freeSeats");
+            template.insert(hold);
+            return new Commit(null, adjustAvailableCount(template, eventId, categoryId, -allocation.count()));
+        });
+    }
+
+    // Frees the given seats of the row; seats already free or no longer in the row are skipped
+    private static Release freeSeats(SpannerOperations template, SeatRowRecord record, Collection<Integer> seats) {
+        SeatBitmap free = SeatBitmap.deserialize(record.getFreeSeats().toByteArray());
+        int released = 0;
+        for (int seat : seats) {
+            if (seat <= record.getSeatCount() && !free.contains(seat - 1)) {
+                free.add(seat - 1, seat);
+                released++;
+            }
+        }
+        CatalogChangedEvent change = null;
+        if (released > 0) {
+            record.setFreeSeats(ByteArray.copyFrom(free.serialize()));
+            template.update(record, "freeSeats");
+            change = adjustAvailableCount(template, record.getEventId(), record.getCategoryId(), released);
+        }
+        return new Release(ReleaseOutcome.RELEASED, released, free, change);
+    }
+
+    // Unconfirmed holds of a category, or of one of its rows when section and row are given
+    private static List<SeatHoldRecord> unconfirmedHolds(SpannerOperations template, String eventId, String categoryId,
+                                                         String section, String row) {
+        String sql = "SELECT * FROM seat_holds WHERE event_id = @eventId AND category_id = @categoryId AND confirmed_at IS NULL";
+        Statement.Builder statement = Statement.newBuilder(section == null ? sql : sql + " AND section = @section AND row_name = @row")
+                .bind("eventId").to(eventId)
+                .bind("categoryId").to(categoryId);
+        if (section != null) {
+            statement.bind("section").to(section).bind("row").to(row);
+        }
+        return template.query(SeatHoldRecord.class, statement.build(), null);
+    }
+
+    private void applyRelease(String eventId, String categoryId, String section, String row, Release release) {
+        LoadedSeatMap loaded = seatMaps.get(mapKey(eventId, categoryId));
+        if (loaded != null) {
+            loaded.seatMap().replaceRow(section, row, release.freeSeats());
+        }
+        publish(release.change());
+    }
+
+    private static CatalogChangedEvent adjustAvailableCount(SpannerOperations template, String eventId, String categoryId, long delta) {
+        return updateAvailableCount(template, eventId, categoryId,
+                available -> Math.max(0, (available == null ? 0 : available) + delta));
+    }
+
+    // Updates the category's available count and returns the event with all its categories as they
+    // will be after the commit (the transaction does not read its own writes), or null if the event is gone
+    private static CatalogChangedEvent updateAvailableCount(SpannerOperations template, String eventId, String categoryId,
+                                                            UnaryOperator<Long> update) {
+        Event event = template.read(Event.class, Key.of(eventId));
+        List<SeatCategory> categories = template.read(SeatCategory.class, KeySet.prefixRange(Key.of(eventId)));
+        for (SeatCategory category : categories) {
+            if (categoryId.equals(category.getId())) {
+                category.setAvailableCount(update.apply(category.getAvailableCount()));
+                template.update(category, "availableCount");
+            }
+        }
+        return event == null ? null : new CatalogChangedEvent(event, List.copyOf(categories));
+    }
+
+    // Published once the write has committed, so the catalog snapshot and other instances see the new availability
+    private void publish(CatalogChangedEvent change) {
+        if (change != null) {
+            eventPublisher.publishEvent(change);
+        }
+    }
+
+    // The cached seat map, loaded from Spanner if missing or older than the refresh interval. The read
+    // runs outside the map, so it never holds a map lock; of concurrent loads, the first one stored wins.
+    private LoadedSeatMap seatMap(String eventId, String categoryId) {
+        String key = mapKey(eventId, categoryId);
+        long now = nanoClock.getAsLong();
+        LoadedSeatMap existing = seatMaps.get(key);
+        if (existing != null && now - existing.loadedAt() < refreshIntervalNanos) {
+            return existing;
+        }
+        LoadedSeatMap loaded = new LoadedSeatMap(load(eventId, categoryId), now);
+        boolean stored = existing == null ? seatMaps.putIfAbsent(key, loaded) == null : seatMaps.replace(key, existing, loaded);
+        if (stored) {
+            return loaded;
+        }
+        // Another thread stored a copy first: allocate from that one, so both see each other's reservations
+        LoadedSeatMap winner = seatMaps.putIfAbsent(key, loaded);
+        return winner == null ? loaded : winner;
+    }
+
+    private SeatMap load(String eventId, String categoryId) {
+        List<SeatRowRecord> records = spannerTemplate.read(SeatRowRecord.class, KeySet.prefixRange(Key.of(eventId, categoryId)));
+        if (records.isEmpty()) {
+            throw new NotFoundException("Seat category " + categoryId + " of event " + eventId + " has no seat map");
+        }
+        List<SeatMap.Row> rows = new ArrayList<>(records.size());
+        for (SeatRowRecord record : records) {
+            rows.add(new SeatMap.Row(record.getSection(), record.getRow(), record.getRank().intValue(),
+                    record.getSeatCount().intValue(), SeatBitmap.deserialize(record.getFreeSeats().toByteArray())));
+        }
+        log.debug("Loaded seat map of category {} of event {}: {} rows", categoryId, eventId, rows.size());
+        return new SeatMap(rows);
+    }
+
+    private static String mapKey(String first, String second) {
+        return first + "\u0000" + second;
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return Timestamp.ofTimeSecondsAndNanos(instant.getEpochSecond(), instant.getNano());
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
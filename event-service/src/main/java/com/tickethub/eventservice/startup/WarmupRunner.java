@@ -0,0 +1,228 @@
+package com.tickethub.eventservice.startup;
+
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.Statement;
+import com.tickethub.eventservice.exception.DeadlineExceededException;
+import com.tickethub.eventservice.hotkeys.HotKeyStore;
+import com.tickethub.eventservice.hotkeys.HotKeyTracker;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.resilience.RequestDeadline;
+import com.tickethub.eventservice.service.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Startup warm-up that runs before the pod reports ready.
+ * <p>
+ * Spring Boot only publishes {@code ReadinessState.ACCEPTING_TRAFFIC} after all application runners
+ * have completed, so blocking here keeps the readiness probe ({@code management.health.readinessstate})
+ * DOWN until the Spanner session pool is populated, the main read paths have been exercised and the
+ * keys other instances read most (see {@link HotKeyStore}) have been preloaded.
+ * Liveness is already CORRECT at this point, so a slow warm-up never gets the pod restarted.
+ * A failed or timed-out warm-up is logged and the pod becomes ready anyway. The timeout is enforced
+ * on the whole warm-up, not between reads: the stages run on a worker thread under a
+ * {@link RequestDeadline}, and startup stops waiting for them when it passes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "eventservice.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    static final String DURATION_METRIC = "eventservice.warmup.duration";
+    private static final Statement SESSION_PROBE = Statement.of("SELECT 1");
+    private static final int SAMPLE_EVENT_COUNT = 5;
+
+    private final DatabaseClient databaseClient;
+    private final EventService eventService;
+    private final HotKeyStore hotKeyStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${eventservice.warmup.sessions:25}")
+    private int sessions = 25;
+
+    @Value("${eventservice.warmup.iterations:20}")
+    private int iterations = 20;
+
+    @Value("${eventservice.warmup.page-size:20}")
+    private int pageSize = 20;
+
+    @Value("${eventservice.warmup.hot-keys:100}")
+    private int hotKeys = 100;
+
+    @Value("${eventservice.warmup.timeout:30s}")
+    private Duration timeout = Duration.ofSeconds(30);
+
+    public WarmupRunner(DatabaseClient databaseClient, EventService eventService, HotKeyStore hotKeyStore,
+                        MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.eventService = eventService;
+        this.hotKeyStore = hotKeyStore;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Starting warm-up: {} Spanner sessions, {} read iterations, timeout {}", sessions, iterations, timeout);
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + timeout.toNanos();
+        String outcome = "success";
+
+        // The stages run on their own thread, so a read that ignores the deadline cannot hold startup past it
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<?> stages = worker.submit(() -> {
+                // Reads through EventService carry the remaining time as their Spanner RPC deadline
+                RequestDeadline.start(Duration.ofNanos(remainingNanos(deadlineNanos)));
+                // and are not counted as traffic, so the preloaded keys do not vote for themselves
+                HotKeyTracker.suspend();
+                try {
+                    warmSessions(deadlineNanos);
+                    warmReadPaths(deadlineNanos);
+                    warmHotKeys(deadlineNanos);
+                } finally {
+                    HotKeyTracker.resume();
+                    RequestDeadline.clear();
+                }
+                return null;
+            });
+            stages.get(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS);
+            if (System.nanoTime() > deadlineNanos) {
+                outcome = "timeout";
+            }
+        } catch (TimeoutException | CancellationException e) {
+            outcome = "timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException || cause instanceof CancellationException
+                    || cause instanceof DeadlineExceededException) {
+                outcome = "timeout";
+            } else {
+                // Never fail startup because of warm-up; the pod is still able to serve (if slower)
+                log.warn("Warm-up failed, continuing startup: {}", cause.getMessage(), cause);
+                outcome = "failed";
+            }
+        } finally {
+            worker.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Timer.builder(DURATION_METRIC)
+                .description("Time spent warming up Spanner sessions and read paths before reporting ready")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Warm-up finished with outcome '{}' in {} ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    /**
+     * Runs one trivial query per configured session concurrently, so the session pool and gRPC
+     * channels are created now rather than on the first user requests.
+     */
+    void warmSessions(long deadlineNanos) throws Exception {
+        if (sessions <= 0) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        try {
+            List<Callable<Long>> probes = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                probes.add(this::probeSession);
+            }
+            List<Future<Long>> results = executor.invokeAll(probes, remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS);
+            for (Future<Long> result : results) {
+                try {
+                    result.get(); // cancelled probes throw CancellationException (timeout)
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+            log.debug("Warmed {} Spanner sessions", sessions);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Exercises the EventService read paths (list, detail, seat categories, batch) so that the
+     * proxies, Resilience4j aspects, mapping code and JSON-facing objects are JIT-compiled.
+     */
+    void warmReadPaths(long deadlineNanos) throws TimeoutException {
+        for (int i = 0; i < iterations; i++) {
+            if (System.nanoTime() > deadlineNanos) {
+                throw new TimeoutException("Warm-up deadline reached after " + i + " read iterations");
+            }
+            Page<Event> page = eventService.getAllEvents(PageRequest.of(0, pageSize));
+            List<String> sampleIds = page.getContent().stream()
+                    .map(Event::getId)
+                    .limit(SAMPLE_EVENT_COUNT)
+                    .toList();
+            for (String id : sampleIds) {
+                eventService.getEventById(id);
+                eventService.getSeatCategoriesByEventId(id);
+            }
+            if (!sampleIds.isEmpty()) {
+                eventService.getEventDetailsByIds(sampleIds);
+            }
+        }
+    }
+
+    /**
+     * Reads the hottest events from the hot-key snapshots, so this instance's last-known-good store
+     * and Spanner's caches for them are warm before the first requests. Listing pages are not
+     * preloaded: they are served from the in-memory catalog snapshot once it has loaded.
+     */
+    void warmHotKeys(long deadlineNanos) throws TimeoutException {
+        List<String> eventIds = hotKeyStore.load(HotKeyTracker.EVENTS, hotKeys);
+        for (String id : eventIds) {
+            if (System.nanoTime() > deadlineNanos) {
+                throw new TimeoutException("Warm-up deadline reached while preloading hot events");
+            }
+            eventService.getEventById(id);
+            eventService.getSeatCategoriesByEventId(id);
+        }
+        log.debug("Preloaded {} hot events", eventIds.size());
+    }
+
+    private long probeSession() {
+        try (ResultSet resultSet = databaseClient.singleUse().executeQuery(SESSION_PROBE)) {
+            return resultSet.next() ? resultSet.getLong(0) : 0L;
+        }
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+}
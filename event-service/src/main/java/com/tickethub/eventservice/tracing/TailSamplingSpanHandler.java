@@ -0,0 +1,182 @@
+package com.tickethub.eventservice.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Tail-based sampling in front of the trace exporters.
+ * <p>
+ * The head sampler keeps a small baseline of traces, which are exported as usual. Every other trace
+ * is still recorded locally ({@code alwaysSampleLocal}) and its spans are held here, per local root,
+ * until the local root span finishes. The trace is then exported if the root took longer than the
+ * latency threshold, if any span recorded an error, or if the code flagged it through
+ * {@link TraceSampling#keep(String)} (e.g. a circuit breaker fallback); otherwise it is dropped.
+ * Kept spans are re-marked as sampled so the exporters accept them.
+ * <p>
+ * Must run before the exporters: buffered spans are dropped from the handler chain. Buffers are
+ * bounded by trace count and spans per trace, and traces whose root never finishes are evicted
+ * after {@code maxBufferAge}.
+ */
+public class TailSamplingSpanHandler extends SpanHandler {
+
+    private final Supplier<List<SpanHandler>> exporters;
+    private final long latencyThresholdMicros;
+    private final long maxBufferAgeNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final LongSupplier nanoClock;
+    private final Map<Long, TraceBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+    private final MeterRegistry meterRegistry;
+
+    private static final class TraceBuffer {
+        private final long createdNanos;
+        private final List<TraceContext> contexts = new ArrayList<>();
+        private final List<MutableSpan> spans = new ArrayList<>();
+
+        private TraceBuffer(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    /**
+     * @param exporters        the handlers that export spans; resolved when the first trace is kept.
+     * @param latencyThreshold traces whose local root takes at least this long are kept.
+     * @param maxBufferAge     traces whose root has not finished after this long are dropped.
+     * @param maxTraces        traces buffered at most; further unsampled traces are dropped unseen.
+     * @param maxSpansPerTrace spans buffered at most per trace; further spans of the trace are dropped.
+     */
+    public TailSamplingSpanHandler(Supplier<List<SpanHandler>> exporters, Duration latencyThreshold, Duration maxBufferAge,
+                                   int maxTraces, int maxSpansPerTrace, MeterRegistry meterRegistry) {
+        this(exporters, latencyThreshold, maxBufferAge, maxTraces, maxSpansPerTrace, meterRegistry, System::nanoTime);
+    }
+
+    TailSamplingSpanHandler(Supplier<List<SpanHandler>> exporters, Duration latencyThreshold, Duration maxBufferAge,
+                            int maxTraces, int maxSpansPerTrace, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.exporters = exporters;
+        this.latencyThresholdMicros = latencyThreshold.toNanos() / 1000;
+        this.maxBufferAgeNanos = maxBufferAge.toNanos();
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (Boolean.TRUE.equals(context.sampled())) {
+            return true; // Head-sampled: the exporters take it as usual
+        }
+        if (cause == Cause.ABANDONED) {
+            return false;
+        }
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        long localRootId = context.localRootId();
+        boolean localRoot = context.spanId() == localRootId;
+        TraceBuffer buffer = buffers.get(localRootId);
+        if (buffer == null) {
+            if (buffers.size() >= maxTraces) {
+                decision("overflow").increment();
+                return false;
+            }
+            buffer = buffers.computeIfAbsent(localRootId, id -> new TraceBuffer(now));
+        }
+        List<TraceContext> contexts;
+        List<MutableSpan> spans;
+        synchronized (buffer) {
+            if (buffer.spans.size() < maxSpansPerTrace || localRoot) {
+                buffer.contexts.add(context);
+                buffer.spans.add(span);
+            }
+            if (!localRoot) {
+                return false;
+            }
+            buffers.remove(localRootId, buffer);
+            contexts = buffer.contexts;
+            spans = buffer.spans;
+        }
+        String reason = keepReason(span, spans);
+        decision(reason == null ? "dropped" : reason).increment();
+        if (reason != null) {
+            export(contexts, spans);
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of traces currently buffered.
+     */
+    public int bufferedTraces() {
+        return buffers.size();
+    }
+
+    private String keepReason(MutableSpan root, List<MutableSpan> spans) {
+        boolean error = false;
+        for (MutableSpan span : spans) {
+            if (span.tag(TraceSampling.KEEP_TAG) != null) {
+                return "fallback";
+            }
+            error |= span.error() != null || span.tag("error") != null || "SERVER_ERROR".equals(span.tag("outcome"));
+        }
+        if (error) {
+            return "error";
+        }
+        if (root.startTimestamp() != 0 && root.finishTimestamp() - root.startTimestamp() >= latencyThresholdMicros) {
+            return "latency";
+        }
+        return null;
+    }
+
+    private void export(List<TraceContext> contexts, List<MutableSpan> spans) {
+        List<SpanHandler> targets = exporters.get();
+        for (int i = 0; i < spans.size(); i++) {
+            TraceContext sampled = contexts.get(i).toBuilder().sampled(true).build();
+            for (SpanHandler target : targets) {
+                if (target != this) {
+                    target.end(sampled, spans.get(i), Cause.FINISHED);
+                }
+            }
+        }
+    }
+
+    // Only the caller that wins the CAS on lastSweep walks the buffers
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last < maxBufferAgeNanos || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        for (Iterator<TraceBuffer> iterator = buffers.values().iterator(); iterator.hasNext(); ) {
+            if (now - iterator.next().createdNanos >= maxBufferAgeNanos) {
+                iterator.remove();
+                decision("expired").increment();
+            }
+        }
+    }
+
+    private Counter decision(String outcome) {
+        return Counter.builder("eventservice.tracing.tail.decisions")
+                .description("Traces not head-sampled, by tail sampling outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String toString() {
+        return "TailSamplingSpanHandler";
+    }
+}
@@ -0,0 +1,31 @@
+package com.tickethub.eventservice.tracing;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+
+/**
+ * Flags the current trace to be kept by the {@link TailSamplingSpanHandler}, whatever its latency.
+ * Outside of a trace (warm-up, background jobs, unit tests) flagging is a no-op.
+ */
+public final class TraceSampling {
+
+    static final String KEEP_TAG = "sampling.keep";
+
+    private TraceSampling() {
+    }
+
+    /**
+     * @param reason why the trace is interesting, e.g. the fallback that served the request.
+     */
+    public static void keep(String reason) {
+        Tracer tracer = Tracing.currentTracer();
+        if (tracer == null) {
+            return;
+        }
+        Span span = tracer.currentSpan();
+        if (span != null && !span.isNoop()) {
+            span.tag(KEEP_TAG, reason);
+        }
+    }
+}
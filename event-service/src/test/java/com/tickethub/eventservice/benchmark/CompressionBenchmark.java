@@ -0,0 +1,92 @@
+package com.tickethub.eventservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tickethub.eventservice.compression.ContentCoding;
+import com.tickethub.eventservice.model.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of compressing a GET /events page against the bytes it saves.
+ * Compressed sizes are logged once per trial; compare them with the time per operation.
+ * {@link #versionHash()} is the per-request cost once the compressed body is cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionBenchmark.class);
+
+    @Param({"GZIP:1", "GZIP:6", "GZIP:9", "BROTLI:1", "BROTLI:5", "BROTLI:9", "BROTLI:11"})
+    public String codingAndLevel;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private byte[] body;
+    private ContentCoding coding;
+    private int level;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String[] parts = codingAndLevel.split(":");
+        coding = ContentCoding.valueOf(parts[0]);
+        level = Integer.parseInt(parts[1]);
+        if (!coding.isAvailable()) {
+            throw new IllegalStateException(coding + " is not available on this platform");
+        }
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            events.add(new Event("event-" + i, "Concert " + i,
+                    "An evening of live music with special guests, food trucks and late-night DJ sets. "
+                            .repeat(8) + "Doors open one hour before the show. Event number " + i + ".",
+                    LocalDateTime.of(2026, 6, 1, 20, 0).plusDays(i), "Main Arena " + (i % 5),
+                    "gs://tickethub-event-images/event_images/event-" + i + "/poster.jpg"));
+        }
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        body = objectMapper.writeValueAsBytes(new PageImpl<>(events, PageRequest.of(0, pageSize), 10_000));
+
+        int compressed = coding.compress(body, level).length;
+        log.info("{} level {}, page of {}: {} -> {} bytes ({}% saved)", coding, level, pageSize, body.length, compressed,
+                String.format("%.1f", 100.0 * (body.length - compressed) / body.length));
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return coding.compress(body, level);
+    }
+
+    @Benchmark
+    public byte[] versionHash() throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(body);
+    }
+}
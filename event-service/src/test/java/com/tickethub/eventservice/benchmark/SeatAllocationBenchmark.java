@@ -0,0 +1,82 @@
+package com.tickethub.eventservice.benchmark;
+
+import com.tickethub.eventservice.seating.SeatBitmap;
+import com.tickethub.eventservice.seating.SeatMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Best-available allocation on a stadium-sized seat map: 40 sections of 50 rows of 40 seats
+ * (80,000 seats), with the rows ranked by their distance from the field. Each operation reserves a
+ * block and releases it again, so the map stays at the configured fill. Free seats are scattered
+ * at random, the hard case; the total size of the row bitmaps is logged once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatAllocationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAllocationBenchmark.class);
+
+    private static final int SECTIONS = 40;
+    private static final int ROWS_PER_SECTION = 50;
+    private static final int SEATS_PER_ROW = 40;
+
+    @Param({"0.0", "0.5", "0.85", "0.95"})
+    public double soldFraction;
+
+    @Param({"2", "4", "8"})
+    public int count;
+
+    private SeatMap seatMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<SeatMap.Row> rows = new ArrayList<>(SECTIONS * ROWS_PER_SECTION);
+        long bytes = 0;
+        for (int section = 0; section < SECTIONS; section++) {
+            for (int row = 0; row < ROWS_PER_SECTION; row++) {
+                SeatBitmap free = SeatBitmap.ofRange(0, SEATS_PER_ROW);
+                for (int seat = 0; seat < SEATS_PER_ROW; seat++) {
+                    if (random.nextDouble() < soldFraction) {
+                        free.remove(seat, seat + 1);
+                    }
+                }
+                bytes += free.serializedSizeInBytes();
+                rows.add(new SeatMap.Row("S" + section, "R" + row, row, SEATS_PER_ROW, free));
+            }
+        }
+        seatMap = new SeatMap(rows);
+        log.info("{}% sold: {} of {} seats free, {} bytes of row bitmaps", Math.round(100 * soldFraction),
+                seatMap.freeSeats(), SECTIONS * ROWS_PER_SECTION * SEATS_PER_ROW, bytes);
+    }
+
+    @Benchmark
+    public Optional<SeatMap.Allocation> reserveAndRelease() {
+        Optional<SeatMap.Allocation> allocation = seatMap.reserveBestAvailable(count);
+        allocation.ifPresent(seatMap::release);
+        return allocation;
+    }
+}
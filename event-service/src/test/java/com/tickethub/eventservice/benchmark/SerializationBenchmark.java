@@ -0,0 +1,118 @@
+package com.tickethub.eventservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tickethub.eventservice.codec.EventProtoMapper;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.proto.EventProtos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON against CBOR and Protobuf for an {@link EventBatchResponse}, from both sides of the wire:
+ * encoding (this service) and decoding (internal consumers). Encoded sizes are logged once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(SerializationBenchmark.class);
+
+    @Param({"1", "20"})
+    public int eventCount;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper cborMapper = new CBORMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private EventBatchResponse batch;
+    private byte[] json;
+    private byte[] cbor;
+    private byte[] protobuf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<EventDetailResponse> details = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            String eventId = "event-" + i;
+            Event event = new Event(eventId, "Concert " + i,
+                    "An evening of live music with special guests and late-night DJ sets. Event number " + i + ".",
+                    LocalDateTime.of(2026, 6, 1, 20, 0).plusDays(i), "Main Arena " + (i % 5),
+                    "gs://tickethub-event-images/event_images/" + eventId + "/poster.jpg");
+            List<SeatCategory> categories = List.of(
+                    new SeatCategory(eventId, eventId + "-vip", "VIP", new BigDecimal("249.90"), 50L),
+                    new SeatCategory(eventId, eventId + "-front", "Front Stalls", new BigDecimal("129.50"), 400L),
+                    new SeatCategory(eventId, eventId + "-rear", "Rear Stalls", new BigDecimal("79.00"), 1200L),
+                    new SeatCategory(eventId, eventId + "-balcony", "Balcony", new BigDecimal("49.99"), 800L));
+            details.add(new EventDetailResponse(event, categories));
+        }
+        batch = new EventBatchResponse(details, List.of("missing-1"));
+
+        json = jsonMapper.writeValueAsBytes(batch);
+        cbor = cborMapper.writeValueAsBytes(batch);
+        protobuf = EventProtoMapper.toProto(batch).toByteArray();
+        log.info("{} events: JSON {} bytes, CBOR {} bytes, Protobuf {} bytes", eventCount, json.length, cbor.length, protobuf.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return jsonMapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws Exception {
+        return cborMapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() {
+        return EventProtoMapper.toProto(batch).toByteArray();
+    }
+
+    @Benchmark
+    public EventBatchResponse decodeJson() throws Exception {
+        return jsonMapper.readValue(json, EventBatchResponse.class);
+    }
+
+    @Benchmark
+    public EventBatchResponse decodeCbor() throws Exception {
+        return cborMapper.readValue(cbor, EventBatchResponse.class);
+    }
+
+    @Benchmark
+    public List<EventDetailResponse> decodeProtobuf() throws Exception {
+        return EventProtos.EventBatch.parseFrom(protobuf).getEventsList().stream()
+                .map(EventProtoMapper::fromProto)
+                .toList();
+    }
+}
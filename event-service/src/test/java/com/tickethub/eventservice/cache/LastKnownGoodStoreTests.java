@@ -0,0 +1,138 @@
+package com.tickethub.eventservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LastKnownGoodStoreTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void getPage_shouldReturnStoredPageWithCaptureTime() {
+        LastKnownGoodStore store = new LastKnownGoodStore(10, "", 10, objectMapper, new SimpleMeterRegistry());
+        PageRequest pageable = PageRequest.of(1, 2);
+        Event event = event("e1");
+        store.putPage("1:2:UNSORTED", new PageImpl<>(List.of(event), pageable, 3));
+
+        Optional<LastKnownGoodStore.Snapshot<Page<Event>>> snapshot = store.getPage("1:2:UNSORTED", pageable);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(List.of(event), snapshot.get().value().getContent());
+        assertEquals(3, snapshot.get().value().getTotalElements());
+        assertNotNull(snapshot.get().capturedAt());
+        assertTrue(store.getPage("0:2:UNSORTED", pageable).isEmpty());
+    }
+
+    @Test
+    void put_whenFull_shouldEvictLeastRecentlyUsedEntry() {
+        LastKnownGoodStore store = new LastKnownGoodStore(2, "", 10, objectMapper, new SimpleMeterRegistry());
+        store.putEvent(event("e1"));
+        store.putEvent(event("e2"));
+        store.getEvent("e1"); // e2 becomes the least recently used entry
+        store.putEvent(event("e3"));
+
+        assertTrue(store.getEvent("e1").isPresent());
+        assertTrue(store.getEvent("e2").isEmpty());
+        assertTrue(store.getEvent("e3").isPresent());
+    }
+
+    @Test
+    void put_whenSpillDirectoryConfigured_shouldReadEvictedEntriesBackFromDisk(@TempDir Path spillDirectory) {
+        LastKnownGoodStore store = new LastKnownGoodStore(1, spillDirectory.toString(), 10, objectMapper, new SimpleMeterRegistry());
+        SeatCategory category = new SeatCategory("e1", "c1", "VIP", new BigDecimal("99.50"), 10L);
+        store.putSeatCategories("e1", List.of(category));
+        store.putEvent(event("e2")); // evicts the seat categories to disk
+
+        Optional<LastKnownGoodStore.Snapshot<List<SeatCategory>>> spilled = store.getSeatCategories("e1");
+
+        assertTrue(spilled.isPresent());
+        assertEquals(List.of(category), spilled.get().value());
+    }
+
+    @Test
+    void get_whenSpillDirectoryReused_shouldSurviveRestart(@TempDir Path spillDirectory) {
+        LastKnownGoodStore first = new LastKnownGoodStore(1, spillDirectory.toString(), 10, objectMapper, new SimpleMeterRegistry());
+        first.putEvent(event("e1"));
+        first.putEvent(event("e2")); // evicts e1 to disk
+
+        LastKnownGoodStore restarted = new LastKnownGoodStore(1, spillDirectory.toString(), 10, objectMapper, new SimpleMeterRegistry());
+
+        assertEquals(event("e1"), restarted.getEvent("e1").map(LastKnownGoodStore.Snapshot::value).orElse(null));
+    }
+
+    @Test
+    void spill_shouldKeepAtMostMaxSpilledEntriesAndDeleteFilesReadBack(@TempDir Path spillDirectory) throws IOException {
+        LastKnownGoodStore store = new LastKnownGoodStore(1, spillDirectory.toString(), 2, objectMapper, new SimpleMeterRegistry());
+        store.putEvent(event("e1"));
+        store.putEvent(event("e2"));
+        store.putEvent(event("e3"));
+        store.putEvent(event("e4")); // e1, e2 and e3 spilled; e1 is dropped for the bound
+
+        assertEquals(2, spillFiles(spillDirectory));
+        assertTrue(store.getEvent("e1").isEmpty());
+        assertTrue(store.getEvent("e2").isPresent()); // back in memory, e4 spilled in its place; e3 still on disk
+        assertEquals(2, spillFiles(spillDirectory));
+        store.putEvent(event("e3")); // supersedes the spilled copy of e3 and spills e2
+        assertEquals(2, spillFiles(spillDirectory));
+        assertTrue(store.getEvent("e4").isPresent());
+    }
+
+    @Test
+    void constructor_shouldRemoveTemporaryFilesAndTrimSpillDirectory(@TempDir Path spillDirectory) throws IOException {
+        LastKnownGoodStore first = new LastKnownGoodStore(1, spillDirectory.toString(), 10, objectMapper, new SimpleMeterRegistry());
+        first.putEvent(event("e1"));
+        first.putEvent(event("e2"));
+        first.putEvent(event("e3")); // e1 and e2 on disk
+        Files.setLastModifiedTime(spillDirectory.resolve(spillFileName(spillDirectory, "e2")), FileTime.fromMillis(1_000));
+        Files.writeString(spillDirectory.resolve("lkg123.tmp"), "{\"partial");
+
+        LastKnownGoodStore restarted = new LastKnownGoodStore(1, spillDirectory.toString(), 1, objectMapper, new SimpleMeterRegistry());
+
+        assertEquals(1, spillFiles(spillDirectory));
+        assertFalse(Files.exists(spillDirectory.resolve("lkg123.tmp")));
+        assertTrue(restarted.getEvent("e2").isEmpty()); // the oldest file went first
+        assertTrue(restarted.getEvent("e1").isPresent());
+    }
+
+    private static long spillFiles(Path spillDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json")).count();
+        }
+    }
+
+    // Finds the file of an event entry by its content, since file names are hashes
+    private String spillFileName(Path spillDirectory, String eventId) throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            for (Path file : files.toList()) {
+                if (Files.readString(file).contains("\"" + eventId + "\"")) {
+                    return file.getFileName().toString();
+                }
+            }
+        }
+        throw new IllegalStateException("No spill file for " + eventId);
+    }
+
+    private static Event event(String id) {
+        return new Event(id, "Event " + id, "Desc", LocalDateTime.of(2030, 1, 1, 20, 0), "Venue", null);
+    }
+}
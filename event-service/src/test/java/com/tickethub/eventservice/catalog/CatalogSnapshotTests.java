@@ -0,0 +1,219 @@
+package com.tickethub.eventservice.catalog;
+
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spring.data.spanner.core.SpannerReadOptions;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.exception.CatalogUnavailableException;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.service.ReadCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSnapshotTests {
+
+    @Mock
+    private SpannerTemplate spannerTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogSnapshot snapshot;
+
+    private final Event concert = new Event("e1", "Concert", "Live", LocalDateTime.of(2026, 7, 1, 20, 0), "Arena", null);
+    private final Event play = new Event("e2", "Play", "Drama", LocalDateTime.of(2026, 6, 15, 19, 30), "Theatre", null);
+    private final Event match = new Event("e3", "Match", "Final", LocalDateTime.of(2026, 8, 2, 18, 0), "Arena", null);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshot = new CatalogSnapshot(spannerTemplate, new ReadCoalescer(meterRegistry), true, 300000, meterRegistry);
+        // Lenient: not every test loads the snapshot
+        lenient().when(spannerTemplate.performReadOnlyTransaction(any(), any(SpannerReadOptions.class)))
+                .thenAnswer(invocation -> ((Function<SpannerTemplate, Object>) invocation.getArgument(0)).apply(spannerTemplate));
+        lenient().when(spannerTemplate.readAll(Event.class)).thenReturn(List.of(concert, play, match));
+        lenient().when(spannerTemplate.readAll(SeatCategory.class)).thenReturn(List.of(
+                new SeatCategory("e1", "c1", "Floor", new BigDecimal("89.90"), 100L),
+                new SeatCategory("e1", "c2", "Balcony", new BigDecimal("45.50"), 40L),
+                new SeatCategory("e2", "c3", "Stalls", new BigDecimal("60"), null),
+                new SeatCategory("e3", "c4", "Floor", new BigDecimal("120.00"), 500L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshot.destroy();
+    }
+
+    @Test
+    void query_beforeLoad_shouldReturnEmpty() {
+        assertFalse(snapshot.isReady());
+        assertEquals(Optional.empty(), snapshot.query(null, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void ensureLoaded_shouldReadCatalogOnce() {
+        snapshot.ensureLoaded();
+        snapshot.ensureLoaded();
+
+        assertTrue(snapshot.isReady());
+        verify(spannerTemplate, times(1)).readAll(Event.class);
+        assertEquals(3.0, meterRegistry.get("eventservice.catalog.snapshot.events").gauge().value());
+        assertTrue(meterRegistry.get("eventservice.catalog.snapshot.bytes").gauge().value() > 0);
+    }
+
+    @Test
+    void query_shouldSortAndPage() {
+        snapshot.ensureLoaded();
+
+        Page<Event> page = snapshot.query(null, PageRequest.of(0, 2, Sort.by("startTime"))).orElseThrow();
+
+        assertEquals(List.of(play, concert), page.getContent());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+    }
+
+    @Test
+    void query_withVenueAndMaxPrice_shouldFilter() {
+        snapshot.ensureLoaded();
+
+        Page<Event> byVenue = snapshot.query(new EventFilter("Arena", null, null, null),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name"))).orElseThrow();
+        Page<Event> byPrice = snapshot.query(new EventFilter(null, null, null, new BigDecimal("59.99")),
+                PageRequest.of(0, 10)).orElseThrow();
+        Page<Event> unknownVenue = snapshot.query(new EventFilter("Stadium", null, null, null),
+                PageRequest.of(0, 10)).orElseThrow();
+
+        assertEquals(List.of(match, concert), byVenue.getContent());
+        assertEquals(List.of(concert), byPrice.getContent());
+        assertTrue(unknownVenue.isEmpty());
+    }
+
+    @Test
+    void query_withTimeRange_shouldIncludeFromAndExcludeTo() {
+        snapshot.ensureLoaded();
+
+        Page<Event> page = snapshot.query(new EventFilter(null, LocalDateTime.of(2026, 7, 1, 20, 0), LocalDateTime.of(2026, 8, 2, 18, 0), null),
+                PageRequest.of(0, 10)).orElseThrow();
+
+        assertEquals(List.of(concert), page.getContent());
+    }
+
+    @Test
+    void query_withUnsupportedSort_shouldReturnEmpty() {
+        snapshot.ensureLoaded();
+
+        assertEquals(Optional.empty(), snapshot.query(null, PageRequest.of(0, 10, Sort.by("description"))));
+    }
+
+    @Test
+    void onCatalogChanged_shouldApplyWriteWithoutRereading() {
+        snapshot.ensureLoaded();
+        Event updated = new Event("e2", "Play", "Drama", LocalDateTime.of(2026, 6, 15, 19, 30), "Arena", null);
+        Event created = new Event("e4", "Comedy", "Stand-up", LocalDateTime.of(2026, 9, 1, 21, 0), "Club", null);
+
+        snapshot.onCatalogChanged(new CatalogChangedEvent(updated, List.of(new SeatCategory("e2", "c3", "Stalls", new BigDecimal("30.25"), 10L))));
+        snapshot.onCatalogChanged(new CatalogChangedEvent(created, List.of()));
+
+        Page<Event> arena = snapshot.query(new EventFilter("Arena", null, null, new BigDecimal("40")), PageRequest.of(0, 10)).orElseThrow();
+        Page<Event> all = snapshot.query(null, PageRequest.of(0, 10)).orElseThrow();
+        assertEquals(List.of(updated), arena.getContent());
+        assertEquals(4, all.getTotalElements());
+        verify(spannerTemplate, times(1)).readAll(Event.class);
+    }
+
+    @Test
+    void reload_shouldApplyUpdatesAndRemovalsInOneBatch() {
+        snapshot.ensureLoaded();
+        Event moved = new Event("e1", "Concert", "Live", LocalDateTime.of(2026, 7, 1, 20, 0), "Stadium", null);
+        given(spannerTemplate.read(eq(SeatCategory.class), any(KeySet.class)))
+                .willReturn(List.of(new SeatCategory("e1", "c1", "Floor", new BigDecimal("19.995"), 100L)));
+        given(spannerTemplate.read(eq(Event.class), any(KeySet.class))).willReturn(List.of(moved));
+
+        snapshot.reload(Set.of("e1", "e3")); // e3 was deleted
+
+        Page<Event> all = snapshot.query(null, PageRequest.of(0, 10, Sort.by("id"))).orElseThrow();
+        assertEquals(List.of(moved, play), all.getContent());
+        // The finer price scale of the new category applies to the prices already held
+        assertEquals(List.of(play), snapshot.query(new EventFilter("Theatre", null, null, new BigDecimal("60.00")), PageRequest.of(0, 10))
+                .orElseThrow().getContent());
+        assertEquals(List.of(moved), snapshot.query(new EventFilter("Stadium", null, null, new BigDecimal("19.995")), PageRequest.of(0, 10))
+                .orElseThrow().getContent());
+        assertTrue(snapshot.query(new EventFilter("Stadium", null, null, new BigDecimal("19.99")), PageRequest.of(0, 10))
+                .orElseThrow().isEmpty());
+    }
+
+    @Test
+    void reload_whenChangeCommitsDuringRead_shouldKeepTheNewerChange() {
+        snapshot.ensureLoaded();
+        Event stale = new Event("e1", "Concert", "Live", LocalDateTime.of(2026, 7, 1, 20, 0), "Arena", null);
+        Event renamed = new Event("e1", "Concert (late show)", "Live", LocalDateTime.of(2026, 7, 1, 22, 0), "Arena", null);
+        given(spannerTemplate.read(eq(SeatCategory.class), any(KeySet.class))).willReturn(List.of());
+        given(spannerTemplate.read(eq(Event.class), any(KeySet.class))).willAnswer(invocation -> {
+            // A local write commits after the reload's read timestamp
+            snapshot.onCatalogChanged(new CatalogChangedEvent(renamed, List.of()));
+            return List.of(stale);
+        });
+
+        snapshot.reload(Set.of("e1"));
+
+        Page<Event> arena = snapshot.query(new EventFilter("Arena", null, null, null), PageRequest.of(0, 10, Sort.by("id"))).orElseThrow();
+        assertEquals(List.of(renamed, match), arena.getContent());
+    }
+
+    @Test
+    void ensureLoaded_whenDisabled_shouldFailWithoutReading() {
+        CatalogSnapshot disabled = new CatalogSnapshot(spannerTemplate, new ReadCoalescer(meterRegistry), false, 300000, new SimpleMeterRegistry());
+        try {
+            assertThrows(CatalogUnavailableException.class, disabled::ensureLoaded);
+            assertFalse(disabled.isReady());
+            verify(spannerTemplate, never()).readAll(Event.class);
+        } finally {
+            disabled.destroy();
+        }
+    }
+
+    @Test
+    void onApplicationReady_whenFirstLoadFails_shouldRetryOnTheRefreshSchedule() throws InterruptedException {
+        CatalogSnapshot retrying = new CatalogSnapshot(spannerTemplate, new ReadCoalescer(meterRegistry), true, 10, new SimpleMeterRegistry());
+        given(spannerTemplate.readAll(Event.class))
+                .willThrow(new RuntimeException("Spanner unavailable"))
+                .willReturn(List.of(concert, play, match));
+        try {
+            retrying.onApplicationReady();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!retrying.isReady() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(retrying.isReady());
+        } finally {
+            retrying.destroy();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.tickethub.eventservice.catalog;
+
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spring.data.spanner.core.SpannerReadOptions;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.service.ReadCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UpcomingEventsViewTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Mock
+    private SpannerTemplate spannerTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private CatalogSnapshot snapshot;
+    private UpcomingEventsView view;
+
+    private final Event started = new Event("e0", "Matinee", "Over", NOW.minusHours(1), "Theatre", null);
+    private final Event concert = new Event("e1", "Concert", "Live", NOW.plusDays(30), "Arena", null);
+    private final Event play = new Event("e2", "Play", "Drama", NOW.plusHours(2), "Theatre", null);
+    private final Event match = new Event("e3", "Match", "Final", NOW.plusDays(60), "Arena", null);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        snapshot = new CatalogSnapshot(spannerTemplate, new ReadCoalescer(meterRegistry), true, 300000, meterRegistry);
+        view = new UpcomingEventsView(snapshot, meterRegistry, clock);
+        lenient().when(spannerTemplate.performReadOnlyTransaction(any(), any(SpannerReadOptions.class)))
+                .thenAnswer(invocation -> ((Function<SpannerTemplate, Object>) invocation.getArgument(0)).apply(spannerTemplate));
+        lenient().when(spannerTemplate.readAll(Event.class)).thenReturn(List.of(started, concert, play, match));
+        lenient().when(spannerTemplate.readAll(SeatCategory.class)).thenReturn(List.of(
+                new SeatCategory("e1", "c1", "Floor", new BigDecimal("89.90"), 100L),
+                new SeatCategory("e1", "c2", "Balcony", new BigDecimal("45.50"), 40L),
+                new SeatCategory("e2", "c3", "Stalls", new BigDecimal("60"), 0L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshot.destroy();
+    }
+
+    @Test
+    void upcoming_beforeLoad_shouldReturnEmpty() {
+        assertEquals(List.of(), view.upcoming(0, 10));
+        assertEquals(0.0, meterRegistry.get("eventservice.upcoming.events").gauge().value());
+    }
+
+    @Test
+    void upcoming_shouldListNotYetStartedEventsSoonestFirstWithSeatSummaries() {
+        view.ensureLoaded();
+        view.ensureLoaded();
+
+        List<EventSummary> upcoming = view.upcoming(0, 10);
+
+        assertEquals(List.of("e2", "e1", "e3"), ids(upcoming));
+        // Prices come back at the snapshot's scale
+        assertEquals(new SeatSummary(new BigDecimal("60.00"), 0, true), upcoming.get(0).seats());
+        assertEquals(new SeatSummary(new BigDecimal("45.50"), 140, false), upcoming.get(1).seats());
+        assertEquals(new SeatSummary(null, 0, false), upcoming.get(2).seats());
+        assertEquals(List.of("e1"), ids(view.upcoming(1, 1)));
+        assertEquals(List.of(), view.upcoming(5, 10));
+        verify(spannerTemplate, times(1)).readAll(Event.class);
+    }
+
+    @Test
+    void onCatalogChanged_shouldReorderTheView() {
+        view.ensureLoaded();
+        Event moved = new Event("e3", "Match", "Final", NOW.plusMinutes(30), "Arena", null);
+
+        snapshot.onCatalogChanged(new CatalogChangedEvent(moved, List.of(new SeatCategory("e3", "c4", "Floor", new BigDecimal("120.00"), 500L))));
+
+        List<EventSummary> upcoming = view.upcoming(0, 10);
+        assertEquals(List.of("e3", "e2", "e1"), ids(upcoming));
+        assertEquals(500, upcoming.get(0).seats().totalAvailable());
+    }
+
+    @Test
+    void upcoming_shouldDropEventsOnceTheyStart() {
+        view.ensureLoaded();
+        assertEquals(3.0, meterRegistry.get("eventservice.upcoming.events").gauge().value());
+
+        clock.advance(Duration.ofHours(3));
+
+        assertEquals(List.of("e1", "e3"), ids(view.upcoming(0, 10)));
+        assertEquals(2.0, meterRegistry.get("eventservice.upcoming.events").gauge().value());
+    }
+
+    @Test
+    void reload_shouldApplyChangesAndDropDeletedEvents() {
+        view.ensureLoaded();
+        Event renamed = new Event("e1", "Concert (moved)", "Live", NOW.plusDays(31), "Arena", null);
+        when(spannerTemplate.read(eq(Event.class), any(KeySet.class))).thenReturn(List.of(renamed));
+        when(spannerTemplate.read(eq(SeatCategory.class), any(KeySet.class))).thenReturn(List.of());
+
+        snapshot.reload(Set.of("e1", "e2"));
+
+        List<EventSummary> upcoming = view.upcoming(0, 10);
+        assertEquals(List.of("e1", "e3"), ids(upcoming));
+        assertEquals("Concert (moved)", upcoming.get(0).event().getName());
+    }
+
+    private static List<String> ids(List<EventSummary> summaries) {
+        return summaries.stream().map(summary -> summary.event().getId()).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
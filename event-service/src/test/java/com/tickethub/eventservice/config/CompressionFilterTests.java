@@ -0,0 +1,137 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.compression.CompressedBodyCache;
+import com.tickethub.eventservice.compression.ContentCoding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionFilterTests {
+
+    private static final String BODY = "{\"content\":[" + "{\"name\":\"Concert\",\"description\":\"Live music\"},".repeat(100) + "{}]}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new CompressionFilter(new CompressedBodyCache(1024 * 1024, meterRegistry), 256, 6, 5, meterRegistry);
+    }
+
+    @Test
+    void doFilter_whenClientAcceptsGzip_shouldCompressAndSetHeaders() throws Exception {
+        MockHttpServletResponse response = perform("gzip, deflate", null, BODY);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), response.getHeaders(HttpHeaders.VARY));
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_whenSameBodyRequestedTwice_shouldCompressOnce() throws Exception {
+        perform("gzip", null, BODY);
+        perform("gzip", null, BODY);
+
+        assertEquals(1.0, meterRegistry.get("eventservice.compression.cache.lookups").tag("result", "miss").counter().count());
+        assertEquals(1.0, meterRegistry.get("eventservice.compression.cache.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void doFilter_whenEtagMatches_shouldReturnNotModified() throws Exception {
+        String etag = perform("gzip", null, BODY).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = perform("gzip", etag, BODY);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_whenHandlerSetsEtag_shouldKeepItAndStillCompress() throws Exception {
+        MockHttpServletResponse response = perform("gzip", "W/\"3\"", BODY, "W/\"3\"");
+
+        assertEquals(200, response.getStatus());
+        assertEquals("W/\"3\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_whenClientDoesNotAcceptCompression_shouldSendIdentity() throws Exception {
+        MockHttpServletResponse response = perform(null, null, BODY);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_whenBodyIsSmall_shouldSendIdentity() throws Exception {
+        MockHttpServletResponse response = perform("gzip", null, "{}");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("{}", response.getContentAsString());
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders(HttpHeaders.VARY));
+    }
+
+    @Test
+    void negotiate_shouldHonourQValuesAndServerPreference() {
+        assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("gzip;q=1.0, br;q=0.5").orElseThrow());
+        assertTrue(ContentCoding.negotiate("identity").isEmpty());
+        assertTrue(ContentCoding.negotiate("gzip;q=0").isEmpty());
+        if (ContentCoding.BROTLI.isAvailable()) {
+            assertEquals(ContentCoding.BROTLI, ContentCoding.negotiate("gzip, deflate, br").orElseThrow());
+        } else {
+            assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("gzip, deflate, br").orElseThrow());
+        }
+    }
+
+    private MockHttpServletResponse perform(String acceptEncoding, String ifNoneMatch, String body) throws Exception {
+        return perform(acceptEncoding, ifNoneMatch, body, null);
+    }
+
+    private MockHttpServletResponse perform(String acceptEncoding, String ifNoneMatch, String body, String etag) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                if (etag != null) {
+                    resp.setHeader(HttpHeaders.ETAG, etag);
+                }
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.AdaptiveConcurrencyLimiter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitFilterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter readLimiter;
+    private AdaptiveConcurrencyLimiter writeLimiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readLimiter = new AdaptiveConcurrencyLimiter("read", singlePermit("read"), 1, 10, 0.2, 1.5, meterRegistry);
+        writeLimiter = new AdaptiveConcurrencyLimiter("write", singlePermit("write"), 1, 10, 0.2, 1.5, meterRegistry);
+        filter = new ConcurrencyLimitFilter(readLimiter, writeLimiter, 2);
+    }
+
+    @Test
+    void doFilter_whenPermitIsFree_shouldAdmitAndReleaseIt() throws Exception {
+        MockHttpServletResponse response = perform(new MockHttpServletRequest("GET", "/events/e1"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, readLimiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_whenLimitIsReached_shouldRejectWith503AndRetryAfter() throws Exception {
+        // Given
+        assertTrue(readLimiter.tryAcquire());
+
+        // When
+        MockHttpServletResponse read = perform(new MockHttpServletRequest("GET", "/events"));
+        MockHttpServletResponse write = perform(new MockHttpServletRequest("POST", "/admin/events"));
+
+        // Then
+        assertEquals(503, read.getStatus());
+        assertEquals("2", read.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("eventservice.concurrency.rejected").tag("limiter", "read").counter().count());
+        assertEquals(200, write.getStatus());
+        assertEquals(0, writeLimiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_whenRequestGoesAsync_shouldHoldPermitUntilItCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events/e1");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(req, res);
+                WebAsyncUtils.getAsyncManager(req).setAsyncWebRequest(asyncWebRequest);
+                asyncWebRequest.startAsync();
+            }
+        }));
+
+        assertEquals(1, readLimiter.getInFlight());
+        assertEquals(503, perform(new MockHttpServletRequest("GET", "/events/e2")).getStatus());
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, readLimiter.getInFlight());
+        assertEquals(200, perform(new MockHttpServletRequest("GET", "/events/e2")).getStatus());
+    }
+
+    @Test
+    void doFilter_withUnlimitedPath_shouldPassThrough() throws Exception {
+        assertTrue(readLimiter.tryAcquire());
+
+        MockHttpServletResponse response = perform(new MockHttpServletRequest("GET", "/actuator/health"));
+
+        assertEquals(200, response.getStatus());
+    }
+
+    private static Bulkhead singlePermit(String name) {
+        return Bulkhead.of(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler;
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.LaneSettings;
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.TrafficClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityLaneFilterTests {
+
+    private PriorityRequestScheduler scheduler;
+    private PriorityLaneFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        LaneSettings single = new LaneSettings(1, 0, Duration.ofSeconds(1));
+        scheduler = new PriorityRequestScheduler(
+                Map.of(TrafficClass.ADMIN, single, TrafficClass.CHECKOUT, single, TrafficClass.BROWSE, single),
+                Duration.ofMillis(100), new SimpleMeterRegistry());
+        filter = new PriorityLaneFilter(scheduler, "X-API-Key", Set.of("checkout-key"), 1);
+    }
+
+    @Test
+    void classify_shouldMapPathsAndKeysToTrafficClasses() {
+        assertEquals(TrafficClass.ADMIN, filter.classify(request("POST", "/admin/events", null)));
+        assertEquals(TrafficClass.CHECKOUT, filter.classify(request("GET", "/events/e1", "checkout-key")));
+        assertEquals(TrafficClass.BROWSE, filter.classify(request("GET", "/events/e1", "made-up-key")));
+        assertEquals(TrafficClass.BROWSE, filter.classify(request("GET", "/events", null)));
+        assertNull(filter.classify(request("GET", "/actuator/health", null)));
+    }
+
+    @Test
+    void doFilter_whenBrowseLaneIsBusy_shouldRejectBrowseButServeCheckout() throws Exception {
+        // Given
+        assertTrue(scheduler.acquire(TrafficClass.BROWSE, Duration.ZERO));
+
+        // When
+        MockHttpServletResponse browse = perform(request("GET", "/events", null));
+        MockHttpServletResponse checkout = perform(request("GET", "/events/e1", "checkout-key"));
+
+        // Then
+        assertEquals(503, browse.getStatus());
+        assertEquals("1", browse.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(200, checkout.getStatus());
+        assertEquals(0, scheduler.active(TrafficClass.CHECKOUT));
+    }
+
+    @Test
+    void doFilter_whenRequestGoesAsync_shouldHoldSlotUntilItCompletes() throws Exception {
+        MockHttpServletRequest request = request("GET", "/events/e1", null);
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(req, res);
+                WebAsyncUtils.getAsyncManager(req).setAsyncWebRequest(asyncWebRequest);
+                asyncWebRequest.startAsync();
+            }
+        }));
+
+        assertEquals(1, scheduler.active(TrafficClass.BROWSE));
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, scheduler.active(TrafficClass.BROWSE));
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
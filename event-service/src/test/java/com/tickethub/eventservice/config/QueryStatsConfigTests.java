@@ -0,0 +1,48 @@
+package com.tickethub.eventservice.config;
+
+import com.google.api.gax.grpc.GrpcInterceptorProvider;
+import com.google.cloud.spanner.spi.v1.SpannerInterceptorProvider;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueryStatsConfigTests {
+
+    private final ClientInterceptor interceptor = new ClientInterceptor() {
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+            return next.newCall(method, callOptions);
+        }
+    };
+
+    @Test
+    void withInterceptor_withoutConfiguredProvider_shouldKeepDefaultSpannerInterceptors() {
+        List<ClientInterceptor> defaults = SpannerInterceptorProvider.createDefault().getInterceptors();
+
+        List<? extends ClientInterceptor> interceptors = QueryStatsConfig.withInterceptor(null, interceptor).getInterceptors();
+
+        assertFalse(defaults.isEmpty());
+        assertEquals(defaults.size() + 1, interceptors.size());
+        assertSame(interceptor, interceptors.get(interceptors.size() - 1));
+    }
+
+    @Test
+    void withInterceptor_shouldAppendToConfiguredProvider() {
+        ClientInterceptor configured = new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                return next.newCall(method, callOptions);
+            }
+        };
+        GrpcInterceptorProvider provider = () -> List.of(configured);
+
+        assertEquals(List.of(configured, interceptor), QueryStatsConfig.withInterceptor(provider, interceptor).getInterceptors());
+    }
+}
@@ -0,0 +1,82 @@
+package com.tickethub.eventservice.config;
+
+import com.tickethub.eventservice.resilience.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitFilterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(new ClientRateLimiter(2, 1, 100, 10_000), "X-API-Key", Set.of("partner-key"), meterRegistry);
+    }
+
+    @Test
+    void doFilter_underLimit_shouldPassThroughWithRateLimitHeaders() throws Exception {
+        MockHttpServletResponse response = perform("GET", "10.0.0.1", null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("2", response.getHeader(RateLimitFilter.RATE_LIMIT_LIMIT));
+        assertEquals("1", response.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING));
+        assertEquals("1", response.getHeader(RateLimitFilter.RATE_LIMIT_RESET));
+    }
+
+    @Test
+    void doFilter_overLimit_shouldRejectWithRetryAfter() throws Exception {
+        perform("GET", "10.0.0.1", null);
+        perform("GET", "10.0.0.1", null);
+
+        MockHttpServletResponse rejected = perform("GET", "10.0.0.1", null);
+        MockHttpServletResponse otherClient = perform("GET", "10.0.0.2", null);
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("0", rejected.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING));
+        assertEquals(200, otherClient.getStatus());
+        assertEquals(1.0, meterRegistry.get("eventservice.ratelimit.requests")
+                .tag("outcome", "rejected").tag("client", "ip").counter().count());
+    }
+
+    @Test
+    void doFilter_withKnownApiKey_shouldUseKeyBucket() throws Exception {
+        perform("GET", "10.0.0.1", null);
+        perform("GET", "10.0.0.1", null);
+
+        MockHttpServletResponse keyed = perform("GET", "10.0.0.1", "partner-key");
+        MockHttpServletResponse unknownKey = perform("GET", "10.0.0.1", "made-up-key");
+
+        assertEquals(200, keyed.getStatus());
+        assertEquals(429, unknownKey.getStatus());
+    }
+
+    @Test
+    void doFilter_forWrites_shouldNotLimit() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertNull(perform("POST", "10.0.0.1", null).getHeader(RateLimitFilter.RATE_LIMIT_LIMIT));
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String remoteAddr, String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/events");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -1,11 +1,24 @@
 package com.tickethub.eventservice.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tickethub.eventservice.codec.EventProtoMapper;
+import com.tickethub.eventservice.codec.ProtobufEventHttpMessageConverter;
 import com.tickethub.eventservice.config.SecurityConfig;
 import com.tickethub.eventservice.dto.EventAdminRequest;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.idempotency.IdempotencyStore;
+import com.tickethub.eventservice.idempotency.StoredResponse;
 import com.tickethub.eventservice.model.Event;
 import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.proto.EventProtos;
 import com.tickethub.eventservice.service.EventService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +34,7 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,10 +47,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -56,6 +74,9 @@ public class EventControllerTests {
     @MockBean // Mocks the EventService dependency
     private EventService eventService;
 
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
     // ObjectMapper will be autowired by Spring or you can initialize it
     private ObjectMapper objectMapper;
 
@@ -98,33 +119,235 @@ public class EventControllerTests {
     void getEventById_whenEventExists_shouldReturnEventDetails() throws Exception {
         // Given: Event and seat category data
         String eventId = UUID.randomUUID().toString();
-        Event event = new Event(eventId, "Event Details", "Event Description", LocalDateTime.now().plusDays(5), "Venue X", "gs://bucket/imageX.jpg");
+        Event event = new Event(eventId, "Event Details", "Event Description", LocalDateTime.now().plusDays(5), "Venue X", "gs://bucket/imageX.jpg", 3L);
         SeatCategory category = new SeatCategory(eventId, UUID.randomUUID().toString(), "VIP", BigDecimal.valueOf(100.00), 100L);
         List<SeatCategory> categories = List.of(category);
-        given(eventService.getEventById(eventId)).willReturn(Optional.of(event));
-        given(eventService.getSeatCategoriesByEventId(eventId)).willReturn(categories);
+        given(eventService.getEventDetailAsync(eventId))
+                .willReturn(CompletableFuture.completedFuture(Optional.of(new EventDetailResponse(event, categories))));
 
         // When: GET /events/{id} is called
-        // Then: Expect HTTP 200 OK and combined event and seat category data
-        mockMvc.perform(get("/events/{id}", eventId)
+        MvcResult pending = mockMvc.perform(get("/events/{id}", eventId)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: Expect HTTP 200 OK and combined event and seat category data once the reads complete
+        mockMvc.perform(asyncDispatch(pending))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"3\"")) // the If-Match value for a conditional update
                 .andExpect(jsonPath("$.event.id", is(eventId)))
                 .andExpect(jsonPath("$.event.name", is("Event Details")))
                 .andExpect(jsonPath("$.seatCategories", hasSize(1)))
                 .andExpect(jsonPath("$.seatCategories[0].name", is("VIP")));
     }
 
+    @Test
+    void getEventById_withProtobufAccept_shouldReturnProtobufDetail() throws Exception {
+        // Given: Event and seat category data
+        String eventId = UUID.randomUUID().toString();
+        LocalDateTime startTime = LocalDateTime.of(2026, 6, 1, 20, 30);
+        Event event = new Event(eventId, "Proto Event", "Event Description", startTime, "Venue X", null);
+        SeatCategory category = new SeatCategory(eventId, UUID.randomUUID().toString(), "VIP", new BigDecimal("149.90"), 100L);
+        given(eventService.getEventDetailAsync(eventId))
+                .willReturn(CompletableFuture.completedFuture(Optional.of(new EventDetailResponse(event, List.of(category)))));
+
+        // When: GET /events/{id} is called with Accept: application/x-protobuf
+        MvcResult pending = mockMvc.perform(get("/events/{id}", eventId)
+                        .accept(ProtobufEventHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ProtobufEventHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andReturn();
+
+        // Then: The body is an EventDetail message that maps back to the same data
+        EventDetailResponse detail = EventProtoMapper.fromProto(
+                EventProtos.EventDetail.parseFrom(result.getResponse().getContentAsByteArray()));
+        assertEquals(event, detail.event());
+        assertEquals(List.of(category), detail.seatCategories());
+    }
+
+    @Test
+    void getAllEvents_withCborAccept_shouldReturnCborPage() throws Exception {
+        // Given: A page of events
+        Event event = new Event(UUID.randomUUID().toString(), "Cbor Event", "Description", LocalDateTime.now().plusDays(10), "Venue 1", null);
+        given(eventService.getAllEvents(any(Pageable.class))).willReturn(new PageImpl<>(List.of(event), PageRequest.of(0, 10), 1));
+
+        // When: GET /events is called with Accept: application/cbor
+        MvcResult result = mockMvc.perform(get("/events?page=0&size=10")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then: The CBOR document has the same shape as the JSON one
+        JsonNode page = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Cbor Event", page.path("content").path(0).path("name").asText());
+        assertEquals(1, page.path("totalElements").asInt());
+    }
+
+    @Test
+    void getAllEvents_withWildcardAccept_shouldDefaultToJson() throws Exception {
+        given(eventService.getAllEvents(any(Pageable.class))).willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+        mockMvc.perform(get("/events").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getEventsByIds_shouldReturnFoundEventsAndMissingIds() throws Exception {
+        // Given: One existing event and one unknown ID
+        String eventId = UUID.randomUUID().toString();
+        String missingId = UUID.randomUUID().toString();
+        Event event = new Event(eventId, "Batch Event", "Description", LocalDateTime.now().plusDays(5), "Venue X", null);
+        SeatCategory category = new SeatCategory(eventId, UUID.randomUUID().toString(), "VIP", BigDecimal.valueOf(100.00), 100L);
+        EventBatchResponse batch = new EventBatchResponse(List.of(new EventDetailResponse(event, List.of(category))), List.of(missingId));
+        given(eventService.getEventDetailsByIds(List.of(eventId, missingId))).willReturn(batch);
+
+        // When: GET /events/batch is called with both IDs
+        // Then: Expect HTTP 200 OK with the found event and the missing ID reported
+        mockMvc.perform(get("/events/batch")
+                        .param("ids", eventId + "," + missingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events", hasSize(1)))
+                .andExpect(jsonPath("$.events[0].event.id", is(eventId)))
+                .andExpect(jsonPath("$.events[0].seatCategories[0].name", is("VIP")))
+                .andExpect(jsonPath("$.missingIds[0]", is(missingId)));
+    }
+
+    @Test
+    void getEventsByIds_whenServiceRejectsRequest_shouldReturnBadRequest() throws Exception {
+        // Given: The service rejects the batch as too large
+        given(eventService.getEventDetailsByIds(any())).willThrow(new IllegalArgumentException("At most 100 event ids can be requested at once"));
+
+        // When: GET /events/batch is called
+        // Then: Expect HTTP 400 Bad Request with the error message
+        mockMvc.perform(get("/events/batch")
+                        .param("ids", "a,b"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("At most 100 event ids can be requested at once")));
+    }
+
+    @Test
+    void getAllEvents_withFilters_shouldSearchEvents() throws Exception {
+        // Given: One event matching the filter
+        Event event = new Event(UUID.randomUUID().toString(), "Filtered", "Description", LocalDateTime.of(2026, 6, 1, 20, 0), "Arena", null);
+        EventFilter expectedFilter = new EventFilter("Arena", LocalDateTime.of(2026, 6, 1, 0, 0), null, new BigDecimal("50"));
+        given(eventService.searchEvents(eq(expectedFilter), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(event), PageRequest.of(0, 10), 1));
+
+        // When: GET /events is called with venue, from and maxPrice
+        // Then: Expect HTTP 200 OK with the search result
+        mockMvc.perform(get("/events")
+                        .param("venue", "Arena")
+                        .param("from", "2026-06-01T00:00:00")
+                        .param("maxPrice", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Filtered")));
+    }
+
+    @Test
+    void getAllEvents_whenSearchIsInvalid_shouldReturnBadRequest() throws Exception {
+        // Given: The service rejects the sort property
+        given(eventService.searchEvents(any(EventFilter.class), any(Pageable.class)))
+                .willThrow(new IllegalArgumentException("Unsupported sort: description: ASC"));
+
+        // When: GET /events is called with a filter and an unsupported sort
+        // Then: Expect HTTP 400 Bad Request with the error message
+        mockMvc.perform(get("/events")
+                        .param("venue", "Arena")
+                        .param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Unsupported sort: description: ASC")));
+    }
+
+    @Test
+    void getAllEvents_withIncludeSeats_shouldReturnSeatSummaries() throws Exception {
+        // Given: A page with one event and its seat summary
+        Event event = new Event("e1", "Concert", "Description", LocalDateTime.of(2026, 6, 1, 20, 0), "Arena", null);
+        Page<Event> page = new PageImpl<>(List.of(event), PageRequest.of(0, 10), 1);
+        given(eventService.getAllEvents(any(Pageable.class))).willReturn(page);
+        given(eventService.withSeatSummaries(page)).willReturn(
+                page.map(e -> new EventSummary(e, new SeatSummary(new BigDecimal("20.00"), 0, true))));
+
+        // When: GET /events is called with include=seats
+        // Then: Expect HTTP 200 OK with each event and its seat summary
+        mockMvc.perform(get("/events").param("include", "seats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].event.name", is("Concert")))
+                .andExpect(jsonPath("$.content[0].seats.soldOut", is(true)));
+        verify(eventService, never()).getSeatCategoriesByEventId(anyString());
+    }
+
+    @Test
+    void getAllEvents_withIncludeSeatsAndProtobufAccept_shouldReturnProtobufSummaries() throws Exception {
+        // Given: A page with one event and its seat summary
+        Event event = new Event("e1", "Concert", "Description", LocalDateTime.of(2026, 6, 1, 20, 0), "Arena", null);
+        Page<Event> page = new PageImpl<>(List.of(event), PageRequest.of(0, 10), 1);
+        EventSummary summary = new EventSummary(event, new SeatSummary(new BigDecimal("20.00"), 0, true));
+        given(eventService.getAllEvents(any(Pageable.class))).willReturn(page);
+        given(eventService.withSeatSummaries(page)).willReturn(page.map(e -> summary));
+
+        // When: GET /events?include=seats is called with Accept: application/x-protobuf
+        MvcResult result = mockMvc.perform(get("/events").param("include", "seats")
+                        .accept(ProtobufEventHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ProtobufEventHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andReturn();
+
+        // Then: The body is an EventSummaryPage message that maps back to the same summary
+        EventProtos.EventSummaryPage proto = EventProtos.EventSummaryPage.parseFrom(result.getResponse().getContentAsByteArray());
+        assertEquals(1, proto.getTotalElements());
+        assertEquals(summary, EventProtoMapper.fromProto(proto.getContent(0)));
+    }
+
+    @Test
+    void getAllEvents_withUnknownInclude_shouldReturnBadRequest() throws Exception {
+        // When: GET /events is called with an unsupported include value
+        // Then: Expect HTTP 400 Bad Request without reading any events
+        mockMvc.perform(get("/events").param("include", "everything"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Unsupported include: everything")));
+        verify(eventService, never()).getAllEvents(any(Pageable.class));
+    }
+
+    @Test
+    void getUpcomingEvents_shouldReturnEventsWithSeatSummaries() throws Exception {
+        // Given: One upcoming event with two seat categories left
+        Event event = new Event("e1", "Soon", "Description", LocalDateTime.of(2026, 6, 1, 20, 0), "Arena", null);
+        given(eventService.getUpcomingEvents(any(Pageable.class)))
+                .willReturn(List.of(new EventSummary(event, new SeatSummary(new BigDecimal("45.50"), 140, false))));
+
+        // When: GET /events/upcoming is called
+        // Then: Expect HTTP 200 OK with the event and its seat summary
+        mockMvc.perform(get("/events/upcoming").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].event.name", is("Soon")))
+                .andExpect(jsonPath("$[0].seats.minPrice", is(45.50)))
+                .andExpect(jsonPath("$[0].seats.totalAvailable", is(140)))
+                .andExpect(jsonPath("$[0].seats.soldOut", is(false)));
+        verify(eventService, never()).getEventDetailAsync(anyString());
+    }
+
     @Test
     void getEventById_whenEventNotFound_shouldReturnNotFound() throws Exception {
         // Given: An event ID that does not exist
         String eventId = UUID.randomUUID().toString();
-        given(eventService.getEventById(eventId)).willReturn(Optional.empty());
+        given(eventService.getEventDetailAsync(eventId)).willReturn(CompletableFuture.completedFuture(Optional.empty()));
 
         // When: GET /events/{id} is called
-        // Then: Expect HTTP 404 Not Found
-        mockMvc.perform(get("/events/{id}", eventId)
+        MvcResult pending = mockMvc.perform(get("/events/{id}", eventId)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: Expect HTTP 404 Not Found
+        mockMvc.perform(asyncDispatch(pending))
                 .andExpect(status().isNotFound());
     }
 
@@ -177,6 +400,63 @@ public class EventControllerTests {
         verify(eventService).createOrUpdateEvent(any(EventAdminRequest.class), eq(imageFile));
     }
 
+    @Test
+    @WithMockUser(authorities = "SCOPE_admin")
+    void createOrUpdateAdminEvent_withStaleIfMatch_shouldReturnConflict() throws Exception {
+        // Given: The event has moved past version 3
+        EventAdminRequest adminRequest = new EventAdminRequest(
+                "e1", "Renamed Concert", "Description", LocalDateTime.now().plusDays(1), "Stadium", Collections.emptyList()
+        );
+        MockMultipartFile eventDataPart = new MockMultipartFile("eventData", "", "application/json", objectMapper.writeValueAsBytes(adminRequest));
+        given(eventService.updateEventIfVersionMatches(any(EventAdminRequest.class), any(), eq(3L)))
+                .willThrow(new ConflictException("Event e1 has been modified since version 3"));
+
+        // When: POST /admin/events is called with If-Match: "3"
+        // Then: Expect HTTP 409 Conflict and no unconditional update
+        mockMvc.perform(multipart("/admin/events")
+                        .file(eventDataPart)
+                        .header("If-Match", "\"3\""))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Event e1 has been modified since version 3")));
+
+        verify(eventService, never()).createOrUpdateEvent(any(), any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "SCOPE_admin")
+    void createOrUpdateAdminEvent_withInvalidIfMatch_shouldReturnBadRequest() throws Exception {
+        // Given: An If-Match header that is not a version
+        MockMultipartFile eventDataPart = new MockMultipartFile("eventData", "", "application/json", "{}".getBytes());
+
+        // When: POST /admin/events is called
+        // Then: Expect HTTP 400 Bad Request
+        mockMvc.perform(multipart("/admin/events")
+                        .file(eventDataPart)
+                        .header("If-Match", "\"abc\""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("If-Match must contain the event version")));
+    }
+
+    @Test
+    @WithMockUser(authorities = "SCOPE_admin")
+    void createOrUpdateAdminEvent_withRepeatedIdempotencyKey_shouldReplayRecordedResponse() throws Exception {
+        // Given: The idempotency store already holds the response for this key
+        String recordedBody = "{\"event\":{\"id\":\"e1\",\"name\":\"New Concert\"},\"seatCategories\":[]}";
+        given(idempotencyStore.execute(eq("retry-1"), anyString(), any())).willReturn(new StoredResponse(201, recordedBody, true));
+        MockMultipartFile eventDataPart = new MockMultipartFile("eventData", "", "application/json", "{\"name\":\"New Concert\"}".getBytes());
+
+        // When: POST /admin/events is retried with the same Idempotency-Key
+        // Then: Expect the recorded 201 response, marked as replayed, without calling the service
+        mockMvc.perform(multipart("/admin/events")
+                        .file(eventDataPart)
+                        .header("Idempotency-Key", "retry-1"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.event.id", is("e1")));
+
+        verify(eventService, never()).createOrUpdateEvent(any(), any());
+    }
+
     @Test
     @WithMockUser(authorities = "SCOPE_admin")
     void createOrUpdateAdminEvent_whenMissingName_shouldReturnBadRequest() throws Exception {
@@ -0,0 +1,183 @@
+package com.tickethub.eventservice.controller;
+
+import com.tickethub.eventservice.config.SecurityConfig;
+import com.tickethub.eventservice.image.ImageDiskCache;
+import com.tickethub.eventservice.image.ImageDiskCache.CachedImage;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.service.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(value = EventImageController.class, properties = "gcp.storage.bucket.name=images")
+@Import(SecurityConfig.class)
+public class EventImageControllerTests {
+
+    private static final String ETAG = "\"7\"";
+
+    @MockBean
+    private EventService eventService;
+
+    @MockBean
+    private ImageDiskCache imageDiskCache;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @TempDir
+    Path directory;
+
+    private MockMvc mockMvc;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        file = Files.writeString(directory.resolve("poster.img"), "0123456789");
+    }
+
+    @Test
+    void getEventImage_shouldReturnWholeImageWithValidators() throws Exception {
+        // Given: An event whose image is cached
+        givenCachedImage();
+
+        // When: GET /events/{id}/image is called
+        // Then: Expect the whole file with ETag, Last-Modified and range support advertised
+        mockMvc.perform(get("/events/e1/image"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().string("0123456789"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "10"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"));
+    }
+
+    @Test
+    void getEventImage_withRange_shouldReturnPartialContent() throws Exception {
+        // Given: An event whose image is cached
+        givenCachedImage();
+
+        // When: A single byte range is requested
+        // Then: Expect 206 with just that range
+        mockMvc.perform(get("/events/e1/image").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("2345"))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "4"));
+    }
+
+    @Test
+    void getEventImage_withStaleIfRange_shouldIgnoreRange() throws Exception {
+        // Given: An event whose image is cached
+        givenCachedImage();
+
+        // When: The range is conditional on an older version of the image
+        // Then: Expect the whole current image
+        mockMvc.perform(get("/events/e1/image")
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"6\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void getEventImage_withUnsatisfiableRange_shouldReturn416() throws Exception {
+        // Given: An event whose image is cached
+        givenCachedImage();
+
+        // When: The range starts beyond the end of the image
+        // Then: Expect 416 with the image length
+        mockMvc.perform(get("/events/e1/image").header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void getEventImage_withMatchingIfNoneMatch_shouldReturnNotModified() throws Exception {
+        // Given: An event whose image is cached
+        givenCachedImage();
+
+        // When: The client already has this version
+        // Then: Expect 304 without a body
+        mockMvc.perform(get("/events/e1/image").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getEventImage_whenContainerSupportsSendfile_shouldHandFileToContainer() throws Exception {
+        // Given: An event whose image is cached, served by a connector with sendfile
+        givenCachedImage();
+
+        // When: A range is requested
+        // Then: Expect the file region in the sendfile request attributes instead of a written body
+        mockMvc.perform(get("/events/e1/image")
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .requestAttr(EventImageController.SENDFILE_SUPPORTED_ATTRIBUTE, Boolean.TRUE))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string(""))
+                .andExpect(request().attribute(EventImageController.SENDFILE_FILENAME_ATTRIBUTE, file.toAbsolutePath().toString()))
+                .andExpect(request().attribute(EventImageController.SENDFILE_START_ATTRIBUTE, 2L))
+                .andExpect(request().attribute(EventImageController.SENDFILE_END_ATTRIBUTE, 6L));
+    }
+
+    @Test
+    void getEventImage_whenImageIsInAnotherBucket_shouldReturnNotFound() throws Exception {
+        // Given: An event whose image URL points outside the configured bucket
+        given(eventService.getEventById("e1")).willReturn(Optional.of(event("gs://elsewhere/poster.jpg")));
+
+        // When: GET /events/{id}/image is called
+        // Then: Expect 404 without touching the cache
+        mockMvc.perform(get("/events/e1/image"))
+                .andExpect(status().isNotFound());
+        verify(imageDiskCache, never()).get(anyString(), anyString());
+    }
+
+    @Test
+    void getEventImage_whenEventDoesNotExist_shouldReturnNotFound() throws Exception {
+        // Given: No such event
+        given(eventService.getEventById("missing")).willReturn(Optional.empty());
+
+        // When: GET /events/{id}/image is called
+        // Then: Expect 404
+        mockMvc.perform(get("/events/missing/image"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void givenCachedImage() {
+        given(eventService.getEventById("e1")).willReturn(Optional.of(event("gs://images/posters/e1.jpg")));
+        given(imageDiskCache.get("images", "posters/e1.jpg")).willReturn(Optional.of(
+                new CachedImage(file, 10, "image/jpeg", ETAG, Instant.ofEpochSecond(1_700_000_000L))));
+    }
+
+    private static Event event(String imageUrl) {
+        return new Event("e1", "Event 1", "Description 1", LocalDateTime.now().plusDays(10), "Venue 1", imageUrl);
+    }
+}
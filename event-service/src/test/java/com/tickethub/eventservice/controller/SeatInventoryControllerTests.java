@@ -0,0 +1,130 @@
+package com.tickethub.eventservice.controller;
+
+import com.tickethub.eventservice.config.SecurityConfig;
+import com.tickethub.eventservice.dto.SeatAllocation;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.idempotency.IdempotencyStore;
+import com.tickethub.eventservice.idempotency.StoredResponse;
+import com.tickethub.eventservice.service.SeatInventoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SeatInventoryController.class)
+@Import(SecurityConfig.class)
+public class SeatInventoryControllerTests {
+
+    private static final String BEST_AVAILABLE = "/events/e1/categories/c1/seats/best-available";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private SeatInventoryService seatInventoryService;
+
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser
+    void allocateBestAvailable_withoutPurchaseScope_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(post(BEST_AVAILABLE)
+                        .header("Idempotency-Key", "k1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\":2}"))
+                .andExpect(status().isForbidden());
+
+        verify(seatInventoryService, never()).allocateBestAvailable(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(authorities = "SCOPE_purchase")
+    void allocateBestAvailable_withoutIdempotencyKey_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post(BEST_AVAILABLE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\":2}"))
+                .andExpect(status().isBadRequest());
+
+        verify(seatInventoryService, never()).allocateBestAvailable(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(authorities = "SCOPE_purchase")
+    @SuppressWarnings("unchecked")
+    void allocateBestAvailable_shouldHoldSeatsUnderTheIdempotencyKey() throws Exception {
+        given(seatInventoryService.allocateBestAvailable("e1", "c1", 2)).willReturn(
+                new SeatAllocation("e1", "c1", "A", "1", List.of(5, 6), "h1", Instant.parse("2026-03-01T18:10:00Z")));
+        given(idempotencyStore.execute(eq("k1"), anyString(), any())).willAnswer(invocation ->
+                ((Supplier<StoredResponse>) invocation.getArgument(2)).get());
+
+        mockMvc.perform(post(BEST_AVAILABLE)
+                        .header("Idempotency-Key", "k1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andExpect(jsonPath("$.holdId", is("h1")))
+                .andExpect(jsonPath("$.seats[0]", is(5)));
+    }
+
+    @Test
+    @WithMockUser(authorities = "SCOPE_purchase")
+    void allocateBestAvailable_withRepeatedIdempotencyKey_shouldReplayWithoutHoldingMoreSeats() throws Exception {
+        given(idempotencyStore.execute(eq("k1"), anyString(), any()))
+                .willReturn(new StoredResponse(201, "{\"holdId\":\"h1\"}", true));
+
+        mockMvc.perform(post(BEST_AVAILABLE)
+                        .header("Idempotency-Key", "k1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\":2}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.holdId", is("h1")));
+
+        verify(seatInventoryService, never()).allocateBestAvailable(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(authorities = "SCOPE_purchase")
+    void confirmHold_whenExpired_shouldReturnConflict() throws Exception {
+        given(seatInventoryService.confirmHold("e1", "h1")).willThrow(new ConflictException("Seat hold h1 expired before it was confirmed"));
+
+        mockMvc.perform(post("/events/e1/holds/h1/confirm"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Seat hold h1 expired before it was confirmed")));
+    }
+}
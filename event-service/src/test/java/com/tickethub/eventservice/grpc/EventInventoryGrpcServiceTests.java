@@ -0,0 +1,165 @@
+package com.tickethub.eventservice.grpc;
+
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.proto.EventInventoryGrpc;
+import com.tickethub.eventservice.proto.EventProtos;
+import com.tickethub.eventservice.proto.InventoryProtos;
+import com.tickethub.eventservice.service.EventService;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EventInventoryGrpcServiceTests {
+
+    @Mock
+    private EventService eventService;
+
+    private EventInventoryGrpcService grpcService;
+    private Server server;
+    private ManagedChannel channel;
+    private EventInventoryGrpc.EventInventoryBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        grpcService = new EventInventoryGrpcService(eventService, 10, 1);
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName).directExecutor().addService(grpcService).build().start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        stub = EventInventoryGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        grpcService.destroy();
+    }
+
+    @Test
+    void getEvent_whenEventExists_shouldReturnEventWithSeatCategories() {
+        Event event = new Event("e1", "gRPC Event", "Desc", LocalDateTime.of(2026, 6, 1, 20, 0), "Venue", null);
+        SeatCategory category = new SeatCategory("e1", "vip", "VIP", new BigDecimal("99.50"), 10L);
+        given(eventService.getEventById("e1")).willReturn(Optional.of(event));
+        given(eventService.getSeatCategoriesByEventId("e1")).willReturn(List.of(category));
+
+        EventProtos.EventDetail detail = stub.getEvent(InventoryProtos.GetEventRequest.newBuilder().setEventId("e1").build());
+
+        assertEquals("gRPC Event", detail.getEvent().getName());
+        assertEquals(1, detail.getSeatCategoriesCount());
+        assertEquals(9950, detail.getSeatCategories(0).getPrice().getUnscaledValue());
+        assertEquals(2, detail.getSeatCategories(0).getPrice().getScale());
+    }
+
+    @Test
+    void getEvent_whenEventMissing_shouldFailWithNotFound() {
+        given(eventService.getEventById("missing")).willReturn(Optional.empty());
+
+        StatusRuntimeException thrown = assertThrows(StatusRuntimeException.class,
+                () -> stub.getEvent(InventoryProtos.GetEventRequest.newBuilder().setEventId("missing").build()));
+
+        assertEquals(Status.Code.NOT_FOUND, thrown.getStatus().getCode());
+    }
+
+    @Test
+    void batchGetEvents_shouldReturnFoundAndMissingIds() {
+        Event event = new Event("e1", "Batch Event", "Desc", LocalDateTime.of(2026, 6, 1, 20, 0), "Venue", null);
+        given(eventService.getEventDetailsByIds(List.of("e1", "e2")))
+                .willReturn(new EventBatchResponse(List.of(new EventDetailResponse(event, List.of())), List.of("e2")));
+
+        EventProtos.EventBatch batch = stub.batchGetEvents(InventoryProtos.BatchGetEventsRequest.newBuilder()
+                .addEventIds("e1").addEventIds("e2").build());
+
+        assertEquals(1, batch.getEventsCount());
+        assertEquals(List.of("e2"), batch.getMissingIdsList());
+    }
+
+    @Test
+    void batchGetEvents_whenRequestInvalid_shouldFailWithInvalidArgument() {
+        given(eventService.getEventDetailsByIds(List.of())).willThrow(new IllegalArgumentException("At least one event id is required"));
+
+        StatusRuntimeException thrown = assertThrows(StatusRuntimeException.class,
+                () -> stub.batchGetEvents(InventoryProtos.BatchGetEventsRequest.getDefaultInstance()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, thrown.getStatus().getCode());
+    }
+
+    @Test
+    void watchAvailability_shouldStreamInitialStateAndChangesOnly() {
+        given(eventService.getEventById("e1")).willReturn(Optional.of(event("e1")));
+        SeatCategory before = new SeatCategory("e1", "vip", "VIP", new BigDecimal("99.50"), 10L);
+        SeatCategory after = new SeatCategory("e1", "vip", "VIP", new BigDecimal("99.50"), 9L);
+        given(eventService.getSeatCategoriesByEventId("e1"))
+                .willReturn(List.of(before), List.of(before), List.of(after));
+
+        Iterator<InventoryProtos.AvailabilityUpdate> updates = stub.withDeadlineAfter(5, TimeUnit.SECONDS)
+                .watchAvailability(InventoryProtos.WatchAvailabilityRequest.newBuilder().setEventId("e1").build());
+
+        assertEquals(10, updates.next().getCategories(0).getAvailableCount());
+        assertEquals(9, updates.next().getCategories(0).getAvailableCount());
+    }
+
+    @Test
+    void watchAvailability_whenEventMissing_shouldFailWithNotFound() {
+        given(eventService.getEventById("missing")).willReturn(Optional.empty());
+
+        Iterator<InventoryProtos.AvailabilityUpdate> updates = stub.withDeadlineAfter(5, TimeUnit.SECONDS)
+                .watchAvailability(InventoryProtos.WatchAvailabilityRequest.newBuilder().setEventId("missing").build());
+
+        StatusRuntimeException thrown = assertThrows(StatusRuntimeException.class, updates::hasNext);
+        assertEquals(Status.Code.NOT_FOUND, thrown.getStatus().getCode());
+        assertEquals(0, grpcService.watchedEvents());
+    }
+
+    @Test
+    void watchAvailability_withSeveralWatchers_shouldShareOnePollPerEvent() throws Exception {
+        given(eventService.getEventById("e1")).willReturn(Optional.of(event("e1")));
+        given(eventService.getSeatCategoriesByEventId("e1"))
+                .willReturn(List.of(new SeatCategory("e1", "vip", "VIP", new BigDecimal("99.50"), 10L)));
+        InventoryProtos.WatchAvailabilityRequest request = InventoryProtos.WatchAvailabilityRequest.newBuilder().setEventId("e1").build();
+        Context.CancellableContext first = Context.current().withCancellation();
+        Context.CancellableContext second = Context.current().withCancellation();
+
+        Iterator<InventoryProtos.AvailabilityUpdate> firstUpdates = first.call(() -> stub.watchAvailability(request));
+        Iterator<InventoryProtos.AvailabilityUpdate> secondUpdates = second.call(() -> stub.watchAvailability(request));
+
+        assertEquals(10, firstUpdates.next().getCategories(0).getAvailableCount());
+        assertEquals(10, secondUpdates.next().getCategories(0).getAvailableCount());
+        assertEquals(1, grpcService.watchedEvents());
+
+        first.cancel(null);
+        second.cancel(null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (grpcService.watchedEvents() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, grpcService.watchedEvents()); // the poll stops with its last watcher
+    }
+
+    private static Event event(String id) {
+        return new Event(id, "gRPC Event", "Desc", LocalDateTime.of(2026, 6, 1, 20, 0), "Venue", null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.tickethub.eventservice.hotkeys;
+
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.model.HotKeyRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class HotKeyStoreTests {
+
+    @Mock
+    private SpannerTemplate spannerTemplate;
+
+    private HotKeyTracker tracker;
+    private HotKeyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        tracker = new HotKeyTracker(true, 10, 4, 1024);
+        store = new HotKeyStore(spannerTemplate, tracker, true, Duration.ofMinutes(5), 100, 2, Duration.ofHours(1), new SimpleMeterRegistry());
+        given(spannerTemplate.performReadWriteTransaction(any())).willAnswer(invocation ->
+                ((Function<SpannerTemplate, Object>) invocation.getArgument(0)).apply(spannerTemplate));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot_shouldAddNewReadsToDecayedStoredScores() {
+        // Another instance wrote e1 one snapshot interval ago
+        Timestamp oneIntervalAgo = Timestamp.ofTimeSecondsAndNanos(Timestamp.now().getSeconds() - 300, 0);
+        given(spannerTemplate.read(eq(HotKeyRecord.class), any(KeySet.class)))
+                .willReturn(List.of(new HotKeyRecord(HotKeyTracker.EVENTS, "e1", 100L, oneIntervalAgo)));
+        record("e1", 10);
+        record("e2", 4);
+
+        assertEquals(2, store.snapshot());
+        record("e1", 6); // the tracker now holds 10 / 2 + 6 = 11 for e1, of which 6 are new
+        store.snapshot();
+
+        ArgumentCaptor<Iterable<HotKeyRecord>> written = ArgumentCaptor.forClass(Iterable.class);
+        verify(spannerTemplate, times(2)).upsertAll(written.capture());
+        Map<String, Long> first = scores(written.getAllValues().get(0));
+        Map<String, Long> second = scores(written.getAllValues().get(1));
+        assertTrue(Math.abs(first.get("e1") - 60) <= 1, "100 halved once plus 10 new reads: " + first);
+        assertEquals(4L, first.get("e2"));
+        assertTrue(Math.abs(second.get("e1") - 56) <= 1, "the stored 100 halved once plus 6 new reads: " + second);
+    }
+
+    private void record(String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(HotKeyTracker.EVENTS, key);
+        }
+    }
+
+    private static Map<String, Long> scores(Iterable<HotKeyRecord> records) {
+        List<HotKeyRecord> list = new ArrayList<>();
+        records.forEach(list::add);
+        return list.stream().collect(Collectors.toMap(HotKeyRecord::getKey, HotKeyRecord::getScore));
+    }
+}
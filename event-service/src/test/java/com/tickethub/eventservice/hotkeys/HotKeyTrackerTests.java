@@ -0,0 +1,104 @@
+package com.tickethub.eventservice.hotkeys;
+
+import com.tickethub.eventservice.hotkeys.HotKeyTracker.HotKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HotKeyTrackerTests {
+
+    @Test
+    void top_shouldReturnMostFrequentKeysInOrder() {
+        HotKeyTracker tracker = new HotKeyTracker(true, 3, 4, 1024);
+        record(tracker, "e1", 50);
+        record(tracker, "e2", 30);
+        record(tracker, "e3", 20);
+        for (int i = 0; i < 200; i++) {
+            tracker.record(HotKeyTracker.EVENTS, "cold-" + i); // read once each
+        }
+        record(tracker, "e4", 40);
+
+        List<HotKey> top = tracker.top(HotKeyTracker.EVENTS);
+
+        assertEquals(List.of("e1", "e4", "e2"), top.stream().map(HotKey::key).toList());
+        assertTrue(top.get(0).count() >= 50, "count-min estimates never undercount");
+        assertEquals(List.of(), tracker.top("getAllEvents"));
+    }
+
+    @Test
+    void decay_shouldLetRecentTrafficOvertakeOldHotKeys() {
+        HotKeyTracker tracker = new HotKeyTracker(true, 1, 4, 1024);
+        record(tracker, "old", 100);
+
+        tracker.decay();
+        tracker.decay();
+        record(tracker, "new", 40);
+
+        assertEquals(List.of(new HotKey("new", 40)), tracker.top(HotKeyTracker.EVENTS));
+    }
+
+    @Test
+    void record_whenDisabled_shouldTrackNothing() {
+        HotKeyTracker tracker = new HotKeyTracker(false, 10, 4, 1024);
+
+        record(tracker, "e1", 5);
+
+        assertTrue(tracker.operations().isEmpty());
+    }
+
+    @Test
+    void record_fromManyThreads_shouldKeepHottestKeys() throws Exception {
+        HotKeyTracker tracker = new HotKeyTracker(true, 2, 4, 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                readers.add(executor.submit(() -> {
+                    record(tracker, "e1", 500);
+                    record(tracker, "e2", 250);
+                    for (int i = 0; i < 100; i++) {
+                        tracker.record(HotKeyTracker.EVENTS, "cold-" + offset + "-" + i);
+                    }
+                }));
+            }
+            for (Future<?> reader : readers) {
+                reader.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<HotKey> top = tracker.top(HotKeyTracker.EVENTS);
+
+        assertEquals(List.of("e1", "e2"), top.stream().map(HotKey::key).toList());
+    }
+
+    @Test
+    void record_whileSuspended_shouldNotCountTheCallingThread() {
+        HotKeyTracker tracker = new HotKeyTracker(true, 10, 4, 1024);
+
+        HotKeyTracker.suspend();
+        try {
+            record(tracker, "warm-up", 5);
+        } finally {
+            HotKeyTracker.resume();
+        }
+        record(tracker, "e1", 2);
+
+        assertEquals(List.of(new HotKey("e1", 2)), tracker.top(HotKeyTracker.EVENTS));
+    }
+
+    private static void record(HotKeyTracker tracker, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(HotKeyTracker.EVENTS, key);
+        }
+    }
+}
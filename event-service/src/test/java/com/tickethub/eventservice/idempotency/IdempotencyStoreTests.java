@@ -0,0 +1,252 @@
+package com.tickethub.eventservice.idempotency;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.exception.IdempotencyKeyInProgressException;
+import com.tickethub.eventservice.exception.IdempotencyKeyReuseException;
+import com.tickethub.eventservice.model.IdempotencyRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyStoreTests {
+
+    @Mock
+    private SpannerTemplate spannerTemplate;
+
+    // Stands in for the idempotency_keys table
+    private final Map<String, IdempotencyRecord> table = new ConcurrentHashMap<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(spannerTemplate, Duration.ofHours(24), Duration.ofSeconds(60), Duration.ofMillis(300), 20, meterRegistry);
+
+        lenient().when(spannerTemplate.performReadWriteTransaction(any())).thenAnswer(invocation -> {
+            synchronized (table) {
+                return ((Function<SpannerTemplate, Object>) invocation.getArgument(0)).apply(spannerTemplate);
+            }
+        });
+        lenient().when(spannerTemplate.read(any(), any(Key.class))).thenAnswer(invocation -> {
+            Key key = invocation.getArgument(1);
+            return table.get((String) key.getParts().iterator().next());
+        });
+        lenient().doAnswer(invocation -> store(invocation.getArgument(0))).when(spannerTemplate).upsert(any());
+        lenient().doAnswer(invocation -> store(invocation.getArgument(0))).when(spannerTemplate).update(any());
+        lenient().doAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            return table.remove(record.getKey());
+        }).when(spannerTemplate).delete(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.destroy();
+    }
+
+    private Object store(IdempotencyRecord record) {
+        return table.put(record.getKey(), record);
+    }
+
+    @Test
+    void execute_withRepeatedKey_shouldReplayRecordedResponse() {
+        AtomicInteger executions = new AtomicInteger();
+
+        StoredResponse first = store.execute("key-1", "hash", () -> {
+            executions.incrementAndGet();
+            return new StoredResponse(201, "{\"id\":\"e1\"}");
+        });
+        StoredResponse second = store.execute("key-1", "hash", () -> {
+            executions.incrementAndGet();
+            return new StoredResponse(201, "{\"id\":\"e2\"}");
+        });
+
+        assertEquals(1, executions.get());
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(201, second.status());
+        assertEquals("{\"id\":\"e1\"}", second.body());
+        assertEquals(IdempotencyStore.COMPLETED, table.get("key-1").getStatus());
+    }
+
+    @Test
+    void execute_withDifferentPayload_shouldRejectKeyReuse() {
+        store.execute("key-1", "hash-a", () -> new StoredResponse(201, "{}"));
+
+        assertThrows(IdempotencyKeyReuseException.class,
+                () -> store.execute("key-1", "hash-b", () -> new StoredResponse(201, "{}")));
+    }
+
+    @Test
+    void execute_whenActionFails_shouldReleaseKeyForRetry() {
+        assertThrows(IllegalStateException.class, () -> store.execute("key-1", "hash", () -> {
+            throw new IllegalStateException("Spanner unavailable");
+        }));
+        StoredResponse serverError = store.execute("key-1", "hash", () -> new StoredResponse(500, "{}"));
+        StoredResponse retried = store.execute("key-1", "hash", () -> new StoredResponse(201, "{\"id\":\"e1\"}"));
+
+        assertFalse(serverError.replayed());
+        assertFalse(retried.replayed());
+        assertEquals(201, retried.status());
+    }
+
+    @Test
+    void execute_withConcurrentDuplicates_shouldRunActionOnce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<StoredResponse> first = pool.submit(() -> store.execute("key-1", "hash", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new StoredResponse(201, "{\"id\":\"e1\"}");
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            Future<StoredResponse> duplicate = pool.submit(() -> store.execute("key-1", "hash", () -> {
+                executions.incrementAndGet();
+                return new StoredResponse(201, "{\"id\":\"e2\"}");
+            }));
+            release.countDown();
+
+            assertEquals("{\"id\":\"e1\"}", first.get(1, TimeUnit.SECONDS).body());
+            assertEquals("{\"id\":\"e1\"}", duplicate.get(1, TimeUnit.SECONDS).body());
+            assertTrue(duplicate.get().replayed());
+            assertEquals(1, executions.get());
+            assertEquals(1.0, meterRegistry.get("eventservice.idempotency.requests").tag("outcome", "joined").counter().count());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_whenKeyHeldByAnotherInstance_shouldTimeOutWithConflict() {
+        // A claim written by another instance that has not completed yet
+        store.execute("key-0", "hash", () -> new StoredResponse(201, "{}"));
+        IdempotencyRecord held = table.remove("key-0");
+        held.setKey("key-1");
+        held.setStatus(IdempotencyStore.IN_PROGRESS);
+        table.put("key-1", held);
+
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> store.execute("key-1", "hash", () -> new StoredResponse(201, "{}")));
+    }
+
+    @Test
+    void execute_whenActionOutlivesLease_shouldRenewItSoOtherInstancesWait() throws Exception {
+        IdempotencyStore slowInstance = new IdempotencyStore(spannerTemplate, Duration.ofHours(24), Duration.ofMillis(150),
+                Duration.ofMillis(300), 20, meterRegistry);
+        IdempotencyStore otherInstance = new IdempotencyStore(spannerTemplate, Duration.ofHours(24), Duration.ofMillis(150),
+                Duration.ofMillis(300), 20, meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<StoredResponse> slow = pool.submit(() -> slowInstance.execute("key-1", "hash", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return new StoredResponse(201, "{\"id\":\"e1\"}");
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            Thread.sleep(400); // well past the original lease
+
+            assertThrows(IdempotencyKeyInProgressException.class, () -> otherInstance.execute("key-1", "hash", () -> {
+                executions.incrementAndGet();
+                return new StoredResponse(201, "{\"id\":\"e2\"}");
+            }));
+            release.countDown();
+
+            assertEquals(201, slow.get(1, TimeUnit.SECONDS).status());
+            assertEquals(1, executions.get());
+            assertEquals(IdempotencyStore.COMPLETED, table.get("key-1").getStatus());
+        } finally {
+            pool.shutdownNow();
+            slowInstance.destroy();
+            otherInstance.destroy();
+        }
+    }
+
+    @Test
+    void execute_whenRecordingResponseFailsOnce_shouldRetryAndReturnResponse() {
+        AtomicInteger failures = new AtomicInteger(1);
+        doAnswer(invocation -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new RuntimeException("Spanner unavailable");
+            }
+            return store(invocation.getArgument(0));
+        }).when(spannerTemplate).update(any());
+        AtomicInteger executions = new AtomicInteger();
+
+        StoredResponse response = store.execute("key-2", "hash", () -> {
+            executions.incrementAndGet();
+            return new StoredResponse(201, "{\"id\":\"e6\"}");
+        });
+        StoredResponse replay = store.execute("key-2", "hash", () -> {
+            executions.incrementAndGet();
+            return new StoredResponse(201, "{\"id\":\"e7\"}");
+        });
+
+        assertEquals(201, response.status());
+        assertFalse(response.replayed());
+        assertEquals(IdempotencyStore.COMPLETED, table.get("key-2").getStatus());
+        assertTrue(replay.replayed());
+        assertEquals("{\"id\":\"e6\"}", replay.body());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void execute_whenRecordingResponseKeepsFailing_shouldStillReturnSuccessfulResponse() {
+        doAnswer(invocation -> {
+            throw new RuntimeException("Spanner unavailable");
+        }).when(spannerTemplate).update(any());
+
+        StoredResponse response = store.execute("key-3", "hash", () -> new StoredResponse(201, "{\"id\":\"e7\"}"));
+
+        assertEquals(201, response.status());
+        assertEquals("{\"id\":\"e7\"}", response.body());
+        assertEquals(1.0, meterRegistry.get("eventservice.idempotency.requests").tag("outcome", "unrecorded").counter().count());
+        // The claim stays until its lease expires, so a duplicate cannot re-run the action meanwhile
+        assertEquals(IdempotencyStore.IN_PROGRESS, table.get("key-3").getStatus());
+    }
+
+    @Test
+    void execute_withBlankKey_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> store.execute(" ", "hash", () -> new StoredResponse(201, "{}")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.tickethub.eventservice.image;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.tickethub.eventservice.service.ReadCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ImageDiskCacheTests {
+
+    private static final String BUCKET = "images";
+
+    @TempDir
+    Path directory;
+
+    private final Storage storage = mock(Storage.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void get_shouldDownloadOnMissAndServeLaterLookupsFromDisk() throws Exception {
+        ImageDiskCache cache = cache(1024);
+        blob("poster.jpg", "jpeg-bytes", 7L);
+
+        ImageDiskCache.CachedImage first = cache.get(BUCKET, "poster.jpg").orElseThrow();
+        ImageDiskCache.CachedImage second = cache.get(BUCKET, "poster.jpg").orElseThrow();
+
+        assertEquals(first, second);
+        assertEquals("jpeg-bytes", Files.readString(first.file()));
+        assertEquals(10, first.length());
+        assertEquals("image/jpeg", first.contentType());
+        assertEquals("\"7\"", first.etag());
+        assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), first.lastModified());
+        assertEquals(10, cache.sizeInBytes());
+        verify(storage, times(1)).get(BlobId.of(BUCKET, "poster.jpg"));
+        assertEquals(1, lookups("hit"));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    void get_missingObject_shouldReturnEmpty() throws Exception {
+        ImageDiskCache cache = cache(1024);
+
+        assertEquals(Optional.empty(), cache.get(BUCKET, "missing.jpg"));
+        assertEquals(0, cache.sizeInBytes());
+    }
+
+    @Test
+    void get_overSizeBound_shouldEvictLeastRecentlyUsedAndDeleteItAfterGracePeriod() throws Exception {
+        ImageDiskCache cache = cache(15);
+        blob("a.jpg", "aaaaaa", 1L);
+        blob("b.jpg", "bbbbbb", 1L);
+        blob("c.jpg", "cccccc", 1L);
+        blob("d.jpg", "dddddd", 1L);
+        Path a = cache.get(BUCKET, "a.jpg").orElseThrow().file();
+        Path b = cache.get(BUCKET, "b.jpg").orElseThrow().file();
+
+        cache.get(BUCKET, "a.jpg"); // b becomes the least recently used entry
+        cache.get(BUCKET, "c.jpg");
+
+        assertEquals(12, cache.sizeInBytes());
+        assertTrue(Files.exists(b), "evicted file must survive the grace period for in-flight responses");
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.get(BUCKET, "d.jpg"); // evicts a and deletes b, whose grace period has passed
+
+        assertFalse(Files.exists(b));
+        assertTrue(Files.exists(a));
+        assertEquals(12, cache.sizeInBytes());
+    }
+
+    @Test
+    void get_concurrentMissesForSameObject_shouldShareOneDownload() throws Exception {
+        ImageDiskCache cache = cache(1024);
+        CountDownLatch downloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseDownload = new CountDownLatch(1);
+        Blob blob = blob("poster.jpg", "jpeg-bytes", 7L);
+        doAnswer(invocation -> {
+            downloadStarted.countDown();
+            releaseDownload.await(5, TimeUnit.SECONDS);
+            Files.writeString(invocation.getArgument(0), "jpeg-bytes");
+            return null;
+        }).when(blob).downloadTo(any(Path.class));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<ImageDiskCache.CachedImage>> leader = executor.submit(() -> cache.get(BUCKET, "poster.jpg"));
+            assertTrue(downloadStarted.await(5, TimeUnit.SECONDS));
+            Future<Optional<ImageDiskCache.CachedImage>> follower = executor.submit(() -> cache.get(BUCKET, "poster.jpg"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (collapsed() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            releaseDownload.countDown();
+
+            assertEquals(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+            verify(storage, times(1)).get(BlobId.of(BUCKET, "poster.jpg"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void constructor_shouldClearFilesLeftByPreviousRun() throws Exception {
+        Path stale = Files.writeString(directory.resolve("leftover.img"), "stale");
+
+        cache(1024);
+
+        assertFalse(Files.exists(stale));
+    }
+
+    private ImageDiskCache cache(long maxBytes) throws IOException {
+        return new ImageDiskCache(storage, new ReadCoalescer(meterRegistry), meterRegistry, directory, maxBytes,
+                Duration.ofSeconds(60), nanos::get);
+    }
+
+    private Blob blob(String object, String content, Long generation) {
+        Blob blob = mock(Blob.class);
+        when(blob.getGeneration()).thenReturn(generation);
+        when(blob.getContentType()).thenReturn("image/jpeg");
+        when(blob.getUpdateTime()).thenReturn(1_700_000_000_000L);
+        doAnswer(invocation -> Files.writeString(invocation.getArgument(0), content)).when(blob).downloadTo(any(Path.class));
+        when(storage.get(BlobId.of(BUCKET, object))).thenReturn(blob);
+        return blob;
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("eventservice.images.cache.lookups").tag("result", result).counter().count();
+    }
+
+    private double collapsed() {
+        var counter = meterRegistry.find("eventservice.reads.collapsed").tag("operation", "image").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
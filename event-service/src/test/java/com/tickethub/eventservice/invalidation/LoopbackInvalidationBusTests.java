@@ -0,0 +1,115 @@
+package com.tickethub.eventservice.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoopbackInvalidationBusTests {
+
+    private LoopbackInvalidationBus.Hub hub;
+    private LoopbackInvalidationBus sender;
+    private LoopbackInvalidationBus receiver;
+    private RecordingListener senderListener;
+    private RecordingListener receiverListener;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LoopbackInvalidationBus.Hub();
+        sender = new LoopbackInvalidationBus(hub, new SimpleMeterRegistry());
+        receiver = new LoopbackInvalidationBus(hub, new SimpleMeterRegistry());
+        senderListener = new RecordingListener();
+        receiverListener = new RecordingListener();
+        sender.subscribe(senderListener);
+        receiver.subscribe(receiverListener);
+    }
+
+    @Test
+    void publish_shouldNotifyOtherInstancesOnly() {
+        sender.publish(List.of("e1", "e2"));
+
+        assertEquals(List.of(Set.of("e1", "e2")), receiverListener.invalidated);
+        assertTrue(senderListener.invalidated.isEmpty());
+        assertEquals(0, receiverListener.flushes);
+    }
+
+    @Test
+    void publish_withManyIds_shouldSplitIntoSequencedMessages() {
+        List<String> ids = IntStream.range(0, AbstractInvalidationBus.MAX_IDS_PER_MESSAGE * 2 + 1).mapToObj(i -> "e" + i).toList();
+
+        sender.publish(ids);
+
+        assertEquals(3, receiverListener.invalidated.size());
+        assertEquals(ids.size(), receiverListener.invalidated.stream().mapToInt(Set::size).sum());
+        assertEquals(0, receiverListener.flushes);
+    }
+
+    @Test
+    void receive_afterLostMessage_shouldFlush() {
+        sender.publish(List.of("e1"));
+        AtomicBoolean drop = new AtomicBoolean(true);
+        hub.setDelivers(message -> !drop.getAndSet(false));
+        sender.publish(List.of("e2"));
+
+        sender.publish(List.of("e3"));
+
+        assertEquals(List.of(Set.of("e1")), receiverListener.invalidated);
+        assertEquals(1, receiverListener.flushes);
+    }
+
+    @Test
+    void heartbeat_afterLostLastMessage_shouldFlush() {
+        sender.publish(List.of("e1"));
+        hub.setDelivers(message -> message.heartbeat());
+        sender.publish(List.of("e2"));
+
+        sender.heartbeat();
+        sender.heartbeat();
+
+        assertEquals(1, receiverListener.flushes);
+    }
+
+    @Test
+    void receive_duplicateMessage_shouldBeIgnored() {
+        UUID other = UUID.randomUUID();
+
+        receiver.receive(new InvalidationMessage(other, 1, false, List.of("e1")));
+        receiver.receive(new InvalidationMessage(other, 1, false, List.of("e1")));
+
+        assertEquals(1, receiverListener.invalidated.size());
+        assertEquals(0, receiverListener.flushes);
+    }
+
+    @Test
+    void decode_shouldRoundTripEncodedMessage() {
+        InvalidationMessage message = new InvalidationMessage(UUID.randomUUID(), 42, false, List.of("e1", "e-\u00e9v"));
+
+        byte[] bytes = message.encode();
+
+        assertEquals(message, InvalidationMessage.decode(bytes, 0, bytes.length));
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode(new byte[] {9, 1, 2}, 0, 3));
+    }
+
+    private static final class RecordingListener implements InvalidationListener {
+        private final List<Set<String>> invalidated = new ArrayList<>();
+        private int flushes;
+
+        @Override
+        public void onInvalidate(Set<String> eventIds) {
+            invalidated.add(eventIds);
+        }
+
+        @Override
+        public void onFlush() {
+            flushes++;
+        }
+    }
+}
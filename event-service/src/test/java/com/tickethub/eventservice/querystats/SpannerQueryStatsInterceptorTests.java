@@ -0,0 +1,180 @@
+package com.tickethub.eventservice.querystats;
+
+import com.google.protobuf.ListValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import com.google.spanner.v1.ExecuteSqlRequest;
+import com.google.spanner.v1.KeySet;
+import com.google.spanner.v1.PartialResultSet;
+import com.google.spanner.v1.PlanNode;
+import com.google.spanner.v1.QueryPlan;
+import com.google.spanner.v1.ReadRequest;
+import com.google.spanner.v1.ResultSetMetadata;
+import com.google.spanner.v1.ResultSetStats;
+import com.google.spanner.v1.SpannerGrpc;
+import com.google.spanner.v1.StructType;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpannerQueryStatsInterceptorTests {
+
+    private static final String SQL = "SELECT * FROM seat_categories WHERE event_id = @tag0";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryStatsRegistry registry;
+    private FakeChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new QueryStatsRegistry(meterRegistry, 10, true, Duration.ofMinutes(10));
+        channel = new FakeChannel();
+    }
+
+    @Test
+    void streamingQuery_shouldRecordLatencyRowsAndProfileOnce() {
+        ResultSetStats stats = ResultSetStats.newBuilder()
+                .setQueryPlan(QueryPlan.newBuilder().addPlanNodes(PlanNode.newBuilder().setIndex(0).setDisplayName("Distributed Union")))
+                .setQueryStats(Struct.newBuilder().putFields("rows_scanned", Value.newBuilder().setStringValue("3").build()))
+                .build();
+        // Two columns; the second message starts with the remainder of a chunked value
+        FakeChannel.Call first = call(ExecuteSqlRequest.newBuilder().setSql(SQL).build(), List.of(
+                PartialResultSet.newBuilder().setMetadata(metadata(2)).addAllValues(values(3)).setChunkedValue(true).build(),
+                PartialResultSet.newBuilder().addAllValues(values(4)).setStats(stats).build()));
+        FakeChannel.Call second = call(ExecuteSqlRequest.newBuilder().setSql(SQL).build(), List.of(
+                PartialResultSet.newBuilder().setMetadata(metadata(2)).addAllValues(values(2)).build()));
+
+        assertEquals(ExecuteSqlRequest.QueryMode.PROFILE, ((ExecuteSqlRequest) first.sent).getQueryMode());
+        assertEquals(ExecuteSqlRequest.QueryMode.NORMAL, ((ExecuteSqlRequest) second.sent).getQueryMode());
+        StatementStats.Report report = registry.reports().get(0);
+        assertEquals("QUERY", report.kind());
+        assertEquals(SQL, report.statement());
+        assertEquals(2, report.calls());
+        assertEquals(4, report.rows());
+        assertEquals(List.of("0 Distributed Union"), report.profile().plan());
+        assertEquals("3", report.profile().queryStats().get("rows_scanned"));
+        assertEquals(2, meterRegistry.get("eventservice.spanner.statements").tag("statement", report.id()).timer().count());
+    }
+
+    @Test
+    void read_shouldBeDescribedByTableAndKeyShape() {
+        call(ReadRequest.newBuilder().setTable("events").addColumns("event_id").addColumns("name")
+                .setKeySet(KeySet.newBuilder().setAll(true)).build(), List.of());
+
+        StatementStats.Report report = registry.reports().get(0);
+        assertEquals("READ", report.kind());
+        assertEquals("READ events (event_id, name) ALL", report.statement());
+        assertNull(report.profile());
+    }
+
+    @Test
+    void normalize_shouldReplaceLiteralsAndCollapseWhitespace() {
+        assertEquals("SELECT * FROM events WHERE venue = ? AND start_time > TIMESTAMP_SUB(CURRENT_TIMESTAMP(), INTERVAL ? DAY) LIMIT @p1",
+                QueryStatsRegistry.normalize("SELECT *\n  FROM events WHERE venue = 'Arena' AND start_time > TIMESTAMP_SUB(CURRENT_TIMESTAMP(), INTERVAL 1 DAY) LIMIT @p1"));
+        assertEquals("DML", QueryStatsRegistry.kindOf("UPDATE events SET name = @name WHERE event_id = @id"));
+        assertEquals("QUERY", QueryStatsRegistry.kindOf("@{FORCE_INDEX=idx} SELECT 1"));
+    }
+
+    @Test
+    void statement_beyondLimit_shouldCountAsOther() {
+        QueryStatsRegistry small = new QueryStatsRegistry(meterRegistry, 1, false, Duration.ofMinutes(10));
+
+        small.statement("QUERY", "SELECT a FROM t");
+        StatementStats overflow = small.statement("QUERY", "SELECT b FROM t");
+
+        assertEquals(QueryStatsRegistry.OTHER_ID, overflow.getId());
+    }
+
+    private FakeChannel.Call call(Object request, List<Object> responses) {
+        MethodDescriptor<?, ?> method = request instanceof ReadRequest
+                ? SpannerGrpc.getStreamingReadMethod() : SpannerGrpc.getExecuteStreamingSqlMethod();
+        return channel.run(new SpannerQueryStatsInterceptor(registry), method, request, responses);
+    }
+
+    private static ResultSetMetadata metadata(int fields) {
+        StructType.Builder rowType = StructType.newBuilder();
+        for (int i = 0; i < fields; i++) {
+            rowType.addFields(StructType.Field.newBuilder().setName("f" + i));
+        }
+        return ResultSetMetadata.newBuilder().setRowType(rowType).build();
+    }
+
+    private static List<Value> values(int count) {
+        List<Value> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(Value.newBuilder().setListValue(ListValue.getDefaultInstance()).build());
+        }
+        return values;
+    }
+
+    // Completes every call synchronously with the given responses
+    private static final class FakeChannel extends Channel {
+
+        static final class Call extends ClientCall<Object, Object> {
+            private Listener<Object> listener;
+            private Object sent;
+
+            @Override
+            public void start(Listener<Object> responseListener, Metadata headers) {
+                listener = responseListener;
+            }
+
+            @Override
+            public void request(int numMessages) {
+            }
+
+            @Override
+            public void cancel(String message, Throwable cause) {
+            }
+
+            @Override
+            public void halfClose() {
+            }
+
+            @Override
+            public void sendMessage(Object message) {
+                sent = message;
+            }
+        }
+
+        private Call last;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(MethodDescriptor<RequestT, ResponseT> method, CallOptions callOptions) {
+            last = new Call();
+            return (ClientCall<RequestT, ResponseT>) last;
+        }
+
+        @Override
+        public String authority() {
+            return "spanner.test";
+        }
+
+        @SuppressWarnings("unchecked")
+        Call run(SpannerQueryStatsInterceptor interceptor, MethodDescriptor<?, ?> method, Object request, List<Object> responses) {
+            ClientCall<Object, Object> call = interceptor.interceptCall((MethodDescriptor<Object, Object>) method, CallOptions.DEFAULT, this);
+            call.start(new ClientCall.Listener<>() {}, new Metadata());
+            call.sendMessage(request);
+            call.halfClose();
+            for (Object response : responses) {
+                last.listener.onMessage(response);
+            }
+            last.listener.onClose(Status.OK, new Metadata());
+            return last;
+        }
+    }
+}
@@ -18,7 +18,10 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +54,9 @@ public class EventRepositoryIntegrationTest {
     @Autowired
     private SeatCategoryRepository seatCategoryRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     // Add mock for Storage bean
     @MockBean
     private Storage storage;
@@ -147,6 +153,79 @@ public class EventRepositoryIntegrationTest {
                 .containsExactlyInAnyOrder(testEvent1.getName(), testEvent2.getName());
     }
 
+    @Test
+    void whenFindAllByIds_thenReturnsOnlyExistingEventsWithTheirSeatCategories() {
+        // Given
+        eventRepository.save(testEvent1);
+        eventRepository.save(testEvent2);
+        seatCategoryRepository.saveAll(List.of(
+                new SeatCategory(testEvent1.getId(), UUID.randomUUID().toString(), "VIP", BigDecimal.TEN, 10L),
+                new SeatCategory(testEvent1.getId(), UUID.randomUUID().toString(), "General", BigDecimal.ONE, 100L),
+                new SeatCategory(testEvent2.getId(), UUID.randomUUID().toString(), "Balcony", BigDecimal.ONE, 50L)));
+
+        // When
+        List<Event> events = eventRepository.findAllByIds(List.of(testEvent1.getId(), UUID.randomUUID().toString()));
+        List<SeatCategory> categories = seatCategoryRepository.findByEventIds(List.of(testEvent1.getId()));
+
+        // Then
+        assertThat(events).extracting(Event::getId).containsExactly(testEvent1.getId());
+        assertThat(categories).hasSize(2);
+        assertThat(categories).extracting(SeatCategory::getEventId).containsOnly(testEvent1.getId());
+    }
+
+    @Test
+    void whenUpdateIfVersionMatches_andVersionMatches_thenRowIsWrittenAndReturned() {
+        // Given an event at version 2
+        testEvent1.setVersion(2L);
+        eventRepository.save(testEvent1);
+        LocalDateTime newStart = LocalDateTime.now().plusDays(40).withNano(0);
+
+        // When: updated as EventService does, inside a read-write transaction
+        List<Event> updated = updateIfVersionMatches(testEvent1.getId(), 2L, "Renamed Concert", newStart);
+
+        // Then: the returned row and the stored row carry the new data and version; the image is kept
+        assertThat(updated).hasSize(1);
+        assertThat(updated.get(0).getName()).isEqualTo("Renamed Concert");
+        assertThat(updated.get(0).getVersion()).isEqualTo(3L);
+        Event stored = eventRepository.findById(testEvent1.getId()).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Renamed Concert");
+        assertThat(stored.getStartTime()).isEqualTo(newStart);
+        assertThat(stored.getVersion()).isEqualTo(3L);
+        assertThat(stored.getImageUrl()).isEqualTo(testEvent1.getImageUrl());
+    }
+
+    @Test
+    void whenUpdateIfVersionMatches_andVersionIsStale_thenNothingIsWritten() {
+        // Given an event at version 2
+        testEvent1.setVersion(2L);
+        eventRepository.save(testEvent1);
+
+        // When
+        List<Event> updated = updateIfVersionMatches(testEvent1.getId(), 1L, "Renamed Concert", LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isEmpty();
+        Event stored = eventRepository.findById(testEvent1.getId()).orElseThrow();
+        assertThat(stored.getName()).isEqualTo(testEvent1.getName());
+        assertThat(stored.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void whenUpdateIfVersionMatches_andEventIsMissing_thenNothingIsWritten() {
+        // When
+        String missingId = UUID.randomUUID().toString();
+        List<Event> updated = updateIfVersionMatches(missingId, 0L, "Renamed Concert", LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isEmpty();
+        assertThat(eventRepository.findById(missingId)).isNotPresent();
+    }
+
+    private List<Event> updateIfVersionMatches(String eventId, long expectedVersion, String name, LocalDateTime startTime) {
+        return new TransactionTemplate(transactionManager).execute(status -> eventRepository.updateIfVersionMatches(
+                eventId, expectedVersion, name, "Updated description", startTime, "Emulator Arena", null));
+    }
+
     @Test
     void whenDeleteEvent_thenEventIsRemoved() {
         // Given
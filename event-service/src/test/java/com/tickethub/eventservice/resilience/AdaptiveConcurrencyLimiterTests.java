@@ -0,0 +1,90 @@
+package com.tickethub.eventservice.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimiterTests {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(20)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        limiter = new AdaptiveConcurrencyLimiter("read", bulkhead, 2, 100, 0.2, 1.5, meterRegistry);
+    }
+
+    @Test
+    void onSample_whenLatencyIsStableAndPermitsAreUsed_shouldGrowLimit() {
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(FAST, 1000);
+        }
+        limiter.applyLimit();
+
+        assertTrue(limiter.getLimit() > 20, "limit should grow, was " + limiter.getLimit());
+        assertEquals(limiter.getLimit(), bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+    }
+
+    @Test
+    void onSample_whenLatencyRises_shouldShrinkLimit() {
+        for (int i = 0; i < 300; i++) {
+            limiter.onSample(FAST, 1000);
+        }
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(SLOW, 1000);
+        }
+        limiter.applyLimit();
+
+        assertTrue(limiter.getLimit() < 20, "limit should shrink, was " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 2, "limit must not drop below the minimum");
+        assertEquals(limiter.getLimit(), bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+    }
+
+    @Test
+    void onSample_whenMostPermitsAreUnused_shouldKeepLimit() {
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(FAST, 5);
+        }
+        limiter.applyLimit();
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void tryAcquire_whenLimitReached_shouldRejectAndCount() {
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(20, limiter.getInFlight());
+        assertEquals(1.0, meterRegistry.get("eventservice.concurrency.rejected").tag("limiter", "read").counter().count());
+
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void gauges_shouldExposeCurrentLimitAndInFlight() {
+        limiter.tryAcquire();
+
+        assertEquals(20.0, meterRegistry.get("eventservice.concurrency.limit").tag("limiter", "read").gauge().value());
+        assertEquals(1.0, meterRegistry.get("eventservice.concurrency.inflight").tag("limiter", "read").gauge().value());
+    }
+}
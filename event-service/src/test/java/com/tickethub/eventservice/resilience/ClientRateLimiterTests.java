@@ -0,0 +1,92 @@
+package com.tickethub.eventservice.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientRateLimiterTests {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void tryAcquire_shouldAllowBurstThenReject() {
+        ClientRateLimiter limiter = new ClientRateLimiter(3, 1, 100, 10_000, nanos::get);
+
+        assertEquals(2, limiter.tryAcquire("a").remaining());
+        assertEquals(1, limiter.tryAcquire("a").remaining());
+        assertEquals(0, limiter.tryAcquire("a").remaining());
+        ClientRateLimiter.Decision rejected = limiter.tryAcquire("a");
+
+        assertFalse(rejected.allowed());
+        assertEquals(3, rejected.limit());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), rejected.retryAfterNanos());
+        assertEquals(TimeUnit.SECONDS.toNanos(3), rejected.resetNanos());
+        assertTrue(limiter.tryAcquire("b").allowed());
+    }
+
+    @Test
+    void tryAcquire_afterRefill_shouldAllowAgain() {
+        ClientRateLimiter limiter = new ClientRateLimiter(2, 2, 100, 10_000, nanos::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        assertFalse(limiter.tryAcquire("a").allowed());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertTrue(limiter.tryAcquire("a").allowed());
+        assertFalse(limiter.tryAcquire("a").allowed());
+    }
+
+    @Test
+    void tryAcquire_shouldEvictIdleBucketsAndBoundTrackedClients() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, 1_000, nanos::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // Over the bound: new clients share the overflow bucket
+        assertTrue(limiter.tryAcquire("c").allowed());
+        assertFalse(limiter.tryAcquire("d").allowed());
+        assertEquals(3, limiter.trackedClients());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertTrue(limiter.tryAcquire("d").allowed());
+
+        assertEquals(1, limiter.trackedClients());
+    }
+
+    @Test
+    void tryAcquire_fromManyThreads_shouldNotGrantMoreThanCapacity() throws Exception {
+        ClientRateLimiter limiter = new ClientRateLimiter(500, 0.001, 100, 10_000, nanos::get);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    int granted = 0;
+                    for (int i = 0; i < 200; i++) {
+                        if (limiter.tryAcquire("a").allowed()) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(5, TimeUnit.SECONDS);
+            }
+
+            assertEquals(500, total);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
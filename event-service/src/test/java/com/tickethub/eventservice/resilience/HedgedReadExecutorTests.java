@@ -0,0 +1,189 @@
+package com.tickethub.eventservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HedgedReadExecutorTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HedgedReadExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Fixed 20 ms delay, and no budget refill so the initial burst allowance of 10 hedges is all there is
+        executor = new HedgedReadExecutor(true, 0.95, 20, 20, 20, 0.0, 32, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void execute_whenPrimaryIsSlow_shouldReturnHedgeResult() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean slowNext = new AtomicBoolean(true);
+
+        String result = executor.execute("getEventById", slowFirstAttempt(slowNext, calls));
+
+        assertEquals("fast", result);
+        assertEquals(2, calls.get());
+        assertEquals(1.0, counter("eventservice.hedge.fired").count());
+        assertEquals(1.0, counter("eventservice.hedge.won").count());
+    }
+
+    @Test
+    void executeAsync_whenPrimaryIsSlow_shouldCompleteWithHedgeResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> slowPrimary = new CompletableFuture<>();
+
+        CompletableFuture<String> result = executor.executeAsync("getEventById", () -> calls.incrementAndGet() == 1
+                ? slowPrimary : CompletableFuture.completedFuture("fast"));
+
+        assertEquals("fast", result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+        assertEquals(1.0, counter("eventservice.hedge.fired").count());
+        assertEquals(1.0, counter("eventservice.hedge.won").count());
+    }
+
+    @Test
+    void executeAsync_whenPrimaryFailsFast_shouldFailWithoutHedging() {
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("Spanner unavailable");
+
+        CompletableFuture<String> result = executor.executeAsync("getEventById", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(failure);
+        });
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_whenPrimaryIsFast_shouldNotHedge() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = executor.execute("getEventById", () -> {
+            calls.incrementAndGet();
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, calls.get());
+        assertNull(meterRegistry.find("eventservice.hedge.fired").counter());
+    }
+
+    @Test
+    void execute_insideTransaction_shouldRunInlineWithoutHedging() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean slowNext = new AtomicBoolean(true);
+        Thread caller = Thread.currentThread();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            String result = executor.execute("getEventById", () -> {
+                assertSame(caller, Thread.currentThread());
+                return slowFirstAttempt(slowNext, calls).get();
+            });
+
+            assertEquals("slow", result);
+            assertEquals(1, calls.get());
+            assertNull(meterRegistry.find("eventservice.hedge.fired").counter());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void execute_whenBudgetIsExhausted_shouldWaitForPrimary() {
+        AtomicBoolean slowNext = new AtomicBoolean();
+        for (int i = 0; i < 10; i++) {
+            slowNext.set(true);
+            assertEquals("fast", executor.execute("getEventById", slowFirstAttempt(slowNext, new AtomicInteger())));
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        slowNext.set(true);
+        String result = executor.execute("getEventById", slowFirstAttempt(slowNext, calls));
+
+        assertEquals("slow", result);
+        assertEquals(1, calls.get());
+        assertEquals(10.0, counter("eventservice.hedge.fired").count());
+        assertEquals(1.0, counter("eventservice.hedge.budget_exhausted").count());
+    }
+
+    @Test
+    void execute_whenPrimaryFailsAndHedgeSucceeds_shouldReturnHedgeResult() {
+        AtomicBoolean first = new AtomicBoolean(true);
+
+        String result = executor.execute("getEventById", () -> {
+            if (first.getAndSet(false)) {
+                sleep(100);
+                throw new IllegalStateException("primary failed");
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+    }
+
+    @Test
+    void execute_whenReadFails_shouldRethrowOriginalException() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> executor.execute("getEventById", () -> {
+                    throw new IllegalStateException("Spanner unavailable");
+                }));
+
+        assertEquals("Spanner unavailable", thrown.getMessage());
+    }
+
+    @Test
+    void execute_whenDisabled_shouldRunReadOnCallerThread() {
+        HedgedReadExecutor disabled = new HedgedReadExecutor(false, 0.95, 20, 20, 20, 0.05, 8, meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        Thread readThread = disabled.execute("getEventById", Thread::currentThread);
+
+        assertSame(caller, readThread);
+        disabled.destroy();
+    }
+
+    private static Supplier<String> slowFirstAttempt(AtomicBoolean slowNext, AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            if (slowNext.getAndSet(false)) {
+                sleep(200);
+                return "slow";
+            }
+            return "fast";
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Counter counter(String name) {
+        Counter counter = meterRegistry.find(name).tag("operation", "getEventById").counter();
+        assertNotNull(counter, "Expected counter " + name);
+        return counter;
+    }
+}
@@ -0,0 +1,124 @@
+package com.tickethub.eventservice.resilience;
+
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.LaneSettings;
+import com.tickethub.eventservice.resilience.PriorityRequestScheduler.TrafficClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityRequestSchedulerTests {
+
+    private static final Duration LONG_WAIT = Duration.ofSeconds(10);
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void acquire_whenBrowseLaneIsFull_shouldStillAdmitOtherClasses() {
+        PriorityRequestScheduler scheduler = scheduler(new LaneSettings(1, 0, LONG_WAIT));
+
+        assertTrue(scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+        assertFalse(scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+        assertTrue(scheduler.acquire(TrafficClass.ADMIN, LONG_WAIT));
+        assertTrue(scheduler.acquire(TrafficClass.CHECKOUT, LONG_WAIT));
+
+        assertEquals(1, scheduler.active(TrafficClass.BROWSE));
+        assertEquals(1.0, outcomes("browse", "rejected"));
+    }
+
+    @Test
+    void release_whenQueueDrainsQuickly_shouldServeOldestFirst() throws Exception {
+        PriorityRequestScheduler scheduler = scheduler(new LaneSettings(1, 5, LONG_WAIT));
+        assertTrue(scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+        Future<Boolean> first = waitInQueue(scheduler, 1);
+        Future<Boolean> second = waitInQueue(scheduler, 2);
+
+        scheduler.release(TrafficClass.BROWSE);
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertFalse(second.isDone());
+        scheduler.release(TrafficClass.BROWSE);
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, outcomes("browse", "dequeued"));
+    }
+
+    @Test
+    void release_whenOldestWaiterIsStale_shouldServeNewestFirst() throws Exception {
+        PriorityRequestScheduler scheduler = scheduler(new LaneSettings(1, 5, LONG_WAIT));
+        assertTrue(scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+        Future<Boolean> first = waitInQueue(scheduler, 1);
+        Future<Boolean> second = waitInQueue(scheduler, 2);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+
+        scheduler.release(TrafficClass.BROWSE);
+
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertFalse(first.isDone());
+        scheduler.release(TrafficClass.BROWSE);
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void acquire_whenQueueIsFull_shouldShedOldestWaiter() throws Exception {
+        PriorityRequestScheduler scheduler = scheduler(new LaneSettings(1, 1, LONG_WAIT));
+        assertTrue(scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+        Future<Boolean> stale = waitInQueue(scheduler, 1);
+
+        Future<Boolean> fresh = executor.submit(() -> scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+
+        assertFalse(stale.get(5, TimeUnit.SECONDS));
+        scheduler.release(TrafficClass.BROWSE);
+        assertTrue(fresh.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, outcomes("browse", "shed"));
+    }
+
+    @Test
+    void acquire_whenNoSlotFreesInTime_shouldTimeOutAndLeaveQueue() {
+        PriorityRequestScheduler scheduler = scheduler(new LaneSettings(1, 5, LONG_WAIT));
+        assertTrue(scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+
+        assertFalse(scheduler.acquire(TrafficClass.BROWSE, Duration.ofMillis(20)));
+
+        assertEquals(0, scheduler.queued(TrafficClass.BROWSE));
+        assertEquals(1.0, outcomes("browse", "timeout"));
+        scheduler.release(TrafficClass.BROWSE);
+        assertEquals(0, scheduler.active(TrafficClass.BROWSE));
+    }
+
+    private PriorityRequestScheduler scheduler(LaneSettings browse) {
+        LaneSettings roomy = new LaneSettings(5, 5, LONG_WAIT);
+        return new PriorityRequestScheduler(
+                Map.of(TrafficClass.ADMIN, roomy, TrafficClass.CHECKOUT, roomy, TrafficClass.BROWSE, browse),
+                Duration.ofMillis(100), meterRegistry, nanos::get);
+    }
+
+    private Future<Boolean> waitInQueue(PriorityRequestScheduler scheduler, int expectedQueued) throws InterruptedException {
+        Future<Boolean> future = executor.submit(() -> scheduler.acquire(TrafficClass.BROWSE, LONG_WAIT));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.queued(TrafficClass.BROWSE) < expectedQueued) {
+            assertTrue(System.nanoTime() < deadline, "request did not start waiting");
+            Thread.sleep(1);
+        }
+        return future;
+    }
+
+    private double outcomes(String lane, String outcome) {
+        return meterRegistry.get("eventservice.lanes.requests").tag("lane", lane).tag("outcome", outcome).counter().count();
+    }
+}
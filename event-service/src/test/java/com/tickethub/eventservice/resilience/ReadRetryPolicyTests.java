@@ -0,0 +1,121 @@
+package com.tickethub.eventservice.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadRetryPolicyTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryBudget retryBudget;
+    private ReadRetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryBudget = new RetryBudget(0.1, 1, 2);
+        policy = new ReadRetryPolicy(List.of(IOException.class, DataAccessResourceFailureException.class),
+                3, retryBudget, 50, 1000, 100, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void shouldRetry_whenExceptionIsNotRetryable_shouldReturnFalse() {
+        assertFalse(policy.shouldRetry(new IllegalStateException("bug")));
+    }
+
+    @Test
+    void shouldRetry_whenRetryableAndNoDeadline_shouldReturnTrue() {
+        assertTrue(policy.shouldRetry(new DataAccessResourceFailureException("Spanner unavailable")));
+    }
+
+    @Test
+    void shouldRetry_whenDeadlineNearlyExpired_shouldReturnFalse() {
+        RequestDeadline.start(Duration.ofMillis(20));
+
+        assertFalse(policy.shouldRetry(new IOException("timeout")));
+        assertEquals(1.0, meterRegistry.get("eventservice.retry.suppressed").tag("reason", "deadline").counter().count());
+    }
+
+    @Test
+    void shouldRetry_whenBudgetExhausted_shouldReturnFalse() {
+        assertTrue(policy.shouldRetry(new IOException("first")));
+        assertTrue(policy.shouldRetry(new IOException("second")));
+
+        assertFalse(policy.shouldRetry(new IOException("third")));
+        assertEquals(1.0, meterRegistry.get("eventservice.retry.suppressed").tag("reason", "budget").counter().count());
+    }
+
+    @Test
+    void backoffMillis_shouldStayWithinExponentialCeiling() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.backoffMillis(1) <= 50);
+            assertTrue(policy.backoffMillis(3) <= 200);
+            assertTrue(policy.backoffMillis(10) <= 1000);
+        }
+    }
+
+    @Test
+    void backoffMillis_shouldLeaveTimeForNextAttempt() {
+        RequestDeadline.start(Duration.ofMillis(150));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(policy.backoffMillis(10) <= 50);
+        }
+    }
+
+    @Test
+    void executeAsync_whenAttemptsKeepFailing_shouldStopAtMaxAttempts() {
+        ReadRetryPolicy fastPolicy = new ReadRetryPolicy(List.of(IOException.class), 3,
+                new RetryBudget(1.0, 10, 1), 1, 1, 0, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+        IOException failure = new IOException("unavailable");
+
+        CompletableFuture<String> result = fastPolicy.executeAsync(null, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(failure);
+        });
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeAsync_shouldDecideRetriesWithTheCapturedDeadlineOnAnyThread() throws Exception {
+        RequestDeadline.start(Duration.ofMillis(20));
+        Long deadline = RequestDeadline.capture();
+        RequestDeadline.clear();
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = policy.executeAsync(deadline, () -> {
+            attempts.incrementAndGet();
+            return attempt;
+        });
+        // Fail the attempt from a thread that never had the request deadline
+        Thread completer = new Thread(() -> attempt.completeExceptionally(new IOException("timeout")));
+        completer.start();
+        completer.join();
+
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, meterRegistry.get("eventservice.retry.suppressed").tag("reason", "deadline").counter().count());
+    }
+}
@@ -0,0 +1,53 @@
+package com.tickethub.eventservice.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryBudgetTests {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void tryAcquireRetry_shouldAllowRatioOfRequests() {
+        RetryBudget budget = new RetryBudget(0.1, 0, 10, nanos::get);
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        int granted = 0;
+        while (budget.tryAcquireRetry()) {
+            granted++;
+        }
+
+        assertEquals(10, granted);
+    }
+
+    @Test
+    void tryAcquireRetry_withoutTraffic_shouldAllowMinimumPerSecond() {
+        RetryBudget budget = new RetryBudget(0.1, 1, 3, nanos::get);
+
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+    }
+
+    @Test
+    void tryAcquireRetry_afterWindowPasses_shouldRefill() {
+        RetryBudget budget = new RetryBudget(0.5, 0, 10, nanos::get);
+        budget.recordRequest();
+        budget.recordRequest();
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        budget.recordRequest();
+        budget.recordRequest();
+
+        assertTrue(budget.tryAcquireRetry());
+    }
+}
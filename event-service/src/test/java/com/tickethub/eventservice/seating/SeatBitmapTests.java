@@ -0,0 +1,104 @@
+package com.tickethub.eventservice.seating;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatBitmapTests {
+
+    @Test
+    void fullRow_shouldBeStoredAsOneRun() {
+        SeatBitmap row = SeatBitmap.ofRange(0, 40);
+
+        assertEquals(40, row.cardinality());
+        assertTrue(row.containsRange(0, 40));
+        assertFalse(row.contains(40));
+        // Format byte, container count, then key, type, run count and one (start, length) pair
+        assertEquals(12, row.serializedSizeInBytes());
+    }
+
+    @Test
+    void remove_shouldSplitRunsAndEmptyBitmapsShouldSerialize() {
+        SeatBitmap row = SeatBitmap.ofRange(0, 40);
+
+        row.remove(10, 14);
+        row.remove(30, 31);
+
+        assertEquals(List.of(List.of(0, 10), List.of(14, 30), List.of(31, 40)), runs(row));
+        assertFalse(row.containsRange(9, 11));
+        assertTrue(row.containsRange(14, 30));
+
+        row.remove(0, 40);
+        assertEquals(0, row.cardinality());
+        assertEquals(0, SeatBitmap.deserialize(row.serialize()).cardinality());
+    }
+
+    @Test
+    void forEachRun_shouldJoinRunsAcrossChunks() {
+        SeatBitmap bitmap = SeatBitmap.ofRange(65_530, 65_540);
+        bitmap.add(200_000, 200_001);
+
+        assertEquals(List.of(List.of(65_530, 65_540), List.of(200_000, 200_001)), runs(bitmap));
+        assertTrue(bitmap.containsRange(65_530, 65_540));
+    }
+
+    @Test
+    void randomOperations_shouldMatchBitSetAcrossContainerTypesAndSerialization() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 50; trial++) {
+            int size = trial % 2 == 0 ? 2_000 : 150_000; // single chunk, several chunks
+            BitSet expected = new BitSet();
+            SeatBitmap bitmap = new SeatBitmap();
+            for (int op = 0; op < 300; op++) {
+                int start = random.nextInt(size);
+                int end = start + 1 + random.nextInt(op % 10 == 0 ? size : 20);
+                if (random.nextBoolean()) {
+                    bitmap.add(start, end);
+                    expected.set(start, end);
+                } else {
+                    bitmap.remove(start, end);
+                    expected.clear(start, end);
+                }
+                if (op % 25 == 0) {
+                    byte[] bytes = bitmap.serialize();
+                    assertEquals(bitmap.serializedSizeInBytes(), bytes.length);
+                    bitmap = SeatBitmap.deserialize(bytes);
+                }
+                int probe = random.nextInt(size);
+                assertEquals(expected.get(probe), bitmap.contains(probe));
+                assertEquals(expected.nextClearBit(probe) >= probe + 5, bitmap.containsRange(probe, probe + 5));
+            }
+            assertEquals(expected.cardinality(), bitmap.cardinality());
+            assertEquals(runs(expected), runs(bitmap));
+        }
+    }
+
+    @Test
+    void deserialize_shouldRejectMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> SeatBitmap.deserialize(new byte[] {9}));
+        assertThrows(IllegalArgumentException.class, () -> SeatBitmap.deserialize(new byte[] {1, 0, 1, 0, 0, 7}));
+        assertThrows(IllegalArgumentException.class, () -> SeatBitmap.deserialize(new byte[] {1, 0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> SeatBitmap.ofRange(5, 5));
+    }
+
+    private static List<List<Integer>> runs(SeatBitmap bitmap) {
+        List<List<Integer>> runs = new ArrayList<>();
+        bitmap.forEachRun((start, end) -> runs.add(List.of(start, end)));
+        return runs;
+    }
+
+    private static List<List<Integer>> runs(BitSet bits) {
+        List<List<Integer>> runs = new ArrayList<>();
+        for (int start = bits.nextSetBit(0); start >= 0; ) {
+            int end = bits.nextClearBit(start);
+            runs.add(List.of(start, end));
+            start = bits.nextSetBit(end);
+        }
+        return runs;
+    }
+}
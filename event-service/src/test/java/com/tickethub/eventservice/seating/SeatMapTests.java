@@ -0,0 +1,68 @@
+package com.tickethub.eventservice.seating;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatMapTests {
+
+    @Test
+    void reserveBestAvailable_shouldPreferBestRankThenCentre() {
+        SeatMap seatMap = new SeatMap(List.of(
+                row("A", "2", 1, 10),
+                row("A", "1", 0, 10)));
+
+        assertEquals(Optional.of(new SeatMap.Allocation("A", "1", 4, 4)), seatMap.reserveBestAvailable(4));
+        // Row 1 now has seats 1-3 and 8-10 free: a block of 4 only fits in row 2
+        assertEquals(Optional.of(new SeatMap.Allocation("A", "2", 4, 4)), seatMap.reserveBestAvailable(4));
+        // Blocks of 3 still fit in row 1, at either end
+        assertEquals(Optional.of(new SeatMap.Allocation("A", "1", 1, 3)), seatMap.reserveBestAvailable(3));
+        assertEquals(20 - 11, seatMap.freeSeats());
+    }
+
+    @Test
+    void reserveBestAvailable_amongEqualRanks_shouldPickMostCentralBlock() {
+        SeatMap.Row left = row("L", "1", 0, 20);
+        left.freeSeats().remove(5, 15); // only the ends are free
+        SeatMap seatMap = new SeatMap(List.of(left, row("R", "1", 0, 20)));
+
+        assertEquals(Optional.of(new SeatMap.Allocation("R", "1", 10, 2)), seatMap.reserveBestAvailable(2));
+    }
+
+    @Test
+    void reserveBestAvailable_withoutRoom_shouldReturnEmptyAndReleaseShouldRestore() {
+        SeatMap seatMap = new SeatMap(List.of(row("A", "1", 0, 6)));
+
+        SeatMap.Allocation taken = seatMap.reserveBestAvailable(6).orElseThrow();
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), taken.seatNumbers());
+        assertEquals(Optional.empty(), seatMap.reserveBestAvailable(1));
+
+        seatMap.release(taken);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), seatMap.freeSeatNumbers("A", "1"));
+        assertEquals(Optional.empty(), seatMap.reserveBestAvailable(7));
+    }
+
+    @Test
+    void replaceRow_shouldMakeTheSearchUseTheNewState() {
+        SeatMap seatMap = new SeatMap(List.of(row("A", "1", 0, 10)));
+        SeatBitmap stored = SeatBitmap.ofRange(0, 2);
+
+        seatMap.replaceRow("A", "1", stored);
+
+        assertEquals(Optional.of(new SeatMap.Allocation("A", "1", 1, 2)), seatMap.reserveBestAvailable(2));
+        assertEquals(Optional.empty(), seatMap.reserveBestAvailable(1));
+    }
+
+    @Test
+    void constructor_shouldRejectDuplicateRows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SeatMap(List.of(row("A", "1", 0, 5), row("A", "1", 1, 5))));
+    }
+
+    private static SeatMap.Row row(String section, String name, int rank, int seats) {
+        return new SeatMap.Row(section, name, rank, seats, SeatBitmap.ofRange(0, seats));
+    }
+}
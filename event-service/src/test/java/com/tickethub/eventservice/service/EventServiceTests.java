@@ -1,21 +1,43 @@
 package com.tickethub.eventservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException; // Ensure this is imported
+import com.tickethub.eventservice.cache.LastKnownGoodStore;
+import com.tickethub.eventservice.catalog.CatalogChangedEvent;
+import com.tickethub.eventservice.catalog.CatalogSnapshot;
+import com.tickethub.eventservice.catalog.UpcomingEventsView;
 import com.tickethub.eventservice.dto.EventAdminRequest;
+import com.tickethub.eventservice.dto.EventBatchResponse;
+import com.tickethub.eventservice.dto.EventDetailResponse;
+import com.tickethub.eventservice.dto.EventFilter;
+import com.tickethub.eventservice.dto.EventSummary;
+import com.tickethub.eventservice.dto.SeatSummary;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.exception.DeadlineExceededException;
+import com.tickethub.eventservice.hotkeys.HotKeyTracker;
 import com.tickethub.eventservice.model.Event;
 import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.repository.EventAsyncReader;
 import com.tickethub.eventservice.repository.EventRepository;
 import com.tickethub.eventservice.repository.SeatCategoryRepository;
+import com.tickethub.eventservice.resilience.HedgedReadExecutor;
+import com.tickethub.eventservice.resilience.ReadRetryPolicy;
+import com.tickethub.eventservice.resilience.RetryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,8 +51,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,6 +76,36 @@ public class EventServiceTests {
     @Mock
     private Storage storage;
 
+    @Spy
+    private ReadCoalescer readCoalescer = new ReadCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private LastKnownGoodStore lastKnownGoodStore = new LastKnownGoodStore(
+            100, "", 100, new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+
+    @Spy
+    private HedgedReadExecutor hedgedReadExecutor = new HedgedReadExecutor(
+            false, 0.95, 50, 5, 500, 0.05, 4, new SimpleMeterRegistry());
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private UpcomingEventsView upcomingEventsView;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventAsyncReader eventAsyncReader;
+
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @Spy
+    private ReadRetryPolicy readRetryPolicy = new ReadRetryPolicy(List.of(DataAccessResourceFailureException.class), 3,
+            new RetryBudget(0.1, 10, 1), 1, 1, 0, new SimpleMeterRegistry());
+
     @InjectMocks
     private EventService eventService;
 
@@ -76,6 +132,101 @@ public class EventServiceTests {
         verify(eventRepository).findAll(pageable);
     }
 
+    @Test
+    void getAllEvents_whenCatalogSnapshotIsReady_shouldNotQuerySpanner() {
+        Event event = new Event(UUID.randomUUID().toString(), "Event 1", "Desc 1", LocalDateTime.now(), "Venue 1", null);
+        Pageable pageable = PageRequest.of(0, 10);
+        given(catalogSnapshot.isReady()).willReturn(true);
+        given(catalogSnapshot.query(null, pageable)).willReturn(Optional.of(new PageImpl<>(List.of(event), pageable, 1)));
+
+        Page<Event> actualPage = eventService.getAllEvents(pageable);
+
+        assertEquals(List.of(event), actualPage.getContent());
+        verify(eventRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void searchEvents_shouldLoadSnapshotAndQueryIt() {
+        EventFilter filter = new EventFilter("Venue 1", null, null, null);
+        Pageable pageable = PageRequest.of(0, 10);
+        given(catalogSnapshot.query(filter, pageable)).willReturn(Optional.of(Page.empty(pageable)));
+
+        Page<Event> actualPage = eventService.searchEvents(filter, pageable);
+
+        assertTrue(actualPage.isEmpty());
+        verify(catalogSnapshot).ensureLoaded();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void searchEvents_withInvertedTimeRange_shouldThrowIllegalArgumentException() {
+        LocalDateTime now = LocalDateTime.now();
+        EventFilter filter = new EventFilter(null, now, now.minusDays(1), null);
+
+        assertThrows(IllegalArgumentException.class, () -> eventService.searchEvents(filter, PageRequest.of(0, 10)));
+        verifyNoInteractions(catalogSnapshot);
+    }
+
+    @Test
+    void getUpcomingEvents_shouldLoadViewAndReadRequestedPage() {
+        Event event = new Event("e1", "Event 1", "Desc 1", LocalDateTime.now().plusDays(1), "Venue 1", null);
+        List<EventSummary> expected = List.of(new EventSummary(event, new SeatSummary(new BigDecimal("25.00"), 40, false)));
+        given(upcomingEventsView.upcoming(20, 10)).willReturn(expected);
+
+        List<EventSummary> actual = eventService.getUpcomingEvents(PageRequest.of(2, 10));
+
+        assertEquals(expected, actual);
+        verify(upcomingEventsView).ensureLoaded();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void withSeatSummaries_shouldSummarizeWholePageInOneQuery() {
+        Event withSeats = new Event("e1", "Event 1", "Desc 1", LocalDateTime.now(), "Venue 1", null);
+        Event withoutSeats = new Event("e2", "Event 2", "Desc 2", LocalDateTime.now(), "Venue 2", null);
+        Page<Event> page = new PageImpl<>(List.of(withSeats, withoutSeats), PageRequest.of(0, 10), 2);
+        SeatSummary soldOut = new SeatSummary(new BigDecimal("30.00"), 0, true);
+        given(seatCategoryRepository.summarizeByEventIds(List.of("e1", "e2"))).willReturn(Map.of("e1", soldOut));
+
+        Page<EventSummary> summaries = eventService.withSeatSummaries(page);
+
+        assertEquals(2, summaries.getTotalElements());
+        assertEquals(soldOut, summaries.getContent().get(0).seats());
+        assertEquals(new SeatSummary(null, 0, false), summaries.getContent().get(1).seats());
+        verify(seatCategoryRepository, times(1)).summarizeByEventIds(anyList());
+        verify(seatCategoryRepository, never()).findByEventId(anyString());
+    }
+
+    @Test
+    void withSeatSummaries_whenSnapshotHoldsEveryEvent_shouldNotQuerySpanner() {
+        Event event = new Event("e1", "Event 1", "Desc 1", LocalDateTime.now(), "Venue 1", null);
+        SeatSummary summary = new SeatSummary(new BigDecimal("30.00"), 12, false);
+        given(catalogSnapshot.isReady()).willReturn(true);
+        given(catalogSnapshot.seatSummaries(List.of("e1"))).willReturn(Map.of("e1", summary));
+
+        Page<EventSummary> summaries = eventService.withSeatSummaries(new PageImpl<>(List.of(event)));
+
+        assertEquals(summary, summaries.getContent().get(0).seats());
+        verifyNoInteractions(seatCategoryRepository);
+    }
+
+    @Test
+    void withSeatSummariesFallback_shouldUseSnapshotThenLastKnownGoodCategories() {
+        Event inSnapshot = new Event("e1", "Event 1", "Desc 1", LocalDateTime.now(), "Venue 1", null);
+        Event cached = new Event("e2", "Event 2", "Desc 2", LocalDateTime.now(), "Venue 2", null);
+        Event unknown = new Event("e3", "Event 3", "Desc 3", LocalDateTime.now(), "Venue 3", null);
+        SeatSummary summary = new SeatSummary(new BigDecimal("30.00"), 12, false);
+        given(catalogSnapshot.seatSummaries(List.of("e1", "e2", "e3"))).willReturn(Map.of("e1", summary));
+        lastKnownGoodStore.putSeatCategories("e2", List.of(new SeatCategory("e2", "c1", "Floor", BigDecimal.TEN, 5L)));
+
+        Page<EventSummary> summaries = eventService.withSeatSummariesFallback(
+                new PageImpl<>(List.of(inSnapshot, cached, unknown)), new RuntimeException("Spanner unavailable"));
+
+        assertEquals(summary, summaries.getContent().get(0).seats());
+        assertEquals(new SeatSummary(BigDecimal.TEN, 5, false), summaries.getContent().get(1).seats());
+        assertEquals(new SeatSummary(null, 0, false), summaries.getContent().get(2).seats());
+    }
+
     @Test
     void getEventById_whenEventExists_shouldReturnEvent() {
         String eventId = UUID.randomUUID().toString();
@@ -113,6 +264,50 @@ public class EventServiceTests {
         verify(seatCategoryRepository).findByEventId(eventId);
     }
 
+    @Test
+    void getEventDetailsByIds_shouldReturnFoundEventsInRequestOrderAndReportMissing() {
+        String firstId = UUID.randomUUID().toString();
+        String secondId = UUID.randomUUID().toString();
+        String missingId = UUID.randomUUID().toString();
+        Event first = new Event(firstId, "First", "Desc", LocalDateTime.now(), "Venue", null);
+        Event second = new Event(secondId, "Second", "Desc", LocalDateTime.now(), "Venue", null);
+        SeatCategory vip = new SeatCategory(secondId, UUID.randomUUID().toString(), "VIP", BigDecimal.TEN, 10L);
+        given(eventRepository.findAllByIds(any())).willReturn(List.of(first, second));
+        given(seatCategoryRepository.findByEventIds(any())).willReturn(List.of(vip));
+
+        EventBatchResponse response = eventService.getEventDetailsByIds(List.of(secondId, missingId, firstId, secondId));
+
+        assertEquals(2, response.events().size());
+        assertEquals("Second", response.events().get(0).event().getName());
+        assertEquals(List.of(vip), response.events().get(0).seatCategories());
+        assertEquals("First", response.events().get(1).event().getName());
+        assertTrue(response.events().get(1).seatCategories().isEmpty());
+        assertEquals(List.of(missingId), response.missingIds());
+        verify(eventRepository).findAllByIds(any());
+        verify(seatCategoryRepository).findByEventIds(any());
+    }
+
+    @Test
+    void getEventDetailsByIds_whenNoEventsFound_shouldSkipSeatCategoryRead() {
+        String missingId = UUID.randomUUID().toString();
+        given(eventRepository.findAllByIds(any())).willReturn(List.of());
+
+        EventBatchResponse response = eventService.getEventDetailsByIds(List.of(missingId));
+
+        assertTrue(response.events().isEmpty());
+        assertEquals(List.of(missingId), response.missingIds());
+        verify(seatCategoryRepository, never()).findByEventIds(any());
+    }
+
+    @Test
+    void getEventDetailsByIds_whenTooManyIds_shouldThrowIllegalArgumentException() {
+        ReflectionTestUtils.setField(eventService, "maxBatchIds", 2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.getEventDetailsByIds(List.of("a", "b", "c")));
+        verify(eventRepository, never()).findAllByIds(any());
+    }
+
     @Test
     void createOrUpdateEvent_forNewEvent_withImage_shouldCreateAndSave() throws IOException {
         EventAdminRequest.SeatCategoryRequest seatCatReq = new EventAdminRequest.SeatCategoryRequest(null, "General", BigDecimal.valueOf(25), 150L);
@@ -144,6 +339,11 @@ public class EventServiceTests {
         verify(seatCategoryRepository, never()).deleteAll(anyList());
         verify(seatCategoryRepository).saveAll(anyList());
         verify(storage).create(any(BlobInfo.class), eq(imageFile.getBytes()));
+
+        ArgumentCaptor<CatalogChangedEvent> changeCaptor = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher).publishEvent(changeCaptor.capture());
+        assertEquals(resultEvent.getId(), changeCaptor.getValue().event().getId());
+        assertEquals(1, changeCaptor.getValue().categories().size());
     }
 
     @Test
@@ -187,6 +387,105 @@ public class EventServiceTests {
         verify(storage).create(any(BlobInfo.class), eq(newImageFile.getBytes()));
     }
 
+    @Test
+    void updateEventIfVersionMatches_whenVersionMatches_shouldUpdateWithoutReading() throws IOException {
+        String eventId = UUID.randomUUID().toString();
+        EventAdminRequest.SeatCategoryRequest seatCatReq = new EventAdminRequest.SeatCategoryRequest(null, "VIP", BigDecimal.valueOf(150), 50L);
+        EventAdminRequest adminRequest = new EventAdminRequest(
+                eventId, "New Name", "New Desc", LocalDateTime.now().plusDays(60), "Grand Arena", List.of(seatCatReq)
+        );
+        Event updatedEvent = new Event(eventId, "New Name", "New Desc", adminRequest.getStartTime(), "Grand Arena", "gs://bucket/old.jpg", 4L);
+        given(eventRepository.updateIfVersionMatches(eventId, 3L, "New Name", "New Desc", adminRequest.getStartTime(), "Grand Arena", null))
+                .willReturn(List.of(updatedEvent));
+
+        Event resultEvent = eventService.updateEventIfVersionMatches(adminRequest, null, 3L);
+
+        assertEquals(4L, resultEvent.getVersion());
+        assertEquals("gs://bucket/old.jpg", resultEvent.getImageUrl());
+        verify(eventRepository, never()).findById(any());
+        verify(seatCategoryRepository, never()).findByEventId(any());
+        verify(seatCategoryRepository).deleteByEventId(eventId);
+        verify(seatCategoryRepository).saveAll(anyList());
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void updateEventIfVersionMatches_withSeatMaps_shouldKeepCategoryIdsAndCountsAndDeleteDroppedSeatMaps() throws IOException {
+        String eventId = UUID.randomUUID().toString();
+        // Floor has a seat map and is sent without its id; Balcony's seat map is dropped with the category
+        EventAdminRequest adminRequest = new EventAdminRequest(eventId, "New Name", "New Desc", LocalDateTime.now().plusDays(60), "Grand Arena",
+                List.of(new EventAdminRequest.SeatCategoryRequest(null, "Floor", BigDecimal.valueOf(90), 500L),
+                        new EventAdminRequest.SeatCategoryRequest(null, "VIP", BigDecimal.valueOf(200), 20L)));
+        Event updatedEvent = new Event(eventId, "New Name", "New Desc", adminRequest.getStartTime(), "Grand Arena", null, 4L);
+        given(eventRepository.updateIfVersionMatches(eventId, 3L, "New Name", "New Desc", adminRequest.getStartTime(), "Grand Arena", null))
+                .willReturn(List.of(updatedEvent));
+        given(seatCategoryRepository.findSeatMapCategoryIds(eventId)).willReturn(Set.of("floor", "balcony"));
+        given(seatCategoryRepository.findByEventId(eventId)).willReturn(List.of(
+                new SeatCategory(eventId, "floor", "Floor", BigDecimal.valueOf(80), 26L),
+                new SeatCategory(eventId, "balcony", "Balcony", BigDecimal.valueOf(40), 12L)));
+
+        eventService.updateEventIfVersionMatches(adminRequest, null, 3L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<SeatCategory>> savedCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(seatCategoryRepository).saveAll(savedCaptor.capture());
+        List<SeatCategory> saved = new ArrayList<>();
+        savedCaptor.getValue().forEach(saved::add);
+        assertEquals("floor", saved.get(0).getId());
+        assertEquals(BigDecimal.valueOf(90), saved.get(0).getPrice());
+        assertEquals(26L, saved.get(0).getAvailableCount(), "the seat map owns the available count");
+        assertNotEquals("balcony", saved.get(1).getId());
+        assertEquals(20L, saved.get(1).getAvailableCount());
+        verify(seatCategoryRepository).deleteSeatMaps(eventId, Set.of("balcony"));
+    }
+
+    @Test
+    void updateEventIfVersionMatches_whenVersionIsStale_shouldThrowConflictException() {
+        String eventId = UUID.randomUUID().toString();
+        EventAdminRequest adminRequest = new EventAdminRequest(
+                eventId, "New Name", "Desc", LocalDateTime.now(), "Venue", Collections.emptyList()
+        );
+        given(eventRepository.updateIfVersionMatches(eq(eventId), eq(3L), any(), any(), any(), any(), any())).willReturn(List.of());
+        given(eventRepository.existsById(eventId)).willReturn(true);
+
+        assertThrows(ConflictException.class, () -> eventService.updateEventIfVersionMatches(adminRequest, null, 3L));
+        verify(seatCategoryRepository, never()).deleteByEventId(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateEventIfVersionMatches_whenRejected_shouldDeleteUploadedImage() {
+        String eventId = UUID.randomUUID().toString();
+        EventAdminRequest adminRequest = new EventAdminRequest(
+                eventId, "New Name", "Desc", LocalDateTime.now(), "Venue", Collections.emptyList()
+        );
+        MockMultipartFile imageFile = new MockMultipartFile("image", "poster.png", "image/png", "poster".getBytes());
+        ArgumentCaptor<String> imageUrlCaptor = ArgumentCaptor.forClass(String.class);
+        given(eventRepository.updateIfVersionMatches(eq(eventId), eq(3L), any(), any(), any(), any(), imageUrlCaptor.capture())).willReturn(List.of());
+        given(eventRepository.existsById(eventId)).willReturn(true);
+
+        assertThrows(ConflictException.class, () -> eventService.updateEventIfVersionMatches(adminRequest, imageFile, 3L));
+
+        ArgumentCaptor<BlobInfo> uploaded = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).create(uploaded.capture(), any(byte[].class));
+        assertTrue(imageUrlCaptor.getValue().endsWith(uploaded.getValue().getName()));
+        verify(storage).delete(uploaded.getValue().getBlobId());
+    }
+
+    @Test
+    void updateEventIfVersionMatches_whenEventDoesNotExist_shouldThrowIllegalArgumentException() {
+        String eventId = UUID.randomUUID().toString();
+        EventAdminRequest adminRequest = new EventAdminRequest(
+                eventId, "New Name", "Desc", LocalDateTime.now(), "Venue", Collections.emptyList()
+        );
+        given(eventRepository.updateIfVersionMatches(eq(eventId), eq(3L), any(), any(), any(), any(), any())).willReturn(List.of());
+        given(eventRepository.existsById(eventId)).willReturn(false);
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> eventService.updateEventIfVersionMatches(adminRequest, null, 3L));
+        assertEquals("Event not found with id: " + eventId, exception.getMessage());
+    }
+
     @Test
     void createOrUpdateEvent_updateEventNotFound_shouldThrowIllegalArgumentException() {
         String nonExistentEventId = UUID.randomUUID().toString();
@@ -268,4 +567,161 @@ public class EventServiceTests {
         assertTrue(fallbackPage.isEmpty());
         System.out.println("Fallback test for getAllEvents executed conceptually."); // Log for clarity during test run
     }
+
+    @Test
+    void getEventsFallback_whenDeadlineExceededWithoutLastKnownGood_shouldRethrow() {
+        Pageable pageable = PageRequest.of(0, 10);
+        DeadlineExceededException deadlineExceeded = new DeadlineExceededException("Request deadline exceeded");
+
+        assertSame(deadlineExceeded, assertThrows(DeadlineExceededException.class,
+                () -> eventService.getEventsFallback(pageable, deadlineExceeded)));
+    }
+
+    @Test
+    void getEventsFallback_afterSuccessfulRead_shouldServeLastKnownGoodPage() {
+        Event event = new Event(UUID.randomUUID().toString(), "Cached Event", "Desc", LocalDateTime.now(), "Venue", null);
+        Pageable pageable = PageRequest.of(0, 10);
+        given(eventRepository.findAll(pageable)).willReturn(new PageImpl<>(List.of(event), pageable, 1));
+        eventService.getAllEvents(pageable);
+
+        Page<Event> fallbackPage = eventService.getEventsFallback(pageable, new RuntimeException("Spanner unavailable"));
+
+        assertEquals(1, fallbackPage.getTotalElements());
+        assertEquals("Cached Event", fallbackPage.getContent().get(0).getName());
+    }
+
+    @Test
+    void getEventByIdFallback_afterSuccessfulRead_shouldServeLastKnownGoodEvent() throws Throwable {
+        String eventId = UUID.randomUUID().toString();
+        Event event = new Event(eventId, "Cached Event", "Desc", LocalDateTime.now(), "Venue", null);
+        given(eventRepository.findById(eventId)).willReturn(Optional.of(event));
+        eventService.getEventById(eventId);
+
+        Optional<Event> fallbackEvent = eventService.getEventByIdFallback(eventId, new RuntimeException("Spanner unavailable"));
+
+        assertTrue(fallbackEvent.isPresent());
+        assertEquals("Cached Event", fallbackEvent.get().getName());
+    }
+
+    @Test
+    void getEventByIdFallback_withoutSnapshot_shouldRethrowOriginalFailure() {
+        RuntimeException failure = new RuntimeException("Spanner unavailable");
+
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> eventService.getEventByIdFallback(UUID.randomUUID().toString(), failure));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void getSeatCategoriesFallback_afterSuccessfulRead_shouldServeLastKnownGoodCategories() throws Throwable {
+        String eventId = UUID.randomUUID().toString();
+        SeatCategory category = new SeatCategory(eventId, UUID.randomUUID().toString(), "VIP", BigDecimal.TEN, 100L);
+        given(seatCategoryRepository.findByEventId(eventId)).willReturn(List.of(category));
+        eventService.getSeatCategoriesByEventId(eventId);
+
+        List<SeatCategory> fallbackCategories = eventService.getSeatCategoriesFallback(eventId, new RuntimeException("Spanner unavailable"));
+
+        assertEquals(List.of(category), fallbackCategories);
+    }
+
+    @Test
+    void getEventDetailAsync_shouldIssueBothReadsBeforeEitherCompletes() throws Exception {
+        String eventId = UUID.randomUUID().toString();
+        Event event = new Event(eventId, "Async Event", "Desc", LocalDateTime.now(), "Venue", null);
+        SeatCategory category = new SeatCategory(eventId, UUID.randomUUID().toString(), "VIP", BigDecimal.TEN, 100L);
+        CompletableFuture<Optional<Event>> eventRead = new CompletableFuture<>();
+        CompletableFuture<List<SeatCategory>> categoriesRead = new CompletableFuture<>();
+        given(eventAsyncReader.findEventById(eventId)).willReturn(eventRead);
+        given(eventAsyncReader.findSeatCategoriesByEventId(eventId)).willReturn(categoriesRead);
+
+        CompletableFuture<Optional<EventDetailResponse>> detail = eventService.getEventDetailAsync(eventId);
+
+        verify(eventAsyncReader).findEventById(eventId);
+        verify(eventAsyncReader).findSeatCategoriesByEventId(eventId);
+        categoriesRead.complete(List.of(category));
+        assertFalse(detail.isDone());
+        eventRead.complete(Optional.of(event));
+        assertEquals(Optional.of(new EventDetailResponse(event, List.of(category))), detail.get());
+        verify(eventRepository, never()).findById(any());
+        verify(seatCategoryRepository, never()).findByEventId(any());
+    }
+
+    @Test
+    void getEventDetailAsync_concurrentRequests_shouldShareOneReadOfEachTable() throws Exception {
+        String eventId = UUID.randomUUID().toString();
+        Event event = new Event(eventId, "Async Event", "Desc", LocalDateTime.now(), "Venue", null);
+        CompletableFuture<Optional<Event>> eventRead = new CompletableFuture<>();
+        given(eventAsyncReader.findEventById(eventId)).willReturn(eventRead);
+        given(eventAsyncReader.findSeatCategoriesByEventId(eventId)).willReturn(CompletableFuture.completedFuture(List.of()));
+
+        CompletableFuture<Optional<EventDetailResponse>> first = eventService.getEventDetailAsync(eventId);
+        CompletableFuture<Optional<EventDetailResponse>> second = eventService.getEventDetailAsync(eventId);
+        eventRead.complete(Optional.of(event));
+
+        assertEquals(first.get(), second.get());
+        verify(eventAsyncReader, times(1)).findEventById(eventId);
+        verify(eventAsyncReader, times(1)).findSeatCategoriesByEventId(eventId);
+    }
+
+    @Test
+    void getEventDetailAsync_whenEventDoesNotExist_shouldReturnEmpty() throws Exception {
+        String eventId = UUID.randomUUID().toString();
+        given(eventAsyncReader.findEventById(eventId)).willReturn(CompletableFuture.completedFuture(Optional.empty()));
+        given(eventAsyncReader.findSeatCategoriesByEventId(eventId)).willReturn(CompletableFuture.completedFuture(List.of()));
+
+        assertEquals(Optional.empty(), eventService.getEventDetailAsync(eventId).get());
+    }
+
+    @Test
+    void getEventDetailAsync_whenReadFails_shouldFailWithReadException() {
+        String eventId = UUID.randomUUID().toString();
+        RuntimeException failure = new RuntimeException("Spanner unavailable");
+        given(eventAsyncReader.findEventById(eventId)).willReturn(CompletableFuture.failedFuture(failure));
+        given(eventAsyncReader.findSeatCategoriesByEventId(eventId)).willReturn(CompletableFuture.completedFuture(List.of()));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> eventService.getEventDetailAsync(eventId).get());
+
+        assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    void getEventDetailAsync_whenAttemptFailsWithRetryableError_shouldRetryAndRecordHotKeyOnce() throws Exception {
+        String eventId = UUID.randomUUID().toString();
+        Event event = new Event(eventId, "Async Event", "Desc", LocalDateTime.now(), "Venue", null);
+        given(eventAsyncReader.findEventById(eventId)).willReturn(
+                CompletableFuture.failedFuture(new DataAccessResourceFailureException("Spanner unavailable")),
+                CompletableFuture.completedFuture(Optional.of(event)));
+        given(eventAsyncReader.findSeatCategoriesByEventId(eventId)).willReturn(CompletableFuture.completedFuture(List.of()));
+
+        assertEquals(Optional.of(new EventDetailResponse(event, List.of())), eventService.getEventDetailAsync(eventId).get());
+
+        verify(eventAsyncReader, times(2)).findEventById(eventId);
+        verify(hotKeyTracker, times(1)).record(HotKeyTracker.EVENTS, eventId);
+    }
+
+    @Test
+    void getEventDetailAsyncFallback_afterSuccessfulRead_shouldServeLastKnownGoodDetail() throws Exception {
+        String eventId = UUID.randomUUID().toString();
+        Event event = new Event(eventId, "Cached Event", "Desc", LocalDateTime.now(), "Venue", null);
+        SeatCategory category = new SeatCategory(eventId, UUID.randomUUID().toString(), "VIP", BigDecimal.TEN, 100L);
+        given(eventAsyncReader.findEventById(eventId)).willReturn(CompletableFuture.completedFuture(Optional.of(event)));
+        given(eventAsyncReader.findSeatCategoriesByEventId(eventId)).willReturn(CompletableFuture.completedFuture(List.of(category)));
+        eventService.getEventDetailAsync(eventId).get();
+
+        Optional<EventDetailResponse> fallback = eventService
+                .getEventDetailAsyncFallback(eventId, new RuntimeException("Spanner unavailable")).get();
+
+        assertEquals(Optional.of(new EventDetailResponse(event, List.of(category))), fallback);
+    }
+
+    @Test
+    void getEventDetailAsyncFallback_withoutSnapshot_shouldFailWithOriginalFailure() {
+        RuntimeException failure = new RuntimeException("Spanner unavailable");
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> eventService.getEventDetailAsyncFallback(UUID.randomUUID().toString(), failure).get());
+
+        assertSame(failure, thrown.getCause());
+    }
 }
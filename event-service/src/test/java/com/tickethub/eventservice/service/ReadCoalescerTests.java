@@ -0,0 +1,227 @@
+package com.tickethub.eventservice.service;
+
+import com.tickethub.eventservice.exception.DeadlineExceededException;
+import com.tickethub.eventservice.resilience.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadCoalescerTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadCoalescer readCoalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readCoalescer = new ReadCoalescer(meterRegistry);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_concurrentIdenticalReads_shouldShareOneCall() throws Exception {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "event-1";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> {
+                loaderCalls.incrementAndGet();
+                return "unexpected";
+            })));
+        }
+        // Wait until every follower has joined the in-flight call before releasing the leader
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsed("getEventById") < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        releaseLoader.countDown();
+
+        assertEquals("event-1", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("event-1", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loaderCalls.get());
+        assertEquals(5, collapsed("getEventById"));
+        assertEquals(0, readCoalescer.inFlightCount());
+    }
+
+    @Test
+    void execute_differentKeys_shouldNotBeCoalesced() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        readCoalescer.execute("getEventById", "e1", loaderCalls::incrementAndGet);
+        readCoalescer.execute("getEventById", "e2", loaderCalls::incrementAndGet);
+        readCoalescer.execute("getSeatCategoriesByEventId", "e1", loaderCalls::incrementAndGet);
+
+        assertEquals(3, loaderCalls.get());
+        assertEquals(0, collapsed("getEventById"));
+    }
+
+    @Test
+    void execute_sequentialReads_shouldNotReuseCompletedResult() {
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        Integer first = readCoalescer.execute("getEventById", "e1", loaderCalls::incrementAndGet);
+        Integer second = readCoalescer.execute("getEventById", "e1", loaderCalls::incrementAndGet);
+
+        assertEquals(1, first);
+        assertEquals(2, second);
+    }
+
+    @Test
+    void execute_whenLeaderFails_shouldPropagateSameExceptionToFollowers() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("Spanner unavailable");
+
+        Future<Object> leader = executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            throw failure;
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> "unexpected"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsed("getEventById") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        releaseLoader.countDown();
+
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, followerError.getCause());
+        assertEquals(0, readCoalescer.inFlightCount());
+    }
+
+    @Test
+    void execute_followerWithShorterDeadline_shouldStopWaitingAtItsDeadline() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "event-1";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> {
+            RequestDeadline.start(Duration.ofMillis(50));
+            try {
+                return readCoalescer.execute("getEventById", "e1", () -> "unexpected");
+            } finally {
+                RequestDeadline.clear();
+            }
+        });
+
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, followerError.getCause());
+        releaseLoader.countDown();
+        assertEquals("event-1", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_whenLeaderMissesItsDeadline_shouldLetFollowerWithTimeLeftLoadItself() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            throw new DeadlineExceededException("leader timed out");
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Future<Object> follower = executor.submit(() -> readCoalescer.execute("getEventById", "e1", () -> "event-1"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsed("getEventById") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        releaseLoader.countDown();
+
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals("event-1", follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executeAsync_shouldShareInFlightFutureAndReleaseKeyOnCompletion() throws Exception {
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CompletableFuture<String> read = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = readCoalescer.executeAsync("getEventDetail", "e1", () -> {
+            loaderCalls.incrementAndGet();
+            return read;
+        });
+        CompletableFuture<String> follower = readCoalescer.executeAsync("getEventDetail", "e1", () -> {
+            loaderCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("unexpected");
+        });
+        follower.cancel(false); // one caller giving up does not cancel the shared read
+        assertEquals(1, readCoalescer.inFlightCount());
+        read.complete("detail-1");
+
+        assertEquals("detail-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loaderCalls.get());
+        assertEquals(1, collapsed("getEventDetail"));
+        assertEquals(0, readCoalescer.inFlightCount());
+        assertEquals("detail-2", readCoalescer.executeAsync("getEventDetail", "e1",
+                () -> CompletableFuture.completedFuture("detail-2")).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executeAsync_whenReadFails_shouldFailEveryCallerWithTheSameCause() {
+        CompletableFuture<String> read = new CompletableFuture<>();
+        CompletableFuture<String> leader = readCoalescer.executeAsync("getEventDetail", "e1", () -> read);
+        CompletableFuture<String> follower = readCoalescer.executeAsync("getEventDetail", "e1", () -> read);
+        IllegalStateException failure = new IllegalStateException("Spanner unavailable");
+
+        read.completeExceptionally(failure);
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals(0, readCoalescer.inFlightCount());
+    }
+
+    private double collapsed(String operation) {
+        var counter = meterRegistry.find(ReadCoalescer.COLLAPSED_METRIC).tag("operation", operation).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.tickethub.eventservice.service;
+
+import com.google.cloud.ByteArray;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.tickethub.eventservice.catalog.CatalogChangedEvent;
+import com.tickethub.eventservice.dto.SeatAllocation;
+import com.tickethub.eventservice.dto.SeatRowLayout;
+import com.tickethub.eventservice.exception.ConflictException;
+import com.tickethub.eventservice.exception.NotFoundException;
+import com.tickethub.eventservice.exception.SeatsUnavailableException;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.model.SeatCategory;
+import com.tickethub.eventservice.model.SeatHoldRecord;
+import com.tickethub.eventservice.model.SeatRowRecord;
+import com.tickethub.eventservice.seating.SeatBitmap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatInventoryServiceTests {
+
+    @Mock
+    private SpannerTemplate spannerTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final Instant NOW = Instant.parse("2026-03-01T18:00:00Z");
+
+    // Stand in for the seat_rows, seat_holds and seat_categories tables; the service updates the read objects in place
+    private final Map<String, SeatRowRecord> seatRows = new TreeMap<>();
+    private final Map<String, SeatHoldRecord> holds = new TreeMap<>();
+    private final SeatCategory category = new SeatCategory("e1", "c1", "Floor", BigDecimal.TEN, 0L);
+    private final Event event = new Event("e1", "Concert", "Desc", LocalDateTime.now(), "Venue", null);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatInventoryService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = service(NOW);
+
+        lenient().when(spannerTemplate.performReadWriteTransaction(any())).thenAnswer(invocation ->
+                ((Function<SpannerTemplate, Object>) invocation.getArgument(0)).apply(spannerTemplate));
+        lenient().when(spannerTemplate.read(eq(SeatCategory.class), any(Key.class))).thenReturn(category);
+        lenient().when(spannerTemplate.read(eq(SeatCategory.class), any(KeySet.class))).thenAnswer(invocation -> List.of(category));
+        lenient().when(spannerTemplate.read(eq(Event.class), any(Key.class))).thenReturn(event);
+        lenient().when(spannerTemplate.read(eq(SeatRowRecord.class), any(Key.class))).thenAnswer(invocation ->
+                seatRows.get(key(invocation.getArgument(1))));
+        lenient().when(spannerTemplate.read(eq(SeatRowRecord.class), any(KeySet.class))).thenAnswer(invocation ->
+                new ArrayList<>(seatRows.values()));
+        lenient().doAnswer(invocation -> {
+            seatRows.clear();
+            return null;
+        }).when(spannerTemplate).delete(eq(SeatRowRecord.class), any(KeySet.class));
+        lenient().doAnswer(invocation -> {
+            for (SeatRowRecord record : (Iterable<SeatRowRecord>) invocation.getArgument(0)) {
+                seatRows.put(String.join("/", record.getEventId(), record.getCategoryId(), record.getSection(), record.getRow()), record);
+            }
+            return null;
+        }).when(spannerTemplate).insertAll(any());
+        lenient().doAnswer(invocation -> {
+            SeatHoldRecord hold = invocation.getArgument(0);
+            holds.put(hold.getEventId() + "/" + hold.getHoldId(), hold);
+            return null;
+        }).when(spannerTemplate).insert(any(SeatHoldRecord.class));
+        lenient().when(spannerTemplate.read(eq(SeatHoldRecord.class), any(Key.class))).thenAnswer(invocation ->
+                holds.get(key(invocation.getArgument(1))));
+        lenient().doAnswer(invocation -> {
+            SeatHoldRecord hold = invocation.getArgument(0);
+            holds.remove(hold.getEventId() + "/" + hold.getHoldId());
+            return null;
+        }).when(spannerTemplate).delete(any(SeatHoldRecord.class));
+        // Every unconfirmed hold: the tests only hold seats of one category, and the sweep re-checks the expiry
+        lenient().when(spannerTemplate.query(eq(SeatHoldRecord.class), any(Statement.class), any())).thenAnswer(invocation ->
+                holds.values().stream().filter(hold -> hold.getConfirmedAt() == null).toList());
+    }
+
+    @Test
+    void defineSeatMap_shouldStoreFreeRowsAndSetAvailableCount() {
+        long seats = service.defineSeatMap("e1", "c1", layout());
+
+        assertEquals(30, seats);
+        assertEquals(30L, category.getAvailableCount());
+        assertEquals(10, freeSeats("A", "1").cardinality());
+        assertThrows(IllegalArgumentException.class, () -> service.defineSeatMap("e1", "c1",
+                List.of(new SeatRowLayout("A", "1", 0, 5), new SeatRowLayout("A", "1", 1, 5))));
+    }
+
+    @Test
+    void defineSeatMap_forMissingCategory_shouldThrowNotFound() {
+        lenient().when(spannerTemplate.read(eq(SeatCategory.class), any(Key.class))).thenReturn(null);
+
+        assertThrows(NotFoundException.class, () -> service.defineSeatMap("e1", "c1", layout()));
+        assertTrue(seatRows.isEmpty());
+        verify(eventPublisher, never()).publishEvent(any(CatalogChangedEvent.class));
+    }
+
+    @Test
+    void allocateBestAvailable_shouldTakeCentralSeatsOfBestRowAndPersistThem() {
+        service.defineSeatMap("e1", "c1", layout());
+
+        SeatAllocation allocation = service.allocateBestAvailable("e1", "c1", 4);
+
+        assertEquals(new SeatAllocation("e1", "c1", "A", "1", List.of(4, 5, 6, 7), allocation.holdId(), NOW.plus(Duration.ofMinutes(10))),
+                allocation);
+        assertEquals(List.of(4L, 5L, 6L, 7L), holds.get("e1/" + allocation.holdId()).getSeats());
+        assertFalse(freeSeats("A", "1").containsRange(3, 7));
+        assertEquals(26L, category.getAvailableCount());
+        ArgumentCaptor<CatalogChangedEvent> changes = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(changes.capture()); // the seat map, then the allocation
+        assertEquals(event, changes.getValue().event());
+        assertEquals(26L, changes.getValue().categories().get(0).getAvailableCount());
+        assertEquals(1, meterRegistry.get(SeatInventoryService.ALLOCATION_METRIC).tag("outcome", "allocated").timer().count());
+    }
+
+    @Test
+    void allocateBestAvailable_whenSeatsWereTakenElsewhere_shouldRetryWithStoredRow() {
+        service.defineSeatMap("e1", "c1", layout());
+        service.allocateBestAvailable("e1", "c1", 1); // loads the seat map
+        // Another instance sells the rest of row A/1, which this instance's copy does not know yet
+        SeatBitmap soldOut = new SeatBitmap();
+        seatRows.get("e1/c1/A/1").setFreeSeats(ByteArray.copyFrom(soldOut.serialize()));
+
+        SeatAllocation allocation = service.allocateBestAvailable("e1", "c1", 4);
+
+        assertEquals("2", allocation.row());
+        assertEquals(List.of(4, 5, 6, 7), allocation.seats());
+        assertEquals(0, freeSeats("A", "1").cardinality());
+    }
+
+    @Test
+    void allocateBestAvailable_withoutAdjacentSeats_shouldThrowSeatsUnavailable() {
+        service.defineSeatMap("e1", "c1", layout());
+
+        assertThrows(SeatsUnavailableException.class, () -> service.allocateBestAvailable("e1", "c1", 11));
+        assertEquals(1, meterRegistry.get(SeatInventoryService.ALLOCATION_METRIC).tag("outcome", "unavailable").timer().count());
+    }
+
+    @Test
+    void release_shouldFreeTakenSeatsOnceAndMakeThemAllocatableAgain() {
+        service.defineSeatMap("e1", "c1", layout());
+        SeatAllocation allocation = service.allocateBestAvailable("e1", "c1", 10);
+
+        assertEquals(10, service.release("e1", "c1", "A", "1", allocation.seats()));
+        assertEquals(0, service.release("e1", "c1", "A", "1", allocation.seats()));
+
+        assertEquals(30L, category.getAvailableCount());
+        verify(eventPublisher, times(3)).publishEvent(any(CatalogChangedEvent.class)); // the second release changed nothing
+        assertEquals("1", service.allocateBestAvailable("e1", "c1", 10).row());
+        assertThrows(IllegalArgumentException.class, () -> service.release("e1", "c1", "A", "1", List.of(11)));
+        assertThrows(NotFoundException.class, () -> service.release("e1", "c1", "Z", "9", List.of(1)));
+    }
+
+    @Test
+    void confirmHold_shouldKeepSeatsTakenPastExpiryAndBeRepeatable() {
+        service.defineSeatMap("e1", "c1", layout());
+        SeatAllocation allocation = service.allocateBestAvailable("e1", "c1", 4);
+
+        SeatAllocation confirmed = service.confirmHold("e1", allocation.holdId());
+
+        assertEquals(allocation, confirmed);
+        assertEquals(confirmed, service.confirmHold("e1", allocation.holdId()));
+        assertEquals(0, service(NOW.plus(Duration.ofHours(1))).releaseExpiredHolds());
+        assertEquals(26L, category.getAvailableCount());
+        assertThrows(NotFoundException.class, () -> service.confirmHold("e1", "unknown"));
+    }
+
+    @Test
+    void releaseExpiredHolds_shouldFreeSeatsOfUnconfirmedHolds() {
+        service.defineSeatMap("e1", "c1", layout());
+        SeatAllocation allocation = service.allocateBestAvailable("e1", "c1", 4);
+        SeatInventoryService later = service(NOW.plus(Duration.ofMinutes(11)));
+
+        assertThrows(ConflictException.class, () -> later.confirmHold("e1", allocation.holdId()));
+        assertEquals(0, service.releaseExpiredHolds(), "the hold has not expired yet");
+        assertEquals(1, later.releaseExpiredHolds());
+
+        assertEquals(10, freeSeats("A", "1").cardinality());
+        assertEquals(30L, category.getAvailableCount());
+        assertTrue(holds.isEmpty());
+        assertThrows(NotFoundException.class, () -> later.confirmHold("e1", allocation.holdId()));
+        assertEquals(1, meterRegistry.get(SeatInventoryService.EXPIRED_HOLDS_METRIC).counter().count());
+    }
+
+    @Test
+    void release_ofHeldSeats_shouldTakeThemOutOfTheHold() {
+        service.defineSeatMap("e1", "c1", layout());
+        SeatAllocation allocation = service.allocateBestAvailable("e1", "c1", 4);
+
+        assertEquals(2, service.release("e1", "c1", "A", "1", List.of(4, 5)));
+        assertEquals(List.of(6L, 7L), holds.get("e1/" + allocation.holdId()).getSeats());
+        assertEquals(1, service(NOW.plus(Duration.ofMinutes(11))).releaseExpiredHolds());
+
+        assertEquals(30L, category.getAvailableCount(), "released seats are not freed twice");
+    }
+
+    private SeatInventoryService service(Instant now) {
+        return new SeatInventoryService(spannerTemplate, Duration.ofSeconds(30), 3, Duration.ofMinutes(10), Duration.ofSeconds(30),
+                eventPublisher, meterRegistry, () -> 0L, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static List<SeatRowLayout> layout() {
+        return List.of(
+                new SeatRowLayout("A", "2", 1, 10),
+                new SeatRowLayout("A", "1", 0, 10),
+                new SeatRowLayout("B", "1", 2, 10));
+    }
+
+    private SeatBitmap freeSeats(String section, String row) {
+        return SeatBitmap.deserialize(seatRows.get("e1/c1/" + section + "/" + row).getFreeSeats().toByteArray());
+    }
+
+    private static String key(Key key) {
+        List<String> parts = new ArrayList<>();
+        key.getParts().forEach(part -> parts.add(String.valueOf(part)));
+        return String.join("/", parts);
+    }
+}
@@ -0,0 +1,144 @@
+package com.tickethub.eventservice.startup;
+
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.ReadOnlyTransaction;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.cloud.spanner.Statement;
+import com.tickethub.eventservice.hotkeys.HotKeyStore;
+import com.tickethub.eventservice.hotkeys.HotKeyTracker;
+import com.tickethub.eventservice.model.Event;
+import com.tickethub.eventservice.service.EventService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WarmupRunnerTests {
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private ReadOnlyTransaction readContext;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private HotKeyStore hotKeyStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmupRunner = new WarmupRunner(databaseClient, eventService, hotKeyStore, meterRegistry);
+        ReflectionTestUtils.setField(warmupRunner, "sessions", 3);
+        ReflectionTestUtils.setField(warmupRunner, "iterations", 2);
+    }
+
+    @Test
+    void run_shouldWarmSessionsAndReadPathsAndRecordDuration() {
+        Event event = new Event("e1", "Warm Event", "Desc", LocalDateTime.now(), "Venue", null);
+        given(databaseClient.singleUse()).willReturn(readContext);
+        given(readContext.executeQuery(any(Statement.class))).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(eventService.getAllEvents(any(Pageable.class))).willReturn(new PageImpl<>(List.of(event)));
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        verify(readContext, times(3)).executeQuery(any(Statement.class));
+        verify(resultSet, times(3)).close();
+        verify(eventService, times(2)).getAllEvents(any(Pageable.class));
+        verify(eventService, times(2)).getEventById("e1");
+        verify(eventService, times(2)).getSeatCategoriesByEventId("e1");
+        verify(eventService, times(2)).getEventDetailsByIds(List.of("e1"));
+        assertEquals(1, durationTimer("success").count());
+    }
+
+    @Test
+    void run_whenSpannerUnavailable_shouldNotFailStartup() {
+        given(databaseClient.singleUse()).willReturn(readContext);
+        given(readContext.executeQuery(any(Statement.class))).willThrow(SpannerExceptionFactory.newSpannerException(ErrorCode.UNAVAILABLE, "Spanner unavailable"));
+
+        assertDoesNotThrow(() -> warmupRunner.run(new DefaultApplicationArguments()));
+
+        verify(eventService, never()).getAllEvents(any(Pageable.class));
+        assertEquals(1, durationTimer("failed").count());
+    }
+
+    @Test
+    void run_shouldPreloadHotKeysFromLastSnapshot() {
+        given(databaseClient.singleUse()).willReturn(readContext);
+        given(readContext.executeQuery(any(Statement.class))).willReturn(resultSet);
+        given(eventService.getAllEvents(any(Pageable.class))).willReturn(new PageImpl<>(List.of()));
+        given(hotKeyStore.load(HotKeyTracker.EVENTS, 100)).willReturn(List.of("hot-1", "hot-2"));
+        HotKeyTracker tracker = new HotKeyTracker(true, 10, 4, 1024);
+        given(eventService.getEventById(anyString())).willAnswer(invocation -> {
+            tracker.record(HotKeyTracker.EVENTS, invocation.getArgument(0)); // as EventService does
+            return Optional.empty();
+        });
+
+        warmupRunner.run(new DefaultApplicationArguments());
+
+        verify(eventService).getEventById("hot-1");
+        verify(eventService).getSeatCategoriesByEventId("hot-1");
+        verify(eventService).getEventById("hot-2");
+        verify(eventService).getSeatCategoriesByEventId("hot-2");
+        verify(eventService, times(2)).getAllEvents(any(Pageable.class)); // the read-path iterations only
+        assertEquals(List.of(), tracker.top(HotKeyTracker.EVENTS), "warm-up reads are not counted as traffic");
+        assertEquals(1, durationTimer("success").count());
+    }
+
+    @Test
+    void run_whenReadHangs_shouldStopWaitingAtTimeout() {
+        ReflectionTestUtils.setField(warmupRunner, "sessions", 0);
+        ReflectionTestUtils.setField(warmupRunner, "timeout", Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        given(eventService.getAllEvents(any(Pageable.class))).willAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS); // a Spanner read that ignores its deadline
+            return new PageImpl<>(List.of());
+        });
+
+        long start = System.nanoTime();
+        warmupRunner.run(new DefaultApplicationArguments());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertTrue(elapsedMillis < 5_000, "warm-up held startup for " + elapsedMillis + " ms");
+        assertEquals(1, durationTimer("timeout").count());
+    }
+
+    private Timer durationTimer(String outcome) {
+        Timer timer = meterRegistry.find(WarmupRunner.DURATION_METRIC).tag("outcome", outcome).timer();
+        assertNotNull(timer, "Expected a warm-up timer with outcome " + outcome);
+        return timer;
+    }
+}
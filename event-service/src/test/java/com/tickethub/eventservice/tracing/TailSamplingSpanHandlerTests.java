@@ -0,0 +1,148 @@
+package com.tickethub.eventservice.tracing;
+
+import brave.ScopedSpan;
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TailSamplingSpanHandlerTests {
+
+    /**
+     * Stands in for the Stackdriver exporter: like a real reporter it only accepts sampled spans.
+     */
+    private static final class InMemoryExporter extends SpanHandler {
+        private final List<MutableSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+            if (Boolean.TRUE.equals(context.sampled())) {
+                spans.add(span);
+            }
+            return true;
+        }
+
+        private List<String> names() {
+            return spans.stream().map(MutableSpan::name).toList();
+        }
+    }
+
+    private final InMemoryExporter exporter = new InMemoryExporter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private TailSamplingSpanHandler handler;
+    private Tracing tracing;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TailSamplingSpanHandler(() -> List.of(exporter), Duration.ofMillis(500), Duration.ofSeconds(30),
+                2, 100, meterRegistry, nanos::get);
+        tracing = Tracing.newBuilder()
+                .sampler(Sampler.NEVER_SAMPLE)
+                .alwaysSampleLocal()
+                .addSpanHandler(handler)
+                .addSpanHandler(exporter)
+                .build();
+        tracer = tracing.tracer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    @Test
+    void end_fastTrace_shouldBeDropped() {
+        Span root = tracer.newTrace().name("get /events").start(1_000_000);
+        tracer.newChild(root.context()).name("spanner").start(1_000_100).finish(1_000_900);
+        root.finish(1_002_000);
+
+        assertTrue(exporter.spans.isEmpty());
+        assertEquals(0, handler.bufferedTraces());
+        assertEquals(1.0, decisions("dropped"));
+    }
+
+    @Test
+    void end_slowTrace_shouldExportRootAndChildren() {
+        Span root = tracer.newTrace().name("get /events").start(1_000_000);
+        tracer.newChild(root.context()).name("spanner").start(1_000_100).finish(1_700_000);
+        root.finish(1_800_000);
+
+        assertEquals(List.of("spanner", "get /events"), exporter.names());
+        assertEquals(1.0, decisions("latency"));
+    }
+
+    @Test
+    void end_traceWithError_shouldBeExported() {
+        Span root = tracer.newTrace().name("get /events/{id}").start(1_000_000);
+        tracer.newChild(root.context()).name("spanner").start(1_000_100)
+                .error(new IllegalStateException("unavailable")).finish(1_000_200);
+        root.finish(1_000_300);
+
+        assertEquals(List.of("spanner", "get /events/{id}"), exporter.names());
+        assertEquals(1.0, decisions("error"));
+    }
+
+    @Test
+    void end_traceFlaggedByFallback_shouldBeExported() {
+        ScopedSpan root = tracer.startScopedSpan("get /events");
+        TraceSampling.keep("getEventsFallback");
+        root.finish();
+
+        assertEquals(1, exporter.spans.size());
+        assertEquals("getEventsFallback", exporter.spans.get(0).tag(TraceSampling.KEEP_TAG));
+        assertEquals(1.0, decisions("fallback"));
+    }
+
+    @Test
+    void end_headSampledTrace_shouldPassThroughUnbuffered() {
+        Span root = tracer.withSampler(Sampler.ALWAYS_SAMPLE).newTrace().name("get /events").start(1_000_000);
+        root.finish(1_000_100);
+
+        assertEquals(List.of("get /events"), exporter.names());
+        assertEquals(0.0, meterRegistry.find("eventservice.tracing.tail.decisions").counters().stream()
+                .mapToDouble(Counter::count).sum());
+    }
+
+    @Test
+    void end_beyondMaxTraces_shouldDropNewTracesAndExpireStaleBuffers() {
+        Span first = tracer.newTrace().name("a").start(1_000_000);
+        tracer.newChild(first.context()).name("a-child").start(1_000_100).finish(1_000_200);
+        Span second = tracer.newTrace().name("b").start(1_000_000);
+        tracer.newChild(second.context()).name("b-child").start(1_000_100).finish(1_000_200);
+        Span third = tracer.newTrace().name("c").start(1_000_000);
+        tracer.newChild(third.context()).name("c-child").start(1_000_100).finish(1_000_200);
+
+        assertEquals(2, handler.bufferedTraces());
+        assertEquals(1.0, decisions("overflow"));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        third.finish(1_000_300);
+
+        assertEquals(0, handler.bufferedTraces());
+        assertEquals(2.0, decisions("expired"));
+        assertEquals(1.0, decisions("dropped"));
+    }
+
+    private double decisions(String outcome) {
+        Counter counter = meterRegistry.find("eventservice.tracing.tail.decisions").tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}